@@ -19,6 +19,8 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -93,6 +95,42 @@ public class ActivityLogService {
                 BoardEventType.ACTIVITY_LOGGED, task.getBoard().getId(), task.getId());
     }
 
+    /**
+     * Logs the same kind of activity for several tasks of one board in a single batch, announcing
+     * them with one event. This method is intended to be called within an existing transaction.
+     *
+     * @param tasks the tasks the activities are for, all on the same board
+     * @param type the type of activity
+     * @param details optional JSON details, one per task in the same order
+     */
+    @Transactional
+    public void logActivities(
+            @NonNull List<Task> tasks, @NonNull ActivityType type, @NonNull List<String> details) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        User user = userLookupService.getRequiredCurrentUser();
+
+        List<ActivityLog> activityLogs = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            activityLogs.add(
+                    ActivityLog.builder()
+                            .board(task.getBoard())
+                            .task(task)
+                            .user(user)
+                            .type(type)
+                            .details(details.get(i))
+                            .build());
+        }
+
+        activityLogRepository.saveAll(activityLogs);
+
+        eventPublisher.publish(
+                BoardEventType.ACTIVITY_LOGGED, tasks.get(0).getBoard().getId(), null);
+    }
+
     /**
      * Logs an activity for a task by task ID. Useful when the task entity is not readily available.
      *
@@ -51,6 +51,10 @@ public class Board extends BaseEntity {
 
     @lombok.Builder.Default private boolean isArchived = false;
 
+    /** Sequence of the board's last committed change, maintained by the database. */
+    @jakarta.persistence.Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @CreatedBy
     @ManyToOne(optional = false)
     @JoinColumn(name = "created_by_id", foreignKey = @ForeignKey(name = "fk_board_creator"))
@@ -8,8 +8,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -17,8 +15,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Slf4j
 public class BoardAccess extends BaseAccess {
-    private final BoardUserRepository boardUserRepository;
-    private final BoardRepository boardRepository;
+    private final BoardMembershipCache membershipCache;
 
     /**
      * Checks if the current user is a collaborator on the specified board. This includes both
@@ -27,15 +24,13 @@ public class BoardAccess extends BaseAccess {
      * @param boardId the ID of the board to check
      * @return true if the user is a collaborator, false otherwise
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCollaborator(@NonNull UUID boardId) {
         return isCollaborator(currentUserId(), boardId);
     }
 
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCollaborator(@NonNull String requestUserId, @NonNull UUID boardId) {
         boolean requestUserIsCollaborator =
-                boardUserRepository.existsByBoardIdAndUserId(boardId, requestUserId);
+                membershipCache.get(boardId, requestUserId).isCollaborator();
         if (!requestUserIsCollaborator) {
             log.warn(
                     "Access denied: User {} is not a collaborator on board {}",
@@ -53,12 +48,9 @@ public class BoardAccess extends BaseAccess {
      * @param boardId the ID of the board to check
      * @return true if the user is an admin, false otherwise
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isAdmin(@NonNull UUID boardId) {
         String requestUserId = currentUserId();
-        boolean requestUserIsAdmin =
-                boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        boardId, requestUserId, BoardRole.ADMIN);
+        boolean requestUserIsAdmin = membershipCache.get(boardId, requestUserId).isAdmin();
         if (!requestUserIsAdmin) {
             log.warn("Access denied: User {} is not an admin on board {}", requestUserId, boardId);
             throw new ForbiddenException("Admin privileges required");
@@ -72,19 +64,10 @@ public class BoardAccess extends BaseAccess {
      * @param boardId the ID of the board to check
      * @return true if the user is admin or creator
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isAdminOrCreator(@NonNull UUID boardId) {
         String requestUserId = currentUserId();
-        boolean requestUserIsAdmin =
-                boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        boardId, requestUserId, BoardRole.ADMIN);
-        if (requestUserIsAdmin) {
-            return true;
-        }
-
-        boolean requestUserIsCreator =
-                boardRepository.existsByIdAndCreatedById(boardId, requestUserId);
-        if (!requestUserIsCreator) {
+        BoardMembershipCache.Membership membership = membershipCache.get(boardId, requestUserId);
+        if (!membership.isAdmin() && !membership.creator()) {
             log.warn(
                     "Access denied: User {} is neither admin nor creator on board {}",
                     requestUserId,
@@ -100,11 +83,9 @@ public class BoardAccess extends BaseAccess {
      * @param boardId the ID of the board to check
      * @return "true" if the user is the creator, "false" otherwise
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCreator(@NonNull UUID boardId) {
         String requestUserId = currentUserId();
-        boolean requestUserIsCreator =
-                boardRepository.existsByIdAndCreatedById(boardId, requestUserId);
+        boolean requestUserIsCreator = membershipCache.get(boardId, requestUserId).creator();
         if (!requestUserIsCreator) {
             log.warn(
                     "Access denied: User {} is not the creator of board {}",
@@ -0,0 +1,9 @@
+package com.kylerriggs.velora.board;
+
+public enum BoardChangeEntityType {
+    TASK,
+    COLUMN,
+    LABEL,
+    COMMENT,
+    CHECKLIST_ITEM
+}
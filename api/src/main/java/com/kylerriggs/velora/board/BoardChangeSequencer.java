@@ -0,0 +1,72 @@
+package com.kylerriggs.velora.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Assigns board change sequences for the change feed. Database triggers mark every written task,
+ * column, label, comment, and checklist item as pending; just before the transaction commits, each
+ * board it changed gets its sequence advanced and its pending rows and tombstones stamped with the
+ * new value.
+ *
+ * <p>Stamping last keeps the board row lock short and taken after every entity lock the transaction
+ * needs, and holding it through commit keeps sequences in commit order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangeSequencer {
+    private final BoardRepository boardRepository;
+
+    /**
+     * Stamps the board's pending changes once the current transaction is about to commit, or
+     * immediately when no transaction is active. Each board is stamped at most once per
+     * transaction.
+     *
+     * @param boardId the ID of the board that changed
+     */
+    public void stampBeforeCommit(@NonNull UUID boardId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stamp(boardId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<UUID> boardIds = (Set<UUID>) TransactionSynchronizationManager.getResource(this);
+        if (boardIds == null) {
+            // Sorted so transactions touching several boards lock them in the same order
+            Set<UUID> pending = new TreeSet<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            boardRepository.flush();
+                            pending.forEach(BoardChangeSequencer.this::stamp);
+                        }
+
+                        @Override
+                        public void afterCompletion(int status) {
+                            TransactionSynchronizationManager.unbindResourceIfPossible(
+                                    BoardChangeSequencer.this);
+                        }
+                    });
+            boardIds = pending;
+        }
+        boardIds.add(boardId);
+    }
+
+    private void stamp(@NonNull UUID boardId) {
+        Long changeSeq = boardRepository.stampPendingChanges(boardId);
+        log.debug("Board changes stamped: boardId={}, changeSeq={}", boardId, changeSeq);
+    }
+}
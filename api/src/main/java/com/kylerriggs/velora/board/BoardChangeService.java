@@ -0,0 +1,172 @@
+package com.kylerriggs.velora.board;
+
+import com.kylerriggs.velora.board.dto.BoardChangesDto;
+import com.kylerriggs.velora.board.dto.BoardTombstoneDto;
+import com.kylerriggs.velora.checklist.ChecklistItemMapper;
+import com.kylerriggs.velora.checklist.ChecklistItemRepository;
+import com.kylerriggs.velora.checklist.dto.ChecklistItemDto;
+import com.kylerriggs.velora.checklist.dto.ChecklistProgressDto;
+import com.kylerriggs.velora.column.ColumnMapper;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.column.dto.ColumnDto;
+import com.kylerriggs.velora.comment.CommentMapper;
+import com.kylerriggs.velora.comment.CommentRepository;
+import com.kylerriggs.velora.comment.dto.CommentDto;
+import com.kylerriggs.velora.exception.BadRequestException;
+import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.label.LabelMapper;
+import com.kylerriggs.velora.label.LabelRepository;
+import com.kylerriggs.velora.label.dto.LabelDto;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskMapper;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.task.dto.TaskSummaryDto;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the board change feed: every task, column, label, comment, and checklist item written
+ * after a client-held cursor, plus tombstones for the ones deleted, so reconnecting clients can
+ * catch up without reloading the board. Cursors come from {@link
+ * com.kylerriggs.velora.board.dto.BoardDto#changeCursor()} or a previous feed response.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardChangeService {
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final ColumnRepository columnRepository;
+    private final LabelRepository labelRepository;
+    private final CommentRepository commentRepository;
+    private final ChecklistItemRepository checklistItemRepository;
+    private final TaskMapper taskMapper;
+    private final ColumnMapper columnMapper;
+    private final LabelMapper labelMapper;
+    private final CommentMapper commentMapper;
+    private final ChecklistItemMapper checklistItemMapper;
+
+    /**
+     * Retrieves everything that changed on a board after the given cursor. The returned cursor is
+     * read before the changes, so a change committed concurrently is at worst sent again on the
+     * next call, never skipped.
+     *
+     * @param boardId the ID of the board
+     * @param since the change cursor the client last synced to
+     * @return the changes after the cursor, or a resync marker if they can't be reconstructed
+     * @throws BadRequestException if the cursor is negative
+     * @throws ResourceNotFoundException if the board doesn't exist
+     */
+    @Transactional(readOnly = true)
+    public BoardChangesDto getChanges(@NonNull UUID boardId, long since) {
+        if (since < 0) {
+            throw new BadRequestException("Change cursor must not be negative.");
+        }
+
+        BoardRepository.ChangeCursor cursor =
+                boardRepository
+                        .findChangeCursor(boardId)
+                        .orElseThrow(
+                                () -> new ResourceNotFoundException("Board not found: " + boardId));
+
+        // Deletions older than the floor were pruned, and a cursor ahead of the board was not
+        // issued by this database
+        if (since < cursor.getTombstoneFloor() || since > cursor.getChangeSeq()) {
+            return new BoardChangesDto(
+                    cursor.getChangeSeq(),
+                    true,
+                    List.of(),
+                    List.of(),
+                    List.of(),
+                    List.of(),
+                    List.of(),
+                    List.of());
+        }
+
+        List<BoardTombstoneDto> deleted =
+                boardRepository.findTombstonesSince(boardId, since).stream()
+                        .map(
+                                t ->
+                                        new BoardTombstoneDto(
+                                                t.getEntityId(),
+                                                BoardChangeEntityType.valueOf(t.getEntityType())))
+                        .toList();
+        Set<UUID> deletedIds =
+                deleted.stream().map(BoardTombstoneDto::id).collect(Collectors.toSet());
+
+        List<ColumnDto> columns =
+                columnRepository.findByBoardIdAndChangeSeqGreaterThan(boardId, since).stream()
+                        .filter(column -> !deletedIds.contains(column.getId()))
+                        .map(columnMapper::toDto)
+                        .toList();
+        List<LabelDto> labels =
+                labelRepository.findByBoardIdAndChangeSeqGreaterThan(boardId, since).stream()
+                        .filter(label -> !deletedIds.contains(label.getId()))
+                        .map(labelMapper::toDto)
+                        .toList();
+        List<CommentDto> comments =
+                commentRepository.findChangedSince(boardId, since).stream()
+                        .filter(comment -> !deletedIds.contains(comment.getId()))
+                        .map(commentMapper::toDto)
+                        .toList();
+        List<ChecklistItemDto> checklistItems =
+                checklistItemRepository.findChangedSince(boardId, since).stream()
+                        .filter(item -> !deletedIds.contains(item.getId()))
+                        .map(checklistItemMapper::toDto)
+                        .toList();
+
+        return new BoardChangesDto(
+                cursor.getChangeSeq(),
+                false,
+                getChangedTasks(boardId, since, deletedIds),
+                columns,
+                labels,
+                comments,
+                checklistItems,
+                deleted);
+    }
+
+    private List<TaskSummaryDto> getChangedTasks(UUID boardId, long since, Set<UUID> deletedIds) {
+        List<Task> tasks =
+                taskRepository.findChangedSince(boardId, since).stream()
+                        .filter(task -> !deletedIds.contains(task.getId()))
+                        .toList();
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+
+        List<UUID> taskIds = tasks.stream().map(Task::getId).toList();
+        Map<UUID, Long> commentCountByTaskId =
+                commentRepository.countByTaskIds(taskIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        CommentRepository.TaskCommentCount::getTaskId,
+                                        CommentRepository.TaskCommentCount::getCommentCount));
+        Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
+                checklistItemRepository.getProgressByTaskIds(taskIds).stream()
+                        .collect(
+                                Collectors.toMap(
+                                        ChecklistItemRepository.TaskChecklistProgress::getTaskId,
+                                        p ->
+                                                checklistItemMapper.toProgressDto(
+                                                        p.getTotal(), p.getCompleted())));
+
+        return tasks.stream()
+                .map(
+                        task ->
+                                taskMapper.toSummaryDto(
+                                        task,
+                                        commentCountByTaskId.getOrDefault(task.getId(), 0L),
+                                        checklistProgressByTaskId.get(task.getId())))
+                .toList();
+    }
+}
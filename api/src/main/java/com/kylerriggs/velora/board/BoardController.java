@@ -1,7 +1,12 @@
 package com.kylerriggs.velora.board;
 
 import com.kylerriggs.velora.board.dto.*;
+import com.kylerriggs.velora.task.ColumnPositionLock;
+import com.kylerriggs.velora.task.TaskService;
+import com.kylerriggs.velora.task.dto.MoveTasksRequest;
 import com.kylerriggs.velora.task.dto.TaskSummaryDto;
+import com.kylerriggs.velora.websocket.BoardEventLog;
+import com.kylerriggs.velora.websocket.dto.BoardEventReplayDto;
 
 import jakarta.validation.Valid;
 
@@ -12,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -25,6 +31,11 @@ import java.util.UUID;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardChangeService boardChangeService;
+    private final BoardETags boardETags;
+    private final TaskService taskService;
+    private final ColumnPositionLock columnPositionLock;
+    private final BoardEventLog boardEventLog;
 
     /**
      * Creates a new board with the given name and description. The creator is automatically added
@@ -48,31 +59,88 @@ public class BoardController {
 
     /**
      * Retrieves a single board by its ID with all details. Requires the user to be a collaborator
-     * on the board.
+     * on the board. Supports conditional requests via {@code If-None-Match}.
      *
      * @param boardId the ID of the board to retrieve
-     * @return the board DTO
+     * @param request the current request, used to evaluate {@code If-None-Match}
+     * @return the board DTO, or 304 if the client's copy is current
      */
     @GetMapping("/{boardId}")
     @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
-    public ResponseEntity<BoardDto> getBoard(@NonNull @PathVariable UUID boardId) {
-        BoardDto board = boardService.getBoard(boardId);
-        return ResponseEntity.ok(board);
+    public ResponseEntity<BoardDto> getBoard(
+            @NonNull @PathVariable UUID boardId, WebRequest request) {
+        return boardETags.respond(
+                request, boardETags.forBoardView(boardId), () -> boardService.getBoard(boardId));
     }
 
     /**
      * Retrieves all tasks associated with a specific board. Requires the user to be a collaborator
-     * on the board.
+     * on the board. Supports conditional requests via {@code If-None-Match}.
      *
      * @param boardId the ID of the board
-     * @return list of task summaries
+     * @param request the current request, used to evaluate {@code If-None-Match}
+     * @return list of task summaries, or 304 if the client's copy is current
      */
     @GetMapping("/{boardId}/tasks")
     @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
     public ResponseEntity<List<TaskSummaryDto>> getTasksForBoard(
-            @NonNull @PathVariable UUID boardId) {
-        List<TaskSummaryDto> tasks = boardService.getTasksForBoard(boardId);
-        return ResponseEntity.ok(tasks);
+            @NonNull @PathVariable UUID boardId, WebRequest request) {
+        return boardETags.respond(
+                request,
+                boardETags.forBoard(boardId),
+                () -> boardService.getTasksForBoard(boardId));
+    }
+
+    /**
+     * Moves several tasks into a column as one contiguous run, in the order given, between optional
+     * neighbor tasks. Requires the user to be a collaborator on the board.
+     *
+     * @param boardId the ID of the board
+     * @param moveTasksRequest the ordered task IDs, target column and neighbor references
+     * @return no content
+     */
+    @PatchMapping("/{boardId}/tasks/positions")
+    @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
+    public ResponseEntity<Void> moveTasks(
+            @NonNull @PathVariable UUID boardId,
+            @NonNull @Valid @RequestBody MoveTasksRequest moveTasksRequest) {
+        columnPositionLock.withRetry(
+                "bulk-move", () -> taskService.moveTasks(boardId, moveTasksRequest));
+        return ResponseEntity.ok().build();
+    }
+
+    /**
+     * Retrieves the tasks, columns, labels, comments, and checklist items created, updated, or
+     * deleted on a board after the given change cursor. Requires the user to be a collaborator on
+     * the board.
+     *
+     * @param boardId the ID of the board
+     * @param since the change cursor from the board or a previous response
+     * @return the changes after the cursor and the cursor to continue from
+     */
+    @GetMapping("/{boardId}/changes")
+    @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
+    public ResponseEntity<BoardChangesDto> getBoardChanges(
+            @NonNull @PathVariable UUID boardId, @RequestParam long since) {
+        BoardChangesDto changes = boardChangeService.getChanges(boardId, since);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * Retrieves the WebSocket events broadcast on a board after the given event sequence number,
+     * for clients resuming after a dropped connection or a gap in sequence numbers. Requires the
+     * user to be a collaborator on the board. Unavailable with the broker relay, where events carry
+     * no sequence numbers.
+     *
+     * @param boardId the ID of the board
+     * @param after the sequence number of the last event the client received
+     * @return the missed events, or a resync marker if they are no longer available
+     */
+    @GetMapping("/{boardId}/events")
+    @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
+    public ResponseEntity<BoardEventReplayDto> getBoardEvents(
+            @NonNull @PathVariable UUID boardId, @RequestParam long after) {
+        return ResponseEntity.ok(boardEventLog.replay(boardId, after));
     }
 
     /**
@@ -0,0 +1,113 @@
+package com.kylerriggs.velora.board;
+
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.UserService;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Builds strong ETags for board-scoped resources from the board's {@code change_seq}, so
+ * conditional requests can be answered with a primary-key lookup instead of loading entities or
+ * serializing a body.
+ *
+ * <p>The sequence is advanced in the database by every transaction that publishes a board event, so
+ * tags are stable across restarts and agree between instances. Only changes that publish a board
+ * event are reflected.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardETags {
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final BoardRepository boardRepository;
+    private final BoardUserRepository boardUserRepository;
+    private final TaskRepository taskRepository;
+    private final EntityScopeCache entityScopeCache;
+    private final UserService userService;
+
+    /**
+     * Builds the ETag for resources that only depend on board state.
+     *
+     * @param boardId the board ID
+     * @return the quoted ETag value, or null if the board doesn't exist
+     */
+    @Nullable
+    public String forBoard(@NonNull UUID boardId) {
+        return boardRepository
+                .findChangeCursor(boardId)
+                .map(cursor -> "\"" + cursor.getChangeSeq() + "\"")
+                .orElse(null);
+    }
+
+    /**
+     * Builds the ETag for the board detail view, which also depends on the current user's favorite
+     * flag.
+     *
+     * @param boardId the board ID
+     * @return the quoted ETag value, or null if the board doesn't exist
+     */
+    @Nullable
+    public String forBoardView(@NonNull UUID boardId) {
+        return boardRepository
+                .findChangeCursor(boardId)
+                .map(
+                        cursor -> {
+                            boolean isFavorite =
+                                    boardUserRepository.isFavorite(
+                                            boardId, userService.getCurrentUserId());
+                            return "\"" + cursor.getChangeSeq() + (isFavorite ? "-f" : "") + "\"";
+                        })
+                .orElse(null);
+    }
+
+    /**
+     * Builds the ETag for a task from the version of the board that owns it.
+     *
+     * @param taskId the task ID
+     * @return the quoted ETag value, or null if the task doesn't exist
+     */
+    @Nullable
+    public String forTask(@NonNull UUID taskId) {
+        return entityScopeCache
+                .resolveBoardId(BoardChangeEntityType.TASK, taskId, taskRepository::findBoardIdById)
+                .map(this::forBoard)
+                .orElse(null);
+    }
+
+    /**
+     * Answers {@code 304 Not Modified} if the request's {@code If-None-Match} matches the ETag,
+     * otherwise builds the body and returns it tagged. The ETag must be computed before the body so
+     * a concurrent change can only make the tag older than the body, never newer.
+     *
+     * @param request the current request
+     * @param eTag the resource's ETag, or null to skip conditional handling
+     * @param body builds the response body
+     * @return a 304 response or a 200 response carrying the body and ETag
+     */
+    public <T> ResponseEntity<T> respond(
+            WebRequest request, @Nullable String eTag, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CACHE_CONTROL)
+                    .build();
+        }
+
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(body.get());
+    }
+}
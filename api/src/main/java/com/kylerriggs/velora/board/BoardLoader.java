@@ -0,0 +1,123 @@
+package com.kylerriggs.velora.board;
+
+import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.label.dto.LabelSummaryDto;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Loads everything needed to render a board using one keyed query per collection instead of a
+ * single join fetch across collaborators and tasks, which multiplies rows on large boards.
+ *
+ * <p>The number of queries is fixed regardless of board size: board and creator, collaborators,
+ * users referenced by tasks, columns, tasks, and task labels. Users and columns are loaded before
+ * tasks so the task's eager creator, assignee, and column references resolve from the persistence
+ * context instead of issuing one select per entity. The IDs of everything loaded are recorded in
+ * the {@link EntityScopeCache} so later access checks on them don't query.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardLoader {
+    private final BoardRepository boardRepository;
+    private final BoardUserRepository boardUserRepository;
+    private final UserRepository userRepository;
+    private final ColumnRepository columnRepository;
+    private final TaskRepository taskRepository;
+    private final EntityScopeCache entityScopeCache;
+
+    /**
+     * Loads a board with its collaborators, columns, tasks, and task labels.
+     *
+     * @param boardId the ID of the board to load
+     * @return the loaded board, or empty if it doesn't exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<LoadedBoard> load(@NonNull UUID boardId) {
+        Optional<Board> board = boardRepository.findByIdWithCreator(boardId);
+        if (board.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<BoardUser> collaborators = boardUserRepository.findByBoardIdWithUser(boardId);
+        userRepository.findReferencedByBoardTasks(boardId);
+        List<Column> columns = columnRepository.findByBoardIdOrderByPositionAsc(boardId);
+        List<Task> tasks = taskRepository.findByBoardIdOrderByPositionAsc(boardId);
+
+        Map<UUID, List<LabelSummaryDto>> labelsByTaskId = loadLabelsByTaskId(boardId);
+
+        entityScopeCache.putAll(
+                BoardChangeEntityType.COLUMN,
+                columns.stream().map(Column::getId).toList(),
+                boardId);
+        entityScopeCache.putAll(
+                BoardChangeEntityType.TASK, tasks.stream().map(Task::getId).toList(), boardId);
+        entityScopeCache.putAll(
+                BoardChangeEntityType.LABEL,
+                labelsByTaskId.values().stream()
+                        .flatMap(List::stream)
+                        .map(LabelSummaryDto::id)
+                        .collect(Collectors.toSet()),
+                boardId);
+
+        return Optional.of(
+                new LoadedBoard(board.get(), collaborators, columns, tasks, labelsByTaskId));
+    }
+
+    /**
+     * Loads the labels of every task on a board with one query.
+     *
+     * @param boardId the board ID
+     * @return label summaries keyed by task ID; tasks without labels are absent
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, List<LabelSummaryDto>> loadLabelsByTaskId(@NonNull UUID boardId) {
+        return taskRepository.findLabelsByBoardId(boardId).stream()
+                .collect(
+                        Collectors.groupingBy(
+                                TaskRepository.TaskLabel::getTaskId,
+                                Collectors.mapping(
+                                        l ->
+                                                new LabelSummaryDto(
+                                                        l.getLabelId(), l.getName(), l.getColor()),
+                                        Collectors.toList())));
+    }
+
+    /**
+     * A board together with the collections loaded for it.
+     *
+     * @param board the board with its creator
+     * @param collaborators the board's collaborators with users hydrated
+     * @param columns the board's columns ordered by position
+     * @param tasks all tasks on the board, archived ones included
+     * @param labelsByTaskId label summaries keyed by task ID
+     */
+    public record LoadedBoard(
+            Board board,
+            List<BoardUser> collaborators,
+            List<Column> columns,
+            List<Task> tasks,
+            Map<UUID, List<LabelSummaryDto>> labelsByTaskId) {
+
+        /**
+         * @param taskId the task ID
+         * @return the task's labels, or an empty list if it has none
+         */
+        public List<LabelSummaryDto> labelsFor(UUID taskId) {
+            return labelsByTaskId.getOrDefault(taskId, List.of());
+        }
+    }
+}
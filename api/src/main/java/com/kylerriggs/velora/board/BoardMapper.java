@@ -3,7 +3,10 @@ package com.kylerriggs.velora.board;
 import com.kylerriggs.velora.board.dto.BoardDto;
 import com.kylerriggs.velora.board.dto.BoardSummary;
 import com.kylerriggs.velora.board.dto.CollaboratorDto;
+import com.kylerriggs.velora.checklist.dto.ChecklistProgressDto;
+import com.kylerriggs.velora.column.Column;
 import com.kylerriggs.velora.column.dto.ColumnDto;
+import com.kylerriggs.velora.label.dto.LabelSummaryDto;
 import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskMapper;
 import com.kylerriggs.velora.task.dto.TaskSummaryDto;
@@ -14,8 +17,11 @@ import lombok.AllArgsConstructor;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 @AllArgsConstructor
 @Service
@@ -59,12 +65,57 @@ public class BoardMapper {
             Board board,
             String currentUserId,
             Map<UUID, Long> commentCountByTaskId,
-            Map<UUID, com.kylerriggs.velora.checklist.dto.ChecklistProgressDto>
-                    checklistProgressByTaskId) {
+            Map<UUID, ChecklistProgressDto> checklistProgressByTaskId) {
+        return toDto(
+                board,
+                board.getCollaborators(),
+                board.getTasks(),
+                board.getColumns(),
+                taskMapper::toLabelSummaries,
+                currentUserId,
+                commentCountByTaskId,
+                checklistProgressByTaskId);
+    }
+
+    /**
+     * Converts a board loaded by {@link BoardLoader} to a detailed DTO with all collaborators,
+     * tasks, and columns.
+     *
+     * @param loaded the board and its separately loaded collections
+     * @param currentUserId the ID of the current user to determine favorite status
+     * @param commentCountByTaskId precomputed comment counts by task ID
+     * @param checklistProgressByTaskId precomputed checklist progress by task ID
+     * @return the board as a detailed DTO
+     */
+    public BoardDto toDto(
+            BoardLoader.LoadedBoard loaded,
+            String currentUserId,
+            Map<UUID, Long> commentCountByTaskId,
+            Map<UUID, ChecklistProgressDto> checklistProgressByTaskId) {
+        return toDto(
+                loaded.board(),
+                loaded.collaborators(),
+                loaded.tasks(),
+                loaded.columns(),
+                task -> loaded.labelsFor(task.getId()),
+                currentUserId,
+                commentCountByTaskId,
+                checklistProgressByTaskId);
+    }
+
+    private BoardDto toDto(
+            Board board,
+            Collection<BoardUser> boardCollaborators,
+            Collection<Task> boardTasks,
+            Collection<Column> boardColumns,
+            Function<Task, List<LabelSummaryDto>> labelsForTask,
+            String currentUserId,
+            Map<UUID, Long> commentCountByTaskId,
+            Map<UUID, ChecklistProgressDto> checklistProgressByTaskId) {
         UserSummaryDto creatorSummary = userMapper.toSummaryDto(board.getCreatedBy());
 
         CollaboratorDto[] collaborators =
-                board.getCollaborators().stream()
+                boardCollaborators.stream()
                         .map(
                                 c ->
                                         new CollaboratorDto(
@@ -72,17 +123,18 @@ public class BoardMapper {
                         .toArray(CollaboratorDto[]::new);
 
         TaskSummaryDto[] tasks =
-                board.getTasks().stream()
+                boardTasks.stream()
                         .map(
                                 task ->
                                         taskMapper.toSummaryDto(
                                                 task,
+                                                labelsForTask.apply(task),
                                                 commentCountByTaskId.getOrDefault(task.getId(), 0L),
                                                 checklistProgressByTaskId.get(task.getId())))
                         .toArray(TaskSummaryDto[]::new);
 
         ColumnDto[] columns =
-                board.getColumns().stream()
+                boardColumns.stream()
                         .map(
                                 column ->
                                         new ColumnDto(
@@ -93,7 +145,7 @@ public class BoardMapper {
                         .toArray(ColumnDto[]::new);
 
         boolean isFavorite =
-                board.getCollaborators().stream()
+                boardCollaborators.stream()
                         .anyMatch(c -> c.getUser().getId().equals(currentUserId) && c.isFavorite());
 
         return new BoardDto(
@@ -107,42 +159,26 @@ public class BoardMapper {
                 board.isArchived(),
                 board.getDateCreated().toString(),
                 board.getDateModified().toString(),
-                isFavorite);
+                isFavorite,
+                board.getChangeSeq() != null ? board.getChangeSeq() : 0L);
     }
 
     /**
-     * Converts a Board entity to a summary DTO with task counts and basic information. Used for
-     * listing multiple boards without loading all details.
+     * Converts an aggregated board summary row to a summary DTO. Used for listing multiple boards
+     * without loading their tasks.
      *
-     * @param board the board entity to convert
-     * @param currentUserId the ID of the current user to determine favorite status
+     * @param summary the summary row with task counts computed in SQL
      * @return the board as a summary DTO
      */
-    public BoardSummary toSummaryDto(Board board, String currentUserId) {
-        long totalTasks =
-                board.isArchived()
-                        ? board.getTasks().size()
-                        : board.getTasks().stream().filter(task -> !task.isArchived()).count();
-        int completedTasks =
-                (int)
-                        (board.isArchived()
-                                ? board.getTasks().stream().filter(Task::isCompleted).count()
-                                : board.getTasks().stream()
-                                        .filter(task -> !task.isArchived() && task.isCompleted())
-                                        .count());
-
-        boolean isFavorite =
-                board.getCollaborators().stream()
-                        .anyMatch(c -> c.getUser().getId().equals(currentUserId) && c.isFavorite());
-
+    public BoardSummary toSummaryDto(BoardRepository.BoardSummaryView summary) {
         return new BoardSummary(
-                board.getId(),
-                board.getName(),
-                board.getDescription(),
-                board.getDateModified().toString(),
-                completedTasks,
-                (int) totalTasks,
-                board.isArchived(),
-                isFavorite);
+                summary.getId(),
+                summary.getName(),
+                summary.getDescription(),
+                summary.getDateModified().toString(),
+                (int) summary.getCompletedTasks(),
+                (int) summary.getTotalTasks(),
+                summary.isArchived(),
+                summary.isFavorite());
     }
 }
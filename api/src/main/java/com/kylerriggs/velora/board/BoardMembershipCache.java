@@ -0,0 +1,148 @@
+package com.kylerriggs.velora.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kylerriggs.velora.config.BoardProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Caches each user's role on a board and whether they created it, so that access checks on every
+ * guarded request and STOMP subscription resolve from memory instead of checking out a connection.
+ * Both memberships and non-memberships are cached.
+ *
+ * <p>Services that change a membership evict the affected entries once their transaction commits.
+ * An eviction that races a load waits for the load to finish and then drops its result, so a
+ * membership read before the commit is never served afterwards.
+ */
+@Slf4j
+@Component
+public class BoardMembershipCache {
+    private final BoardRepository boardRepository;
+    private final Cache<Key, Membership> memberships;
+
+    public BoardMembershipCache(BoardRepository boardRepository, BoardProperties boardProperties) {
+        BoardProperties.MembershipCache config = boardProperties.getMembershipCache();
+        this.boardRepository = boardRepository;
+        this.memberships =
+                Caffeine.newBuilder()
+                        .maximumSize(config.getMaxEntries())
+                        .expireAfterWrite(config.getTtl())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the user's membership on the board, loading it on a cache miss.
+     *
+     * @param boardId the board ID
+     * @param userId the user ID
+     * @return the membership, which is {@link Membership#NONE} if the user is not a collaborator
+     */
+    public Membership get(@NonNull UUID boardId, @NonNull String userId) {
+        return memberships.get(new Key(boardId, userId), this::load);
+    }
+
+    /**
+     * Evicts the user's membership once the current transaction commits, or immediately when no
+     * transaction is active.
+     *
+     * @param boardId the board ID
+     * @param userId the user whose membership changed
+     */
+    public void invalidateAfterCommit(@NonNull UUID boardId, @NonNull String userId) {
+        afterCommit(() -> invalidate(boardId, userId));
+    }
+
+    /**
+     * Evicts every cached membership on the board once the current transaction commits, or
+     * immediately when no transaction is active.
+     *
+     * @param boardId the board ID
+     */
+    public void invalidateBoardAfterCommit(@NonNull UUID boardId) {
+        afterCommit(() -> invalidateBoard(boardId));
+    }
+
+    /**
+     * Evicts the user's membership.
+     *
+     * @param boardId the board ID
+     * @param userId the user whose membership changed
+     */
+    public void invalidate(@NonNull UUID boardId, @NonNull String userId) {
+        memberships.invalidate(new Key(boardId, userId));
+        log.debug("Board membership invalidated: boardId={}, userId={}", boardId, userId);
+    }
+
+    /**
+     * Evicts every cached membership on the board.
+     *
+     * @param boardId the board ID
+     */
+    public void invalidateBoard(@NonNull UUID boardId) {
+        memberships.asMap().keySet().removeIf(key -> key.boardId().equals(boardId));
+        log.debug("Board memberships invalidated: boardId={}", boardId);
+    }
+
+    private Membership load(Key key) {
+        return boardRepository
+                .findMembership(key.boardId(), key.userId())
+                .map(view -> new Membership(view.getRole(), view.isCreator()))
+                .orElse(Membership.NONE);
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public int getOrder() {
+                        return Ordered.HIGHEST_PRECEDENCE;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        eviction.run();
+                    }
+                });
+    }
+
+    /**
+     * A user's standing on a board.
+     *
+     * @param role the user's role, or null if they are not a collaborator
+     * @param creator whether the user created the board
+     */
+    public record Membership(BoardRole role, boolean creator) {
+        public static final Membership NONE = new Membership(null, false);
+
+        /**
+         * @return whether the user is a collaborator with any role
+         */
+        public boolean isCollaborator() {
+            return role != null;
+        }
+
+        /**
+         * @return whether the user is a collaborator with the ADMIN role
+         */
+        public boolean isAdmin() {
+            return role == BoardRole.ADMIN;
+        }
+    }
+
+    private record Key(UUID boardId, String userId) {}
+}
@@ -1,55 +1,137 @@
 package com.kylerriggs.velora.board;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface BoardRepository extends JpaRepository<Board, UUID> {
+    interface BoardSummaryView {
+        /**
+         * @return the board ID
+         */
+        UUID getId();
+
+        /**
+         * @return the board name
+         */
+        String getName();
+
+        /**
+         * @return the board description
+         */
+        String getDescription();
+
+        /**
+         * @return when the board was last modified
+         */
+        Instant getDateModified();
+
+        /**
+         * @return whether the board is archived
+         */
+        boolean isArchived();
+
+        /**
+         * @return whether the requesting user has favorited the board
+         */
+        boolean isFavorite();
+
+        /**
+         * @return the number of tasks counted for the board
+         */
+        long getTotalTasks();
+
+        /**
+         * @return the number of completed tasks counted for the board
+         */
+        long getCompletedTasks();
+    }
+
+    interface ChangeCursor {
+        /**
+         * @return the sequence of the board's last committed change
+         */
+        long getChangeSeq();
+
+        /**
+         * @return the highest sequence whose tombstones have been pruned
+         */
+        long getTombstoneFloor();
+    }
+
+    interface MembershipView {
+        /**
+         * @return the user's role on the board, or null if they are not a collaborator
+         */
+        BoardRole getRole();
+
+        /**
+         * @return whether the user created the board
+         */
+        boolean isCreator();
+    }
+
+    interface Tombstone {
+        /**
+         * @return the ID of the deleted entity
+         */
+        UUID getEntityId();
+
+        /**
+         * @return the {@link BoardChangeEntityType} name of the deleted entity
+         */
+        String getEntityType();
+    }
+
     /**
-     * Fetches all non-archived boards where the user is a collaborator, including tasks, columns,
-     * and assignees to avoid N+1 queries.
+     * Summarizes all non-archived boards where the user is a collaborator. Task totals are
+     * aggregated in SQL over non-archived tasks, so no task rows are loaded.
      *
      * @param userId the user ID to filter collaborators by
-     * @return all active (non-archived) boards with task and column details hydrated
+     * @return one summary row per active board
      */
     @Query(
-            "SELECT DISTINCT p FROM Board p LEFT JOIN FETCH p.tasks i LEFT JOIN FETCH i.column LEFT"
-                    + " JOIN FETCH i.assignedTo WHERE p.isArchived = false AND p.id IN (SELECT"
-                    + " pu.board.id FROM BoardUser pu WHERE pu.user.id = :userId)")
-    List<Board> findAllActiveByCollaboratorsUserId(@Param("userId") String userId);
+            "SELECT p.id AS id, p.name AS name, p.description AS description, p.dateModified AS"
+                    + " dateModified, p.isArchived AS archived, pu.isFavorite AS favorite,"
+                    + " COUNT(i.id) AS totalTasks, COALESCE(SUM(CASE WHEN i.isCompleted = true"
+                    + " THEN 1 ELSE 0 END), 0) AS completedTasks FROM BoardUser pu JOIN pu.board p"
+                    + " LEFT JOIN p.tasks i ON i.isArchived = false WHERE pu.user.id = :userId AND"
+                    + " p.isArchived = false GROUP BY p.id, p.name, p.description, p.dateModified,"
+                    + " p.isArchived, pu.isFavorite")
+    List<BoardSummaryView> findActiveSummariesByCollaboratorUserId(@Param("userId") String userId);
 
     /**
-     * Fetches all archived boards created by the given user, including tasks, columns, and
-     * assignees.
+     * Summarizes all archived boards created by the given user. Task totals are aggregated in SQL
+     * over every task on the board, since archiving a board archives its tasks.
      *
      * @param userId the creator's user ID
-     * @return all archived boards created by the user
+     * @return one summary row per archived board
      */
     @Query(
-            "SELECT DISTINCT p FROM Board p LEFT JOIN FETCH p.tasks i LEFT JOIN FETCH i.column LEFT"
-                    + " JOIN FETCH i.assignedTo WHERE p.isArchived = true AND p.createdBy.id = :userId")
-    List<Board> findArchivedByCreatorId(@Param("userId") String userId);
+            "SELECT p.id AS id, p.name AS name, p.description AS description, p.dateModified AS"
+                    + " dateModified, p.isArchived AS archived, COALESCE(pu.isFavorite, false) AS"
+                    + " favorite, COUNT(i.id) AS totalTasks, COALESCE(SUM(CASE WHEN i.isCompleted"
+                    + " = true THEN 1 ELSE 0 END), 0) AS completedTasks FROM Board p LEFT JOIN"
+                    + " BoardUser pu ON pu.board.id = p.id AND pu.user.id = :userId LEFT JOIN"
+                    + " p.tasks i WHERE p.isArchived = true AND p.createdBy.id = :userId GROUP BY"
+                    + " p.id, p.name, p.description, p.dateModified, p.isArchived, pu.isFavorite")
+    List<BoardSummaryView> findArchivedSummariesByCreatorId(@Param("userId") String userId);
 
     /**
-     * Fetches a board by ID with collaborators, tasks, task creators, assignees, and columns.
+     * Fetches a board by ID with its creator. Collaborators, columns, and tasks are loaded in
+     * separate keyed queries by {@link BoardLoader}.
      *
      * @param boardId the board ID to load
-     * @return the board with related details, if found
+     * @return the board with its creator, if found
      */
-    @Query(
-            "SELECT DISTINCT p FROM Board p "
-                    + "LEFT JOIN FETCH p.collaborators c "
-                    + "LEFT JOIN FETCH c.user "
-                    + "LEFT JOIN FETCH p.tasks i "
-                    + "LEFT JOIN FETCH i.createdBy "
-                    + "LEFT JOIN FETCH i.assignedTo "
-                    + "LEFT JOIN FETCH i.column "
-                    + "WHERE p.id = :boardId")
-    Optional<Board> findByIdWithDetails(@Param("boardId") UUID boardId);
+    @Query("SELECT p FROM Board p JOIN FETCH p.createdBy WHERE p.id = :boardId")
+    Optional<Board> findByIdWithCreator(@Param("boardId") UUID boardId);
 
     /**
      * Counts distinct boards where the user is a collaborator.
@@ -63,11 +145,98 @@ public interface BoardRepository extends JpaRepository<Board, UUID> {
     long countByCollaboratorsUserId(@Param("userId") String userId);
 
     /**
-     * Checks whether a board exists with the provided ID and creator user ID.
+     * Resolves the user's role on a board and whether they created it in a single query.
+     *
+     * @param boardId the board ID to check
+     * @param userId the user ID to match
+     * @return the user's membership, or empty if the board does not exist
+     */
+    @Query(
+            "SELECT pu.role AS role, CASE WHEN p.createdBy.id = :userId THEN true ELSE false END"
+                    + " AS creator FROM Board p LEFT JOIN BoardUser pu ON pu.board.id = p.id AND"
+                    + " pu.user.id = :userId WHERE p.id = :boardId")
+    Optional<MembershipView> findMembership(
+            @Param("boardId") UUID boardId, @Param("userId") String userId);
+
+    /**
+     * Reads the board's change sequence and tombstone floor for the change feed.
+     *
+     * @param boardId the board ID
+     * @return the board's change cursor, if the board exists
+     */
+    @Query(
+            value =
+                    "SELECT change_seq AS changeSeq, tombstone_floor AS tombstoneFloor FROM boards"
+                            + " WHERE id = :boardId",
+            nativeQuery = true)
+    Optional<ChangeCursor> findChangeCursor(@Param("boardId") UUID boardId);
+
+    /**
+     * Finds entities deleted from the board after the given change sequence.
+     *
+     * @param boardId the board ID
+     * @param since the client's change cursor
+     * @return the tombstones of entities deleted after the cursor
+     */
+    @Query(
+            value =
+                    "SELECT entity_id AS entityId, entity_type AS entityType FROM board_tombstones"
+                            + " WHERE board_id = :boardId AND change_seq > :since",
+            nativeQuery = true)
+    List<Tombstone> findTombstonesSince(@Param("boardId") UUID boardId, @Param("since") long since);
+
+    /**
+     * Advances the board's change sequence and stamps every pending row and tombstone on the board
+     * with the new value. Rows locked by other transactions are skipped; they are stamped when
+     * their own transaction commits. The board row stays locked until the surrounding transaction
+     * ends, so stamps are assigned in commit order.
      *
-     * @param id the board ID to check
-     * @param createdById the creator user ID to match
-     * @return true if the board exists and is owned by the user
+     * @param boardId the board ID
+     * @return the new change sequence, or null if the board no longer exists
      */
-    boolean existsByIdAndCreatedById(UUID id, String createdById);
+    @Query(
+            value =
+                    "WITH next AS (UPDATE boards SET change_seq = change_seq + 1 WHERE id ="
+                            + " :boardId RETURNING change_seq), stamped_tasks AS (UPDATE tasks SET"
+                            + " change_seq = (SELECT change_seq FROM next) WHERE id IN (SELECT id"
+                            + " FROM tasks WHERE board_id = :boardId AND change_seq IS NULL FOR"
+                            + " UPDATE SKIP LOCKED)), stamped_columns AS (UPDATE columns SET"
+                            + " change_seq = (SELECT change_seq FROM next) WHERE id IN (SELECT id"
+                            + " FROM columns WHERE board_id = :boardId AND change_seq IS NULL FOR"
+                            + " UPDATE SKIP LOCKED)), stamped_labels AS (UPDATE labels SET"
+                            + " change_seq = (SELECT change_seq FROM next) WHERE id IN (SELECT id"
+                            + " FROM labels WHERE board_id = :boardId AND change_seq IS NULL FOR"
+                            + " UPDATE SKIP LOCKED)), stamped_comments AS (UPDATE comments SET"
+                            + " change_seq = (SELECT change_seq FROM next) WHERE id IN (SELECT c.id"
+                            + " FROM comments c JOIN tasks t ON t.id = c.task_id WHERE t.board_id ="
+                            + " :boardId AND c.change_seq IS NULL FOR UPDATE OF c SKIP LOCKED)),"
+                            + " stamped_checklist_items AS (UPDATE checklist_items SET change_seq ="
+                            + " (SELECT change_seq FROM next) WHERE id IN (SELECT ci.id FROM"
+                            + " checklist_items ci JOIN tasks t ON t.id = ci.task_id WHERE"
+                            + " t.board_id = :boardId AND ci.change_seq IS NULL FOR UPDATE OF ci"
+                            + " SKIP LOCKED)), stamped_tombstones AS (UPDATE board_tombstones SET"
+                            + " change_seq = (SELECT change_seq FROM next) WHERE board_id ="
+                            + " :boardId AND change_seq IS NULL) SELECT change_seq FROM next",
+            nativeQuery = true)
+    Long stampPendingChanges(@Param("boardId") UUID boardId);
+
+    /**
+     * Deletes stamped tombstones older than the retention period and raises each affected board's
+     * tombstone floor to the highest pruned sequence, so clients holding an older cursor are told
+     * to resync.
+     *
+     * @param retentionDays how many days tombstones are kept
+     * @return the number of boards whose floor was raised
+     */
+    @Modifying
+    @Query(
+            value =
+                    "WITH pruned AS (DELETE FROM board_tombstones WHERE change_seq IS NOT NULL AND"
+                            + " date_deleted < LOCALTIMESTAMP - :retentionDays * INTERVAL '1 day'"
+                            + " RETURNING board_id, change_seq) UPDATE boards b SET tombstone_floor"
+                            + " = p.max_seq FROM (SELECT board_id, MAX(change_seq) AS max_seq FROM"
+                            + " pruned GROUP BY board_id) p WHERE b.id = p.board_id AND"
+                            + " b.tombstone_floor < p.max_seq",
+            nativeQuery = true)
+    int pruneTombstones(@Param("retentionDays") int retentionDays);
 }
@@ -13,6 +13,8 @@ import com.kylerriggs.velora.config.BoardProperties;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.BoardLimitExceededException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.label.dto.LabelSummaryDto;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskArchiveService;
 import com.kylerriggs.velora.task.TaskMapper;
@@ -51,6 +53,11 @@ public class BoardService {
     private final CommentRepository commentRepository;
     private final ChecklistItemRepository checklistItemRepository;
     private final BoardEventPublisher eventPublisher;
+    private final BoardSnapshotCache boardSnapshotCache;
+    private final BoardMembershipCache boardMembershipCache;
+    private final EntityScopeCache entityScopeCache;
+    private final BoardLoader boardLoader;
+    private final NotificationService notificationService;
 
     /**
      * Creates a new board with default columns and assigns the creator as an admin.
@@ -98,28 +105,33 @@ public class BoardService {
     }
 
     /**
-     * Retrieves a board by its ID with all details including collaborators, tasks, and columns.
+     * Retrieves a board by its ID with all details including collaborators, tasks, and columns. The
+     * shared board snapshot is served from {@link BoardSnapshotCache} while the board's {@code
+     * change_seq} is the one it was built under; the favorite flag is applied per user on top of
+     * it.
      *
      * @param boardId the ID of the board to retrieve
      * @return the board as a DTO with isFavorite flag
      * @throws ResourceNotFoundException if the board doesn't exist
      */
     public BoardDto getBoard(@NonNull UUID boardId) {
-        Board board =
+        long changeSeq =
                 boardRepository
-                        .findByIdWithDetails(boardId)
+                        .findChangeCursor(boardId)
+                        .map(BoardRepository.ChangeCursor::getChangeSeq)
                         .orElseThrow(
                                 () -> new ResourceNotFoundException("Board not found: " + boardId));
+        BoardDto snapshot =
+                boardSnapshotCache.get(boardId, changeSeq, id -> loadBoardDto(id, null));
 
         String requestUserId = userService.getCurrentUserId();
+        boolean isFavorite =
+                boardUserRepository
+                        .findByBoardIdAndUserId(boardId, requestUserId)
+                        .map(BoardUser::isFavorite)
+                        .orElse(false);
 
-        List<UUID> taskIds = board.getTasks().stream().map(task -> task.getId()).toList();
-        Map<UUID, Long> commentCountByTaskId = getCommentCountByTaskIds(taskIds);
-        Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
-                getChecklistProgressByTaskIds(taskIds);
-
-        return boardMapper.toDto(
-                board, requestUserId, commentCountByTaskId, checklistProgressByTaskId);
+        return boardSnapshotCache.withFavorite(snapshot, isFavorite);
     }
 
     /**
@@ -135,12 +147,14 @@ public class BoardService {
         Map<UUID, Long> commentCountByTaskId = getCommentCountByTaskIds(taskIds);
         Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
                 getChecklistProgressByTaskIds(taskIds);
+        Map<UUID, List<LabelSummaryDto>> labelsByTaskId = boardLoader.loadLabelsByTaskId(boardId);
 
         return tasks.stream()
                 .map(
                         task ->
                                 taskMapper.toSummaryDto(
                                         task,
+                                        labelsByTaskId.getOrDefault(task.getId(), List.of()),
                                         commentCountByTaskId.getOrDefault(task.getId(), 0L),
                                         checklistProgressByTaskId.get(task.getId())))
                 .toList();
@@ -155,9 +169,9 @@ public class BoardService {
     public List<BoardSummary> getBoardsForUser() {
         String requestUserId = userService.getCurrentUserId();
 
-        List<Board> boards = boardRepository.findAllActiveByCollaboratorsUserId(requestUserId);
-
-        return boards.stream().map(p -> boardMapper.toSummaryDto(p, requestUserId)).toList();
+        return boardRepository.findActiveSummariesByCollaboratorUserId(requestUserId).stream()
+                .map(boardMapper::toSummaryDto)
+                .toList();
     }
 
     /**
@@ -169,9 +183,9 @@ public class BoardService {
     public List<BoardSummary> getArchivedBoardsForUser() {
         String requestUserId = userService.getCurrentUserId();
 
-        List<Board> boards = boardRepository.findArchivedByCreatorId(requestUserId);
-
-        return boards.stream().map(p -> boardMapper.toSummaryDto(p, requestUserId)).toList();
+        return boardRepository.findArchivedSummariesByCreatorId(requestUserId).stream()
+                .map(boardMapper::toSummaryDto)
+                .toList();
     }
 
     /**
@@ -206,13 +220,7 @@ public class BoardService {
         // Publish event to be broadcast after transaction commits
         eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
 
-        List<UUID> taskIds = boardToUpdate.getTasks().stream().map(task -> task.getId()).toList();
-        Map<UUID, Long> commentCountByTaskId = getCommentCountByTaskIds(taskIds);
-        Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
-                getChecklistProgressByTaskIds(taskIds);
-
-        return boardMapper.toDto(
-                boardToUpdate, requestUserId, commentCountByTaskId, checklistProgressByTaskId);
+        return loadBoardDto(boardId, requestUserId);
     }
 
     @Transactional
@@ -234,19 +242,7 @@ public class BoardService {
         }
 
         if (boardToUpdate.isArchived() == shouldArchive) {
-            Board currentBoard =
-                    boardRepository
-                            .findByIdWithDetails(boardId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResourceNotFoundException(
-                                                    "Board not found: " + boardId));
-            List<UUID> taskIds = currentBoard.getTasks().stream().map(Task::getId).toList();
-            Map<UUID, Long> commentCountByTaskId = getCommentCountByTaskIds(taskIds);
-            Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
-                    getChecklistProgressByTaskIds(taskIds);
-            return boardMapper.toDto(
-                    currentBoard, requestUserId, commentCountByTaskId, checklistProgressByTaskId);
+            return loadBoardDto(boardId, requestUserId);
         }
 
         if (shouldArchive && !boardToUpdate.isArchived()) {
@@ -274,19 +270,23 @@ public class BoardService {
 
         eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
 
-        Board refreshedBoard =
-                boardRepository
-                        .findByIdWithDetails(boardId)
+        return loadBoardDto(boardId, requestUserId);
+    }
+
+    private BoardDto loadBoardDto(@NonNull UUID boardId, String currentUserId) {
+        BoardLoader.LoadedBoard board =
+                boardLoader
+                        .load(boardId)
                         .orElseThrow(
                                 () -> new ResourceNotFoundException("Board not found: " + boardId));
 
-        List<UUID> taskIds = refreshedBoard.getTasks().stream().map(Task::getId).toList();
+        List<UUID> taskIds = board.tasks().stream().map(Task::getId).toList();
         Map<UUID, Long> commentCountByTaskId = getCommentCountByTaskIds(taskIds);
         Map<UUID, ChecklistProgressDto> checklistProgressByTaskId =
                 getChecklistProgressByTaskIds(taskIds);
 
         return boardMapper.toDto(
-                refreshedBoard, requestUserId, commentCountByTaskId, checklistProgressByTaskId);
+                board, currentUserId, commentCountByTaskId, checklistProgressByTaskId);
     }
 
     private Map<UUID, Long> getCommentCountByTaskIds(List<UUID> taskIds) {
@@ -327,7 +327,11 @@ public class BoardService {
             throw new BadRequestException("Board must be archived before it can be deleted.");
         }
 
+        notificationService.deleteForBoard(boardId);
         boardRepository.delete(boardToDelete);
+        boardSnapshotCache.invalidateAfterCommit(boardId);
+        boardMembershipCache.invalidateBoardAfterCommit(boardId);
+        entityScopeCache.invalidateBoard(boardId);
     }
 
     /**
@@ -371,6 +375,9 @@ public class BoardService {
         board.getCollaborators().add(newCollaborator);
 
         boardRepository.save(board);
+        boardMembershipCache.invalidateAfterCommit(boardId, userId);
+
+        eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
     }
 
     /**
@@ -428,15 +435,23 @@ public class BoardService {
                         });
 
         board.getCollaborators().remove(collaboratorToRemove);
+        boardMembershipCache.invalidateAfterCommit(boardId, userId);
 
         // If no admins remain, promote the first found collaborator to admin
         if (board.getCollaborators().stream().noneMatch(c -> c.getRole() == BoardRole.ADMIN)) {
             board.getCollaborators().stream()
                     .findFirst()
-                    .ifPresent(newAdmin -> newAdmin.setRole(BoardRole.ADMIN));
+                    .ifPresent(
+                            newAdmin -> {
+                                newAdmin.setRole(BoardRole.ADMIN);
+                                boardMembershipCache.invalidateAfterCommit(
+                                        boardId, newAdmin.getUser().getId());
+                            });
         }
 
         boardRepository.save(board);
+
+        eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
     }
 
     /**
@@ -508,6 +523,9 @@ public class BoardService {
         collaboratorToUpdate.setRole(newRole);
 
         boardRepository.save(board);
+        boardMembershipCache.invalidateAfterCommit(boardId, userId);
+
+        eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
     }
 
     /**
@@ -556,6 +574,10 @@ public class BoardService {
         previousOwnerMembership.setRole(BoardRole.ADMIN);
 
         boardRepository.save(board);
+        boardMembershipCache.invalidateAfterCommit(boardId, newOwnerUserId);
+        boardMembershipCache.invalidateAfterCommit(boardId, previousOwner.getId());
+
+        eventPublisher.publish(BoardEventType.BOARD_UPDATED, boardId, boardId);
     }
 
     /**
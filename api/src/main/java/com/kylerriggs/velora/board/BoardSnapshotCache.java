@@ -0,0 +1,140 @@
+package com.kylerriggs.velora.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kylerriggs.velora.board.dto.BoardDto;
+import com.kylerriggs.velora.config.BoardProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.core.Ordered;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches the assembled {@link BoardDto} for each board so that concurrent viewers refetching after
+ * a WebSocket event share a single rebuild instead of each running the full board query.
+ *
+ * <p>Snapshots are stored together with the board's {@code change_seq} read before they were built.
+ * Every published board event advances {@code change_seq} in the same transaction as the change, so
+ * a snapshot is only served while the caller observes the sequence it was built under. Because the
+ * sequence lives in the database, a change committed through another instance is noticed on the
+ * next read rather than after the snapshot expires.
+ *
+ * <p>Snapshots are user-agnostic: per-user fields such as {@code isFavorite} are always {@code
+ * false} in the cached value and must be applied with {@link #withFavorite(BoardDto, boolean)}.
+ */
+@Slf4j
+@Component
+public class BoardSnapshotCache {
+    private final Cache<UUID, Snapshot> snapshots;
+
+    public BoardSnapshotCache(BoardProperties boardProperties) {
+        BoardProperties.SnapshotCache config = boardProperties.getSnapshotCache();
+        this.snapshots =
+                Caffeine.newBuilder()
+                        .maximumSize(config.getMaxBoards())
+                        .expireAfterWrite(config.getTtl())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the cached snapshot for the board if it was built under the given version, otherwise
+     * builds a new one with the given loader and caches it under that version.
+     *
+     * @param boardId the board ID
+     * @param version the board's {@code change_seq}, read before loading
+     * @param loader builds the shared board snapshot from the database
+     * @return the current board snapshot
+     */
+    public BoardDto get(@NonNull UUID boardId, long version, Function<UUID, BoardDto> loader) {
+        Snapshot cached = snapshots.getIfPresent(boardId);
+        if (cached != null && cached.version() == version) {
+            return cached.board();
+        }
+
+        BoardDto board = loader.apply(boardId);
+
+        // Keep the newest snapshot when requests that observed different versions race
+        snapshots
+                .asMap()
+                .merge(
+                        boardId,
+                        new Snapshot(version, board),
+                        (existing, loaded) ->
+                                existing.version() >= loaded.version() ? existing : loaded);
+        return board;
+    }
+
+    /**
+     * Drops the board's snapshot once the current transaction commits, or immediately when no
+     * transaction is active. The version check alone keeps stale snapshots from being served; this
+     * only frees the memory early.
+     *
+     * @param boardId the board ID whose snapshot is now stale
+     */
+    public void invalidateAfterCommit(@NonNull UUID boardId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(boardId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public int getOrder() {
+                        return Ordered.HIGHEST_PRECEDENCE;
+                    }
+
+                    @Override
+                    public void afterCommit() {
+                        invalidate(boardId);
+                    }
+                });
+    }
+
+    /**
+     * Drops the board's snapshot.
+     *
+     * @param boardId the board ID whose snapshot is now stale
+     */
+    public void invalidate(@NonNull UUID boardId) {
+        snapshots.invalidate(boardId);
+        log.debug("Board snapshot invalidated: boardId={}", boardId);
+    }
+
+    /**
+     * Applies the requesting user's favorite flag to a shared snapshot.
+     *
+     * @param board the shared board snapshot
+     * @param isFavorite whether the requesting user has favorited the board
+     * @return a copy of the snapshot with the favorite flag applied
+     */
+    public BoardDto withFavorite(BoardDto board, boolean isFavorite) {
+        if (board.isFavorite() == isFavorite) {
+            return board;
+        }
+
+        return new BoardDto(
+                board.id(),
+                board.name(),
+                board.description(),
+                board.createdBy(),
+                board.collaborators(),
+                board.tasks(),
+                board.columns(),
+                board.isArchived(),
+                board.dateCreated(),
+                board.dateModified(),
+                isFavorite,
+                board.changeCursor());
+    }
+
+    private record Snapshot(long version, BoardDto board) {}
+}
@@ -0,0 +1,35 @@
+package com.kylerriggs.velora.board;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Scheduler that prunes change feed tombstones. Clients whose cursor predates a pruned tombstone
+ * are told to resync instead of missing the deletion.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BoardTombstoneCleanupScheduler {
+    private static final int RETENTION_DAYS = 30;
+
+    private final BoardRepository boardRepository;
+
+    /** Deletes tombstones older than 30 days. Runs daily at 3:30 AM. */
+    @Scheduled(cron = "0 30 3 * * *")
+    @Transactional
+    public void cleanupOldTombstones() {
+        int boardCount = boardRepository.pruneTombstones(RETENTION_DAYS);
+
+        if (boardCount > 0) {
+            log.info(
+                    "Pruned tombstones older than {} days on {} boards",
+                    RETENTION_DAYS,
+                    boardCount);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.kylerriggs.velora.board;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,4 +36,25 @@ public interface BoardUserRepository extends JpaRepository<BoardUser, BoardUserI
      * @return the board-user link if it exists
      */
     Optional<BoardUser> findByBoardIdAndUserId(UUID boardId, String userId);
+
+    /**
+     * Checks whether the user has marked the board as a favorite.
+     *
+     * @param boardId the board ID to check
+     * @param userId the user ID to match
+     * @return true if the user is a collaborator and has favorited the board
+     */
+    @Query(
+            "SELECT CASE WHEN COUNT(bu) > 0 THEN true ELSE false END FROM BoardUser bu WHERE"
+                    + " bu.board.id = :boardId AND bu.user.id = :userId AND bu.isFavorite = true")
+    boolean isFavorite(@Param("boardId") UUID boardId, @Param("userId") String userId);
+
+    /**
+     * Finds all collaborators of a board with their users hydrated.
+     *
+     * @param boardId the board ID to match
+     * @return the board's collaborator records
+     */
+    @Query("SELECT bu FROM BoardUser bu JOIN FETCH bu.user WHERE bu.board.id = :boardId")
+    List<BoardUser> findByBoardIdWithUser(@Param("boardId") UUID boardId);
 }
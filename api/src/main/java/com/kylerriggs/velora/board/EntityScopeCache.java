@@ -0,0 +1,128 @@
+package com.kylerriggs.velora.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kylerriggs.velora.config.BoardProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Caches which board a task, column, label, or comment belongs to, so that access checks on child
+ * entities resolve the board from memory and then go through {@link BoardMembershipCache}. A child
+ * never moves to another board, so entries never go stale while the entity exists; they are evicted
+ * when the entity or its board is deleted, and are bounded by size only.
+ *
+ * <p>Entries are filled on a miss and in bulk by {@link BoardLoader} whenever a board is loaded.
+ * Missing entities are not cached.
+ */
+@Slf4j
+@Component
+public class EntityScopeCache {
+    private final Cache<Key, Scope> scopes;
+
+    public EntityScopeCache(BoardProperties boardProperties) {
+        this.scopes =
+                Caffeine.newBuilder()
+                        .maximumSize(boardProperties.getScopeCache().getMaxEntries())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the entity's scope, loading it on a cache miss.
+     *
+     * @param type the entity type
+     * @param entityId the entity ID
+     * @param loader looks up the scope of an entity by ID, returning empty if it doesn't exist
+     * @return the entity's scope, or empty if it doesn't exist
+     */
+    public Optional<Scope> resolve(
+            @NonNull BoardChangeEntityType type,
+            @NonNull UUID entityId,
+            Function<UUID, Optional<Scope>> loader) {
+        return Optional.ofNullable(
+                scopes.get(new Key(type, entityId), key -> loader.apply(key.id()).orElse(null)));
+    }
+
+    /**
+     * Returns the board an entity without an owner belongs to, loading it on a cache miss.
+     *
+     * @param type the entity type
+     * @param entityId the entity ID
+     * @param loader looks up the board ID of an entity, returning empty if it doesn't exist
+     * @return the board ID, or empty if the entity doesn't exist
+     */
+    public Optional<UUID> resolveBoardId(
+            @NonNull BoardChangeEntityType type,
+            @NonNull UUID entityId,
+            Function<UUID, Optional<UUID>> loader) {
+        return resolve(type, entityId, id -> loader.apply(id).map(Scope::of)).map(Scope::boardId);
+    }
+
+    /**
+     * Records the board of entities that were just read from the database. Only for entity types
+     * whose scope has no owner.
+     *
+     * @param type the entity type
+     * @param entityIds the entity IDs
+     * @param boardId the board they belong to
+     */
+    public void putAll(
+            @NonNull BoardChangeEntityType type,
+            Collection<UUID> entityIds,
+            @NonNull UUID boardId) {
+        Scope scope = Scope.of(boardId);
+        Map<Key, Scope> entries = new HashMap<>();
+        entityIds.forEach(id -> entries.put(new Key(type, id), scope));
+        scopes.putAll(entries);
+    }
+
+    /**
+     * Evicts a deleted entity.
+     *
+     * @param type the entity type
+     * @param entityId the entity ID
+     */
+    public void invalidate(@NonNull BoardChangeEntityType type, @NonNull UUID entityId) {
+        scopes.invalidate(new Key(type, entityId));
+    }
+
+    /**
+     * Evicts every entity of a deleted board.
+     *
+     * @param boardId the board ID
+     */
+    public void invalidateBoard(@NonNull UUID boardId) {
+        scopes.asMap().values().removeIf(scope -> scope.boardId().equals(boardId));
+        log.debug("Entity scopes invalidated: boardId={}", boardId);
+    }
+
+    /**
+     * Where an entity lives and who owns it.
+     *
+     * @param boardId the board the entity belongs to
+     * @param ownerId the user whose ownership grants extra permissions, such as a comment's author,
+     *     or null for entities without one
+     */
+    public record Scope(UUID boardId, String ownerId) {
+        /**
+         * @param boardId the board the entity belongs to
+         * @return a scope without an owner
+         */
+        public static Scope of(UUID boardId) {
+            return new Scope(boardId, null);
+        }
+    }
+
+    private record Key(BoardChangeEntityType type, UUID id) {}
+}
@@ -0,0 +1,26 @@
+package com.kylerriggs.velora.board.dto;
+
+import com.kylerriggs.velora.checklist.dto.ChecklistItemDto;
+import com.kylerriggs.velora.column.dto.ColumnDto;
+import com.kylerriggs.velora.comment.dto.CommentDto;
+import com.kylerriggs.velora.label.dto.LabelDto;
+import com.kylerriggs.velora.task.dto.TaskSummaryDto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Entities created, updated, or deleted on a board after a client-held cursor. Clients apply the
+ * upserted entities first and the deletions last, then continue from {@code cursor}. When {@code
+ * resyncRequired} is set the lists are empty and the client must reload the board.
+ */
+public record BoardChangesDto(
+        @NotNull long cursor,
+        @NotNull boolean resyncRequired,
+        @NotNull List<TaskSummaryDto> tasks,
+        @NotNull List<ColumnDto> columns,
+        @NotNull List<LabelDto> labels,
+        @NotNull List<CommentDto> comments,
+        @NotNull List<ChecklistItemDto> checklistItems,
+        @NotNull List<BoardTombstoneDto> deleted) {}
@@ -20,4 +20,5 @@ public record BoardDto(
         @NotNull boolean isArchived,
         @NotBlank String dateCreated,
         @NotBlank String dateModified,
-        @NotNull boolean isFavorite) {}
+        @NotNull boolean isFavorite,
+        @NotNull long changeCursor) {}
@@ -0,0 +1,9 @@
+package com.kylerriggs.velora.board.dto;
+
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+public record BoardTombstoneDto(@NotNull UUID id, @NotNull BoardChangeEntityType type) {}
@@ -24,7 +24,10 @@ import java.util.UUID;
         uniqueConstraints = {
             @UniqueConstraint(
                     name = "uk_checklist_item_task_position",
-                    columnNames = {"task_id", "position"})
+                    columnNames = {"task_id", "position"}),
+            @UniqueConstraint(
+                    name = "uk_checklist_item_task_rank_key",
+                    columnNames = {"task_id", "rank_key"})
         })
 public class ChecklistItem extends BaseEntity {
     @Id
@@ -44,6 +47,14 @@ public class ChecklistItem extends BaseEntity {
     @Column(name = "position", nullable = false)
     private Long position;
 
+    /** Fractional sort key within the task, see {@link com.kylerriggs.velora.common.RankKeys}. */
+    @Column(name = "rank_key", columnDefinition = "TEXT")
+    private String rankKey;
+
+    /** Board change sequence of the last committed write, null while pending. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", foreignKey = @ForeignKey(name = "fk_checklist_item_task"))
     private Task task;
@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.checklist;
 
+import com.kylerriggs.velora.board.BoardETags;
 import com.kylerriggs.velora.checklist.dto.ChecklistItemDto;
 import com.kylerriggs.velora.checklist.dto.ChecklistItemRequest;
 import com.kylerriggs.velora.checklist.dto.ChecklistReorderRequest;
@@ -14,6 +15,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,14 +26,22 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ChecklistItemController {
     private final ChecklistItemService checklistItemService;
+    private final BoardETags boardETags;
 
-    /** Retrieves all checklist items for a task, ordered by position. */
+    /**
+     * Retrieves all checklist items for a task, ordered by position. Supports conditional requests
+     * via {@code If-None-Match}.
+     */
     @GetMapping
     @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
     public ResponseEntity<List<ChecklistItemDto>> getChecklistItems(
-            @NonNull @PathVariable UUID boardId, @NonNull @PathVariable UUID taskId) {
-        List<ChecklistItemDto> items = checklistItemService.getItemsForTask(boardId, taskId);
-        return ResponseEntity.ok(items);
+            @NonNull @PathVariable UUID boardId,
+            @NonNull @PathVariable UUID taskId,
+            WebRequest request) {
+        return boardETags.respond(
+                request,
+                boardETags.forBoard(boardId),
+                () -> checklistItemService.getItemsForTask(boardId, taskId));
     }
 
     /** Creates a new checklist item on a task. */
@@ -76,7 +86,7 @@ public class ChecklistItemController {
             @NonNull @PathVariable UUID taskId,
             @NonNull @PathVariable UUID itemId,
             @Valid @RequestBody ChecklistReorderRequest request) {
-        checklistItemService.reorderItem(boardId, taskId, itemId, request.newPosition());
+        checklistItemService.reorderItem(boardId, taskId, itemId, request);
         return ResponseEntity.noContent().build();
     }
 
@@ -29,12 +29,13 @@ public class ChecklistItemMapper {
                 assignedTo,
                 item.getDueDate(),
                 item.getPosition(),
+                item.getRankKey(),
                 item.getDateCreated() != null ? item.getDateCreated().toString() : null,
                 item.getDateModified() != null ? item.getDateModified().toString() : null);
     }
 
     public ChecklistItem toEntity(
-            ChecklistItemRequest request, Task task, User assignee, long position) {
+            ChecklistItemRequest request, Task task, User assignee, long position, String rankKey) {
         return ChecklistItem.builder()
                 .title(request.title())
                 .isCompleted(request.isCompleted() != null && request.isCompleted())
@@ -42,6 +43,7 @@ public class ChecklistItemMapper {
                 .task(task)
                 .assignedTo(assignee)
                 .position(position)
+                .rankKey(rankKey)
                 .build();
     }
 
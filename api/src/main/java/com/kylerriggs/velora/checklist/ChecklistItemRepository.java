@@ -29,6 +29,28 @@ public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, UU
      */
     List<ChecklistItem> findByTaskIdOrderByPositionAsc(UUID taskId);
 
+    /**
+     * Finds checklist items for a task ordered by rank key.
+     *
+     * @param taskId the task ID
+     * @return list of checklist items ordered by rank key
+     */
+    List<ChecklistItem> findByTaskIdOrderByRankKeyAsc(UUID taskId);
+
+    /**
+     * Finds checklist items on a board's tasks whose last committed change is newer than the given
+     * change sequence.
+     *
+     * @param boardId the board ID
+     * @param since the client's change cursor
+     * @return the changed checklist items
+     */
+    @Query(
+            "SELECT ci FROM ChecklistItem ci LEFT JOIN FETCH ci.assignedTo WHERE ci.task.board.id"
+                    + " = :boardId AND ci.changeSeq > :since ORDER BY ci.position")
+    List<ChecklistItem> findChangedSince(
+            @Param("boardId") UUID boardId, @Param("since") long since);
+
     /**
      * Finds a checklist item by ID with its task eagerly loaded.
      *
@@ -63,6 +85,60 @@ public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, UU
     @Query("SELECT MAX(ci.position) FROM ChecklistItem ci WHERE ci.task.id = :taskId")
     Optional<Long> findMaxPositionByTaskId(@Param("taskId") UUID taskId);
 
+    /**
+     * Finds the rank key of a checklist item on a specific task.
+     *
+     * @param itemId the checklist item ID
+     * @param taskId the task ID
+     * @return the rank key if the item belongs to the task, otherwise an empty Optional
+     */
+    @Query(
+            "SELECT ci.rankKey FROM ChecklistItem ci WHERE ci.id = :itemId AND ci.task.id ="
+                    + " :taskId")
+    Optional<String> findRankKeyByIdAndTaskId(
+            @Param("itemId") UUID itemId, @Param("taskId") UUID taskId);
+
+    /**
+     * Finds the greatest rank key among items in a task.
+     *
+     * @param taskId the task ID
+     * @return the greatest rank key or empty if no items exist
+     */
+    @Query("SELECT MAX(ci.rankKey) FROM ChecklistItem ci WHERE ci.task.id = :taskId")
+    Optional<String> findMaxRankKeyByTaskId(@Param("taskId") UUID taskId);
+
+    /**
+     * Finds the smallest rank key in a task that sorts after the given one.
+     *
+     * @param taskId the task ID
+     * @param rankKey the rank key to look after
+     * @param excludingItemId an item to ignore, typically the one being placed
+     * @return the next rank key, or empty if none follows
+     */
+    @Query(
+            "SELECT MIN(ci.rankKey) FROM ChecklistItem ci WHERE ci.task.id = :taskId AND"
+                    + " ci.rankKey > :rankKey AND ci.id <> :excludingItemId")
+    Optional<String> findNextRankKey(
+            @Param("taskId") UUID taskId,
+            @Param("rankKey") String rankKey,
+            @Param("excludingItemId") UUID excludingItemId);
+
+    /**
+     * Finds the greatest rank key in a task that sorts before the given one.
+     *
+     * @param taskId the task ID
+     * @param rankKey the rank key to look before
+     * @param excludingItemId an item to ignore, typically the one being placed
+     * @return the previous rank key, or empty if none precedes
+     */
+    @Query(
+            "SELECT MAX(ci.rankKey) FROM ChecklistItem ci WHERE ci.task.id = :taskId AND"
+                    + " ci.rankKey < :rankKey AND ci.id <> :excludingItemId")
+    Optional<String> findPreviousRankKey(
+            @Param("taskId") UUID taskId,
+            @Param("rankKey") String rankKey,
+            @Param("excludingItemId") UUID excludingItemId);
+
     /**
      * Gets checklist progress (total and completed counts) for multiple tasks.
      *
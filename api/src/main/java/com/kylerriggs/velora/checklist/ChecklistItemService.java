@@ -7,6 +7,10 @@ import com.kylerriggs.velora.activity.ActivityType;
 import com.kylerriggs.velora.checklist.dto.ChecklistItemDto;
 import com.kylerriggs.velora.checklist.dto.ChecklistItemRequest;
 import com.kylerriggs.velora.checklist.dto.ChecklistProgressDto;
+import com.kylerriggs.velora.checklist.dto.ChecklistReorderRequest;
+import com.kylerriggs.velora.common.RankKeys;
+import com.kylerriggs.velora.config.BoardProperties;
+import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskRepository;
@@ -38,13 +42,16 @@ public class ChecklistItemService {
     private final BoardEventPublisher eventPublisher;
     private final ActivityLogService activityLogService;
     private final ObjectMapper objectMapper;
+    private final BoardProperties boardProperties;
 
-    /** Retrieves all checklist items for a task, ordered by position. */
+    /** Retrieves all checklist items for a task, in display order. */
     public List<ChecklistItemDto> getItemsForTask(@NonNull UUID boardId, @NonNull UUID taskId) {
         requireTaskInBoard(boardId, taskId);
-        return checklistItemRepository.findByTaskIdOrderByPositionAsc(taskId).stream()
-                .map(checklistItemMapper::toDto)
-                .toList();
+        List<ChecklistItem> items =
+                isRankOrdering()
+                        ? checklistItemRepository.findByTaskIdOrderByRankKeyAsc(taskId)
+                        : checklistItemRepository.findByTaskIdOrderByPositionAsc(taskId);
+        return items.stream().map(checklistItemMapper::toDto).toList();
     }
 
     /** Gets the checklist progress (total and completed counts) for a task. */
@@ -66,15 +73,25 @@ public class ChecklistItemService {
         }
 
         long position = checklistItemRepository.findMaxPositionByTaskId(taskId).orElse(0L) + GAP;
+        String rankKey =
+                isRankOrdering()
+                        ? RankKeys.between(
+                                checklistItemRepository.findMaxRankKeyByTaskId(taskId).orElse(null),
+                                null)
+                        : RankKeys.fromPosition(position);
 
-        ChecklistItem item = checklistItemMapper.toEntity(request, task, assignee, position);
+        ChecklistItem item =
+                checklistItemMapper.toEntity(request, task, assignee, position, rankKey);
         ChecklistItem saved = checklistItemRepository.save(item);
 
-        eventPublisher.publish(BoardEventType.CHECKLIST_ITEM_ADDED, boardId, saved.getId());
+        ChecklistItemDto itemDto = checklistItemMapper.toDto(saved);
+
+        eventPublisher.publish(
+                BoardEventType.CHECKLIST_ITEM_ADDED, boardId, saved.getId(), () -> itemDto);
         activityLogService.logActivity(
                 task, ActivityType.CHECKLIST_ITEM_ADDED, toJson(Map.of("title", request.title())));
 
-        return checklistItemMapper.toDto(saved);
+        return itemDto;
     }
 
     /** Updates an existing checklist item. */
@@ -104,7 +121,10 @@ public class ChecklistItemService {
         ChecklistItem saved = checklistItemRepository.save(item);
         UUID bId = item.getTask().getBoard().getId();
 
-        eventPublisher.publish(BoardEventType.CHECKLIST_ITEM_UPDATED, bId, saved.getId());
+        ChecklistItemDto itemDto = checklistItemMapper.toDto(saved);
+
+        eventPublisher.publish(
+                BoardEventType.CHECKLIST_ITEM_UPDATED, bId, saved.getId(), () -> itemDto);
 
         // Log appropriate activity type based on completion change
         if (!wasCompleted && isNowCompleted) {
@@ -124,7 +144,7 @@ public class ChecklistItemService {
                     toJson(Map.of("title", item.getTitle())));
         }
 
-        return checklistItemMapper.toDto(saved);
+        return itemDto;
     }
 
     /** Toggles the completion status of a checklist item. */
@@ -140,7 +160,10 @@ public class ChecklistItemService {
         ChecklistItem saved = checklistItemRepository.save(item);
         UUID bId = item.getTask().getBoard().getId();
 
-        eventPublisher.publish(BoardEventType.CHECKLIST_ITEM_UPDATED, bId, saved.getId());
+        ChecklistItemDto itemDto = checklistItemMapper.toDto(saved);
+
+        eventPublisher.publish(
+                BoardEventType.CHECKLIST_ITEM_UPDATED, bId, saved.getId(), () -> itemDto);
 
         ActivityType activityType =
                 wasCompleted
@@ -149,19 +172,32 @@ public class ChecklistItemService {
         activityLogService.logActivity(
                 item.getTask(), activityType, toJson(Map.of("title", item.getTitle())));
 
-        return checklistItemMapper.toDto(saved);
+        return itemDto;
     }
 
-    /** Reorders a checklist item to a new position. */
+    /**
+     * Reorders a checklist item. Under position ordering the item takes the requested position;
+     * under rank ordering it gets a rank key between the requested neighbors and keeps its
+     * position.
+     */
     @Transactional
     public void reorderItem(
             @NonNull UUID boardId,
             @NonNull UUID taskId,
             @NonNull UUID itemId,
-            @NonNull Long newPosition) {
+            @NonNull ChecklistReorderRequest request) {
         ChecklistItem item = requireItemInTask(boardId, taskId, itemId);
 
-        item.setPosition(newPosition);
+        if (isRankOrdering()) {
+            item.setRankKey(
+                    computeRankKey(taskId, request.afterItemId(), request.beforeItemId(), itemId));
+        } else {
+            if (request.newPosition() == null) {
+                throw new BadRequestException("New position is required.");
+            }
+            item.setPosition(request.newPosition());
+            item.setRankKey(RankKeys.fromPosition(request.newPosition()));
+        }
         item.setDateModified(Instant.now());
 
         checklistItemRepository.save(item);
@@ -169,7 +205,8 @@ public class ChecklistItemService {
         eventPublisher.publish(
                 BoardEventType.CHECKLIST_ITEM_REORDERED,
                 item.getTask().getBoard().getId(),
-                item.getId());
+                item.getId(),
+                () -> checklistItemMapper.toDto(item));
     }
 
     /** Deletes a checklist item. */
@@ -188,6 +225,54 @@ public class ChecklistItemService {
                 task, ActivityType.CHECKLIST_ITEM_DELETED, toJson(Map.of("title", title)));
     }
 
+    private boolean isRankOrdering() {
+        return boardProperties.getOrdering() == BoardProperties.Ordering.RANK;
+    }
+
+    /**
+     * Generates a rank key directly after the after-item, or directly before the before-item when
+     * only that one is given, or at the end of the list when neither is.
+     */
+    private String computeRankKey(
+            UUID taskId, UUID afterItemId, UUID beforeItemId, UUID movingItemId) {
+        if (movingItemId.equals(afterItemId) || movingItemId.equals(beforeItemId)) {
+            throw new BadRequestException("A checklist item cannot be its own neighbor.");
+        }
+
+        String afterRank = afterItemId != null ? requireRankKey(taskId, afterItemId) : null;
+        String beforeRank = beforeItemId != null ? requireRankKey(taskId, beforeItemId) : null;
+
+        if (afterRank != null && beforeRank != null && afterRank.compareTo(beforeRank) >= 0) {
+            throw new BadRequestException("After-item must come before before-item.");
+        }
+
+        if (afterRank != null) {
+            return RankKeys.between(
+                    afterRank,
+                    checklistItemRepository
+                            .findNextRankKey(taskId, afterRank, movingItemId)
+                            .orElse(null));
+        }
+        if (beforeRank != null) {
+            return RankKeys.between(
+                    checklistItemRepository
+                            .findPreviousRankKey(taskId, beforeRank, movingItemId)
+                            .orElse(null),
+                    beforeRank);
+        }
+        return RankKeys.between(
+                checklistItemRepository.findMaxRankKeyByTaskId(taskId).orElse(null), null);
+    }
+
+    private String requireRankKey(UUID taskId, UUID itemId) {
+        return checklistItemRepository
+                .findRankKeyByIdAndTaskId(itemId, taskId)
+                .orElseThrow(
+                        () ->
+                                new ResourceNotFoundException(
+                                        "Checklist item not found in task: " + itemId));
+    }
+
     private Task requireTaskInBoard(UUID boardId, UUID taskId) {
         return taskRepository
                 .findByIdAndBoardId(taskId, boardId)
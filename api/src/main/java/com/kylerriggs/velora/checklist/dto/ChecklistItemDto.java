@@ -17,5 +17,6 @@ public record ChecklistItemDto(
         UserSummaryDto assignedTo,
         LocalDate dueDate,
         @Min(0) long position,
+        @NotBlank String rank,
         @NotBlank String dateCreated,
         String dateModified) {}
@@ -1,6 +1,12 @@
 package com.kylerriggs.velora.checklist.dto;
 
 import jakarta.validation.constraints.Min;
-import jakarta.validation.constraints.NotNull;
 
-public record ChecklistReorderRequest(@NotNull @Min(0) Long newPosition) {}
+import java.util.UUID;
+
+/**
+ * Moves a checklist item. Position ordering takes the absolute {@code newPosition}; rank ordering
+ * takes the neighboring items instead, either of which may be omitted at the ends of the list.
+ */
+public record ChecklistReorderRequest(
+        @Min(0) Long newPosition, UUID afterItemId, UUID beforeItemId) {}
@@ -46,6 +46,10 @@ public class Column extends BaseEntity {
     @jakarta.persistence.Column(nullable = false)
     private boolean isArchived = false;
 
+    /** Board change sequence of the last committed write, null while pending. */
+    @jakarta.persistence.Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
     private Board board;
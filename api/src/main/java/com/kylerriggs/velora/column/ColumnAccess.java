@@ -1,6 +1,8 @@
 package com.kylerriggs.velora.column;
 
 import com.kylerriggs.velora.board.BoardAccess;
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+import com.kylerriggs.velora.board.EntityScopeCache;
 import com.kylerriggs.velora.common.BaseAccess;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 
@@ -9,10 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
 import java.util.UUID;
 
 @Component("columnAccess")
@@ -20,6 +19,7 @@ import java.util.UUID;
 @Slf4j
 public class ColumnAccess extends BaseAccess {
     private final ColumnRepository columnRepository;
+    private final EntityScopeCache entityScopeCache;
     private final BoardAccess boardAccess;
 
     /**
@@ -28,16 +28,8 @@ public class ColumnAccess extends BaseAccess {
      * @param columnId the ID of the column
      * @return true if the user is a collaborator
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCollaborator(@NonNull UUID columnId) {
-        Column column =
-                columnRepository
-                        .findById(columnId)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Column not found: " + columnId));
-        return boardAccess.isCollaborator(Objects.requireNonNull(column.getBoard().getId()));
+        return boardAccess.isCollaborator(boardIdOf(columnId));
     }
 
     /**
@@ -46,15 +38,14 @@ public class ColumnAccess extends BaseAccess {
      * @param columnId the ID of the column
      * @return true if the user is an admin
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isAdmin(@NonNull UUID columnId) {
-        Column column =
-                columnRepository
-                        .findById(columnId)
-                        .orElseThrow(
-                                () ->
-                                        new ResourceNotFoundException(
-                                                "Column not found: " + columnId));
-        return boardAccess.isAdmin(Objects.requireNonNull(column.getBoard().getId()));
+        return boardAccess.isAdmin(boardIdOf(columnId));
+    }
+
+    private UUID boardIdOf(UUID columnId) {
+        return entityScopeCache
+                .resolveBoardId(
+                        BoardChangeEntityType.COLUMN, columnId, columnRepository::findBoardIdById)
+                .orElseThrow(() -> new ResourceNotFoundException("Column not found: " + columnId));
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,6 +24,33 @@ public interface ColumnRepository extends JpaRepository<Column, UUID> {
     @Query("SELECT c FROM Column c WHERE c.id = :columnId")
     Optional<Column> findByIdWithLock(@Param("columnId") UUID columnId);
 
+    /**
+     * Finds the board a column belongs to, without loading the column.
+     *
+     * @param columnId the ID of the column
+     * @return the board ID, or empty if the column doesn't exist
+     */
+    @Query("SELECT c.board.id FROM Column c WHERE c.id = :columnId")
+    Optional<UUID> findBoardIdById(@Param("columnId") UUID columnId);
+
+    /**
+     * Finds all columns in the specified board ordered by position.
+     *
+     * @param boardId the ID of the board
+     * @return the board's columns, archived ones included
+     */
+    List<Column> findByBoardIdOrderByPositionAsc(UUID boardId);
+
+    /**
+     * Finds columns in the specified board whose last committed change is newer than the given
+     * change sequence.
+     *
+     * @param boardId the ID of the board
+     * @param since the client's change cursor
+     * @return the changed columns
+     */
+    List<Column> findByBoardIdAndChangeSeqGreaterThan(UUID boardId, long since);
+
     /**
      * Finds the maximum position value among columns in the specified board.
      *
@@ -13,6 +13,7 @@ import com.kylerriggs.velora.column.dto.MoveColumnRequest;
 import com.kylerriggs.velora.column.dto.UpdateColumnRequest;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.task.TaskArchiveService;
 import com.kylerriggs.velora.task.TaskRepository;
 import com.kylerriggs.velora.websocket.BoardEventPublisher;
@@ -39,6 +40,7 @@ public class ColumnService {
     private final BoardEventPublisher eventPublisher;
     private final ActivityLogService activityLogService;
     private final ObjectMapper objectMapper;
+    private final NotificationService notificationService;
 
     /**
      * Creates a new column in the specified board.
@@ -84,10 +86,13 @@ public class ColumnService {
         details.put("columnName", column.getName());
         activityLogService.logBoardActivity(board, ActivityType.COLUMN_CREATED, toJson(details));
 
+        ColumnDto columnDto = columnMapper.toDto(column);
+
         // Broadcast event via WebSocket
-        eventPublisher.publish(BoardEventType.COLUMN_CREATED, boardId, column.getId());
+        eventPublisher.publish(
+                BoardEventType.COLUMN_CREATED, boardId, column.getId(), () -> columnDto);
 
-        return columnMapper.toDto(column);
+        return columnDto;
     }
 
     /**
@@ -127,10 +132,13 @@ public class ColumnService {
         details.put("newName", column.getName());
         activityLogService.logBoardActivity(board, ActivityType.COLUMN_UPDATED, toJson(details));
 
+        ColumnDto columnDto = columnMapper.toDto(column);
+
         // Broadcast event via WebSocket
-        eventPublisher.publish(BoardEventType.COLUMN_UPDATED, board.getId(), columnId);
+        eventPublisher.publish(
+                BoardEventType.COLUMN_UPDATED, board.getId(), columnId, () -> columnDto);
 
-        return columnMapper.toDto(column);
+        return columnDto;
     }
 
     /**
@@ -161,6 +169,7 @@ public class ColumnService {
         Board board = column.getBoard();
         UUID boardId = board.getId();
         String columnName = column.getName();
+        notificationService.deleteForTasks(taskRepository.findIdsByColumnId(columnId));
         taskRepository.deleteByColumnId(columnId);
 
         columnRepository.delete(column);
@@ -236,7 +245,8 @@ public class ColumnService {
         activityLogService.logBoardActivity(board, ActivityType.COLUMN_MOVED, toJson(details));
 
         // Broadcast event via WebSocket
-        eventPublisher.publish(BoardEventType.COLUMN_MOVED, boardId, columnId);
+        eventPublisher.publish(
+                BoardEventType.COLUMN_MOVED, boardId, columnId, () -> columnMapper.toDto(column));
     }
 
     @Transactional
@@ -306,9 +316,10 @@ public class ColumnService {
         details.put("columnName", column.getName());
         activityLogService.logBoardActivity(column.getBoard(), activityType, toJson(details));
 
-        eventPublisher.publish(BoardEventType.COLUMN_UPDATED, boardId, columnId);
+        ColumnDto columnDto = columnMapper.toDto(column);
+        eventPublisher.publish(BoardEventType.COLUMN_UPDATED, boardId, columnId, () -> columnDto);
 
-        return columnMapper.toDto(column);
+        return columnDto;
     }
 
     private String toJson(Map<String, Object> map) {
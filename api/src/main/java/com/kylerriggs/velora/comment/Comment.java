@@ -28,6 +28,10 @@ public class Comment extends BaseEntity {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    /** Board change sequence of the last committed write, null while pending. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "task_id", foreignKey = @ForeignKey(name = "fk_comment_task"))
     private Task task;
@@ -1,5 +1,7 @@
 package com.kylerriggs.velora.comment;
 
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+import com.kylerriggs.velora.board.EntityScopeCache;
 import com.kylerriggs.velora.common.BaseAccess;
 import com.kylerriggs.velora.exception.ForbiddenException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
@@ -9,9 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component("commentAccess")
@@ -19,23 +20,23 @@ import java.util.UUID;
 @Slf4j
 public class CommentAccess extends BaseAccess {
     private final CommentRepository commentRepository;
+    private final EntityScopeCache entityScopeCache;
 
     /**
      * Checks if the current user is the author of the comment. Required for edit/delete operations.
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isAuthor(@NonNull UUID commentId) {
         String requestUserId = currentUserId();
 
-        Comment comment =
-                commentRepository
-                        .findById(commentId)
+        EntityScopeCache.Scope scope =
+                entityScopeCache
+                        .resolve(BoardChangeEntityType.COMMENT, commentId, this::loadScope)
                         .orElseThrow(
                                 () ->
                                         new ResourceNotFoundException(
                                                 "Comment not found: " + commentId));
 
-        boolean isAuthor = comment.getAuthor().getId().equals(requestUserId);
+        boolean isAuthor = requestUserId.equals(scope.ownerId());
 
         if (!isAuthor) {
             log.warn(
@@ -47,4 +48,10 @@ public class CommentAccess extends BaseAccess {
 
         return true;
     }
+
+    private Optional<EntityScopeCache.Scope> loadScope(UUID commentId) {
+        return commentRepository
+                .findScopeById(commentId)
+                .map(c -> new EntityScopeCache.Scope(c.getBoardId(), c.getAuthorId()));
+    }
 }
@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.comment;
 
+import com.kylerriggs.velora.board.BoardETags;
 import com.kylerriggs.velora.comment.dto.CommentDto;
 import com.kylerriggs.velora.comment.dto.CommentRequest;
 
@@ -13,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -23,21 +25,27 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class CommentController {
     private final CommentService commentService;
+    private final BoardETags boardETags;
 
     /**
      * Retrieves all comments for a task, ordered by oldest first. Requires the user to be a
-     * collaborator on the board.
+     * collaborator on the board. Supports conditional requests via {@code If-None-Match}.
      *
      * @param boardId the ID of the board (used for authorization)
      * @param taskId the ID of the task
-     * @return list of comment DTOs
+     * @param request the current request, used to evaluate {@code If-None-Match}
+     * @return list of comment DTOs, or 304 if the client's copy is current
      */
     @GetMapping
     @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
     public ResponseEntity<List<CommentDto>> getTaskComments(
-            @NonNull @PathVariable UUID boardId, @NonNull @PathVariable UUID taskId) {
-        List<CommentDto> comments = commentService.getCommentsForTask(boardId, taskId);
-        return ResponseEntity.ok(comments);
+            @NonNull @PathVariable UUID boardId,
+            @NonNull @PathVariable UUID taskId,
+            WebRequest request) {
+        return boardETags.respond(
+                request,
+                boardETags.forBoard(boardId),
+                () -> commentService.getCommentsForTask(boardId, taskId));
     }
 
     /**
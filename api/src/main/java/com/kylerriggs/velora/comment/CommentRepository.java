@@ -6,6 +6,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -22,6 +23,18 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
         long getCommentCount();
     }
 
+    interface CommentScope {
+        /**
+         * @return the ID of the board the comment's task belongs to
+         */
+        UUID getBoardId();
+
+        /**
+         * @return the comment author's user ID
+         */
+        String getAuthorId();
+    }
+
     /**
      * Finds comments for a task ordered by oldest first.
      *
@@ -30,6 +43,30 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
      */
     List<Comment> findByTaskIdOrderByDateCreatedAsc(UUID taskId);
 
+    /**
+     * Finds the board and author of a comment, without loading the comment.
+     *
+     * @param commentId the comment ID
+     * @return the comment's board and author, or empty if the comment doesn't exist
+     */
+    @Query(
+            "SELECT c.task.board.id AS boardId, c.author.id AS authorId FROM Comment c WHERE c.id ="
+                    + " :commentId")
+    Optional<CommentScope> findScopeById(@Param("commentId") UUID commentId);
+
+    /**
+     * Finds comments on a board's tasks whose last committed change is newer than the given change
+     * sequence.
+     *
+     * @param boardId the board ID
+     * @param since the client's change cursor
+     * @return the changed comments ordered by oldest first
+     */
+    @Query(
+            "SELECT c FROM Comment c JOIN FETCH c.author JOIN FETCH c.task t WHERE t.board.id ="
+                    + " :boardId AND c.changeSeq > :since ORDER BY c.dateCreated")
+    List<Comment> findChangedSince(@Param("boardId") UUID boardId, @Param("since") long since);
+
     /**
      * Counts comments for each task ID provided.
      *
@@ -66,8 +66,13 @@ public class CommentService {
 
         Comment saved = commentRepository.save(comment);
 
+        CommentDto commentDto = commentMapper.toDto(saved);
+
         eventPublisher.publish(
-                BoardEventType.COMMENT_ADDED, task.getBoard().getId(), saved.getId());
+                BoardEventType.COMMENT_ADDED,
+                task.getBoard().getId(),
+                saved.getId(),
+                () -> commentDto);
 
         // Publish notification event for mentions and task assignee
         applicationEventPublisher.publishEvent(
@@ -78,7 +83,7 @@ public class CommentService {
                         author.getId(),
                         request.content()));
 
-        return commentMapper.toDto(saved);
+        return commentDto;
     }
 
     /**
@@ -110,10 +115,13 @@ public class CommentService {
 
         Comment saved = commentRepository.save(comment);
 
+        CommentDto commentDto = commentMapper.toDto(saved);
+
         eventPublisher.publish(
                 BoardEventType.COMMENT_UPDATED,
                 comment.getTask().getBoard().getId(),
-                saved.getId());
+                saved.getId(),
+                () -> commentDto);
 
         User editor = userLookupService.getRequiredCurrentUser();
         applicationEventPublisher.publishEvent(
@@ -125,7 +133,7 @@ public class CommentService {
                         oldContent,
                         saved.getContent()));
 
-        return commentMapper.toDto(saved);
+        return commentDto;
     }
 
     /**
@@ -0,0 +1,276 @@
+package com.kylerriggs.velora.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Variable-length fractional sort keys. A key is an integer part, whose first character encodes its
+ * length, followed by an optional base-62 fraction without trailing zeros. Keys compare with plain
+ * byte order ({@link String#compareTo} in Java, {@code COLLATE "C"} in Postgres), and a new key
+ * fits between any two distinct keys, so placing an item never rewrites its neighbors. Repeated
+ * appends only bump the integer part, so keys grow logarithmically rather than linearly.
+ */
+public final class RankKeys {
+    private static final String DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final String SMALLEST_INTEGER = "A" + "0".repeat(26);
+    private static final char POSITION_HEAD = 'k';
+    private static final int POSITION_DIGITS = 11;
+
+    private RankKeys() {}
+
+    /**
+     * Encodes a numeric position as a key that sorts exactly like the position does. Keys for
+     * existing rows are backfilled this way (see {@code position_rank_key} in the V006 migration),
+     * so both orderings agree until the first rank-based write.
+     *
+     * @param position a non-negative position
+     * @return the key for the position
+     * @throws IllegalArgumentException if the position is negative
+     */
+    public static String fromPosition(long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position must not be negative: " + position);
+        }
+
+        char[] key = new char[POSITION_DIGITS + 1];
+        key[0] = POSITION_HEAD;
+        long remaining = position;
+        for (int i = POSITION_DIGITS; i > 0; i--) {
+            key[i] = DIGITS.charAt((int) (remaining % BASE));
+            remaining /= BASE;
+        }
+        return new String(key);
+    }
+
+    /**
+     * Generates a key strictly between two keys.
+     *
+     * @param lower the key to sort after, or null for no lower bound
+     * @param upper the key to sort before, or null for no upper bound
+     * @return a key greater than {@code lower} and less than {@code upper}
+     * @throws IllegalArgumentException if either key is malformed or {@code lower >= upper}
+     */
+    public static String between(String lower, String upper) {
+        if (lower != null) {
+            validate(lower);
+        }
+        if (upper != null) {
+            validate(upper);
+        }
+        if (lower != null && upper != null && lower.compareTo(upper) >= 0) {
+            throw new IllegalArgumentException(lower + " is not less than " + upper);
+        }
+
+        if (lower == null) {
+            if (upper == null) {
+                return "a" + DIGITS.charAt(0);
+            }
+            String integer = integerPart(upper);
+            String fraction = upper.substring(integer.length());
+            if (integer.equals(SMALLEST_INTEGER)) {
+                return integer + midpoint("", fraction);
+            }
+            if (integer.compareTo(upper) < 0) {
+                return integer;
+            }
+            String decremented = decrementInteger(integer);
+            if (decremented == null) {
+                throw new IllegalArgumentException("Cannot generate a key before " + upper);
+            }
+            return decremented;
+        }
+
+        String lowerInteger = integerPart(lower);
+        String lowerFraction = lower.substring(lowerInteger.length());
+        if (upper == null) {
+            String incremented = incrementInteger(lowerInteger);
+            return incremented != null ? incremented : lowerInteger + midpoint(lowerFraction, null);
+        }
+
+        String upperInteger = integerPart(upper);
+        if (lowerInteger.equals(upperInteger)) {
+            return lowerInteger + midpoint(lowerFraction, upper.substring(upperInteger.length()));
+        }
+        String incremented = incrementInteger(lowerInteger);
+        if (incremented == null) {
+            throw new IllegalArgumentException("Cannot generate a key after " + lower);
+        }
+        if (incremented.compareTo(upper) < 0) {
+            return incremented;
+        }
+        return lowerInteger + midpoint(lowerFraction, null);
+    }
+
+    /**
+     * Generates consecutive keys strictly between two keys. Bounded ranges are split recursively,
+     * so key length grows with the logarithm of the count instead of linearly.
+     *
+     * @param lower the key to sort after, or null for no lower bound
+     * @param upper the key to sort before, or null for no upper bound
+     * @param count how many keys to generate
+     * @return the keys in ascending order
+     * @throws IllegalArgumentException if either key is malformed or {@code lower >= upper}
+     */
+    public static List<String> between(String lower, String upper, int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+
+        if (upper == null) {
+            String key = lower;
+            for (int i = 0; i < count; i++) {
+                key = between(key, null);
+                keys.add(key);
+            }
+            return keys;
+        }
+        if (lower == null) {
+            String key = upper;
+            for (int i = 0; i < count; i++) {
+                key = between(null, key);
+                keys.add(key);
+            }
+            Collections.reverse(keys);
+            return keys;
+        }
+
+        int half = count / 2;
+        String middle = between(lower, upper);
+        keys.addAll(between(lower, middle, half));
+        keys.add(middle);
+        keys.addAll(between(middle, upper, count - half - 1));
+        return keys;
+    }
+
+    /** Finds a fraction between two fractions, an empty or absent upper bound meaning 1. */
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            // Carry over the common prefix, treating missing lower digits as zeros
+            int n = 0;
+            while (n < upper.length() && digitAt(lower, n) == upper.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return upper.substring(0, n)
+                        + midpoint(
+                                n < lower.length() ? lower.substring(n) : "", upper.substring(n));
+            }
+        }
+
+        int lowerDigit = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int upperDigit = upper != null ? DIGITS.indexOf(upper.charAt(0)) : BASE;
+        if (upperDigit - lowerDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+        }
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+        String rest = lower.isEmpty() ? "" : lower.substring(1);
+        return DIGITS.charAt(lowerDigit) + midpoint(rest, null);
+    }
+
+    private static char digitAt(String fraction, int index) {
+        return index < fraction.length() ? fraction.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static String incrementInteger(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        boolean carry = true;
+        for (int i = digits.length() - 1; carry && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits.charAt(i)) + 1;
+            if (digit == BASE) {
+                digits.setCharAt(i, DIGITS.charAt(0));
+            } else {
+                digits.setCharAt(i, DIGITS.charAt(digit));
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + digits.toString();
+        }
+
+        if (head == 'Z') {
+            return "a" + DIGITS.charAt(0);
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char nextHead = (char) (head + 1);
+        if (nextHead > 'a') {
+            digits.append(DIGITS.charAt(0));
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return nextHead + digits.toString();
+    }
+
+    private static String decrementInteger(String integer) {
+        char head = integer.charAt(0);
+        StringBuilder digits = new StringBuilder(integer.substring(1));
+        boolean borrow = true;
+        for (int i = digits.length() - 1; borrow && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits.charAt(i)) - 1;
+            if (digit == -1) {
+                digits.setCharAt(i, DIGITS.charAt(BASE - 1));
+            } else {
+                digits.setCharAt(i, DIGITS.charAt(digit));
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + digits.toString();
+        }
+
+        if (head == 'a') {
+            return "Z" + DIGITS.charAt(BASE - 1);
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previousHead = (char) (head - 1);
+        if (previousHead < 'Z') {
+            digits.append(DIGITS.charAt(BASE - 1));
+        } else {
+            digits.setLength(digits.length() - 1);
+        }
+        return previousHead + digits.toString();
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Invalid rank key: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Invalid rank key head: " + head);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid rank key: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid rank key: " + key);
+            }
+        }
+        String integer = integerPart(key);
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("Invalid rank key: " + key);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -16,4 +17,55 @@ public class BoardProperties {
     private int maxBoardsPerUser = 10;
     private List<String> defaultColumns =
             List.of("Backlog", "To Do", "In Progress", "Done", "Canceled");
+    private SnapshotCache snapshotCache = new SnapshotCache();
+    private MembershipCache membershipCache = new MembershipCache();
+    private ScopeCache scopeCache = new ScopeCache();
+    private Ordering ordering = Ordering.POSITION;
+    private PositionWrites positionWrites = new PositionWrites();
+
+    /** Bounds for the in-memory cache of assembled board snapshots. */
+    @Getter
+    @Setter
+    public static class SnapshotCache {
+        private int maxBoards = 500;
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    /**
+     * Bounds for the in-memory cache of board memberships used by access checks. Changes made
+     * through this instance evict entries immediately; the TTL bounds how long a change made
+     * through another instance can go unnoticed.
+     */
+    @Getter
+    @Setter
+    public static class MembershipCache {
+        private int maxEntries = 50_000;
+        private Duration ttl = Duration.ofMinutes(2);
+    }
+
+    /** Bounds for the in-memory cache mapping tasks, columns, labels, and comments to boards. */
+    @Getter
+    @Setter
+    public static class ScopeCache {
+        private int maxEntries = 200_000;
+    }
+
+    /** Retry policy for task position writes that lose a race with another writer. */
+    @Getter
+    @Setter
+    public static class PositionWrites {
+        private int maxAttempts = 3;
+        private Duration backoff = Duration.ofMillis(25);
+    }
+
+    /** How tasks and checklist items are ordered within their column or task. */
+    public enum Ordering {
+        /** Gapped numeric positions, rebalancing a column once a gap runs out. */
+        POSITION,
+        /**
+         * Fractional rank keys that never require rebalancing. Positions are then only appended to
+         * keep them unique, so clients must sort by {@code rank}.
+         */
+        RANK
+    }
 }
@@ -23,8 +23,10 @@ public class CacheConfig {
      * <ul>
      *   <li><b>userSync</b>: 10-minute TTL, max 10,000 entries
      *       <ul>
-     *         <li>Caches user synchronization status to avoid DB queries on every request
-     *         <li>TTL ensures user profile changes propagate within 10 minutes
+     *         <li>Caches the profile fingerprint last synchronized for each subject, so requests
+     *             with an unchanged token skip the DB entirely
+     *         <li>A changed fingerprint triggers a sync right away; the TTL only bounds how long a
+     *             row edited outside the sync goes unrepaired
      *         <li>Max size prevents unbounded memory growth
      *       </ul>
      * </ul>
@@ -0,0 +1,53 @@
+package com.kylerriggs.velora.config;
+
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.distributed.jdbc.PrimaryKeyMapper;
+import io.github.bucket4j.postgresql.Bucket4jPostgreSQL;
+import io.github.bucket4j.postgresql.PostgreSQLadvisoryLockBasedProxyManager;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+/**
+ * Stores rate limit buckets in Postgres so that every replica draws from the same bucket. Enabled
+ * with {@code velora.rate-limit.distributed.enabled}; the table is created by Flyway either way.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "velora.rate-limit.distributed", name = "enabled")
+public class DistributedRateLimitConfig {
+
+    /**
+     * Proxy manager backed by the application datasource. Each bucket is read and written under a
+     * transaction-scoped advisory lock on its key, and its row expires once the bucket would have
+     * refilled, plus a minute of slack.
+     *
+     * @param dataSource the application datasource
+     * @return the proxy manager for rate limit buckets
+     */
+    @Bean
+    public PostgreSQLadvisoryLockBasedProxyManager<String> rateLimitProxyManager(
+            DataSource dataSource) {
+        return Bucket4jPostgreSQL.advisoryLockBasedBuilder(dataSource)
+                .table("rate_limit_buckets")
+                .idColumn("id")
+                .stateColumn("state")
+                .expiresAtColumn("expires_at")
+                .primaryKeyMapper(PrimaryKeyMapper.STRING)
+                .expirationAfterWrite(
+                        ExpirationAfterWriteStrategy.basedOnTimeForRefillingBucketUpToMax(
+                                Duration.ofMinutes(1)))
+                .build();
+    }
+
+    @Bean
+    public RateLimitBucketCleanupScheduler rateLimitBucketCleanupScheduler(
+            PostgreSQLadvisoryLockBasedProxyManager<String> rateLimitProxyManager,
+            RateLimitProperties rateLimitProperties) {
+        return new RateLimitBucketCleanupScheduler(rateLimitProxyManager, rateLimitProperties);
+    }
+}
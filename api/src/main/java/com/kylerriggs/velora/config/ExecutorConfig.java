@@ -0,0 +1,74 @@
+package com.kylerriggs.velora.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Executor for user profile syncs that don't need to finish before the request proceeds.
+     *
+     * <p>The pool is small because each task is a single-row read and, at most, a single-row
+     * update. The queue is bounded so a burst of expired cache entries can't grow it without limit;
+     * tasks it rejects are retried on the user's next request.
+     *
+     * @return the user sync executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor userSyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("user-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Executor that sends board event frames to the message broker, so that a slow or backlogged
+     * broker never delays the response to the request that committed the change.
+     *
+     * <p>A single thread keeps each board's frames in order. The queue is bounded by {@code
+     * velora.websocket.broadcast.queue-capacity}; frames it rejects are dropped, and clients pick
+     * the change up on their next refetch. Queue depth is exported with the other executor metrics.
+     *
+     * @param webSocketProperties the WebSocket settings
+     * @return the board event broadcast executor
+     */
+    @Bean
+    public ThreadPoolTaskExecutor boardEventBroadcastExecutor(
+            WebSocketProperties webSocketProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(webSocketProperties.getBroadcast().getQueueCapacity());
+        executor.setThreadNamePrefix("board-broadcast-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Single thread that flushes coalesced board events when their window closes. Each flush only
+     * hands a frame to {@link #boardEventBroadcastExecutor}, so one thread keeps up with every
+     * board.
+     *
+     * <p>Declared as a {@link ScheduledExecutorService} rather than a {@code TaskScheduler} so that
+     * it isn't picked up for {@code @Scheduled} methods.
+     *
+     * @return the board event scheduler
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService boardEventScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(
+                new CustomizableThreadFactory("board-events-"));
+    }
+}
@@ -0,0 +1,61 @@
+package com.kylerriggs.velora.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "velora.notifications")
+@Getter
+@Setter
+public class NotificationProperties {
+    /**
+     * How long after an unread notification is created further ones of the same type for the same
+     * recipient and task are folded into it instead of adding a row. Zero disables folding.
+     */
+    private Duration digestWindow = Duration.ofMinutes(10);
+
+    private Outbox outbox = new Outbox();
+    private Retention retention = new Retention();
+
+    /** Dispatch of notification-triggering events from the outbox table. */
+    @Getter
+    @Setter
+    public static class Outbox {
+        /** How long the dispatcher waits after draining the outbox before polling it again. */
+        private Duration pollInterval = Duration.ofMillis(500);
+
+        /** How many events are claimed and handled in one transaction. */
+        private int batchSize = 100;
+
+        /** How many times an event is attempted before it is discarded. */
+        private int maxAttempts = 5;
+
+        /** How long a failed event waits before its next attempt, multiplied by its attempts. */
+        private Duration retryDelay = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Removal of old notifications. Whole monthly partitions are dropped where the table is
+     * partitioned; remaining expired rows are deleted in batches.
+     */
+    @Getter
+    @Setter
+    public static class Retention {
+        /** How long notifications are kept. */
+        private Duration period = Duration.ofDays(90);
+
+        /** How many expired notifications each delete statement removes. */
+        private int batchSize = 5_000;
+
+        /** Pause between delete batches, so replication and autovacuum can keep up. */
+        private Duration batchPause = Duration.ofMillis(200);
+
+        /** How many months after the current one have their partitions created in advance. */
+        private int partitionsAhead = 3;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kylerriggs.velora.config;
+
+import io.github.bucket4j.distributed.proxy.ExpiredEntriesCleaner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Scheduler that prunes expired rows from {@code rate_limit_buckets}. Only registered when
+ * distributed rate limiting is enabled.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitBucketCleanupScheduler {
+    private static final int MAX_BATCHES = 100;
+
+    private final ExpiredEntriesCleaner expiredEntriesCleaner;
+    private final RateLimitProperties rateLimitProperties;
+
+    /** Deletes expired buckets in batches. Runs every 10 minutes. */
+    @Scheduled(cron = "0 */10 * * * *")
+    public void removeExpiredBuckets() {
+        int batchSize = rateLimitProperties.getDistributed().getCleanupBatchSize();
+        int removed = 0;
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            int count = expiredEntriesCleaner.removeExpired(batchSize);
+            removed += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (removed > 0) {
+            log.info("Removed {} expired rate limit buckets", removed);
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.kylerriggs.velora.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
 import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,22 +30,75 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Limits each authenticated user's request rate, with a separate token bucket per {@link
+ * RateLimitTier} so that bursty board reads don't eat into the budget for mutations and vice versa.
+ *
+ * <p>Buckets live in a size-bounded cache and are dropped after {@link
+ * RateLimitProperties#getIdleTimeout()} without requests. Rejections are counted per tier in {@code
+ * velora.ratelimit.rejected}.
+ *
+ * <p>When distributed rate limiting is enabled, the cached buckets are proxies for rows shared by
+ * all replicas. Each proxy consumes up to {@code max-unsynchronized-tokens} locally before writing
+ * back, so users well under their limit rarely cost a database round trip. If the database can't be
+ * reached, requests are let through rather than failed.
+ */
+@Slf4j
 @Component
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final RateLimitProperties rateLimitProperties;
+    private final ProxyManager<String> proxyManager;
+    private final Cache<BucketKey, Bucket> buckets;
+    private final Map<RateLimitTier, Counter> rejections = new EnumMap<>(RateLimitTier.class);
 
-    private Bucket createBucket() {
-        return Bucket.builder()
-                .addLimit(
-                        Bandwidth.builder()
-                                .capacity(100)
-                                .refillGreedy(100, Duration.ofMinutes(1))
-                                .build())
-                .build();
+    public RateLimitFilter(
+            RateLimitProperties rateLimitProperties,
+            ObjectProvider<ProxyManager<String>> proxyManager,
+            MeterRegistry meterRegistry) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.proxyManager = proxyManager.getIfAvailable();
+        this.buckets =
+                Caffeine.newBuilder()
+                        .maximumSize(rateLimitProperties.getMaxBuckets())
+                        .expireAfterAccess(rateLimitProperties.getIdleTimeout())
+                        .build();
+        for (RateLimitTier tier : RateLimitTier.values()) {
+            rejections.put(
+                    tier,
+                    Counter.builder("velora.ratelimit.rejected")
+                            .tag("tier", tier.tag())
+                            .register(meterRegistry));
+        }
+        Gauge.builder("velora.ratelimit.buckets", buckets, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    private Bucket createBucket(BucketKey key) {
+        RateLimitProperties.Limit limit = rateLimitProperties.forTier(key.tier());
+        Bandwidth bandwidth =
+                Bandwidth.builder()
+                        .capacity(limit.getCapacity())
+                        .refillGreedy(limit.getCapacity(), limit.getPeriod())
+                        .build();
+        if (proxyManager == null) {
+            return Bucket.builder().addLimit(bandwidth).build();
+        }
+
+        RateLimitProperties.Distributed distributed = rateLimitProperties.getDistributed();
+        BucketConfiguration configuration =
+                BucketConfiguration.builder().addLimit(bandwidth).build();
+        return proxyManager
+                .builder()
+                .withOptimization(
+                        Optimizations.delaying(
+                                new DelayParameters(
+                                        distributed.getMaxUnsynchronizedTokens(),
+                                        distributed.getMaxUnsynchronizedTimeout())))
+                .build(key.userId() + ":" + key.tier().tag(), () -> configuration);
     }
 
     @Override
@@ -46,15 +112,23 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        String key = auth.getName();
-        Bucket bucket = buckets.computeIfAbsent(key, k -> createBucket());
-        ConsumptionProbe probe = bucket.tryConsumeAndReturnRemaining(1);
+        RateLimitTier tier = RateLimitTier.of(request);
+        Bucket bucket = buckets.get(new BucketKey(auth.getName(), tier), this::createBucket);
+        ConsumptionProbe probe;
+        try {
+            probe = bucket.tryConsumeAndReturnRemaining(1);
+        } catch (RuntimeException e) {
+            log.warn("Rate limit bucket unavailable, allowing request: tier={}", tier.tag(), e);
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         if (probe.isConsumed()) {
             response.setHeader(
                     "X-Rate-Limit-Remaining", String.valueOf(probe.getRemainingTokens()));
             filterChain.doFilter(request, response);
         } else {
+            rejections.get(tier).increment();
             long retryAfterSeconds =
                     Duration.ofNanos(probe.getNanosToWaitForRefill()).toSeconds() + 1;
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
@@ -73,4 +147,6 @@ public class RateLimitFilter extends OncePerRequestFilter {
         String path = request.getRequestURI();
         return path.startsWith("/actuator/") || path.startsWith("/ws");
     }
+
+    private record BucketKey(String userId, RateLimitTier tier) {}
 }
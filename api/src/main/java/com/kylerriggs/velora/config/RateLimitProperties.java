@@ -0,0 +1,78 @@
+package com.kylerriggs.velora.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "velora.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+    /** Most per-user buckets kept on a node; the least recently used are dropped beyond this. */
+    private int maxBuckets = 100_000;
+
+    /**
+     * How long an unused bucket is kept. Should be at least the longest tier period, so that a
+     * bucket is only dropped once it would have refilled anyway.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private Limit standard = new Limit(100, Duration.ofMinutes(1));
+    private Limit boardRead = new Limit(300, Duration.ofMinutes(1));
+    private Limit taskMutation = new Limit(120, Duration.ofMinutes(1));
+    private Limit inviteAccept = new Limit(10, Duration.ofMinutes(1));
+    private Limit notificationPoll = new Limit(60, Duration.ofMinutes(1));
+    private Distributed distributed = new Distributed();
+
+    /**
+     * @param tier the route class
+     * @return the limit configured for it
+     */
+    public Limit forTier(RateLimitTier tier) {
+        return switch (tier) {
+            case STANDARD -> standard;
+            case BOARD_READ -> boardRead;
+            case TASK_MUTATION -> taskMutation;
+            case INVITE_ACCEPT -> inviteAccept;
+            case NOTIFICATION_POLL -> notificationPoll;
+        };
+    }
+
+    /**
+     * Settings for sharing buckets between replicas through the {@code rate_limit_buckets} table.
+     * When disabled, each replica limits requests on its own.
+     */
+    @Getter
+    @Setter
+    public static class Distributed {
+        private boolean enabled = false;
+
+        /**
+         * Tokens a replica may consume locally before writing its bucket back to the database. A
+         * user well under their limit only costs a round trip every this many requests, at the
+         * price of the cluster overshooting a limit by up to this many tokens per replica.
+         */
+        private long maxUnsynchronizedTokens = 10;
+
+        /** Longest a replica may go without synchronizing a bucket it is consuming from. */
+        private Duration maxUnsynchronizedTimeout = Duration.ofSeconds(1);
+
+        /** Rows removed per statement when pruning expired buckets. */
+        private int cleanupBatchSize = 1_000;
+    }
+
+    /** A token bucket that holds {@code capacity} requests and refills it every {@code period}. */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private long capacity;
+        private Duration period;
+    }
+}
@@ -0,0 +1,61 @@
+package com.kylerriggs.velora.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.util.List;
+
+/**
+ * Route classes that are rate limited separately, each with its own bucket per user. A request
+ * belongs to the first tier whose method and path patterns match it, or to {@link #STANDARD}.
+ */
+public enum RateLimitTier {
+    INVITE_ACCEPT(HttpMethod.POST, List.of("/invites/*/accept")),
+    NOTIFICATION_POLL(HttpMethod.GET, List.of("/notifications", "/notifications/**")),
+    BOARD_READ(HttpMethod.GET, List.of("/boards", "/boards/**", "/tasks/**", "/labels/**")),
+    TASK_MUTATION(null, List.of("/tasks", "/tasks/**", "/boards/*/tasks/**")),
+    STANDARD(null, List.of());
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final HttpMethod method;
+    private final List<String> patterns;
+
+    RateLimitTier(HttpMethod method, List<String> patterns) {
+        this.method = method;
+        this.patterns = patterns;
+    }
+
+    /**
+     * @return the tier name used as a metric tag
+     */
+    public String tag() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    /**
+     * Determines which tier a request is limited under.
+     *
+     * @param request the incoming request
+     * @return the matching tier
+     */
+    public static RateLimitTier of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        for (RateLimitTier tier : values()) {
+            if (tier.matches(request.getMethod(), path)) {
+                return tier;
+            }
+        }
+        return STANDARD;
+    }
+
+    private boolean matches(String requestMethod, String path) {
+        if (method != null && !method.matches(requestMethod)) {
+            return false;
+        }
+        return patterns.stream().anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+}
@@ -38,6 +38,7 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
     private static final String BOARD_TOPIC_PREFIX = "/topic/boards/";
     private static final String USER_TOPIC_PREFIX = "/topic/users/";
     private static final String NOTIFICATIONS_SUFFIX = "/notifications";
+    private static final String UNREAD_COUNT_SUFFIX = "/unread-count";
     private static final JwtGrantedAuthoritiesConverter JWT_AUTHORITIES_CONVERTER =
             new JwtGrantedAuthoritiesConverter();
 
@@ -118,8 +119,10 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
     }
 
     private void handleUserTopicSubscribe(StompHeaderAccessor accessor, String destination) {
-        // Only allow subscriptions to notifications topic: /topic/users/{userId}/notifications
-        if (!destination.endsWith(NOTIFICATIONS_SUFFIX)) {
+        // Only allow the notification and unread count topics: /topic/users/{userId}/notifications
+        // and /topic/users/{userId}/unread-count
+        if (!destination.endsWith(NOTIFICATIONS_SUFFIX)
+                && !destination.endsWith(UNREAD_COUNT_SUFFIX)) {
             throw new AccessDeniedException("Invalid user topic subscription");
         }
 
@@ -138,7 +141,7 @@ public class WebSocketAuthInterceptor implements ChannelInterceptor {
             throw new AccessDeniedException("Authentication required for user topic subscriptions");
         }
 
-        // Extract userId from /topic/users/{userId}/notifications
+        // Extract userId from /topic/users/{userId}/...
         String path = destination.substring(USER_TOPIC_PREFIX.length());
         int slashIndex = path.indexOf('/');
         if (slashIndex == -1) {
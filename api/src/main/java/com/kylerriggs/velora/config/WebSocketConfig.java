@@ -2,29 +2,59 @@ package com.kylerriggs.velora.config;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration using STOMP protocol for real-time board updates. Replaces SSE to avoid
  * connection leak issues.
+ *
+ * <p>By default /topic destinations are served by an in-memory broker, which only reaches clients
+ * connected to this instance. Running more than one instance requires {@code
+ * velora.websocket.broker.mode=relay}, which relays subscriptions and broadcasts to an external
+ * STOMP broker so that an event published on any instance reaches subscribers on all of them.
+ *
+ * <p>Each session's outbound sends are limited by {@code velora.websocket.transport}; a client that
+ * falls behind is disconnected instead of backing up the outbound channel.
  */
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketProperties.class)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     private final SecurityProperties securityProperties;
+    private final WebSocketProperties webSocketProperties;
     private final WebSocketAuthInterceptor webSocketAuthInterceptor;
+    private final WebSocketSessionMetrics webSocketSessionMetrics;
 
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
-        // Enable simple in-memory broker for /topic destinations
-        config.enableSimpleBroker("/topic");
+        WebSocketProperties.Broker broker = webSocketProperties.getBroker();
+        if (broker.getMode() == WebSocketProperties.BrokerMode.RELAY) {
+            StompBrokerRelayRegistration relay =
+                    config.enableStompBrokerRelay("/topic")
+                            .setRelayHost(broker.getRelayHost())
+                            .setRelayPort(broker.getRelayPort())
+                            .setClientLogin(broker.getClientLogin())
+                            .setClientPasscode(broker.getClientPasscode())
+                            .setSystemLogin(broker.getSystemLogin())
+                            .setSystemPasscode(broker.getSystemPasscode());
+            if (StringUtils.hasText(broker.getVirtualHost())) {
+                relay.setVirtualHost(broker.getVirtualHost());
+            }
+        } else {
+            // Enable simple in-memory broker for /topic destinations
+            config.enableSimpleBroker("/topic");
+        }
         // Prefix for messages from clients to server (if needed for bidirectional)
         config.setApplicationDestinationPrefixes("/app");
     }
@@ -40,6 +70,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-sockjs").setAllowedOriginPatterns(origins).withSockJS();
     }
 
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        WebSocketProperties.Transport transport = webSocketProperties.getTransport();
+        registration
+                .setSendTimeLimit(Math.toIntExact(transport.getSendTimeLimit().toMillis()))
+                .setSendBufferSizeLimit(
+                        Math.toIntExact(transport.getSendBufferSizeLimit().toBytes()))
+                .setMessageSizeLimit(Math.toIntExact(transport.getMessageSizeLimit().toBytes()))
+                .addDecoratorFactory(webSocketSessionMetrics);
+    }
+
     @Override
     public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
         // Add auth interceptor to validate JWT on STOMP CONNECT
@@ -0,0 +1,110 @@
+package com.kylerriggs.velora.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "velora.websocket")
+@Getter
+@Setter
+public class WebSocketProperties {
+    private Broker broker = new Broker();
+
+    /**
+     * How long board events are held so that events from the same save reach clients as one frame.
+     * Zero, the default, sends every event immediately. Only enable it for clients that unpack
+     * {@code BATCH} frames; others ignore them and stop refreshing.
+     */
+    private Duration coalesceWindow = Duration.ZERO;
+
+    /**
+     * Whether board events carry the changed entity's DTO. Off by default, in which case clients
+     * refetch what changed.
+     */
+    private boolean eventPayloads = false;
+
+    private Broadcast broadcast = new Broadcast();
+    private Transport transport = new Transport();
+    private Replay replay = new Replay();
+
+    /** Where STOMP subscriptions and broadcasts are handled. */
+    public enum BrokerMode {
+        /** In-memory broker; broadcasts only reach clients connected to the same instance. */
+        SIMPLE,
+        /** External STOMP broker shared by all instances, such as ActiveMQ or RabbitMQ. */
+        RELAY
+    }
+
+    /**
+     * Message broker settings. The relay settings are only used in {@link BrokerMode#RELAY} mode.
+     */
+    @Getter
+    @Setter
+    public static class Broker {
+        private BrokerMode mode = BrokerMode.SIMPLE;
+        private String relayHost = "localhost";
+        private int relayPort = 61613;
+
+        /** Credentials the relay uses for each client's connection to the broker. */
+        private String clientLogin = "guest";
+
+        private String clientPasscode = "guest";
+
+        /** Credentials for the shared connection the application broadcasts on. */
+        private String systemLogin = "guest";
+
+        private String systemPasscode = "guest";
+
+        /** Virtual host sent in STOMP CONNECT frames, or null to use the relay host. */
+        private String virtualHost;
+    }
+
+    /** Hand-off of committed board events from request threads to the message broker. */
+    @Getter
+    @Setter
+    public static class Broadcast {
+        /**
+         * How many frames may wait for the broadcast thread. Frames beyond this are dropped and
+         * counted rather than blocking the committing request.
+         */
+        private int queueCapacity = 10_000;
+    }
+
+    /**
+     * Recent broadcast events kept per board so that reconnecting clients can catch up without
+     * reloading the board.
+     */
+    @Getter
+    @Setter
+    public static class Replay {
+        /** How many of a board's most recent events are kept. */
+        private int eventsPerBoard = 256;
+
+        /** How many boards keep events at once. */
+        private int maxBoards = 2_000;
+
+        /** How long a board's events are kept after its last event or replay. */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+    }
+
+    /**
+     * Limits applied to each client's WebSocket session. A session that exceeds the send time or
+     * buffer limit is closed, so one slow client can't hold up delivery to the others.
+     */
+    @Getter
+    @Setter
+    public static class Transport {
+        /** How long a single send to one session may take. */
+        private Duration sendTimeLimit = Duration.ofSeconds(5);
+
+        /** How much may be buffered for one session while a send to it is in progress. */
+        private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(256);
+
+        /** Largest inbound STOMP message accepted from a client. */
+        private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+    }
+}
@@ -0,0 +1,47 @@
+package com.kylerriggs.velora.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+/**
+ * Counts WebSocket sessions closed for being too slow to keep up, i.e. for exceeding the send time
+ * or buffer limit in {@code velora.websocket.transport}. Spring closes those sessions with {@link
+ * CloseStatus#SESSION_NOT_RELIABLE}.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMetrics implements WebSocketHandlerDecoratorFactory {
+    private final Counter slowSessionCounter;
+
+    public WebSocketSessionMetrics(MeterRegistry meterRegistry) {
+        this.slowSessionCounter =
+                Counter.builder("velora.websocket.sessions.slow").register(meterRegistry);
+    }
+
+    @Override
+    @NonNull
+    public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(
+                    @NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+                    throws Exception {
+                if (closeStatus.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+                    slowSessionCounter.increment();
+                    log.info("Closed slow WebSocket session: sessionId={}", session.getId());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+}
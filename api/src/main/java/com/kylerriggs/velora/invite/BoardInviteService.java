@@ -2,6 +2,7 @@ package com.kylerriggs.velora.invite;
 
 import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.board.BoardLimitPolicy;
+import com.kylerriggs.velora.board.BoardMembershipCache;
 import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.board.BoardRole;
 import com.kylerriggs.velora.board.BoardUser;
@@ -15,6 +16,8 @@ import com.kylerriggs.velora.invite.dto.InvitePreviewDto;
 import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserLookupService;
 import com.kylerriggs.velora.user.UserService;
+import com.kylerriggs.velora.websocket.BoardEventPublisher;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,6 +40,8 @@ public class BoardInviteService {
     private final UserService userService;
     private final UserLookupService userLookupService;
     private final BoardLimitPolicy boardLimitPolicy;
+    private final BoardEventPublisher eventPublisher;
+    private final BoardMembershipCache boardMembershipCache;
 
     private static final String CODE_CHARS =
             "ABCDEFGHJKLMNPQRSTUVWXYZabcdefghjkmnpqrstuvwxyz23456789";
@@ -134,6 +139,9 @@ public class BoardInviteService {
         invite.setUseCount(invite.getUseCount() + 1);
         inviteRepository.save(invite);
         boardRepository.save(board);
+        boardMembershipCache.invalidateAfterCommit(board.getId(), userId);
+
+        eventPublisher.publish(BoardEventType.BOARD_UPDATED, board.getId(), board.getId());
 
         return new AcceptInviteResponse(board.getId(), board.getName(), false);
     }
@@ -50,6 +50,10 @@ public class Label extends BaseEntity {
     @Size(min = 1, max = 20)
     private String color;
 
+    /** Board change sequence of the last committed write, null while pending. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(
             name = "board_id",
@@ -1,6 +1,8 @@
 package com.kylerriggs.velora.label;
 
 import com.kylerriggs.velora.board.BoardAccess;
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+import com.kylerriggs.velora.board.EntityScopeCache;
 import com.kylerriggs.velora.common.BaseAccess;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 
@@ -9,10 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
 import java.util.UUID;
 
 @Component("labelAccess")
@@ -20,6 +19,7 @@ import java.util.UUID;
 @Slf4j
 public class LabelAccess extends BaseAccess {
     private final LabelRepository labelRepository;
+    private final EntityScopeCache entityScopeCache;
     private final BoardAccess boardAccess;
 
     /**
@@ -29,13 +29,15 @@ public class LabelAccess extends BaseAccess {
      * @return true if the user is a collaborator on the label's board
      * @throws ResourceNotFoundException if the label doesn't exist
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCollaborator(@NonNull UUID labelId) {
-        Label label =
-                labelRepository
-                        .findByIdWithBoard(labelId)
+        UUID boardId =
+                entityScopeCache
+                        .resolveBoardId(
+                                BoardChangeEntityType.LABEL,
+                                labelId,
+                                labelRepository::findBoardIdById)
                         .orElseThrow(
                                 () -> new ResourceNotFoundException("Label not found: " + labelId));
-        return boardAccess.isCollaborator(Objects.requireNonNull(label.getBoard().getId()));
+        return boardAccess.isCollaborator(boardId);
     }
 }
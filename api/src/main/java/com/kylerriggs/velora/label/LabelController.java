@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.label;
 
+import com.kylerriggs.velora.board.BoardETags;
 import com.kylerriggs.velora.label.dto.LabelDto;
 import com.kylerriggs.velora.label.dto.LabelRequest;
 import com.kylerriggs.velora.label.dto.LabelSummaryDto;
@@ -19,6 +20,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -27,18 +29,23 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class LabelController {
     private final LabelService labelService;
+    private final BoardETags boardETags;
 
     /**
-     * Gets all labels for a board.
+     * Gets all labels for a board. Supports conditional requests via {@code If-None-Match}.
      *
      * @param boardId the board ID
-     * @return list of labels
+     * @param request the current request, used to evaluate {@code If-None-Match}
+     * @return list of labels, or 304 if the client's copy is current
      */
     @GetMapping("/boards/{boardId}/labels")
     @PreAuthorize("@boardAccess.isCollaborator(#boardId)")
     public ResponseEntity<List<LabelSummaryDto>> getLabelsByBoard(
-            @NonNull @PathVariable UUID boardId) {
-        return ResponseEntity.ok(labelService.getLabelsByBoard(boardId));
+            @NonNull @PathVariable UUID boardId, WebRequest request) {
+        return boardETags.respond(
+                request,
+                boardETags.forBoard(boardId),
+                () -> labelService.getLabelsByBoard(boardId));
     }
 
     /**
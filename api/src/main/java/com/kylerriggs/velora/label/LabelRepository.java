@@ -20,6 +20,15 @@ public interface LabelRepository extends JpaRepository<Label, UUID> {
      */
     List<Label> findByBoardId(UUID boardId);
 
+    /**
+     * Finds labels on a board whose last committed change is newer than the given change sequence.
+     *
+     * @param boardId the board ID
+     * @param since the client's change cursor
+     * @return the changed labels
+     */
+    List<Label> findByBoardIdAndChangeSeqGreaterThan(UUID boardId, long since);
+
     /**
      * Finds a label by ID with its board eagerly loaded.
      *
@@ -29,6 +38,15 @@ public interface LabelRepository extends JpaRepository<Label, UUID> {
     @Query("SELECT l FROM Label l LEFT JOIN FETCH l.board WHERE l.id = :labelId")
     Optional<Label> findByIdWithBoard(@Param("labelId") UUID labelId);
 
+    /**
+     * Finds the board a label belongs to, without loading the label.
+     *
+     * @param labelId the label ID
+     * @return the board ID, or empty if the label doesn't exist
+     */
+    @Query("SELECT l.board.id FROM Label l WHERE l.id = :labelId")
+    Optional<UUID> findBoardIdById(@Param("labelId") UUID labelId);
+
     /**
      * Finds a label by ID and board ID for authorization.
      *
@@ -8,6 +8,7 @@ import com.kylerriggs.velora.label.dto.LabelDto;
 import com.kylerriggs.velora.label.dto.LabelRequest;
 import com.kylerriggs.velora.label.dto.LabelSummaryDto;
 import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskMapper;
 import com.kylerriggs.velora.task.TaskRepository;
 import com.kylerriggs.velora.websocket.BoardEventPublisher;
 import com.kylerriggs.velora.websocket.dto.BoardEventType;
@@ -29,6 +30,7 @@ public class LabelService {
     private final BoardRepository boardRepository;
     private final TaskRepository taskRepository;
     private final LabelMapper labelMapper;
+    private final TaskMapper taskMapper;
     private final BoardEventPublisher eventPublisher;
 
     /**
@@ -56,12 +58,15 @@ public class LabelService {
 
         Label savedLabel = labelRepository.save(label);
 
+        LabelDto labelDto = labelMapper.toDto(savedLabel);
+
         eventPublisher.publish(
                 BoardEventType.LABEL_CREATED,
                 Objects.requireNonNull(board.getId(), "Board id is required"),
-                Objects.requireNonNull(savedLabel.getId(), "Label id is required"));
+                Objects.requireNonNull(savedLabel.getId(), "Label id is required"),
+                () -> labelDto);
 
-        return labelMapper.toDto(savedLabel);
+        return labelDto;
     }
 
     /**
@@ -87,12 +92,15 @@ public class LabelService {
 
         Board board = label.getBoard();
 
+        LabelDto labelDto = labelMapper.toDto(updatedLabel);
+
         eventPublisher.publish(
                 BoardEventType.LABEL_UPDATED,
                 Objects.requireNonNull(board.getId(), "Board id is required"),
-                labelId);
+                labelId,
+                () -> labelDto);
 
-        return labelMapper.toDto(updatedLabel);
+        return labelDto;
     }
 
     /**
@@ -187,7 +195,8 @@ public class LabelService {
         eventPublisher.publish(
                 BoardEventType.TASK_UPDATED,
                 Objects.requireNonNull(board.getId(), "Board id is required"),
-                taskId);
+                taskId,
+                () -> taskMapper.toDto(task));
     }
 
     /**
@@ -219,6 +228,7 @@ public class LabelService {
         eventPublisher.publish(
                 BoardEventType.TASK_UPDATED,
                 Objects.requireNonNull(board.getId(), "Board id is required"),
-                taskId);
+                taskId,
+                () -> taskMapper.toDto(task));
     }
 }
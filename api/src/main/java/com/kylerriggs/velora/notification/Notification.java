@@ -26,7 +26,11 @@ import java.util.UUID;
                     columnList = "recipient_id, is_read"),
             @Index(
                     name = "idx_notifications_recipient_created",
-                    columnList = "recipient_id, date_created")
+                    columnList = "recipient_id, date_created"),
+            @Index(
+                    name = "idx_notifications_recipient_task_unread",
+                    columnList = "recipient_id, task_id, type"),
+            @Index(name = "idx_notifications_date_created", columnList = "date_created")
         })
 public class Notification extends BaseEntity {
     @Id
@@ -62,4 +66,9 @@ public class Notification extends BaseEntity {
 
     @Column(name = "reference_id")
     private UUID referenceId;
+
+    /** How many notifications were folded into this one, including the first. */
+    @Column(name = "occurrence_count", nullable = false)
+    @Builder.Default
+    private int occurrenceCount = 1;
 }
@@ -1,33 +1,104 @@
 package com.kylerriggs.velora.notification;
 
-import lombok.RequiredArgsConstructor;
+import com.kylerriggs.velora.config.NotificationProperties;
+
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.Duration;
 import java.time.Instant;
 
-/** Scheduler that cleans up old notifications to prevent unbounded database growth. */
+/**
+ * Scheduler that cleans up old notifications to prevent unbounded database growth.
+ *
+ * <p>Where the notifications table is partitioned by month, expired months are dropped as whole
+ * partitions and the coming months' partitions are created. Expired notifications that remain,
+ * including every one on an unpartitioned table, are deleted in batches of {@code
+ * velora.notifications.retention.batch-size}, each in its own transaction with a pause between
+ * them, so no single statement holds locks or writes WAL for long.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class NotificationCleanupScheduler {
-    private static final Duration RETENTION_PERIOD = Duration.ofDays(90);
+    private static final int MAX_BATCHES = 1_000;
 
     private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationProperties.Retention config;
+
+    public NotificationCleanupScheduler(
+            NotificationRepository notificationRepository,
+            PlatformTransactionManager transactionManager,
+            NotificationProperties notificationProperties) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = notificationProperties.getRetention();
+    }
 
-    /** Deletes notifications older than 90 days. Runs daily at 3:00 AM. */
+    /**
+     * Removes notifications older than the retention period, adjusting the unread counts of their
+     * recipients. Runs daily at 3:00 AM.
+     */
     @Scheduled(cron = "0 0 3 * * *")
-    @Transactional
     public void cleanupOldNotifications() {
-        Instant cutoffDate = Instant.now().minus(RETENTION_PERIOD);
-        int deletedCount = notificationRepository.deleteOlderThan(cutoffDate);
+        Instant cutoffDate = Instant.now().minus(config.getPeriod());
 
+        int createdPartitions =
+                transactionTemplate.execute(
+                        status ->
+                                notificationRepository.createPartitions(
+                                        config.getPartitionsAhead()));
+        int droppedPartitions =
+                transactionTemplate.execute(
+                        status -> notificationRepository.dropPartitionsOlderThan(cutoffDate));
+        long deletedCount = deleteInBatches(cutoffDate);
+
+        if (createdPartitions > 0 || droppedPartitions > 0) {
+            log.info(
+                    "Created {} and dropped {} notification partitions",
+                    createdPartitions,
+                    droppedPartitions);
+        }
         if (deletedCount > 0) {
             log.info("Cleaned up {} notifications older than {}", deletedCount, cutoffDate);
         }
     }
+
+    private long deleteInBatches(Instant cutoffDate) {
+        int batchSize = config.getBatchSize();
+        long deleted = 0;
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            long count =
+                    transactionTemplate.execute(
+                            status ->
+                                    notificationRepository.deleteOlderThan(cutoffDate, batchSize));
+            deleted += count;
+            if (count < batchSize || !pause()) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Waits between delete batches.
+     *
+     * @return false if interrupted, in which case cleanup stops until the next run
+     */
+    private boolean pause() {
+        long millis = config.getBatchPause().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package com.kylerriggs.velora.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Scheduler that recounts unread notifications and repairs any maintained unread count that has
+ * drifted from them, for example because an adjustment raced a recount or a row was changed outside
+ * the application. Task and board deletes lower counts for the notifications they remove, but one
+ * created while such a delete is in flight is cascaded away uncounted and is corrected here.
+ *
+ * <p>Drifted counts are found in one pass, then each is corrected in its own transaction while its
+ * row is locked, so an adjustment committed during the pass is never overwritten by a count taken
+ * before it.
+ */
+@Component
+@Slf4j
+public class NotificationCountReconcileScheduler {
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationCountReconcileScheduler(
+            NotificationRepository notificationRepository,
+            PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Corrects drifted unread counts. Runs hourly at a quarter past. */
+    @Scheduled(cron = "0 15 * * * *")
+    public void reconcileUnreadCounts() {
+        List<String> userIds = notificationRepository.findDriftedUnreadCountUserIds();
+
+        int corrected = 0;
+        for (String userId : userIds) {
+            corrected +=
+                    transactionTemplate.execute(
+                            status -> {
+                                notificationRepository.lockUnreadCount(userId);
+                                return notificationRepository.reconcileUnreadCount(userId);
+                            });
+        }
+
+        if (corrected > 0) {
+            log.warn("Corrected {} drifted unread notification counts", corrected);
+        }
+    }
+}
@@ -25,6 +25,7 @@ public class NotificationMapper {
                 notification.getBoard().getName(),
                 notification.getDateCreated() != null
                         ? notification.getDateCreated().toString()
-                        : null);
+                        : null,
+                notification.getOccurrenceCount());
     }
 }
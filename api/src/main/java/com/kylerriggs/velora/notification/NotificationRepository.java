@@ -9,12 +9,50 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
+    /** A user's unread notification count. */
+    interface UnreadCount {
+        /**
+         * @return the recipient's user ID
+         */
+        String getUserId();
+
+        /**
+         * @return the number of unread notifications
+         */
+        long getUnreadCount();
+    }
+
+    /** An unread notification that later ones of the same kind can be folded into. */
+    interface FoldCandidate {
+        /**
+         * @return the notification ID
+         */
+        UUID getId();
+
+        /**
+         * @return the recipient's user ID
+         */
+        String getRecipientId();
+
+        /**
+         * @return when the notification was created
+         */
+        Instant getDateCreated();
+
+        /**
+         * @return the reference ID of the first folded occurrence, if any
+         */
+        UUID getReferenceId();
+    }
+
     /**
      * Finds paginated notifications for a user, ordered by newest first.
      *
@@ -36,12 +74,99 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
             String recipientId, Pageable pageable);
 
     /**
-     * Counts unread notifications for a user.
+     * Reads a user's maintained unread notification count.
+     *
+     * @param recipientId the recipient's user ID
+     * @return the count, or empty if the user has never had a notification
+     */
+    @Query(
+            value =
+                    "SELECT unread_count FROM notification_unread_counts WHERE user_id ="
+                            + " :recipientId",
+            nativeQuery = true)
+    Optional<Long> findUnreadCount(@Param("recipientId") String recipientId);
+
+    /**
+     * Adds one to the unread count of each user.
+     *
+     * @param recipientIds the recipients' user IDs
+     * @return the new counts
+     */
+    @Query(
+            value =
+                    "WITH updated AS (INSERT INTO notification_unread_counts (user_id,"
+                            + " unread_count) SELECT id, 1 FROM users WHERE id IN (:recipientIds)"
+                            + " ON CONFLICT (user_id) DO UPDATE SET unread_count ="
+                            + " notification_unread_counts.unread_count + 1 RETURNING user_id,"
+                            + " unread_count) SELECT user_id AS userId, unread_count AS unreadCount"
+                            + " FROM updated",
+            nativeQuery = true)
+    List<UnreadCount> incrementUnreadCounts(@Param("recipientIds") Collection<String> recipientIds);
+
+    /**
+     * Adds a delta to a user's unread count, never going below zero.
      *
      * @param recipientId the recipient's user ID
-     * @return count of unread notifications
+     * @param delta the change in unread notifications
+     * @return the new count
      */
-    long countByRecipientIdAndIsReadFalse(String recipientId);
+    @Query(
+            value =
+                    "WITH updated AS (INSERT INTO notification_unread_counts (user_id,"
+                            + " unread_count) VALUES (:recipientId, GREATEST(:delta, 0)) ON"
+                            + " CONFLICT (user_id) DO UPDATE SET unread_count ="
+                            + " GREATEST(notification_unread_counts.unread_count + :delta, 0)"
+                            + " RETURNING unread_count) SELECT unread_count FROM updated",
+            nativeQuery = true)
+    long addUnreadCount(@Param("recipientId") String recipientId, @Param("delta") long delta);
+
+    /**
+     * Finds unread notifications of a type on a task that were created since the given time, for
+     * folding further notifications into them.
+     *
+     * @param recipientIds the recipients' user IDs
+     * @param taskId the task ID
+     * @param type the notification type
+     * @param since the start of the digest window
+     * @return the matching notifications, oldest first
+     */
+    @Query(
+            "SELECT n.id AS id, n.recipient.id AS recipientId, n.dateCreated AS dateCreated,"
+                    + " n.referenceId AS referenceId FROM Notification n"
+                    + " WHERE n.recipient.id IN :recipientIds AND n.task.id = :taskId"
+                    + " AND n.type = :type AND n.isRead = false AND n.dateCreated >= :since"
+                    + " ORDER BY n.dateCreated")
+    List<FoldCandidate> findFoldable(
+            @Param("recipientIds") Collection<String> recipientIds,
+            @Param("taskId") UUID taskId,
+            @Param("type") NotificationType type,
+            @Param("since") Instant since);
+
+    /**
+     * Folds another occurrence into a notification if it is still unread: bumps its occurrence
+     * count and takes the new actor and message, keeping its reference. The unread check and the
+     * update are one statement, so a notification marked read concurrently is never made unread
+     * again.
+     *
+     * @param id the notification ID
+     * @param actorId the user who triggered the new occurrence
+     * @param message the new message
+     * @param now the current timestamp to set as dateModified
+     * @return the new occurrence count, or empty if the notification is no longer unread
+     */
+    @Query(
+            value =
+                    "WITH folded AS (UPDATE notifications SET occurrence_count ="
+                            + " occurrence_count + 1, actor_id = :actorId, message = :message,"
+                            + " date_modified = :now, version = version + 1 WHERE id = :id AND"
+                            + " is_read = FALSE RETURNING occurrence_count) SELECT"
+                            + " occurrence_count FROM folded",
+            nativeQuery = true)
+    Optional<Integer> fold(
+            @Param("id") UUID id,
+            @Param("actorId") String actorId,
+            @Param("message") String message,
+            @Param("now") Instant now);
 
     /**
      * Finds a notification by ID and recipient ID (for ownership verification).
@@ -66,26 +191,167 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
     int markAllAsRead(@Param("recipientId") String recipientId, @Param("now") Instant now);
 
     /**
-     * Marks all unread notifications as read for a specific reference ID.
+     * Marks all unread notifications as read for a specific reference ID and subtracts them from
+     * their recipients' unread counts.
      *
      * @param referenceId the reference ID (e.g., deleted comment ID)
      * @param now the current timestamp to set as dateModified
-     * @return number of notifications updated
+     * @return the new counts of the recipients whose notifications were marked
      */
-    @Modifying
     @Query(
-            "UPDATE Notification n SET n.isRead = true, n.dateModified = :now "
-                    + "WHERE n.referenceId = :referenceId AND n.isRead = false")
-    int markAllAsReadByReferenceId(
+            value =
+                    "WITH marked AS (UPDATE notifications SET is_read = TRUE, date_modified ="
+                            + " :now WHERE reference_id = :referenceId AND is_read = FALSE"
+                            + " RETURNING recipient_id), updated AS (UPDATE"
+                            + " notification_unread_counts c SET unread_count ="
+                            + " GREATEST(c.unread_count - m.marked, 0) FROM (SELECT recipient_id,"
+                            + " COUNT(*) AS marked FROM marked GROUP BY recipient_id) m WHERE"
+                            + " c.user_id = m.recipient_id RETURNING c.user_id, c.unread_count)"
+                            + " SELECT user_id AS userId, unread_count AS unreadCount FROM updated",
+            nativeQuery = true)
+    List<UnreadCount> markAllAsReadByReferenceId(
             @Param("referenceId") UUID referenceId, @Param("now") Instant now);
 
     /**
-     * Deletes notifications older than the specified date.
+     * Deletes the notifications about the given tasks and subtracts the unread ones from their
+     * recipients' unread counts. Run before deleting the tasks, whose foreign key would otherwise
+     * cascade the delete past the counts.
+     *
+     * @param taskIds the IDs of the tasks being deleted
+     * @return the new counts of the recipients whose unread notifications were deleted
+     */
+    @Query(
+            value =
+                    "WITH deleted AS (DELETE FROM notifications WHERE task_id IN (:taskIds)"
+                            + " RETURNING recipient_id, is_read), updated AS (UPDATE"
+                            + " notification_unread_counts c SET unread_count ="
+                            + " GREATEST(c.unread_count - d.unread, 0) FROM (SELECT recipient_id,"
+                            + " COUNT(*) AS unread FROM deleted WHERE NOT is_read GROUP BY"
+                            + " recipient_id) d WHERE c.user_id = d.recipient_id RETURNING"
+                            + " c.user_id, c.unread_count) SELECT user_id AS userId, unread_count"
+                            + " AS unreadCount FROM updated",
+            nativeQuery = true)
+    List<UnreadCount> deleteByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    /**
+     * Deletes the notifications about a board and subtracts the unread ones from their recipients'
+     * unread counts. Run before deleting the board, whose foreign key would otherwise cascade the
+     * delete past the counts.
+     *
+     * @param boardId the ID of the board being deleted
+     * @return the new counts of the recipients whose unread notifications were deleted
+     */
+    @Query(
+            value =
+                    "WITH deleted AS (DELETE FROM notifications WHERE board_id = :boardId"
+                            + " RETURNING recipient_id, is_read), updated AS (UPDATE"
+                            + " notification_unread_counts c SET unread_count ="
+                            + " GREATEST(c.unread_count - d.unread, 0) FROM (SELECT recipient_id,"
+                            + " COUNT(*) AS unread FROM deleted WHERE NOT is_read GROUP BY"
+                            + " recipient_id) d WHERE c.user_id = d.recipient_id RETURNING"
+                            + " c.user_id, c.unread_count) SELECT user_id AS userId, unread_count"
+                            + " AS unreadCount FROM updated",
+            nativeQuery = true)
+    List<UnreadCount> deleteByBoardId(@Param("boardId") UUID boardId);
+
+    /**
+     * Deletes up to {@code limit} notifications older than the specified date and subtracts the
+     * unread ones from their recipients' unread counts.
      *
      * @param cutoffDate notifications created before this date will be deleted
+     * @param limit the maximum number of notifications to delete
      * @return number of notifications deleted
      */
+    @Query(
+            value =
+                    "WITH deleted AS (DELETE FROM notifications WHERE date_created < :cutoffDate"
+                            + " AND id IN (SELECT id FROM notifications WHERE date_created <"
+                            + " :cutoffDate LIMIT :limit) RETURNING recipient_id, is_read),"
+                            + " adjusted AS (UPDATE notification_unread_counts c SET unread_count"
+                            + " = GREATEST(c.unread_count - d.unread, 0) FROM (SELECT"
+                            + " recipient_id, COUNT(*) AS unread FROM deleted WHERE NOT is_read"
+                            + " GROUP BY recipient_id) d WHERE c.user_id = d.recipient_id) SELECT"
+                            + " COUNT(*) FROM deleted",
+            nativeQuery = true)
+    long deleteOlderThan(@Param("cutoffDate") Instant cutoffDate, @Param("limit") int limit);
+
+    /**
+     * Creates the monthly partitions for the current month and the following ones, if the
+     * notifications table is partitioned.
+     *
+     * @param monthsAhead how many months after the current one to create
+     * @return number of partitions created
+     */
+    @Query(value = "SELECT create_notification_partitions(:monthsAhead)", nativeQuery = true)
+    int createPartitions(@Param("monthsAhead") int monthsAhead);
+
+    /**
+     * Drops the monthly partitions that only hold notifications older than the specified date,
+     * subtracting their unread ones from their recipients' unread counts. Does nothing if the
+     * notifications table isn't partitioned.
+     *
+     * @param cutoffDate partitions ending at or before this date will be dropped
+     * @return number of partitions dropped
+     */
+    @Query(
+            value = "SELECT drop_notification_partitions(CAST(:cutoffDate AS TIMESTAMP))",
+            nativeQuery = true)
+    int dropPartitionsOlderThan(@Param("cutoffDate") Instant cutoffDate);
+
+    /**
+     * Finds the users whose maintained unread count differs from their unread notifications. The
+     * result is only a candidate list; each count must be recounted under {@link
+     * #lockUnreadCount(String)} before it is corrected.
+     *
+     * @return the IDs of users whose counts appear to have drifted
+     */
+    @Query(
+            value =
+                    "SELECT u.user_id FROM (SELECT user_id FROM notification_unread_counts UNION"
+                            + " SELECT recipient_id FROM notifications WHERE is_read = FALSE) u"
+                            + " LEFT JOIN (SELECT recipient_id, COUNT(*) AS unread FROM"
+                            + " notifications WHERE is_read = FALSE GROUP BY recipient_id) a ON"
+                            + " a.recipient_id = u.user_id LEFT JOIN notification_unread_counts c"
+                            + " ON c.user_id = u.user_id WHERE c.unread_count IS DISTINCT FROM"
+                            + " COALESCE(a.unread, 0)",
+            nativeQuery = true)
+    List<String> findDriftedUnreadCountUserIds();
+
+    /**
+     * Locks a user's unread count row until the end of the transaction, creating it if missing.
+     * Every statement that changes the user's unread notifications adjusts this row in the same
+     * transaction, so once it is locked a recount sees exactly the changes the row already
+     * reflects.
+     *
+     * @param userId the user's ID
+     * @return the number of rows locked
+     */
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO notification_unread_counts (user_id, unread_count) VALUES"
+                            + " (:userId, 0) ON CONFLICT (user_id) DO UPDATE SET unread_count ="
+                            + " notification_unread_counts.unread_count",
+            nativeQuery = true)
+    int lockUnreadCount(@Param("userId") String userId);
+
+    /**
+     * Recounts a user's unread notifications and corrects the maintained count if it differs. Must
+     * run after {@link #lockUnreadCount(String)} in the same transaction, as a separate statement,
+     * so the recount reads a snapshot taken once the lock is held.
+     *
+     * @param userId the user's ID
+     * @return 1 if the count was corrected, otherwise 0
+     */
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.dateCreated < :cutoffDate")
-    int deleteOlderThan(@Param("cutoffDate") Instant cutoffDate);
+    @Query(
+            value =
+                    "INSERT INTO notification_unread_counts (user_id, unread_count) SELECT"
+                            + " :userId, COUNT(*) FROM notifications WHERE recipient_id = :userId"
+                            + " AND is_read = FALSE ON CONFLICT (user_id) DO UPDATE SET"
+                            + " unread_count = EXCLUDED.unread_count WHERE"
+                            + " notification_unread_counts.unread_count IS DISTINCT FROM"
+                            + " EXCLUDED.unread_count",
+            nativeQuery = true)
+    int reconcileUnreadCount(@Param("userId") String userId);
 }
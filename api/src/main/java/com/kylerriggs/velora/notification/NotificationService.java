@@ -1,9 +1,11 @@
 package com.kylerriggs.velora.notification;
 
 import com.kylerriggs.velora.board.Board;
+import com.kylerriggs.velora.config.NotificationProperties;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 import com.kylerriggs.velora.notification.dto.NotificationDto;
 import com.kylerriggs.velora.notification.dto.UnreadCountDto;
+import com.kylerriggs.velora.notification.dto.UnreadCountUpdateDto;
 import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserService;
@@ -19,8 +21,17 @@ import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -28,11 +39,13 @@ import java.util.UUID;
 @Slf4j
 public class NotificationService {
     private static final String USER_NOTIFICATIONS_TOPIC = "/topic/users/%s/notifications";
+    private static final String USER_UNREAD_COUNT_TOPIC = "/topic/users/%s/unread-count";
 
     private final NotificationRepository notificationRepository;
     private final NotificationMapper notificationMapper;
     private final UserService userService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationProperties notificationProperties;
 
     /**
      * Retrieves paginated notifications for the current user, ordered by newest first.
@@ -56,14 +69,16 @@ public class NotificationService {
     }
 
     /**
-     * Gets the unread notification count for the current user.
+     * Gets the unread notification count for the current user. The count is maintained alongside
+     * the notifications, so this reads a single row; changes are also pushed on the user's unread
+     * count topic as {@link UnreadCountUpdateDto} frames.
      *
      * @return DTO containing the count
      */
     @Transactional(readOnly = true)
     public UnreadCountDto getUnreadCount() {
         String userId = userService.getCurrentUserId();
-        long count = notificationRepository.countByRecipientIdAndIsReadFalse(userId);
+        long count = notificationRepository.findUnreadCount(userId).orElse(0L);
         return new UnreadCountDto(count);
     }
 
@@ -88,6 +103,8 @@ public class NotificationService {
             notification.setRead(true);
             notification.setDateModified(Instant.now());
             notificationRepository.save(notification);
+            long count = notificationRepository.addUnreadCount(userId, -1);
+            afterCommit(() -> broadcastUnreadCount(userId, count));
         }
     }
 
@@ -99,7 +116,14 @@ public class NotificationService {
     @Transactional
     public int markAllAsRead() {
         String userId = userService.getCurrentUserId();
-        return notificationRepository.markAllAsRead(userId, Instant.now());
+        int marked = notificationRepository.markAllAsRead(userId, Instant.now());
+        if (marked > 0) {
+            // Subtract what was marked rather than resetting to zero, so a notification created
+            // concurrently stays counted
+            long count = notificationRepository.addUnreadCount(userId, -marked);
+            afterCommit(() -> broadcastUnreadCount(userId, count));
+        }
+        return marked;
     }
 
     /**
@@ -109,62 +133,247 @@ public class NotificationService {
      * notifications remain as historical records but no longer appear as actionable unread items.
      *
      * @param referenceId reference ID to match
-     * @return number of notifications marked as read
      */
     @Transactional
-    public int markAllAsReadByReferenceId(@NonNull UUID referenceId) {
-        return notificationRepository.markAllAsReadByReferenceId(referenceId, Instant.now());
+    public void markAllAsReadByReferenceId(@NonNull UUID referenceId) {
+        List<NotificationRepository.UnreadCount> counts =
+                notificationRepository.markAllAsReadByReferenceId(referenceId, Instant.now());
+        afterCommit(() -> counts.forEach(this::broadcastUnreadCount));
+    }
+
+    /**
+     * Deletes the notifications about tasks that are being deleted and pushes the recipients'
+     * adjusted unread counts once the transaction commits. Must run before the tasks are deleted;
+     * the foreign key cascade would otherwise remove the notifications without updating the counts.
+     *
+     * @param taskIds the IDs of the tasks being deleted
+     */
+    @Transactional
+    public void deleteForTasks(@NonNull Collection<UUID> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        List<NotificationRepository.UnreadCount> counts =
+                notificationRepository.deleteByTaskIds(taskIds);
+        afterCommit(() -> counts.forEach(this::broadcastUnreadCount));
     }
 
     /**
-     * Creates a notification and broadcasts it via WebSocket to the recipient.
+     * Deletes the notifications about a board that is being deleted and pushes the recipients'
+     * adjusted unread counts once the transaction commits. Must run before the board is deleted,
+     * for the same reason as {@link #deleteForTasks(Collection)}.
+     *
+     * @param boardId the ID of the board being deleted
+     */
+    @Transactional
+    public void deleteForBoard(@NonNull UUID boardId) {
+        List<NotificationRepository.UnreadCount> counts =
+                notificationRepository.deleteByBoardId(boardId);
+        afterCommit(() -> counts.forEach(this::broadcastUnreadCount));
+    }
+
+    /**
+     * Creates the same notification for each recipient and broadcasts each one via WebSocket to its
+     * recipient once the current transaction commits.
+     *
+     * <p>A recipient who still has an unread notification of the same type on the same task from
+     * within {@code velora.notifications.digest-window} gets that one updated instead: its
+     * occurrence count goes up and it takes the new actor and message. It keeps the reference of
+     * its first occurrence, so deleting that entity (e.g. the first comment) marks the whole digest
+     * read. The fold is a single update conditional on the notification still being unread; if it
+     * was marked read in the meantime, a new notification is created instead. The pushed DTO keeps
+     * the notification's ID, so clients replace it in place.
+     *
+     * <p>The notifications are inserted with one saveAll, which Hibernate sends as JDBC batches,
+     * and the recipients' unread counts are incremented with one statement. Broadcasting the
+     * notifications and new counts after the commit means a recipient who refetches on receipt
+     * always sees the notification, and a rollback broadcasts nothing.
      *
      * @param type the notification type
-     * @param recipient the user to notify
+     * @param recipients the users to notify, each at most once
      * @param actor the user who triggered the notification
      * @param task the task related to the notification
      * @param board the board the task belongs to
      * @param message the notification message
      * @param referenceId optional reference ID (e.g., comment ID)
-     * @return the created notification DTO
+     * @return the created or updated notification DTOs
      */
     @Transactional
-    public NotificationDto createAndBroadcast(
+    public List<NotificationDto> createAndBroadcastAll(
             @NonNull NotificationType type,
-            @NonNull User recipient,
+            @NonNull Collection<User> recipients,
             @NonNull User actor,
             @NonNull Task task,
             @NonNull Board board,
             @NonNull String message,
             @Nullable UUID referenceId) {
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
 
-        Notification notification =
-                Notification.builder()
-                        .type(type)
-                        .recipient(recipient)
-                        .actor(actor)
-                        .task(task)
-                        .board(board)
-                        .message(message)
-                        .referenceId(referenceId)
-                        .build();
-
-        Notification saved = notificationRepository.save(notification);
-        NotificationDto dto = notificationMapper.toDto(saved);
+        Map<String, NotificationRepository.FoldCandidate> foldable =
+                findFoldable(type, recipients, task);
+        Instant now = Instant.now();
+        List<Notification> folded = new ArrayList<>();
+        List<Notification> created = new ArrayList<>();
+        for (User recipient : recipients) {
+            Notification notification =
+                    fold(
+                            foldable.get(recipient.getId()),
+                            type,
+                            recipient,
+                            actor,
+                            task,
+                            board,
+                            message,
+                            now);
+            if (notification != null) {
+                folded.add(notification);
+            } else {
+                created.add(
+                        Notification.builder()
+                                .type(type)
+                                .recipient(recipient)
+                                .actor(actor)
+                                .task(task)
+                                .board(board)
+                                .message(message)
+                                .referenceId(referenceId)
+                                .build());
+            }
+        }
+
+        Map<String, NotificationDto> dtos = new LinkedHashMap<>();
+        for (Notification notification : folded) {
+            dtos.put(notification.getRecipient().getId(), notificationMapper.toDto(notification));
+        }
+        List<String> createdRecipientIds = new ArrayList<>();
+        for (Notification notification : notificationRepository.saveAll(created)) {
+            String recipientId = notification.getRecipient().getId();
+            dtos.put(recipientId, notificationMapper.toDto(notification));
+            createdRecipientIds.add(recipientId);
+        }
+        // Folded notifications are already unread, so only new ones change the counts
+        List<NotificationRepository.UnreadCount> counts =
+                createdRecipientIds.isEmpty()
+                        ? List.of()
+                        : notificationRepository.incrementUnreadCounts(createdRecipientIds);
+
+        afterCommit(
+                () -> {
+                    dtos.forEach(this::broadcast);
+                    counts.forEach(this::broadcastUnreadCount);
+                });
+        log.debug(
+                "Created {} and folded {} notifications: type={}, taskId={}",
+                created.size(),
+                folded.size(),
+                type,
+                task.getId());
+
+        return List.copyOf(dtos.values());
+    }
 
+    /**
+     * Finds each recipient's unread notification of this type on the task that is still inside the
+     * digest window, if any.
+     */
+    private Map<String, NotificationRepository.FoldCandidate> findFoldable(
+            NotificationType type, Collection<User> recipients, Task task) {
+        Duration window = notificationProperties.getDigestWindow();
+        if (window.isZero()) {
+            return Map.of();
+        }
+
+        List<String> recipientIds = recipients.stream().map(User::getId).toList();
+        List<NotificationRepository.FoldCandidate> candidates =
+                notificationRepository.findFoldable(
+                        recipientIds, task.getId(), type, Instant.now().minus(window));
+
+        // Oldest first, so if a race left several the newest one is kept
+        Map<String, NotificationRepository.FoldCandidate> foldable = new HashMap<>();
+        for (NotificationRepository.FoldCandidate candidate : candidates) {
+            foldable.put(candidate.getRecipientId(), candidate);
+        }
+        return foldable;
+    }
+
+    /**
+     * Folds a new occurrence into the candidate notification in the database.
+     *
+     * @return a detached copy of the folded notification for building its DTO, or null if there was
+     *     no candidate or it was marked read since it was found
+     */
+    @Nullable
+    private Notification fold(
+            @Nullable NotificationRepository.FoldCandidate candidate,
+            NotificationType type,
+            User recipient,
+            User actor,
+            Task task,
+            Board board,
+            String message,
+            Instant now) {
+        if (candidate == null) {
+            return null;
+        }
+
+        return notificationRepository
+                .fold(candidate.getId(), actor.getId(), message, now)
+                .map(
+                        occurrenceCount ->
+                                Notification.builder()
+                                        .id(candidate.getId())
+                                        .type(type)
+                                        .recipient(recipient)
+                                        .actor(actor)
+                                        .task(task)
+                                        .board(board)
+                                        .message(message)
+                                        .referenceId(candidate.getReferenceId())
+                                        .occurrenceCount(occurrenceCount)
+                                        .dateCreated(candidate.getDateCreated())
+                                        .build())
+                .orElse(null);
+    }
+
+    private void broadcast(String recipientId, NotificationDto dto) {
         // Broadcast to the recipient's personal notification topic
-        String destination = String.format(USER_NOTIFICATIONS_TOPIC, recipient.getId());
+        String destination = String.format(USER_NOTIFICATIONS_TOPIC, recipientId);
         try {
             messagingTemplate.convertAndSend(destination, dto);
-            log.debug(
-                    "Notification broadcast to {}: type={}, taskId={}",
-                    destination,
-                    type,
-                    task.getId());
+            log.debug("Notification broadcast to {}: type={}", destination, dto.type());
         } catch (MessagingException e) {
             log.warn("Failed to broadcast notification to {}: {}", destination, e.getMessage());
         }
+    }
+
+    private void broadcastUnreadCount(NotificationRepository.UnreadCount count) {
+        broadcastUnreadCount(count.getUserId(), count.getUnreadCount());
+    }
+
+    private void broadcastUnreadCount(String recipientId, long count) {
+        String destination = String.format(USER_UNREAD_COUNT_TOPIC, recipientId);
+        try {
+            messagingTemplate.convertAndSend(destination, new UnreadCountUpdateDto(count));
+        } catch (MessagingException e) {
+            log.warn("Failed to broadcast unread count to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
 
-        return dto;
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        action.run();
+                    }
+                });
     }
 }
@@ -17,4 +17,5 @@ public record NotificationDto(
         @NotBlank String taskTitle,
         @NotNull UUID boardId,
         @NotBlank String boardName,
-        @NotBlank String dateCreated) {}
+        @NotBlank String dateCreated,
+        int occurrenceCount) {}
@@ -0,0 +1,21 @@
+package com.kylerriggs.velora.notification.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Frame pushed on a user's unread count topic, {@code /topic/users/{userId}/unread-count}, whenever
+ * their unread count changes, so clients can keep the badge current without polling. It has its own
+ * topic because clients treat every frame on the notification topic as a notification.
+ *
+ * @param type always {@code "UNREAD_COUNT"}, so clients can tell the frame apart from a {@link
+ *     NotificationDto} even if both topics are handled together
+ * @param count the user's unread notification count
+ */
+public record UnreadCountUpdateDto(@NotBlank String type, @NotNull long count) {
+    public static final String TYPE = "UNREAD_COUNT";
+
+    public UnreadCountUpdateDto(long count) {
+        this(TYPE, count);
+    }
+}
@@ -3,8 +3,9 @@ package com.kylerriggs.velora.notification.event;
 import java.util.UUID;
 
 /**
- * Sealed interface for notification-triggering events. These events are published by services and
- * consumed by NotificationEventListener to create notifications after transaction commit.
+ * Sealed interface for notification-triggering events. These events are published by services,
+ * stored in the outbox by NotificationOutbox within the publishing transaction, and handled by
+ * NotificationEventListener once dispatched.
  */
 public sealed interface NotificationEvent
         permits NotificationEvent.CommentCreatedEvent,
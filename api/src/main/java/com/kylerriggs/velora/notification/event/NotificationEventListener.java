@@ -19,18 +19,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
- * Listens for notification-triggering events and creates notifications after the original
- * transaction commits.
+ * Handles notification-triggering events once {@link NotificationOutboxDispatcher} takes them from
+ * the outbox. Each handler runs in the dispatcher's transaction.
  */
 @Component
 @RequiredArgsConstructor
@@ -41,21 +42,40 @@ public class NotificationEventListener {
     private final TaskRepository taskRepository;
     private final BoardRepository boardRepository;
 
+    /**
+     * Handles an event with the handler for its type.
+     *
+     * @param event the notification event
+     */
+    public void handle(NotificationEvent event) {
+        switch (event) {
+            case CommentCreatedEvent created -> handleCommentCreated(created);
+            case CommentUpdatedEvent updated -> handleCommentUpdated(updated);
+            case CommentDeletedEvent deleted -> handleCommentDeleted(deleted);
+            case TaskDescriptionUpdatedEvent edited -> handleTaskDescriptionUpdated(edited);
+            case AssigneeChangedEvent assignee -> handleAssigneeChanged(assignee);
+        }
+    }
+
     /**
      * Handles comment creation events. Creates notifications for: - MENTIONED_IN_COMMENT for
      * users @mentioned in the comment - COMMENT_ON_ASSIGNED_TASK for the task assignee (if not the
      * author and not mentioned)
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCommentCreated(CommentCreatedEvent event) {
         log.debug("Processing CommentCreatedEvent for comment {}", event.commentId());
 
+        // Extract mentioned users, except the author
+        Set<String> mentionedUserIds =
+                new HashSet<>(MentionParser.extractMentionedUserIds(event.content()));
+        mentionedUserIds.remove(event.authorId());
+
         Optional<Task> taskOpt = taskRepository.findById(event.taskId());
         Optional<Board> boardOpt = boardRepository.findById(event.boardId());
-        Optional<User> actorOpt = userRepository.findById(event.authorId());
+        Map<String, User> users = findUsers(event.authorId(), mentionedUserIds);
+        User actor = users.get(event.authorId());
 
-        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actorOpt.isEmpty()) {
+        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actor == null) {
             log.warn(
                     "Could not process CommentCreatedEvent: task, board, or actor not found. "
                             + "taskId={}, boardId={}, authorId={}",
@@ -67,54 +87,32 @@ public class NotificationEventListener {
 
         Task task = taskOpt.get();
         Board board = boardOpt.get();
-        User actor = actorOpt.get();
-
-        // Extract mentioned users
-        Set<String> mentionedUserIds = MentionParser.extractMentionedUserIds(event.content());
-        Set<String> notifiedUserIds = new HashSet<>();
-
-        // Notify mentioned users (except the author)
-        for (String userId : mentionedUserIds) {
-            if (userId.equals(event.authorId())) {
-                continue; // Don't notify the author
-            }
 
-            Optional<User> recipientOpt = userRepository.findById(userId);
-            if (recipientOpt.isEmpty()) {
-                log.warn("Mentioned user not found: {}", userId);
-                continue;
-            }
-
-            User recipient = recipientOpt.get();
-            String message =
-                    String.format(
-                            "%s mentioned you in a comment on \"%s\"",
-                            actor.getUsername(), task.getTitle());
-
-            notificationService.createAndBroadcast(
-                    NotificationType.MENTIONED_IN_COMMENT,
-                    recipient,
-                    actor,
-                    task,
-                    board,
-                    message,
-                    event.commentId());
-
-            notifiedUserIds.add(userId);
-        }
+        String mentionMessage =
+                String.format(
+                        "%s mentioned you in a comment on \"%s\"",
+                        actor.getUsername(), task.getTitle());
+        notificationService.createAndBroadcastAll(
+                NotificationType.MENTIONED_IN_COMMENT,
+                mentionedUsers(users, mentionedUserIds),
+                actor,
+                task,
+                board,
+                mentionMessage,
+                event.commentId());
 
         // Notify task assignee if not the author and not already mentioned
         User assignee = task.getAssignedTo();
         if (assignee != null
                 && !assignee.getId().equals(event.authorId())
-                && !notifiedUserIds.contains(assignee.getId())) {
+                && !mentionedUserIds.contains(assignee.getId())) {
 
             String message =
                     String.format("%s commented on \"%s\"", actor.getUsername(), task.getTitle());
 
-            notificationService.createAndBroadcast(
+            notificationService.createAndBroadcastAll(
                     NotificationType.COMMENT_ON_ASSIGNED_TASK,
-                    assignee,
+                    List.of(assignee),
                     actor,
                     task,
                     board,
@@ -127,16 +125,18 @@ public class NotificationEventListener {
      * Handles comment update events. Creates MENTIONED_IN_COMMENT notifications for users newly
      * mentioned (mentioned in new content but not in old content).
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCommentUpdated(CommentUpdatedEvent event) {
         log.debug("Processing CommentUpdatedEvent for comment {}", event.commentId());
 
+        Set<String> newlyMentioned =
+                newlyMentioned(event.oldContent(), event.newContent(), event.editorId());
+
         Optional<Task> taskOpt = taskRepository.findById(event.taskId());
         Optional<Board> boardOpt = boardRepository.findById(event.boardId());
-        Optional<User> actorOpt = userRepository.findById(event.editorId());
+        Map<String, User> users = findUsers(event.editorId(), newlyMentioned);
+        User actor = users.get(event.editorId());
 
-        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actorOpt.isEmpty()) {
+        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actor == null) {
             log.warn(
                     "Could not process CommentUpdatedEvent: task, board, or editor not found. "
                             + "taskId={}, boardId={}, editorId={}",
@@ -148,45 +148,23 @@ public class NotificationEventListener {
 
         Task task = taskOpt.get();
         Board board = boardOpt.get();
-        User actor = actorOpt.get();
-
-        Set<String> oldMentions = MentionParser.extractMentionedUserIds(event.oldContent());
-        Set<String> newMentions = MentionParser.extractMentionedUserIds(event.newContent());
-
-        Set<String> newlyMentioned = new HashSet<>(newMentions);
-        newlyMentioned.removeAll(oldMentions);
-
-        for (String userId : newlyMentioned) {
-            if (userId.equals(event.editorId())) {
-                continue;
-            }
 
-            Optional<User> recipientOpt = userRepository.findById(userId);
-            if (recipientOpt.isEmpty()) {
-                log.warn("Mentioned user not found: {}", userId);
-                continue;
-            }
-
-            User recipient = recipientOpt.get();
-            String message =
-                    String.format(
-                            "%s mentioned you in an edited comment on \"%s\"",
-                            actor.getUsername(), task.getTitle());
-
-            notificationService.createAndBroadcast(
-                    NotificationType.MENTIONED_IN_COMMENT,
-                    recipient,
-                    actor,
-                    task,
-                    board,
-                    message,
-                    event.commentId());
-        }
+        String message =
+                String.format(
+                        "%s mentioned you in an edited comment on \"%s\"",
+                        actor.getUsername(), task.getTitle());
+
+        notificationService.createAndBroadcastAll(
+                NotificationType.MENTIONED_IN_COMMENT,
+                mentionedUsers(users, newlyMentioned),
+                actor,
+                task,
+                board,
+                message,
+                event.commentId());
     }
 
     /** Handles comment deletion events by marking related notifications as read. */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleCommentDeleted(CommentDeletedEvent event) {
         log.debug("Processing CommentDeletedEvent for comment {}", event.commentId());
         notificationService.markAllAsReadByReferenceId(event.commentId());
@@ -196,16 +174,19 @@ public class NotificationEventListener {
      * Handles task description update events. Creates MENTIONED_IN_DESCRIPTION notifications for
      * users newly mentioned (mentioned in new description but not in old description).
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleTaskDescriptionUpdated(TaskDescriptionUpdatedEvent event) {
         log.debug("Processing TaskDescriptionUpdatedEvent for task {}", event.taskId());
 
+        // Find users mentioned in new description but not in old description
+        Set<String> newlyMentioned =
+                newlyMentioned(event.oldDescription(), event.newDescription(), event.editorId());
+
         Optional<Task> taskOpt = taskRepository.findById(event.taskId());
         Optional<Board> boardOpt = boardRepository.findById(event.boardId());
-        Optional<User> actorOpt = userRepository.findById(event.editorId());
+        Map<String, User> users = findUsers(event.editorId(), newlyMentioned);
+        User actor = users.get(event.editorId());
 
-        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actorOpt.isEmpty()) {
+        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actor == null) {
             log.warn(
                     "Could not process TaskDescriptionUpdatedEvent: task, board, or actor not found. "
                             + "taskId={}, boardId={}, editorId={}",
@@ -217,49 +198,26 @@ public class NotificationEventListener {
 
         Task task = taskOpt.get();
         Board board = boardOpt.get();
-        User actor = actorOpt.get();
-
-        // Find users mentioned in new description but not in old description
-        Set<String> oldMentions = MentionParser.extractMentionedUserIds(event.oldDescription());
-        Set<String> newMentions = MentionParser.extractMentionedUserIds(event.newDescription());
-
-        Set<String> newlyMentioned = new HashSet<>(newMentions);
-        newlyMentioned.removeAll(oldMentions);
 
-        for (String userId : newlyMentioned) {
-            if (userId.equals(event.editorId())) {
-                continue; // Don't notify the editor
-            }
-
-            Optional<User> recipientOpt = userRepository.findById(userId);
-            if (recipientOpt.isEmpty()) {
-                log.warn("Mentioned user not found: {}", userId);
-                continue;
-            }
-
-            User recipient = recipientOpt.get();
-            String message =
-                    String.format(
-                            "%s mentioned you in the description of \"%s\"",
-                            actor.getUsername(), task.getTitle());
-
-            notificationService.createAndBroadcast(
-                    NotificationType.MENTIONED_IN_DESCRIPTION,
-                    recipient,
-                    actor,
-                    task,
-                    board,
-                    message,
-                    null);
-        }
+        String message =
+                String.format(
+                        "%s mentioned you in the description of \"%s\"",
+                        actor.getUsername(), task.getTitle());
+
+        notificationService.createAndBroadcastAll(
+                NotificationType.MENTIONED_IN_DESCRIPTION,
+                mentionedUsers(users, newlyMentioned),
+                actor,
+                task,
+                board,
+                message,
+                null);
     }
 
     /**
      * Handles assignee change events. Creates ASSIGNED_TO_TASK notification for the new assignee
      * (if not the person who made the change).
      */
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleAssigneeChanged(AssigneeChangedEvent event) {
         log.debug(
                 "Processing AssigneeChangedEvent for task {}: {} -> {}",
@@ -274,13 +232,11 @@ public class NotificationEventListener {
 
         Optional<Task> taskOpt = taskRepository.findById(event.taskId());
         Optional<Board> boardOpt = boardRepository.findById(event.boardId());
-        Optional<User> actorOpt = userRepository.findById(event.changedById());
-        Optional<User> recipientOpt = userRepository.findById(event.newAssigneeId());
+        Map<String, User> users = findUsers(event.changedById(), Set.of(event.newAssigneeId()));
+        User actor = users.get(event.changedById());
+        User recipient = users.get(event.newAssigneeId());
 
-        if (taskOpt.isEmpty()
-                || boardOpt.isEmpty()
-                || actorOpt.isEmpty()
-                || recipientOpt.isEmpty()) {
+        if (taskOpt.isEmpty() || boardOpt.isEmpty() || actor == null || recipient == null) {
             log.warn(
                     "Could not process AssigneeChangedEvent: task, board, actor, or recipient not found. "
                             + "taskId={}, boardId={}, changedById={}, newAssigneeId={}",
@@ -293,13 +249,53 @@ public class NotificationEventListener {
 
         Task task = taskOpt.get();
         Board board = boardOpt.get();
-        User actor = actorOpt.get();
-        User recipient = recipientOpt.get();
 
         String message =
                 String.format("%s assigned you to \"%s\"", actor.getUsername(), task.getTitle());
 
-        notificationService.createAndBroadcast(
-                NotificationType.ASSIGNED_TO_TASK, recipient, actor, task, board, message, null);
+        notificationService.createAndBroadcastAll(
+                NotificationType.ASSIGNED_TO_TASK,
+                List.of(recipient),
+                actor,
+                task,
+                board,
+                message,
+                null);
+    }
+
+    /**
+     * Loads the actor and every recipient of an event with a single query.
+     *
+     * @param actorId the user who triggered the event
+     * @param recipientIds the users who may be notified
+     * @return the users found, by ID
+     */
+    private Map<String, User> findUsers(String actorId, Set<String> recipientIds) {
+        Set<String> userIds = new HashSet<>(recipientIds);
+        userIds.add(actorId);
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private List<User> mentionedUsers(Map<String, User> users, Set<String> mentionedUserIds) {
+        List<User> recipients = new ArrayList<>();
+        for (String userId : mentionedUserIds) {
+            User recipient = users.get(userId);
+            if (recipient == null) {
+                log.warn("Mentioned user not found: {}", userId);
+                continue;
+            }
+            recipients.add(recipient);
+        }
+        return recipients;
+    }
+
+    private Set<String> newlyMentioned(String oldContent, String newContent, String editorId) {
+        Set<String> oldMentions = MentionParser.extractMentionedUserIds(oldContent);
+        Set<String> newlyMentioned =
+                new HashSet<>(MentionParser.extractMentionedUserIds(newContent));
+        newlyMentioned.removeAll(oldMentions);
+        newlyMentioned.remove(editorId);
+        return newlyMentioned;
     }
 }
@@ -0,0 +1,78 @@
+package com.kylerriggs.velora.notification.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes published notification events to the outbox table in the publishing transaction, so an
+ * event is stored if and only if the change that triggered it commits. {@link
+ * NotificationOutboxDispatcher} handles them from there.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+    private static final Map<String, Class<?>> EVENT_TYPES =
+            Arrays.stream(NotificationEvent.class.getPermittedSubclasses())
+                    .collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Stores a published event. Must be published inside the transaction making the change.
+     *
+     * @param event the notification event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(NotificationEvent event) {
+        Instant now = Instant.now();
+        outboxRepository.save(
+                NotificationOutboxEntry.builder()
+                        .eventType(event.getClass().getSimpleName())
+                        .payload(write(event))
+                        .availableAt(now)
+                        .dateCreated(now)
+                        .build());
+    }
+
+    /**
+     * Reads the event stored in an outbox entry.
+     *
+     * @param entry the outbox entry
+     * @return the notification event
+     * @throws IllegalStateException if the entry does not hold a known event
+     */
+    public NotificationEvent read(NotificationOutboxEntry entry) {
+        Class<?> eventType = EVENT_TYPES.get(entry.getEventType());
+        if (eventType == null) {
+            throw new IllegalStateException("Unknown notification event: " + entry.getEventType());
+        }
+        try {
+            return (NotificationEvent) objectMapper.readValue(entry.getPayload(), eventType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable notification event " + entry.getId(), e);
+        }
+    }
+
+    private String write(NotificationEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event, e);
+        }
+    }
+}
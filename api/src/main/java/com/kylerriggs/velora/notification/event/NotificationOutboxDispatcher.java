@@ -0,0 +1,152 @@
+package com.kylerriggs.velora.notification.event;
+
+import com.kylerriggs.velora.config.NotificationProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains the notification outbox in the background, off the request threads that wrote it.
+ *
+ * <p>Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so every instance can poll at once
+ * without handling the same event twice. The batch's notifications are created and its entries
+ * deleted in one transaction: either both commit or the events stay in the outbox for another
+ * attempt, and notifications are only broadcast once that transaction commits.
+ *
+ * <p>When a batch fails, its events are retried one per transaction to find the one at fault. That
+ * event is held back for {@code velora.notifications.outbox.retry-delay} times its attempts and
+ * discarded after {@code max-attempts}, which is counted in {@code
+ * velora.notifications.outbox.discarded}.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxDispatcher {
+    private static final int MAX_BATCHES = 100;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final NotificationEventListener notificationEventListener;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationProperties.Outbox config;
+    private final Counter discardedCounter;
+
+    public NotificationOutboxDispatcher(
+            NotificationOutboxRepository outboxRepository,
+            NotificationOutbox notificationOutbox,
+            NotificationEventListener notificationEventListener,
+            PlatformTransactionManager transactionManager,
+            NotificationProperties notificationProperties,
+            MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.notificationEventListener = notificationEventListener;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = notificationProperties.getOutbox();
+        this.discardedCounter =
+                Counter.builder("velora.notifications.outbox.discarded").register(meterRegistry);
+    }
+
+    /** Handles available events in batches until the outbox is drained. */
+    @Scheduled(fixedDelayString = "#{@notificationProperties.outbox.pollInterval.toMillis()}")
+    public void dispatch() {
+        int batchSize = config.getBatchSize();
+        int dispatched = 0;
+        for (int batch = 0; batch < MAX_BATCHES; batch++) {
+            int count = dispatchBatch(batchSize);
+            dispatched += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (dispatched > 0) {
+            log.debug("Dispatched {} notification events", dispatched);
+        }
+    }
+
+    private int dispatchBatch(int batchSize) {
+        try {
+            return transactionTemplate.execute(status -> handle(claim(batchSize)));
+        } catch (RuntimeException e) {
+            log.warn("Notification event batch failed; retrying its events one at a time", e);
+            int count = 0;
+            while (count < batchSize && dispatchNext()) {
+                count++;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Handles the next available event in its own transaction.
+     *
+     * @return false if no event was available
+     */
+    private boolean dispatchNext() {
+        List<NotificationOutboxEntry> claimed = new ArrayList<>(1);
+        try {
+            transactionTemplate.executeWithoutResult(
+                    status -> {
+                        claimed.addAll(claim(1));
+                        handle(claimed);
+                    });
+            return !claimed.isEmpty();
+        } catch (RuntimeException e) {
+            if (claimed.isEmpty()) {
+                throw e;
+            }
+            recordFailure(claimed.getFirst(), e);
+            return true;
+        }
+    }
+
+    private List<NotificationOutboxEntry> claim(int limit) {
+        return outboxRepository.claim(Instant.now(), limit);
+    }
+
+    private int handle(List<NotificationOutboxEntry> entries) {
+        for (NotificationOutboxEntry entry : entries) {
+            notificationEventListener.handle(notificationOutbox.read(entry));
+        }
+        outboxRepository.deleteAllInBatch(entries);
+        return entries.size();
+    }
+
+    private void recordFailure(NotificationOutboxEntry entry, RuntimeException e) {
+        int attempts = entry.getAttempts() + 1;
+        if (attempts >= config.getMaxAttempts()) {
+            log.error(
+                    "Discarding notification event {} after {} attempts: type={}, payload={}",
+                    entry.getId(),
+                    attempts,
+                    entry.getEventType(),
+                    entry.getPayload(),
+                    e);
+            transactionTemplate.executeWithoutResult(
+                    status -> outboxRepository.deleteById(entry.getId()));
+            discardedCounter.increment();
+            return;
+        }
+
+        log.warn(
+                "Notification event {} failed on attempt {}: type={}",
+                entry.getId(),
+                attempts,
+                entry.getEventType(),
+                e);
+        Instant availableAt = Instant.now().plus(config.getRetryDelay().multipliedBy(attempts));
+        transactionTemplate.executeWithoutResult(
+                status -> outboxRepository.recordFailedAttempt(entry.getId(), availableAt));
+    }
+}
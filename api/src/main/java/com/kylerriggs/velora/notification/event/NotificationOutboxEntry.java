@@ -0,0 +1,44 @@
+package com.kylerriggs.velora.notification.event;
+
+import jakarta.persistence.*;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/** A notification-triggering event committed with its change and not yet handled. */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        name = "notification_outbox",
+        indexes = {
+            @Index(name = "idx_notification_outbox_available_at", columnList = "available_at")
+        })
+public class NotificationOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Simple name of the {@link NotificationEvent} record the payload holds. */
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /** How many times handling the event has failed. */
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    /** When the event may next be claimed. */
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "date_created", nullable = false, updatable = false)
+    private Instant dateCreated;
+}
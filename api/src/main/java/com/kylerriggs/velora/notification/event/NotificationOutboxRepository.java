@@ -0,0 +1,42 @@
+package com.kylerriggs.velora.notification.event;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEntry, Long> {
+
+    /**
+     * Locks the oldest available events for the current transaction, skipping any another
+     * transaction has already claimed.
+     *
+     * @param now the current timestamp
+     * @param limit the maximum number of events to claim
+     * @return the claimed events, oldest first
+     */
+    @Query(
+            value =
+                    "SELECT * FROM notification_outbox WHERE available_at <= :now ORDER BY id"
+                            + " LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<NotificationOutboxEntry> claim(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Counts a failed attempt at an event and holds it back until its next attempt.
+     *
+     * @param id the outbox entry ID
+     * @param availableAt when the event may be claimed again
+     * @return number of entries updated
+     */
+    @Modifying
+    @Query(
+            "UPDATE NotificationOutboxEntry e SET e.attempts = e.attempts + 1,"
+                    + " e.availableAt = :availableAt WHERE e.id = :id")
+    int recordFailedAttempt(@Param("id") Long id, @Param("availableAt") Instant availableAt);
+}
@@ -0,0 +1,146 @@
+package com.kylerriggs.velora.task;
+
+import com.kylerriggs.velora.config.BoardProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Serializes task position writes per column. Every writer takes a Postgres advisory lock on its
+ * target column before reading neighbor positions or rank keys, so concurrent writes into the same
+ * gap queue up instead of picking the same slot and failing the deferred unique constraints at
+ * commit. Time spent waiting is recorded under {@code velora.tasks.column_lock.wait}.
+ *
+ * <p>Writes that still lose a race, through a deadlock with other row locks or a writer that skips
+ * the lock, are retried in a fresh transaction by {@link #withRetry}. Retries are counted under
+ * {@code velora.tasks.position.retries} and writes that run out of attempts under {@code
+ * velora.tasks.position.conflicts}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ColumnPositionLock {
+    private static final List<String> POSITION_CONSTRAINTS =
+            List.of("uk_task_column_position", "uk_task_column_rank_key");
+
+    private final TaskRepository taskRepository;
+    private final BoardProperties boardProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Locks a column's task positions until the current transaction ends. Taking the lock again in
+     * the same transaction returns immediately.
+     *
+     * @param columnId the column ID
+     */
+    public void acquire(@NonNull UUID columnId) {
+        long start = System.nanoTime();
+        taskRepository.lockColumnPositions(columnId);
+
+        Timer.builder("velora.tasks.column_lock.wait")
+                .description("Time spent waiting for a column's task position lock")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs a transactional position write, running it again when it fails on a position conflict.
+     * Must be called outside a transaction so that every attempt commits or rolls back on its own.
+     *
+     * @param operation what is being written, used as a metric tag
+     * @param write the write, typically a call to a {@code @Transactional} service method
+     * @return the result of the successful attempt
+     * @throws DataAccessException if the write fails for another reason or runs out of attempts
+     */
+    public <T> T withRetry(@NonNull String operation, @NonNull Supplier<T> write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // A failed attempt would have marked the enclosing transaction rollback-only
+            return write.get();
+        }
+
+        int maxAttempts = Math.max(1, boardProperties.getPositionWrites().getMaxAttempts());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (DataAccessException e) {
+                if (!isPositionConflict(e)) {
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    counter("velora.tasks.position.conflicts", operation).increment();
+                    log.warn(
+                            "Task position write failed after {} attempts ({}): {}",
+                            attempt,
+                            operation,
+                            e.getMostSpecificCause().getMessage());
+                    throw e;
+                }
+
+                counter("velora.tasks.position.retries", operation).increment();
+                log.debug("Retrying task position write ({}), attempt {}", operation, attempt);
+                backOff(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * Runs a transactional position write without a result, retrying it like {@link
+     * #withRetry(String, Supplier)}.
+     *
+     * @param operation what is being written, used as a metric tag
+     * @param write the write, typically a call to a {@code @Transactional} service method
+     */
+    public void withRetry(@NonNull String operation, @NonNull Runnable write) {
+        withRetry(
+                operation,
+                () -> {
+                    write.run();
+                    return null;
+                });
+    }
+
+    private boolean isPositionConflict(DataAccessException e) {
+        if (e instanceof PessimisticLockingFailureException) {
+            return true;
+        }
+        if (!(e instanceof DataIntegrityViolationException)) {
+            return false;
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && POSITION_CONSTRAINTS.stream().anyMatch(message::contains);
+    }
+
+    private void backOff(int attempt, DataAccessException cause) {
+        long backoffMillis = boardProperties.getPositionWrites().getBackoff().toMillis();
+        // Jitter keeps writers that collided once from colliding again on the next attempt
+        long sleepMillis =
+                backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1);
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw cause;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name).tag("operation", operation).register(meterRegistry);
+    }
+}
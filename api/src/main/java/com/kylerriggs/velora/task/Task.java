@@ -45,7 +45,10 @@ import java.util.UUID;
         uniqueConstraints = {
             @UniqueConstraint(
                     name = "uk_task_column_position",
-                    columnNames = {"column_id", "position"})
+                    columnNames = {"column_id", "position"}),
+            @UniqueConstraint(
+                    name = "uk_task_column_rank_key",
+                    columnNames = {"column_id", "rank_key"})
         })
 public class Task extends BaseEntity {
     @Id
@@ -64,6 +67,13 @@ public class Task extends BaseEntity {
 
     private Long restorePosition;
 
+    /** Fractional sort key within the column, see {@link com.kylerriggs.velora.common.RankKeys}. */
+    @jakarta.persistence.Column(name = "rank_key", columnDefinition = "TEXT")
+    private String rankKey;
+
+    @jakarta.persistence.Column(name = "restore_rank_key", columnDefinition = "TEXT")
+    private String restoreRankKey;
+
     @lombok.Builder.Default private boolean isCompleted = false;
 
     @lombok.Builder.Default private boolean isArchived = false;
@@ -74,6 +84,10 @@ public class Task extends BaseEntity {
 
     private LocalDate dueDate;
 
+    /** Board change sequence of the last committed write, null while pending. */
+    @jakarta.persistence.Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @ManyToOne(optional = false)
     @JoinColumn(name = "board_id", foreignKey = @ForeignKey(name = "fk_task_board"))
     private Board board;
@@ -1,5 +1,8 @@
 package com.kylerriggs.velora.task;
 
+import com.kylerriggs.velora.board.BoardAccess;
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+import com.kylerriggs.velora.board.EntityScopeCache;
 import com.kylerriggs.velora.common.BaseAccess;
 import com.kylerriggs.velora.exception.ForbiddenException;
 
@@ -8,8 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -18,20 +19,24 @@ import java.util.UUID;
 @Slf4j
 public class TaskAccess extends BaseAccess {
     private final TaskRepository taskRepository;
+    private final EntityScopeCache entityScopeCache;
+    private final BoardAccess boardAccess;
 
     /**
      * Checks if the current user is a collaborator/creator of the board that the column belongs to.
      * All board collaborators have access to view and modify tasks.
      */
-    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
     public boolean isCollaborator(@NonNull UUID taskId) {
         String requestUserId = currentUserId();
-        boolean requestUserIsCollaborator =
-                taskRepository.isUserAuthorizedForTask(taskId, requestUserId);
-        if (!requestUserIsCollaborator) {
+        UUID boardId =
+                entityScopeCache
+                        .resolveBoardId(
+                                BoardChangeEntityType.TASK, taskId, taskRepository::findBoardIdById)
+                        .orElse(null);
+        if (boardId == null) {
             log.warn("Access denied: User {} is not authorized for task {}", requestUserId, taskId);
             throw new ForbiddenException("Not authorized for this task");
         }
-        return true;
+        return boardAccess.isCollaborator(requestUserId, boardId);
     }
 }
@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.task;
 
+import com.kylerriggs.velora.common.RankKeys;
 import com.kylerriggs.velora.exception.BadRequestException;
 
 import lombok.RequiredArgsConstructor;
@@ -15,26 +16,39 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class TaskArchiveService {
-    private static final long GAP = 1_000_000L;
-
     private final TaskRepository taskRepository;
+    private final TaskRankService taskRankService;
+    private final TaskRebalanceService taskRebalanceService;
+    private final ColumnPositionLock columnPositionLock;
+    private final TaskPositionAllocator taskPositionAllocator;
 
     public void archiveTask(@NonNull Task task) {
         if (task.isArchived()) {
             return;
         }
 
+        UUID columnId = task.getColumn().getId();
+        columnPositionLock.acquire(columnId);
         task.setRestorePosition(task.getPosition());
+        task.setRestoreRankKey(task.getRankKey());
         task.setArchived(true);
-        task.setPosition(nextArchivedPosition(task.getColumn().getId()));
+        task.setPosition(taskPositionAllocator.append(columnId));
+        task.setRankKey(
+                taskRankService.isRankOrdering()
+                        ? taskRankService.rankAtEnd(columnId)
+                        : RankKeys.fromPosition(task.getPosition()));
     }
 
     public void archiveTasks(@NonNull Collection<Task> tasks) {
+        Comparator<Task> order =
+                taskRankService.isRankOrdering()
+                        ? Comparator.comparing(Task::getRankKey)
+                        : Comparator.comparing(Task::getPosition);
         tasks.stream()
                 .filter(task -> !task.isArchived())
                 .sorted(
                         Comparator.comparing((Task task) -> task.getColumn().getId())
-                                .thenComparing(Task::getPosition))
+                                .thenComparing(order))
                 .forEach(this::archiveTask);
     }
 
@@ -53,17 +67,21 @@ public class TaskArchiveService {
                     "Column is archived. Unarchive the column before restoring tasks.");
         }
 
-        long restoredPosition =
-                computeRestorePosition(
-                        task.getColumn().getId(), task.getRestorePosition(), task.getId());
+        columnPositionLock.acquire(task.getColumn().getId());
+        if (taskRankService.isRankOrdering()) {
+            task.setRankKey(taskRankService.rankForRestore(task));
+            task.setPosition(taskPositionAllocator.append(task.getColumn().getId()));
+        } else {
+            long restoredPosition =
+                    computeRestorePosition(
+                            task.getColumn().getId(), task.getRestorePosition(), task.getId());
+            task.setPosition(restoredPosition);
+            task.setRankKey(RankKeys.fromPosition(restoredPosition));
+        }
 
         task.setArchived(false);
-        task.setPosition(restoredPosition);
         task.setRestorePosition(null);
-    }
-
-    private long nextArchivedPosition(UUID columnId) {
-        return taskRepository.findMaxPositionByColumnId(columnId).orElse(0L) + GAP;
+        task.setRestoreRankKey(null);
     }
 
     private long computeRestorePosition(
@@ -71,12 +89,8 @@ public class TaskArchiveService {
         List<Task> activeTasks =
                 taskRepository.findByColumnIdAndIsArchivedFalseOrderByPosition(columnId);
 
-        if (activeTasks.isEmpty()) {
-            return GAP;
-        }
-
-        if (requestedPosition == null) {
-            return activeTasks.get(activeTasks.size() - 1).getPosition() + GAP;
+        if (activeTasks.isEmpty() || requestedPosition == null) {
+            return taskPositionAllocator.append(columnId);
         }
 
         Task afterTask = null;
@@ -101,74 +115,40 @@ public class TaskArchiveService {
         Long afterPos = afterTask != null ? afterTask.getPosition() : null;
         Long beforePos = beforeTask != null ? beforeTask.getPosition() : null;
 
-        if (afterPos != null && beforePos == null) {
-            return afterPos + GAP;
+        if (beforePos == null) {
+            return taskPositionAllocator.append(columnId);
         }
 
-        if (afterPos == null && beforePos != null) {
+        if (afterPos == null) {
             long position = beforePos / 2;
             if (position <= 0 || position == beforePos) {
-                rebalanceActiveColumn(columnId, restoringTaskId);
-                beforePos =
-                        taskRepository
-                                .findByColumnIdAndIsArchivedFalseOrderByPosition(columnId)
-                                .stream()
-                                .filter(task -> task.getId().equals(beforeTask.getId()))
-                                .findFirst()
-                                .map(Task::getPosition)
-                                .orElseThrow(
-                                        () ->
-                                                new BadRequestException(
-                                                        "Unable to restore task position."));
+                taskRebalanceService.rebalanceColumn(columnId, List.of(restoringTaskId), "restore");
+                beforePos = findRebalancedPosition(beforeTask, columnId);
                 position = beforePos / 2;
             }
             return position;
         }
 
-        if (afterPos != null && beforePos != null) {
-            long midpoint = afterPos + (beforePos - afterPos) / 2;
+        long midpoint = afterPos + (beforePos - afterPos) / 2;
+        if (midpoint <= afterPos || midpoint >= beforePos) {
+            taskRebalanceService.rebalanceColumn(columnId, List.of(restoringTaskId), "restore");
+            afterPos = findRebalancedPosition(afterTask, columnId);
+            beforePos = findRebalancedPosition(beforeTask, columnId);
+            midpoint = afterPos + (beforePos - afterPos) / 2;
             if (midpoint <= afterPos || midpoint >= beforePos) {
-                rebalanceActiveColumn(columnId, restoringTaskId);
-                List<Task> rebalancedTasks =
-                        taskRepository.findByColumnIdAndIsArchivedFalseOrderByPosition(columnId);
-                afterPos =
-                        rebalancedTasks.stream()
-                                .filter(task -> task.getId().equals(afterTask.getId()))
-                                .findFirst()
-                                .map(Task::getPosition)
-                                .orElseThrow(
-                                        () ->
-                                                new BadRequestException(
-                                                        "Unable to restore task position."));
-                beforePos =
-                        rebalancedTasks.stream()
-                                .filter(task -> task.getId().equals(beforeTask.getId()))
-                                .findFirst()
-                                .map(Task::getPosition)
-                                .orElseThrow(
-                                        () ->
-                                                new BadRequestException(
-                                                        "Unable to restore task position."));
-                midpoint = afterPos + (beforePos - afterPos) / 2;
-                if (midpoint <= afterPos || midpoint >= beforePos) {
-                    throw new BadRequestException("Unable to restore task position.");
-                }
+                throw new BadRequestException("Unable to restore task position.");
             }
-            return midpoint;
         }
-
-        return GAP;
+        return midpoint;
     }
 
-    private void rebalanceActiveColumn(UUID columnId, UUID excludingTaskId) {
-        List<Task> activeTasks =
-                taskRepository.findByColumnIdAndIsArchivedFalseOrderByPosition(columnId);
-        long position = GAP;
-        for (Task task : activeTasks) {
-            if (!task.getId().equals(excludingTaskId)) {
-                taskRepository.updatePosition(task.getId(), position);
-                position += GAP;
-            }
-        }
+    /**
+     * Reads a neighbor's position back from the database, since the rebalance statement bypasses
+     * the already loaded entities.
+     */
+    private long findRebalancedPosition(Task neighbor, UUID columnId) {
+        return taskRepository
+                .findActivePositionByIdAndColumnId(neighbor.getId(), columnId)
+                .orElseThrow(() -> new BadRequestException("Unable to restore task position."));
     }
 }
@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.task;
 
+import com.kylerriggs.velora.board.BoardETags;
 import com.kylerriggs.velora.task.dto.MoveTaskRequest;
 import com.kylerriggs.velora.task.dto.MyTaskDto;
 import com.kylerriggs.velora.task.dto.TaskDto;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
@@ -36,6 +38,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final BoardETags boardETags;
+    private final ColumnPositionLock columnPositionLock;
 
     /**
      * Retrieves all tasks assigned to the current user across all boards they have access to.
@@ -54,16 +58,17 @@ public class TaskController {
 
     /**
      * Retrieves a single task by its ID. Requires the user to be a collaborator on the board that
-     * owns the task.
+     * owns the task. Supports conditional requests via {@code If-None-Match}.
      *
      * @param taskId the ID of the task to retrieve
-     * @return the task DTO
+     * @param request the current request, used to evaluate {@code If-None-Match}
+     * @return the task DTO, or 304 if the client's copy is current
      */
     @GetMapping("/{taskId}")
     @PreAuthorize("@taskAccess.isCollaborator(#taskId)")
-    public ResponseEntity<TaskDto> getTask(@NonNull @PathVariable UUID taskId) {
-        TaskDto task = taskService.getTask(taskId);
-        return ResponseEntity.ok(task);
+    public ResponseEntity<TaskDto> getTask(@NonNull @PathVariable UUID taskId, WebRequest request) {
+        return boardETags.respond(
+                request, boardETags.forTask(taskId), () -> taskService.getTask(taskId));
     }
 
     /**
@@ -77,7 +82,8 @@ public class TaskController {
     @PreAuthorize("@boardAccess.isCollaborator(#taskRequest.boardId())")
     public ResponseEntity<TaskDto> createTask(
             @NonNull @Valid @RequestBody TaskRequest taskRequest) {
-        TaskDto createdTask = taskService.createTask(taskRequest);
+        TaskDto createdTask =
+                columnPositionLock.withRetry("create", () -> taskService.createTask(taskRequest));
 
         URI location =
                 ServletUriComponentsBuilder.fromCurrentContextPath()
@@ -101,7 +107,9 @@ public class TaskController {
     public ResponseEntity<TaskDto> updateTask(
             @NonNull @PathVariable UUID taskId,
             @NonNull @Valid @RequestBody TaskRequest taskRequest) {
-        TaskDto updatedTask = taskService.updateTask(taskId, taskRequest);
+        TaskDto updatedTask =
+                columnPositionLock.withRetry(
+                        "update", () -> taskService.updateTask(taskId, taskRequest));
 
         return ResponseEntity.ok(updatedTask);
     }
@@ -118,7 +126,9 @@ public class TaskController {
     public ResponseEntity<TaskDto> updateTaskStatus(
             @NonNull @PathVariable UUID taskId,
             @NonNull @Valid @RequestBody TaskStatusRequest statusRequest) {
-        TaskDto updatedTask = taskService.updateTaskStatus(taskId, statusRequest);
+        TaskDto updatedTask =
+                columnPositionLock.withRetry(
+                        "status", () -> taskService.updateTaskStatus(taskId, statusRequest));
         return ResponseEntity.ok(updatedTask);
     }
 
@@ -136,7 +146,7 @@ public class TaskController {
     public ResponseEntity<Void> moveTask(
             @NonNull @PathVariable UUID taskId,
             @NonNull @Valid @RequestBody MoveTaskRequest moveTaskRequest) {
-        taskService.moveTask(taskId, moveTaskRequest);
+        columnPositionLock.withRetry("move", () -> taskService.moveTask(taskId, moveTaskRequest));
         return ResponseEntity.ok().build();
     }
 
@@ -52,6 +52,7 @@ public class TaskMapper {
                 task.getDescription(),
                 task.getColumn().getId(),
                 task.getPosition(),
+                task.getRankKey(),
                 task.isCompleted(),
                 task.isArchived(),
                 task.getPriority() != null ? task.getPriority().name() : null,
@@ -96,14 +97,39 @@ public class TaskMapper {
             Task task,
             long commentCount,
             com.kylerriggs.velora.checklist.dto.ChecklistProgressDto checklistProgress) {
+        return toSummaryDto(task, toLabelSummaries(task), commentCount, checklistProgress);
+    }
+
+    /**
+     * Converts a task's labels to summary DTOs, loading them if they aren't yet.
+     *
+     * @param task the task entity
+     * @return the task's labels as summary DTOs
+     */
+    public List<LabelSummaryDto> toLabelSummaries(Task task) {
+        return task.getLabels().stream().map(labelMapper::toSummaryDto).toList();
+    }
+
+    /**
+     * Converts a Task entity to a summary DTO with preloaded labels, comment count, and checklist
+     * progress. Used when labels for many tasks were fetched in a single query.
+     *
+     * @param task the task entity to convert
+     * @param labels the task's labels
+     * @param commentCount total comments for the task
+     * @param checklistProgress checklist progress for the task (can be null)
+     * @return the task as a summary DTO
+     */
+    public TaskSummaryDto toSummaryDto(
+            Task task,
+            List<LabelSummaryDto> labels,
+            long commentCount,
+            com.kylerriggs.velora.checklist.dto.ChecklistProgressDto checklistProgress) {
         UserSummaryDto assignee = null;
         if (task.getAssignedTo() != null) {
             assignee = userMapper.toSummaryDto(task.getAssignedTo());
         }
 
-        List<LabelSummaryDto> labels =
-                task.getLabels().stream().map(labelMapper::toSummaryDto).toList();
-
         boolean hasDescription = task.getDescription() != null && !task.getDescription().isBlank();
 
         return new TaskSummaryDto(
@@ -112,6 +138,7 @@ public class TaskMapper {
                 task.getColumn().getId(),
                 assignee,
                 task.getPosition(),
+                task.getRankKey(),
                 task.isCompleted(),
                 task.isArchived(),
                 task.getPriority() != null ? task.getPriority().name() : null,
@@ -0,0 +1,50 @@
+package com.kylerriggs.velora.task;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hands out positions at the end of a column from a per-column counter (see the V007 migration). An
+ * append is a single upsert on the counter row instead of a scan for the column's highest position,
+ * and positions handed out are never reused, so concurrent appends can't collide with each other or
+ * with archived tasks parked after the active ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskPositionAllocator {
+    private static final long GAP = 1_000_000L;
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * Allocates a position after every task in a column, archived ones included.
+     *
+     * @param columnId the column ID
+     * @return the new position
+     */
+    public long append(@NonNull UUID columnId) {
+        return taskRepository.advancePositionCounter(columnId, GAP);
+    }
+
+    /**
+     * Allocates consecutive positions after every task in a column with one counter update.
+     *
+     * @param columnId the column ID
+     * @param count how many positions to allocate
+     * @return the new positions in ascending order
+     */
+    public List<Long> append(@NonNull UUID columnId, int count) {
+        long last = taskRepository.advancePositionCounter(columnId, GAP * count);
+        List<Long> positions = new ArrayList<>(count);
+        for (int i = count - 1; i >= 0; i--) {
+            positions.add(last - GAP * i);
+        }
+        return positions;
+    }
+}
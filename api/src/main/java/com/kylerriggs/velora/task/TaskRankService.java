@@ -0,0 +1,153 @@
+package com.kylerriggs.velora.task;
+
+import com.kylerriggs.velora.common.RankKeys;
+import com.kylerriggs.velora.config.BoardProperties;
+import com.kylerriggs.velora.exception.BadRequestException;
+import com.kylerriggs.velora.exception.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Places tasks by rank key when {@code velora.board.ordering} is {@code RANK}. Every new key is
+ * generated between the keys around the target slot, archived tasks included, so placing a task
+ * only ever writes that task's row. Under {@code POSITION} ordering rank keys simply mirror
+ * positions through {@link RankKeys#fromPosition(long)}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskRankService {
+    private final TaskRepository taskRepository;
+    private final BoardProperties boardProperties;
+
+    /**
+     * @return true if tasks are ordered by rank key rather than position
+     */
+    public boolean isRankOrdering() {
+        return boardProperties.getOrdering() == BoardProperties.Ordering.RANK;
+    }
+
+    /**
+     * Generates a rank key after every task in a column, archived ones included.
+     *
+     * @param columnId the column ID
+     * @return the new rank key
+     */
+    public String rankAtEnd(@NonNull UUID columnId) {
+        return RankKeys.between(
+                taskRepository.findMaxRankKeyByColumnId(columnId).orElse(null), null);
+    }
+
+    /**
+     * Generates a rank key for a task placed between two active neighbors. With only an after-task
+     * the key goes directly after it, with only a before-task directly before it, and with neither
+     * at the end of the column.
+     *
+     * @param columnId the target column ID
+     * @param afterTaskId the task to place after, or null
+     * @param beforeTaskId the task to place before, or null
+     * @param movingTaskId the task being placed
+     * @return the new rank key
+     * @throws ResourceNotFoundException if a neighbor isn't active in the target column
+     * @throws BadRequestException if the after-task doesn't sort before the before-task
+     */
+    public String rankBetween(
+            @NonNull UUID columnId,
+            UUID afterTaskId,
+            UUID beforeTaskId,
+            @NonNull UUID movingTaskId) {
+        return ranksBetween(columnId, afterTaskId, beforeTaskId, List.of(movingTaskId), 1).get(0);
+    }
+
+    /**
+     * Generates consecutive rank keys for several tasks placed together between two active
+     * neighbors, following the same anchoring rules as {@link #rankBetween}.
+     *
+     * @param columnId the target column ID
+     * @param afterTaskId the task to place after, or null
+     * @param beforeTaskId the task to place before, or null
+     * @param movingTaskIds the tasks being placed, ignored when looking up neighboring keys
+     * @param count how many keys to generate
+     * @return the new rank keys in ascending order
+     * @throws ResourceNotFoundException if a neighbor isn't active in the target column
+     * @throws BadRequestException if the after-task doesn't sort before the before-task
+     */
+    public List<String> ranksBetween(
+            @NonNull UUID columnId,
+            UUID afterTaskId,
+            UUID beforeTaskId,
+            @NonNull Collection<UUID> movingTaskIds,
+            int count) {
+        String afterRank =
+                afterTaskId != null ? requireActiveRank("After-task", afterTaskId, columnId) : null;
+        String beforeRank =
+                beforeTaskId != null
+                        ? requireActiveRank("Before-task", beforeTaskId, columnId)
+                        : null;
+
+        if (afterRank != null && beforeRank != null && afterRank.compareTo(beforeRank) >= 0) {
+            throw new BadRequestException(
+                    "After-task must come before before-task in target column");
+        }
+
+        // The closest key around the anchor also bounds the slot when archived tasks sit between
+        // the two neighbors
+        if (afterRank != null) {
+            return RankKeys.between(
+                    afterRank,
+                    taskRepository.findNextRankKey(columnId, afterRank, movingTaskIds).orElse(null),
+                    count);
+        }
+        if (beforeRank != null) {
+            return RankKeys.between(
+                    taskRepository
+                            .findPreviousRankKey(columnId, beforeRank, movingTaskIds)
+                            .orElse(null),
+                    beforeRank,
+                    count);
+        }
+        return RankKeys.between(
+                taskRepository.findMaxRankKeyByColumnId(columnId).orElse(null), null, count);
+    }
+
+    /**
+     * Generates the rank key for restoring an archived task. The key the task had before it was
+     * archived is reused if still free, otherwise the task goes directly after it.
+     *
+     * @param task the archived task
+     * @return the new rank key
+     */
+    public String rankForRestore(@NonNull Task task) {
+        UUID columnId = task.getColumn().getId();
+        String requestedRank = task.getRestoreRankKey();
+
+        if (requestedRank == null) {
+            return rankAtEnd(columnId);
+        }
+
+        if (!taskRepository.existsByColumnIdAndRankKey(columnId, requestedRank)) {
+            return requestedRank;
+        }
+
+        return RankKeys.between(
+                requestedRank,
+                taskRepository
+                        .findNextRankKey(columnId, requestedRank, List.of(task.getId()))
+                        .orElse(null));
+    }
+
+    private String requireActiveRank(String neighbor, UUID taskId, UUID columnId) {
+        return taskRepository
+                .findActiveRankKeyByIdAndColumnId(taskId, columnId)
+                .orElseThrow(
+                        () ->
+                                new ResourceNotFoundException(
+                                        neighbor + " not found in target column: " + taskId));
+    }
+}
@@ -0,0 +1,63 @@
+package com.kylerriggs.velora.task;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Respaces a column's task positions once the gap between two neighbors runs out. Rebalances are
+ * timed under {@code velora.tasks.rebalance} and their size recorded under {@code
+ * velora.tasks.rebalance.rows}, both tagged with what triggered them.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskRebalanceService {
+    private static final long GAP = 1_000_000L;
+
+    private final TaskRepository taskRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Resequences the active tasks of a column to positions {@code GAP, 2 * GAP, ...} in their
+     * current order, raising the column's position counter past the last of them.
+     *
+     * @param columnId the column ID
+     * @param excludingTaskIds the tasks being placed, which keep their positions
+     * @param trigger what caused the rebalance, used as a metric tag
+     * @return the number of tasks resequenced
+     */
+    public int rebalanceColumn(
+            @NonNull UUID columnId,
+            @NonNull Collection<UUID> excludingTaskIds,
+            @NonNull String trigger) {
+        long start = System.nanoTime();
+        int rows = taskRepository.rebalanceActivePositions(columnId, excludingTaskIds, GAP);
+        taskRepository.raisePositionCounter(columnId, rows * GAP);
+        long elapsed = System.nanoTime() - start;
+
+        Timer.builder("velora.tasks.rebalance")
+                .description("Column rebalances after a position gap ran out")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("velora.tasks.rebalance.rows")
+                .description("Tasks resequenced per column rebalance")
+                .tag("trigger", trigger)
+                .register(meterRegistry)
+                .record(rows);
+
+        log.debug("Rebalanced {} tasks in column {} ({})", rows, columnId, trigger);
+        return rows;
+    }
+}
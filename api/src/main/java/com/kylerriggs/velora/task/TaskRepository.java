@@ -9,11 +9,33 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface TaskRepository extends JpaRepository<Task, UUID> {
+    interface TaskLabel {
+        /**
+         * @return the task ID the label is attached to
+         */
+        UUID getTaskId();
+
+        /**
+         * @return the label ID
+         */
+        UUID getLabelId();
+
+        /**
+         * @return the label name
+         */
+        String getName();
+
+        /**
+         * @return the label color
+         */
+        String getColor();
+    }
 
     /**
      * Finds all non-archived tasks assigned to a user, across all non-archived boards where the
@@ -48,6 +70,20 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("priorities") List<Priority> priorities,
             @Param("filterByPriority") boolean filterByPriority);
 
+    /**
+     * Finds tasks on a board whose last committed change is newer than the given change sequence,
+     * with the associations needed to build summaries.
+     *
+     * @param boardId the board ID
+     * @param since the client's change cursor
+     * @return the changed tasks ordered by position
+     */
+    @Query(
+            "SELECT DISTINCT t FROM Task t JOIN FETCH t.column JOIN FETCH t.createdBy LEFT JOIN"
+                    + " FETCH t.assignedTo LEFT JOIN FETCH t.labels WHERE t.board.id = :boardId AND"
+                    + " t.changeSeq > :since ORDER BY t.position")
+    List<Task> findChangedSince(@Param("boardId") UUID boardId, @Param("since") long since);
+
     /**
      * Finds a task by ID and board ID for authorization or scoped lookups.
      *
@@ -57,6 +93,15 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      */
     Optional<Task> findByIdAndBoardId(UUID taskId, UUID boardId);
 
+    /**
+     * Finds the ID of the board a task belongs to without loading the task.
+     *
+     * @param taskId the task ID
+     * @return the board ID, if the task exists
+     */
+    @Query("SELECT t.board.id FROM Task t WHERE t.id = :taskId")
+    Optional<UUID> findBoardIdById(@Param("taskId") UUID taskId);
+
     /**
      * Checks whether a task exists within the specified board.
      *
@@ -76,6 +121,40 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     @Query("SELECT t FROM Task t WHERE t.id = :taskId")
     Optional<Task> findByIdWithLock(@Param("taskId") UUID taskId);
 
+    /**
+     * Finds the column a task is in, without loading or locking the task.
+     *
+     * @param taskId the ID of the task
+     * @return the column ID, or empty if the task doesn't exist
+     */
+    @Query("SELECT t.column.id FROM Task t WHERE t.id = :taskId")
+    Optional<UUID> findColumnIdById(@Param("taskId") UUID taskId);
+
+    /**
+     * Takes a transaction-scoped advisory lock on a column's task positions, waiting while another
+     * transaction holds it. The lock is released when the transaction commits or rolls back.
+     *
+     * @param columnId the column ID
+     * @return always 1
+     */
+    @Query(
+            value =
+                    "SELECT 1 FROM pg_advisory_xact_lock(hashtextextended('task_positions:' ||"
+                            + " CAST(:columnId AS TEXT), 0))",
+            nativeQuery = true)
+    int lockColumnPositions(@Param("columnId") UUID columnId);
+
+    /**
+     * Finds several tasks with pessimistic write locks, taken in ID order so concurrent bulk moves
+     * can't deadlock each other.
+     *
+     * @param taskIds the IDs of the tasks
+     * @return the tasks that exist, ordered by ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id IN :taskIds ORDER BY t.id")
+    List<Task> findAllByIdWithLock(@Param("taskIds") Collection<UUID> taskIds);
+
     /**
      * Finds the maximum position value among tasks in the specified board.
      *
@@ -103,19 +182,135 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             @Param("taskId") UUID taskId, @Param("columnId") UUID columnId);
 
     /**
-     * Finds the maximum position value among tasks in the specified column.
+     * Advances a column's position counter and returns its new value. The counter is created from
+     * the column's highest task position on first use.
+     *
+     * @param columnId the ID of the column
+     * @param span how far to advance the counter
+     * @return the highest position now handed out in the column
+     */
+    @Query(
+            value =
+                    "INSERT INTO column_position_counters (column_id, last_position) SELECT"
+                            + " CAST(:columnId AS UUID), COALESCE(MAX(position), 0) + :span FROM"
+                            + " tasks WHERE column_id = :columnId ON CONFLICT (column_id) DO"
+                            + " UPDATE SET last_position = column_position_counters.last_position +"
+                            + " :span RETURNING last_position",
+            nativeQuery = true)
+    long advancePositionCounter(@Param("columnId") UUID columnId, @Param("span") long span);
+
+    /**
+     * Raises a column's position counter so it covers a position assigned outside the counter, such
+     * as by a rebalance.
      *
      * @param columnId the ID of the column
-     * @return the maximum position value, or null if there are no tasks in the column
+     * @param position the highest position assigned
      */
-    @Query("SELECT MAX(t.position) FROM Task t WHERE t.column.id = :columnId")
-    Optional<Long> findMaxPositionByColumnId(@Param("columnId") UUID columnId);
+    @Modifying
+    @Query(
+            value =
+                    "INSERT INTO column_position_counters (column_id, last_position) SELECT"
+                            + " CAST(:columnId AS UUID), GREATEST(COALESCE(MAX(position), 0),"
+                            + " :position) FROM tasks WHERE column_id = :columnId ON CONFLICT"
+                            + " (column_id) DO UPDATE SET last_position ="
+                            + " GREATEST(column_position_counters.last_position,"
+                            + " EXCLUDED.last_position)",
+            nativeQuery = true)
+    void raisePositionCounter(@Param("columnId") UUID columnId, @Param("position") long position);
 
     @Query(
             "SELECT MAX(t.position) FROM Task t WHERE t.column.id = :columnId AND t.isArchived ="
                     + " false")
     Optional<Long> findMaxPositionByColumnIdAndIsArchivedFalse(@Param("columnId") UUID columnId);
 
+    /**
+     * Finds the smallest position in a column above the given one, archived tasks included.
+     *
+     * @param columnId the ID of the column
+     * @param position the position to look above
+     * @param excludingTaskIds tasks to ignore, typically the ones being placed
+     * @return the next position, or empty if none follows
+     */
+    @Query(
+            "SELECT MIN(t.position) FROM Task t WHERE t.column.id = :columnId AND t.position >"
+                    + " :position AND t.id NOT IN :excludingTaskIds")
+    Optional<Long> findNextPosition(
+            @Param("columnId") UUID columnId,
+            @Param("position") long position,
+            @Param("excludingTaskIds") Collection<UUID> excludingTaskIds);
+
+    /**
+     * Finds the greatest position in a column below the given one, archived tasks included.
+     *
+     * @param columnId the ID of the column
+     * @param position the position to look below
+     * @param excludingTaskIds tasks to ignore, typically the ones being placed
+     * @return the previous position, or empty if none precedes
+     */
+    @Query(
+            "SELECT MAX(t.position) FROM Task t WHERE t.column.id = :columnId AND t.position <"
+                    + " :position AND t.id NOT IN :excludingTaskIds")
+    Optional<Long> findPreviousPosition(
+            @Param("columnId") UUID columnId,
+            @Param("position") long position,
+            @Param("excludingTaskIds") Collection<UUID> excludingTaskIds);
+
+    /**
+     * Finds the rank key of a non-archived task in a specific column.
+     *
+     * @param taskId the task ID
+     * @param columnId the column ID
+     * @return the rank key if the task is active in the column, otherwise an empty Optional
+     */
+    @Query(
+            "SELECT t.rankKey FROM Task t WHERE t.id = :taskId AND t.column.id = :columnId AND"
+                    + " t.isArchived = false")
+    Optional<String> findActiveRankKeyByIdAndColumnId(
+            @Param("taskId") UUID taskId, @Param("columnId") UUID columnId);
+
+    /**
+     * Finds the greatest rank key among tasks in the specified column, archived ones included.
+     *
+     * @param columnId the ID of the column
+     * @return the greatest rank key, or empty if there are no tasks in the column
+     */
+    @Query("SELECT MAX(t.rankKey) FROM Task t WHERE t.column.id = :columnId")
+    Optional<String> findMaxRankKeyByColumnId(@Param("columnId") UUID columnId);
+
+    /**
+     * Finds the smallest rank key in a column that sorts after the given one.
+     *
+     * @param columnId the ID of the column
+     * @param rankKey the rank key to look after
+     * @param excludingTaskIds tasks to ignore, typically the ones being placed
+     * @return the next rank key, or empty if none follows
+     */
+    @Query(
+            "SELECT MIN(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.rankKey >"
+                    + " :rankKey AND t.id NOT IN :excludingTaskIds")
+    Optional<String> findNextRankKey(
+            @Param("columnId") UUID columnId,
+            @Param("rankKey") String rankKey,
+            @Param("excludingTaskIds") Collection<UUID> excludingTaskIds);
+
+    /**
+     * Finds the greatest rank key in a column that sorts before the given one.
+     *
+     * @param columnId the ID of the column
+     * @param rankKey the rank key to look before
+     * @param excludingTaskIds tasks to ignore, typically the ones being placed
+     * @return the previous rank key, or empty if none precedes
+     */
+    @Query(
+            "SELECT MAX(t.rankKey) FROM Task t WHERE t.column.id = :columnId AND t.rankKey <"
+                    + " :rankKey AND t.id NOT IN :excludingTaskIds")
+    Optional<String> findPreviousRankKey(
+            @Param("columnId") UUID columnId,
+            @Param("rankKey") String rankKey,
+            @Param("excludingTaskIds") Collection<UUID> excludingTaskIds);
+
+    boolean existsByColumnIdAndRankKey(UUID columnId, String rankKey);
+
     /**
      * Finds all task IDs and positions in a column, ordered by position. Used for rebalancing.
      *
@@ -131,29 +326,42 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     List<Task> findByColumnIdAndIsArchivedFalseOrderByPosition(@Param("columnId") UUID columnId);
 
     /**
-     * Updates a single task's position.
+     * Updates a single task's position and the rank key mirroring it.
      *
      * @param taskId the task ID
      * @param position the new position
+     * @param rankKey the new rank key
      */
     @Modifying
-    @Query("UPDATE Task t SET t.position = :position WHERE t.id = :taskId")
-    void updatePosition(@Param("taskId") UUID taskId, @Param("position") Long position);
+    @Query("UPDATE Task t SET t.position = :position, t.rankKey = :rankKey WHERE t.id = :taskId")
+    void updatePosition(
+            @Param("taskId") UUID taskId,
+            @Param("position") Long position,
+            @Param("rankKey") String rankKey);
 
     /**
-     * Checks whether the given user is authorized for the task's board. The query returns true if
-     * the user is either the board creator or a collaborator (exists in BoardUser for that board).
-     * This is implemented as a single DB query and does not load entity relations.
+     * Resequences the active tasks of a column to evenly spaced positions in their current order,
+     * in a single statement that doesn't load any entities. Rank keys are rewritten to mirror the
+     * new positions.
      *
-     * @param taskId the task id to check
-     * @param userId the user id to check
-     * @return true if the user is the board owner or a collaborator for the task's board
+     * @param columnId the column ID
+     * @param excludingTaskIds tasks to leave untouched, typically the ones being placed
+     * @param gap the spacing between consecutive positions
+     * @return the number of tasks resequenced
      */
+    @Modifying(flushAutomatically = true)
     @Query(
-            "SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END FROM Task t WHERE t.id ="
-                    + " :taskId AND (t.board.createdBy.id = :userId OR EXISTS (SELECT 1 FROM BoardUser"
-                    + " bu WHERE bu.board.id = t.board.id AND bu.user.id = :userId))")
-    boolean isUserAuthorizedForTask(@Param("taskId") UUID taskId, @Param("userId") String userId);
+            value =
+                    "UPDATE tasks t SET position = r.rn * :gap, rank_key ="
+                            + " position_rank_key(r.rn * :gap) FROM (SELECT id, row_number() OVER"
+                            + " (ORDER BY position) AS rn FROM tasks WHERE column_id = :columnId"
+                            + " AND is_archived = false AND id NOT IN (:excludingTaskIds)) r WHERE"
+                            + " t.id = r.id",
+            nativeQuery = true)
+    int rebalanceActivePositions(
+            @Param("columnId") UUID columnId,
+            @Param("excludingTaskIds") Collection<UUID> excludingTaskIds,
+            @Param("gap") long gap);
 
     /**
      * Finds all tasks for a board.
@@ -163,12 +371,34 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
      */
     List<Task> findByBoardId(UUID boardId);
 
+    /**
+     * Finds all tasks for a board ordered by position.
+     *
+     * @param boardId the board ID to match
+     * @return list of tasks for the board, archived ones included
+     */
+    List<Task> findByBoardIdOrderByPositionAsc(UUID boardId);
+
+    /**
+     * Finds the label assignments of every task on a board in a single query.
+     *
+     * @param boardId the board ID to match
+     * @return one row per task-label pair on the board
+     */
+    @Query(
+            "SELECT t.id AS taskId, l.id AS labelId, l.name AS name, l.color AS color FROM Task t"
+                    + " JOIN t.labels l WHERE t.board.id = :boardId ORDER BY l.name")
+    List<TaskLabel> findLabelsByBoardId(@Param("boardId") UUID boardId);
+
     long countByColumnIdAndIsArchivedTrue(UUID columnId);
 
     long countByBoardIdAndIsArchivedFalse(UUID boardId);
 
     long countByColumnIdAndIsArchivedFalse(UUID columnId);
 
+    @Query("SELECT t.id FROM Task t WHERE t.column.id = :columnId")
+    List<UUID> findIdsByColumnId(@Param("columnId") UUID columnId);
+
     void deleteByColumnId(UUID columnId);
 
     @Modifying
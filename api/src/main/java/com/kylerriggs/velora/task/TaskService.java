@@ -7,12 +7,15 @@ import com.kylerriggs.velora.activity.ActivityType;
 import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.common.RankKeys;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 import com.kylerriggs.velora.label.Label;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.notification.event.NotificationEvent.AssigneeChangedEvent;
 import com.kylerriggs.velora.notification.event.NotificationEvent.TaskDescriptionUpdatedEvent;
 import com.kylerriggs.velora.task.dto.MoveTaskRequest;
+import com.kylerriggs.velora.task.dto.MoveTasksRequest;
 import com.kylerriggs.velora.task.dto.MyTaskDto;
 import com.kylerriggs.velora.task.dto.TaskDto;
 import com.kylerriggs.velora.task.dto.TaskRequest;
@@ -31,8 +34,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -45,8 +52,6 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class TaskService {
-    private static final long GAP = 1_000_000L;
-
     private final TaskRepository taskRepository;
     private final BoardRepository boardRepository;
     private final TaskMapper taskMapper;
@@ -54,10 +59,15 @@ public class TaskService {
     private final UserService userService;
     private final TaskValidationService taskValidationService;
     private final TaskArchiveService taskArchiveService;
+    private final TaskRankService taskRankService;
+    private final TaskRebalanceService taskRebalanceService;
+    private final ColumnPositionLock columnPositionLock;
+    private final TaskPositionAllocator taskPositionAllocator;
     private final BoardEventPublisher eventPublisher;
     private final ActivityLogService activityLogService;
     private final ObjectMapper objectMapper;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final NotificationService notificationService;
 
     /**
      * Retrieves a single task by its ID.
@@ -144,15 +154,9 @@ public class TaskService {
                         : null;
         Priority requestPriority = parsePriority(createTaskRequest.priority());
 
-        // Get the next position for this column (append to end with GAP spacing)
-        Long maxPosition =
-                taskRepository
-                        .findMaxPositionByColumnIdAndIsArchivedFalse(column.getId())
-                        .orElse(0L);
-        long newPosition = maxPosition + GAP;
-
         Task newTask = taskMapper.toEntity(createTaskRequest, board, createdBy, assignedTo, column);
-        newTask.setPosition(newPosition);
+        columnPositionLock.acquire(column.getId());
+        appendToColumn(newTask, column.getId());
         newTask.setCompleted(createTaskRequest.isCompleted());
         newTask.setArchived(false);
         newTask.setPriority(requestPriority);
@@ -171,16 +175,19 @@ public class TaskService {
             taskArchiveService.archiveTask(savedTask);
         }
 
+        TaskDto taskDto = taskMapper.toDto(savedTask);
+
         // Publish event to be broadcast after transaction commits
         eventPublisher.publish(
                 BoardEventType.TASK_CREATED,
                 Objects.requireNonNull(board.getId()),
-                savedTask.getId());
+                savedTask.getId(),
+                () -> taskDto);
 
         // Log activity
         activityLogService.logActivity(savedTask, ActivityType.TASK_CREATED, null);
 
-        return taskMapper.toDto(savedTask);
+        return taskDto;
     }
 
     /**
@@ -252,7 +259,9 @@ public class TaskService {
             Column newColumn =
                     taskValidationService.validateActiveColumnInBoard(
                             updateTaskRequest.columnId(), board.getId());
+            columnPositionLock.acquire(newColumn.getId());
             taskToUpdate.setColumn(newColumn);
+            appendToColumn(taskToUpdate, newColumn.getId());
         }
 
         if (oldArchived != updateTaskRequest.isArchived()) {
@@ -286,9 +295,14 @@ public class TaskService {
                                     requestLabelIds, board.getId()));
         }
 
+        TaskDto taskDto = taskMapper.toDto(taskToUpdate);
+
         // Publish event to be broadcast after transaction commits
         eventPublisher.publish(
-                BoardEventType.TASK_UPDATED, Objects.requireNonNull(board.getId()), taskId);
+                BoardEventType.TASK_UPDATED,
+                Objects.requireNonNull(board.getId()),
+                taskId,
+                () -> taskDto);
 
         // Publish notification events for assignee and description changes
         String currentUserId = userService.getCurrentUserId();
@@ -326,7 +340,7 @@ public class TaskService {
                 oldArchived,
                 requestLabelIds);
 
-        return taskMapper.toDto(taskToUpdate);
+        return taskDto;
     }
 
     private void logTaskUpdateActivities(
@@ -471,7 +485,8 @@ public class TaskService {
         }
 
         UUID boardId = taskToUpdate.getBoard().getId();
-        eventPublisher.publish(BoardEventType.TASK_UPDATED, boardId, taskId);
+        TaskDto taskDto = taskMapper.toDto(taskToUpdate);
+        eventPublisher.publish(BoardEventType.TASK_UPDATED, boardId, taskId, () -> taskDto);
 
         if (oldCompleted != taskToUpdate.isCompleted()) {
             ActivityType completionEvent =
@@ -489,7 +504,7 @@ public class TaskService {
             activityLogService.logActivity(taskToUpdate, archiveEvent, null);
         }
 
-        return taskMapper.toDto(taskToUpdate);
+        return taskDto;
     }
 
     private String toJson(Map<String, Object> map) {
@@ -526,7 +541,8 @@ public class TaskService {
         details.put("taskTitle", taskToDelete.getTitle());
         activityLogService.logActivity(taskToDelete, ActivityType.TASK_DELETED, toJson(details));
 
-        // Delete the task directly
+        // Delete the task directly, after its notifications so unread counts stay in step
+        notificationService.deleteForTasks(List.of(taskId));
         taskRepository.delete(taskToDelete);
 
         // Publish event to be broadcast after transaction commits
@@ -540,7 +556,8 @@ public class TaskService {
      *
      * <p>The caller specifies neighbor task IDs (afterTaskId, beforeTaskId) instead of an absolute
      * position. The backend computes the physical position as the midpoint between the two
-     * neighbors. If no gap remains, the column is rebalanced.
+     * neighbors. If no gap remains, the column is rebalanced. Under rank ordering a rank key is
+     * generated between the neighbors instead, which never touches another row.
      *
      * @param taskId the ID of the task to move
      * @param moveTaskRequest the move request containing neighbor references and optional column ID
@@ -552,6 +569,18 @@ public class TaskService {
         UUID afterTaskId = moveTaskRequest.afterTaskId();
         UUID beforeTaskId = moveTaskRequest.beforeTaskId();
 
+        // Lock the target column before the task row, the same order every position writer uses
+        UUID lockedColumnId =
+                newColumnId != null
+                        ? newColumnId
+                        : taskRepository
+                                .findColumnIdById(taskId)
+                                .orElseThrow(
+                                        () ->
+                                                new ResourceNotFoundException(
+                                                        "Task not found: " + taskId));
+        columnPositionLock.acquire(lockedColumnId);
+
         // Use pessimistic write lock to prevent concurrent modifications
         Task taskToMove =
                 taskRepository
@@ -581,6 +610,10 @@ public class TaskService {
 
         // Determine the target column
         UUID targetColumnId = (newColumnId != null) ? newColumnId : oldColumnId;
+        if (!targetColumnId.equals(lockedColumnId)) {
+            // The task changed column between the lookup and the row lock
+            columnPositionLock.acquire(targetColumnId);
+        }
 
         if (newColumnId != null && !oldColumnId.equals(newColumnId)) {
             Column targetColumn =
@@ -588,19 +621,33 @@ public class TaskService {
             taskToMove.setColumn(targetColumn);
         }
 
-        // Compute the new position based on neighbor references
-        long newPosition = computePosition(targetColumnId, afterTaskId, beforeTaskId, taskId);
+        validateNeighbors(afterTaskId, beforeTaskId, taskId);
 
-        // Check if position actually changed (same column, same position)
-        if (oldColumnId.equals(targetColumnId) && oldPosition.equals(newPosition)) {
-            return;
-        }
+        if (taskRankService.isRankOrdering()) {
+            taskToMove.setRankKey(
+                    taskRankService.rankBetween(targetColumnId, afterTaskId, beforeTaskId, taskId));
+            if (!oldColumnId.equals(targetColumnId)) {
+                taskToMove.setPosition(taskPositionAllocator.append(targetColumnId));
+            }
+        } else {
+            // Compute the new position based on neighbor references
+            long newPosition = computePosition(targetColumnId, afterTaskId, beforeTaskId, taskId);
+
+            // Check if position actually changed (same column, same position)
+            if (oldColumnId.equals(targetColumnId) && oldPosition.equals(newPosition)) {
+                return;
+            }
 
-        taskToMove.setPosition(newPosition);
+            taskToMove.setPosition(newPosition);
+            taskToMove.setRankKey(RankKeys.fromPosition(newPosition));
+        }
 
         // Publish event to be broadcast after transaction commits
         eventPublisher.publish(
-                BoardEventType.TASK_MOVED, Objects.requireNonNull(board.getId()), taskId);
+                BoardEventType.TASK_MOVED,
+                Objects.requireNonNull(board.getId()),
+                taskId,
+                () -> taskMapper.toDto(taskToMove));
 
         // Log activity for move
         Map<String, Object> details = new HashMap<>();
@@ -614,13 +661,129 @@ public class TaskService {
     }
 
     /**
-     * Computes a fractional indexing position between two neighbor tasks. If both neighbors are
-     * null, places at the end. If only afterTaskId is set, places after it. If only beforeTaskId is
-     * set, places before it. If both are set, computes the midpoint. Triggers rebalance if the gap
-     * is exhausted.
+     * Moves several tasks into one column, placing them contiguously in the given order between two
+     * neighbors. Positions (or rank keys) for the whole run are computed at once, so the column is
+     * rebalanced at most once, and the move is announced with a single board event and one batch of
+     * activity entries.
+     *
+     * @param boardId the ID of the board owning the tasks
+     * @param moveTasksRequest the ordered task IDs, target column and neighbor references
+     * @throws ResourceNotFoundException if the board, column, a task or a neighbor doesn't exist
+     * @throws BadRequestException if the board, column or a task is archived, or the request
+     *     references a task twice
      */
-    private long computePosition(
-            UUID columnId, UUID afterTaskId, UUID beforeTaskId, UUID movingTaskId) {
+    @Transactional
+    public void moveTasks(@NonNull UUID boardId, MoveTasksRequest moveTasksRequest) {
+        List<UUID> taskIds = moveTasksRequest.taskIds();
+        UUID afterTaskId = moveTasksRequest.afterTaskId();
+        UUID beforeTaskId = moveTasksRequest.beforeTaskId();
+
+        if (new HashSet<>(taskIds).size() != taskIds.size()) {
+            throw new BadRequestException("Each task can only be moved once");
+        }
+        if (afterTaskId != null && taskIds.contains(afterTaskId)) {
+            throw new BadRequestException("After-task cannot be one of the tasks being moved");
+        }
+        if (beforeTaskId != null && taskIds.contains(beforeTaskId)) {
+            throw new BadRequestException("Before-task cannot be one of the tasks being moved");
+        }
+        if (afterTaskId != null && afterTaskId.equals(beforeTaskId)) {
+            throw new BadRequestException("After-task and before-task must be different");
+        }
+
+        Board board =
+                boardRepository
+                        .findById(boardId)
+                        .orElseThrow(
+                                () -> new ResourceNotFoundException("Board not found: " + boardId));
+
+        if (board.isArchived()) {
+            throw new BadRequestException("Board is archived. Unarchive it before moving tasks.");
+        }
+
+        Column targetColumn =
+                taskValidationService.validateActiveColumnInBoard(
+                        moveTasksRequest.columnId(), boardId);
+        UUID targetColumnId = targetColumn.getId();
+        columnPositionLock.acquire(targetColumnId);
+
+        // Row locks are taken in ID order; the request order only decides placement
+        Map<UUID, Task> lockedTasks =
+                taskRepository.findAllByIdWithLock(taskIds).stream()
+                        .collect(Collectors.toMap(Task::getId, task -> task));
+
+        List<Task> tasks = new ArrayList<>(taskIds.size());
+        for (UUID taskId : taskIds) {
+            Task task = lockedTasks.get(taskId);
+            if (task == null || !task.getBoard().getId().equals(boardId)) {
+                throw new ResourceNotFoundException("Task not found in board: " + taskId);
+            }
+            if (task.isArchived()) {
+                throw new BadRequestException(
+                        "Archived tasks cannot be moved. Restore the task first.");
+            }
+            if (task.getColumn().isArchived()) {
+                throw new BadRequestException(
+                        "Column is archived. Restore the column before moving tasks.");
+            }
+            tasks.add(task);
+        }
+
+        List<Column> oldColumns = tasks.stream().map(Task::getColumn).toList();
+        List<Long> oldPositions = tasks.stream().map(Task::getPosition).toList();
+
+        // Everything is computed before the first entity changes, so no query below flushes a
+        // half-moved column
+        if (taskRankService.isRankOrdering()) {
+            List<String> rankKeys =
+                    taskRankService.ranksBetween(
+                            targetColumnId, afterTaskId, beforeTaskId, taskIds, tasks.size());
+            int columnChanges =
+                    (int)
+                            oldColumns.stream()
+                                    .filter(column -> !column.getId().equals(targetColumnId))
+                                    .count();
+            Iterator<Long> positions =
+                    columnChanges > 0
+                            ? taskPositionAllocator.append(targetColumnId, columnChanges).iterator()
+                            : Collections.emptyIterator();
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                if (!oldColumns.get(i).getId().equals(targetColumnId)) {
+                    task.setPosition(positions.next());
+                    task.setColumn(targetColumn);
+                }
+                task.setRankKey(rankKeys.get(i));
+            }
+        } else {
+            List<Long> positions =
+                    computePositions(targetColumnId, afterTaskId, beforeTaskId, taskIds);
+            for (int i = 0; i < tasks.size(); i++) {
+                Task task = tasks.get(i);
+                task.setColumn(targetColumn);
+                task.setPosition(positions.get(i));
+                task.setRankKey(RankKeys.fromPosition(positions.get(i)));
+            }
+        }
+
+        eventPublisher.publish(BoardEventType.TASK_MOVED, boardId, null);
+
+        List<String> details = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            Map<String, Object> taskDetails = new HashMap<>();
+            taskDetails.put("oldColumnId", oldColumns.get(i).getId().toString());
+            taskDetails.put("newColumnId", targetColumnId.toString());
+            taskDetails.put("oldColumnName", oldColumns.get(i).getName());
+            taskDetails.put("newColumnName", targetColumn.getName());
+            taskDetails.put("oldPosition", oldPositions.get(i));
+            taskDetails.put("newPosition", task.getPosition());
+            details.add(toJson(taskDetails));
+        }
+        activityLogService.logActivities(tasks, ActivityType.TASK_MOVED, details);
+    }
+
+    private void validateNeighbors(UUID afterTaskId, UUID beforeTaskId, UUID movingTaskId) {
         if (afterTaskId != null && afterTaskId.equals(movingTaskId)) {
             throw new BadRequestException("After-task cannot be the task being moved");
         }
@@ -632,116 +795,133 @@ public class TaskService {
         if (afterTaskId != null && afterTaskId.equals(beforeTaskId)) {
             throw new BadRequestException("After-task and before-task must be different");
         }
+    }
 
-        Long afterPos = null;
-        Long beforePos = null;
-
-        if (afterTaskId != null) {
-            afterPos =
-                    taskRepository
-                            .findActivePositionByIdAndColumnId(afterTaskId, columnId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResourceNotFoundException(
-                                                    "After-task not found in target column: "
-                                                            + afterTaskId));
+    /**
+     * Computes a fractional indexing position between two neighbor tasks. Without a before-task,
+     * appends to the end of the column from its position counter. Otherwise computes the midpoint
+     * of the slot found by {@link #findSlot}. Triggers rebalance if the gap is exhausted.
+     */
+    private long computePosition(
+            UUID columnId, UUID afterTaskId, UUID beforeTaskId, UUID movingTaskId) {
+        List<UUID> movingTaskIds = List.of(movingTaskId);
+        PositionSlot slot = findSlot(columnId, afterTaskId, beforeTaskId, movingTaskIds);
+
+        // Case: placing at the end of the column (no before neighbor), also when the column is
+        // empty or no neighbors were specified
+        if (slot == null) {
+            return taskPositionAllocator.append(columnId);
+        }
+
+        long mid = slot.lower() + (slot.upper() - slot.lower()) / 2;
+        if (mid <= slot.lower() || mid >= slot.upper()) {
+            taskRebalanceService.rebalanceColumn(columnId, movingTaskIds, "move");
+            // Recompute the slot after rebalance
+            slot = findSlot(columnId, afterTaskId, beforeTaskId, movingTaskIds);
+            mid = slot.lower() + (slot.upper() - slot.lower()) / 2;
+            if (mid <= slot.lower() || mid >= slot.upper()) {
+                throw new BadRequestException("Unable to compute position between neighbors");
+            }
         }
+        return mid;
+    }
 
-        if (beforeTaskId != null) {
-            beforePos =
-                    taskRepository
-                            .findActivePositionByIdAndColumnId(beforeTaskId, columnId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResourceNotFoundException(
-                                                    "Before-task not found in target column: "
-                                                            + beforeTaskId));
-        }
-
-        // Case: placing at the end of the column (no before neighbor)
-        if (afterPos != null && beforePos == null) {
-            return afterPos + GAP;
-        }
-
-        // Case: placing at the beginning of the column (no after neighbor)
-        if (afterPos == null && beforePos != null) {
-            long pos = beforePos / 2;
-            if (pos <= 0 || pos == beforePos) {
-                rebalanceColumn(columnId, movingTaskId);
-                // Recompute after rebalance
-                beforePos =
-                        taskRepository
-                                .findActivePositionByIdAndColumnId(beforeTaskId, columnId)
-                                .orElseThrow(
-                                        () ->
-                                                new ResourceNotFoundException(
-                                                        "Before-task not found in target column: "
-                                                                + beforeTaskId));
-                return beforePos / 2;
+    /**
+     * Computes evenly spaced positions for a run of tasks placed between two neighbor tasks, with
+     * the same anchoring rules as {@link #computePosition}. Rebalances the column once if the gap
+     * can't hold the whole run.
+     */
+    private List<Long> computePositions(
+            UUID columnId, UUID afterTaskId, UUID beforeTaskId, List<UUID> movingTaskIds) {
+        int count = movingTaskIds.size();
+        PositionSlot slot = findSlot(columnId, afterTaskId, beforeTaskId, movingTaskIds);
+
+        // Without a before neighbor the run is appended to the end of the column
+        if (slot == null) {
+            return taskPositionAllocator.append(columnId, count);
+        }
+
+        long step = (slot.upper() - slot.lower()) / (count + 1);
+        if (step < 1) {
+            taskRebalanceService.rebalanceColumn(columnId, movingTaskIds, "bulk-move");
+            slot = findSlot(columnId, afterTaskId, beforeTaskId, movingTaskIds);
+            step = (slot.upper() - slot.lower()) / (count + 1);
+            if (step < 1) {
+                throw new BadRequestException("Unable to compute positions between neighbors");
             }
-            return pos;
         }
 
-        // Case: placing between two tasks
-        if (beforePos != null && afterPos != null) {
-            if (afterPos >= beforePos) {
-                throw new BadRequestException(
-                        "After-task must come before before-task in target column");
-            }
+        List<Long> positions = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            positions.add(slot.lower() + step * i);
+        }
+        return positions;
+    }
 
-            long mid = afterPos + (beforePos - afterPos) / 2;
-            if (mid <= afterPos || mid >= beforePos) {
-                rebalanceColumn(columnId, movingTaskId);
-                // Recompute positions after rebalance
-                afterPos =
-                        taskRepository
-                                .findActivePositionByIdAndColumnId(afterTaskId, columnId)
-                                .orElseThrow(
-                                        () ->
-                                                new ResourceNotFoundException(
-                                                        "After-task not found in target column: "
-                                                                + afterTaskId));
-                beforePos =
-                        taskRepository
-                                .findActivePositionByIdAndColumnId(beforeTaskId, columnId)
-                                .orElseThrow(
-                                        () ->
-                                                new ResourceNotFoundException(
-                                                        "Before-task not found in target column: "
-                                                                + beforeTaskId));
+    /**
+     * Finds the free positions a task placed between two neighbors can take, or null without a
+     * before-task, when it goes to the end of the column. As with rank keys, the closest position
+     * around the anchor bounds the slot: with an after-task the slot runs from it to the next
+     * position, with only a before-task from the previous position (or zero) to it. A task placed
+     * between the neighbors since the client saw them, or an archived one, is never collided with.
+     */
+    private PositionSlot findSlot(
+            UUID columnId, UUID afterTaskId, UUID beforeTaskId, List<UUID> movingTaskIds) {
+        Long afterPos =
+                afterTaskId != null
+                        ? requireActivePosition("After-task", afterTaskId, columnId)
+                        : null;
+        Long beforePos =
+                beforeTaskId != null
+                        ? requireActivePosition("Before-task", beforeTaskId, columnId)
+                        : null;
 
-                if (afterPos >= beforePos) {
-                    throw new BadRequestException(
-                            "After-task must come before before-task in target column");
-                }
+        if (beforePos == null) {
+            return null;
+        }
 
-                mid = afterPos + (beforePos - afterPos) / 2;
-                if (mid <= afterPos || mid >= beforePos) {
-                    throw new BadRequestException("Unable to compute position between neighbors");
-                }
-            }
-            return mid;
+        if (afterPos == null) {
+            long lower =
+                    taskRepository
+                            .findPreviousPosition(columnId, beforePos, movingTaskIds)
+                            .orElse(0L);
+            return new PositionSlot(lower, beforePos);
+        }
+
+        if (afterPos >= beforePos) {
+            throw new BadRequestException(
+                    "After-task must come before before-task in target column");
         }
+        long upper =
+                taskRepository
+                        .findNextPosition(columnId, afterPos, movingTaskIds)
+                        .orElse(beforePos);
+        return new PositionSlot(afterPos, upper);
+    }
 
-        // Case: empty column or no neighbors specified — place at the end
-        Long maxPos =
-                taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(columnId).orElse(0L);
-        return maxPos + GAP;
+    /** The positions bounding a slot between two tasks, both exclusive. */
+    private record PositionSlot(long lower, long upper) {}
+
+    private long requireActivePosition(String neighbor, UUID taskId, UUID columnId) {
+        return taskRepository
+                .findActivePositionByIdAndColumnId(taskId, columnId)
+                .orElseThrow(
+                        () ->
+                                new ResourceNotFoundException(
+                                        neighbor + " not found in target column: " + taskId));
     }
 
     /**
-     * Rebalances all task positions in a column by redistributing them with even fractional
-     * indexing spacing. Excludes the task currently being moved to avoid constraint violations.
+     * Places a task at the end of a column. Under rank ordering the position only keeps positions
+     * unique per column; the rank key decides the order.
      */
-    private void rebalanceColumn(UUID columnId, UUID movingTaskId) {
-        List<Task> tasks = taskRepository.findByColumnIdAndIsArchivedFalseOrderByPosition(columnId);
-        long pos = GAP;
-        for (Task t : tasks) {
-            if (!t.getId().equals(movingTaskId)) {
-                taskRepository.updatePosition(t.getId(), pos);
-                pos += GAP;
-            }
-        }
+    private void appendToColumn(Task task, UUID columnId) {
+        long position = taskPositionAllocator.append(columnId);
+        task.setPosition(position);
+        task.setRankKey(
+                taskRankService.isRankOrdering()
+                        ? taskRankService.rankAtEnd(columnId)
+                        : RankKeys.fromPosition(position));
     }
 
     private Priority parsePriority(String priorityValue) {
@@ -0,0 +1,19 @@
+package com.kylerriggs.velora.task.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import org.springframework.lang.NonNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MoveTasksRequest(
+        @NonNull
+                @NotEmpty(message = "Task IDs cannot be empty")
+                @Size(max = 100, message = "At most 100 tasks can be moved at once")
+                List<@NotNull UUID> taskIds,
+        @NonNull @NotNull(message = "Column ID cannot be null") UUID columnId,
+        UUID afterTaskId,
+        UUID beforeTaskId) {}
@@ -18,6 +18,7 @@ public record TaskDto(
         String description,
         @NotNull UUID columnId,
         @NotNull @Min(0) Long position,
+        @NotBlank String rank,
         @NotNull boolean isCompleted,
         @NotNull boolean isArchived,
         String priority,
@@ -17,6 +17,7 @@ public record TaskSummaryDto(
         @NotNull UUID columnId,
         UserSummaryDto assignedTo,
         @Min(0) long position,
+        @NotBlank String rank,
         @NotNull boolean isCompleted,
         @NotNull boolean isArchived,
         String priority,
@@ -10,6 +10,13 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
 @Component
 @RequiredArgsConstructor
 public class UserMapper {
@@ -42,21 +49,26 @@ public class UserMapper {
 
     /**
      * Updates an existing User entity with fresh data from JWT token claims. Only updates fields
-     * that have changed to avoid unnecessary database writes.
+     * that have changed, so callers can skip the write when nothing did.
      *
      * @param user the user entity to update
      * @param jwt the JWT token containing updated user claims
+     * @return true if any field was changed
      */
-    public void updateUserFromToken(User user, Jwt jwt) {
+    public boolean updateUserFromToken(User user, Jwt jwt) {
+        boolean changed = false;
+
         String username =
                 jwt.getClaimAsString(securityProperties.getCustomClaimPrefix() + "username");
         if (StringUtils.hasText(username) && !username.equals(user.getUsername())) {
             user.setUsername(username);
+            changed = true;
         }
 
         String email = jwt.getClaimAsString(securityProperties.getCustomClaimPrefix() + "email");
         if (StringUtils.hasText(email) && !email.equals(user.getEmail())) {
             user.setEmail(email);
+            changed = true;
         }
 
         String profileImageUrl =
@@ -64,7 +76,39 @@ public class UserMapper {
         if (StringUtils.hasText(profileImageUrl)
                 && !profileImageUrl.equals(user.getProfileImageUrl())) {
             user.setProfileImageUrl(profileImageUrl);
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    /**
+     * Computes a fingerprint of the profile fields a token maps to. Two tokens with the same
+     * fingerprint would write the same values to the user row.
+     *
+     * @param user the user mapped from a token
+     * @return a hex-encoded SHA-256 digest of the user's ID, username, email, and profile image URL
+     */
+    public String profileFingerprint(User user) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        for (String field :
+                Arrays.asList(
+                        user.getId(),
+                        user.getUsername(),
+                        user.getEmail(),
+                        user.getProfileImageUrl())) {
+            // Length-prefix each field so adjacent values can't run into each other
+            byte[] bytes = field == null ? new byte[0] : field.getBytes(StandardCharsets.UTF_8);
+            int length = field == null ? -1 : bytes.length;
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(length).array());
+            digest.update(bytes);
         }
+        return HexFormat.of().formatHex(digest.digest());
     }
 
     /**
@@ -1,8 +1,12 @@
 package com.kylerriggs.velora.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, String> {
     /**
@@ -12,4 +16,16 @@ public interface UserRepository extends JpaRepository<User, String> {
      * @return the user if found
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * Finds every user referenced as creator or assignee by a task on the board.
+     *
+     * @param boardId the board ID to match
+     * @return the users referenced by the board's tasks
+     */
+    @Query(
+            "SELECT u FROM User u WHERE u.id IN (SELECT t.createdBy.id FROM Task t WHERE"
+                    + " t.board.id = :boardId) OR u.id IN (SELECT t.assignedTo.id FROM Task t"
+                    + " WHERE t.board.id = :boardId)")
+    List<User> findReferencedByBoardTasks(@Param("boardId") UUID boardId);
 }
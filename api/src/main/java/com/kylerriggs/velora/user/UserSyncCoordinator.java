@@ -0,0 +1,83 @@
+package com.kylerriggs.velora.user;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Decides whether a request's token needs to be synchronized to the user table, and where.
+ *
+ * <p>The {@code userSync} cache holds the profile fingerprint last synchronized for each subject. A
+ * token whose fingerprint matches is skipped without touching the database. When it doesn't match
+ * but the user row already exists, the request doesn't depend on the sync, so it runs on the {@code
+ * userSyncExecutor} instead of the request thread. Only a user's very first request, which may
+ * reference their row as soon as the filter chain continues, is synchronized inline.
+ */
+@Slf4j
+@Component
+public class UserSyncCoordinator {
+    private final UserSynchronizer userSynchronizer;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Cache fingerprints;
+    private final Executor userSyncExecutor;
+
+    public UserSyncCoordinator(
+            UserSynchronizer userSynchronizer,
+            UserRepository userRepository,
+            UserMapper userMapper,
+            CacheManager cacheManager,
+            @Qualifier("userSyncExecutor") Executor userSyncExecutor) {
+        this.userSynchronizer = userSynchronizer;
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.fingerprints = Objects.requireNonNull(cacheManager.getCache("userSync"));
+        this.userSyncExecutor = userSyncExecutor;
+    }
+
+    /**
+     * Synchronizes the token's user unless the same profile was already synchronized.
+     *
+     * @param token the JWT token containing user claims from Auth0
+     */
+    public void sync(Jwt token) {
+        String subject = token.getSubject();
+        String fingerprint = userMapper.profileFingerprint(userMapper.mapUserFromToken(token));
+        String cached = fingerprints.get(subject, String.class);
+        if (fingerprint.equals(cached)) {
+            return;
+        }
+
+        if (cached == null && !userRepository.existsById(subject)) {
+            userSynchronizer.syncWithIdp(token);
+            fingerprints.put(subject, fingerprint);
+            return;
+        }
+
+        // Record the fingerprint up front so concurrent requests don't queue the same sync
+        fingerprints.put(subject, fingerprint);
+        try {
+            userSyncExecutor.execute(() -> syncInBackground(token, subject));
+        } catch (TaskRejectedException e) {
+            fingerprints.evict(subject);
+            log.warn("User sync queue is full, deferring sync for subject: {}", subject);
+        }
+    }
+
+    private void syncInBackground(Jwt token, String subject) {
+        try {
+            userSynchronizer.syncWithIdp(token);
+        } catch (RuntimeException e) {
+            fingerprints.evict(subject);
+            log.error("Background user sync failed for subject: {}", subject, e);
+        }
+    }
+}
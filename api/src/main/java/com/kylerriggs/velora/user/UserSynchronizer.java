@@ -3,7 +3,6 @@ package com.kylerriggs.velora.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
@@ -26,16 +25,15 @@ public class UserSynchronizer {
      * user if they don't exist, or updates existing user information. Skips synchronization if the
      * token doesn't contain an email.
      *
-     * <p>This method is cached to avoid unnecessary database queries on every request. Cache TTL is
-     * configured in CacheConfig. The cache is synchronized to prevent concurrent threads from
-     * executing the method for the same cache key.
+     * <p>An existing user is only written when a mapped field actually differs from the stored row.
+     * Callers should go through {@link UserSyncCoordinator}, which skips this method entirely while
+     * the token's profile fingerprint is unchanged.
      *
      * <p>Race condition protection: If multiple requests for a new user arrive simultaneously, the
      * duplicate key exception is caught and the existing user is fetched instead.
      *
      * @param token the JWT token containing user claims from Auth0
      */
-    @Cacheable(value = "userSync", key = "#token.subject", sync = true)
     @Transactional
     public void syncWithIdp(Jwt token) {
         log.debug("Synchronizing user with idp for subject: {}", token.getSubject());
@@ -50,9 +48,12 @@ public class UserSynchronizer {
         Optional<User> optionalUser = userRepository.findByEmail(user.getEmail());
         if (optionalUser.isPresent()) {
             User existingUser = optionalUser.get();
-            userMapper.updateUserFromToken(existingUser, token);
-            userRepository.save(Objects.requireNonNull(existingUser));
-            log.debug("Updated existing user: {}", existingUser.getEmail());
+            if (userMapper.updateUserFromToken(existingUser, token)) {
+                userRepository.save(Objects.requireNonNull(existingUser));
+                log.debug("Updated existing user: {}", existingUser.getEmail());
+            } else {
+                log.debug("User profile unchanged: {}", existingUser.getEmail());
+            }
         } else {
             try {
                 log.info("Creating new user with email: {}", user.getEmail());
@@ -71,8 +72,9 @@ public class UserSynchronizer {
                                                 new IllegalStateException(
                                                         "User should exist but was not found: "
                                                                 + user.getEmail()));
-                userMapper.updateUserFromToken(existingUser, token);
-                userRepository.save(Objects.requireNonNull(existingUser));
+                if (userMapper.updateUserFromToken(existingUser, token)) {
+                    userRepository.save(Objects.requireNonNull(existingUser));
+                }
             }
         }
     }
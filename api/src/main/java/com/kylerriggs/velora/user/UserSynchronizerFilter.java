@@ -16,10 +16,10 @@ import java.io.IOException;
 
 @Component
 public class UserSynchronizerFilter extends OncePerRequestFilter {
-    private final UserSynchronizer userSynchronizer;
+    private final UserSyncCoordinator userSyncCoordinator;
 
-    public UserSynchronizerFilter(UserSynchronizer userSynchronizer) {
-        this.userSynchronizer = userSynchronizer;
+    public UserSynchronizerFilter(UserSyncCoordinator userSyncCoordinator) {
+        this.userSyncCoordinator = userSyncCoordinator;
     }
 
     @Override
@@ -30,7 +30,7 @@ public class UserSynchronizerFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication instanceof JwtAuthenticationToken auth) {
-            userSynchronizer.syncWithIdp(auth.getToken());
+            userSyncCoordinator.sync(auth.getToken());
         }
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,151 @@
+package com.kylerriggs.velora.websocket;
+
+import com.kylerriggs.velora.config.WebSocketProperties;
+import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventBatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merges committed board events per board over a short window before broadcasting them. A single
+ * save can publish an update plus one activity event per changed field, and archiving a board
+ * publishes one per task; without coalescing each of them makes every client refetch.
+ *
+ * <p>The first event for a board opens a window of {@code velora.websocket.coalesce-window}. When
+ * it closes, identical events are dropped and the rest are broadcast: a lone event as a plain
+ * {@link BoardEvent}, several as one {@link BoardEventBatch}. Events arriving after the flush open
+ * the next window.
+ *
+ * <p>The window is zero by default, which broadcasts every event on its own. It is opt-in because
+ * clients that don't unpack {@link BoardEventBatch} frames would miss the events inside them.
+ *
+ * <p>Frames are sent from {@code boardEventBroadcastExecutor} rather than the committing thread.
+ * Events are numbered by {@link BoardEventLog} as they are queued, so that a frame dropped because
+ * the queue is full shows up to clients as a gap they can replay (with the simple broker only).
+ * Drops are counted in {@code velora.websocket.broadcast.dropped}.
+ */
+@Slf4j
+@Component
+public class BoardEventCoalescer {
+    private final WebSocketEventService webSocketEventService;
+    private final BoardEventLog boardEventLog;
+    private final ScheduledExecutorService boardEventScheduler;
+    private final TaskExecutor boardEventBroadcastExecutor;
+    private final Counter droppedCounter;
+    private final Duration window;
+    private final Map<UUID, Set<BoardEvent>> pending = new ConcurrentHashMap<>();
+
+    public BoardEventCoalescer(
+            WebSocketEventService webSocketEventService,
+            BoardEventLog boardEventLog,
+            @Qualifier("boardEventScheduler") ScheduledExecutorService boardEventScheduler,
+            @Qualifier("boardEventBroadcastExecutor") TaskExecutor boardEventBroadcastExecutor,
+            WebSocketProperties webSocketProperties,
+            MeterRegistry meterRegistry) {
+        this.webSocketEventService = webSocketEventService;
+        this.boardEventLog = boardEventLog;
+        this.boardEventScheduler = boardEventScheduler;
+        this.boardEventBroadcastExecutor = boardEventBroadcastExecutor;
+        this.droppedCounter =
+                Counter.builder("velora.websocket.broadcast.dropped").register(meterRegistry);
+        this.window = webSocketProperties.getCoalesceWindow();
+    }
+
+    /**
+     * Queues a committed event for its board's current window, opening one if needed.
+     *
+     * @param event the event to broadcast
+     */
+    public void submit(@NonNull BoardEvent event) {
+        UUID boardId = Objects.requireNonNull(event.boardId());
+        if (window.isZero()) {
+            dispatch(boardId, List.of(event));
+            return;
+        }
+
+        boolean[] opened = {false};
+        pending.compute(
+                boardId,
+                (id, events) -> {
+                    if (events == null) {
+                        events = new LinkedHashSet<>();
+                        opened[0] = true;
+                    }
+                    events.add(event);
+                    return events;
+                });
+
+        if (opened[0]) {
+            try {
+                boardEventScheduler.schedule(
+                        () -> flush(boardId), window.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; deliver what we have rather than dropping it
+                flush(boardId);
+            }
+        }
+    }
+
+    /**
+     * Clears the board's pending events and queues them for broadcast.
+     *
+     * @param boardId the board ID
+     */
+    void flush(@NonNull UUID boardId) {
+        Set<BoardEvent> events = pending.remove(boardId);
+        if (events == null || events.isEmpty()) {
+            return;
+        }
+
+        dispatch(boardId, new ArrayList<>(events));
+    }
+
+    // Synchronized so that frames are queued in sequence order
+    private synchronized void dispatch(UUID boardId, List<BoardEvent> events) {
+        List<BoardEvent> sequenced = boardEventLog.append(boardId, events);
+        try {
+            boardEventBroadcastExecutor.execute(() -> broadcast(boardId, sequenced));
+        } catch (TaskRejectedException e) {
+            droppedCounter.increment();
+            log.warn(
+                    "Broadcast queue full, dropped {} events for boardId={}",
+                    events.size(),
+                    boardId);
+        }
+    }
+
+    private void broadcast(UUID boardId, List<BoardEvent> events) {
+        try {
+            if (events.size() == 1) {
+                webSocketEventService.broadcast(boardId, events.getFirst());
+            } else {
+                log.debug("Coalesced {} events for boardId={}", events.size(), boardId);
+                webSocketEventService.broadcast(boardId, new BoardEventBatch(boardId, events));
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to broadcast board events for boardId={}", boardId, e);
+        }
+    }
+}
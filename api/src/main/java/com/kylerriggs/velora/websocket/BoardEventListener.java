@@ -11,13 +11,14 @@ import java.util.Objects;
 
 /**
  * Listens for board events and broadcasts them via WebSocket after the transaction commits. This
- * ensures clients don't refetch stale data due to race conditions.
+ * ensures clients don't refetch stale data due to race conditions. Events pass through {@link
+ * BoardEventCoalescer}, so the events of one save reach clients as a single frame.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BoardEventListener {
-    private final WebSocketEventService webSocketEventService;
+    private final BoardEventCoalescer boardEventCoalescer;
 
     /**
      * Broadcasts the board event via WebSocket after the transaction successfully commits. If the
@@ -29,8 +30,6 @@ public class BoardEventListener {
                 "Received event from publisher, broadcasting: type={}, boardId={}",
                 wrapper.event().type(),
                 wrapper.event().boardId());
-        webSocketEventService.broadcast(
-                Objects.requireNonNull(wrapper.event().boardId()),
-                Objects.requireNonNull(wrapper.event()));
+        boardEventCoalescer.submit(Objects.requireNonNull(wrapper.event()));
     }
 }
@@ -0,0 +1,124 @@
+package com.kylerriggs.velora.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kylerriggs.velora.config.WebSocketProperties;
+import com.kylerriggs.velora.exception.BadRequestException;
+import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventReplayDto;
+
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Numbers broadcast board events and keeps each active board's most recent ones, so that a client
+ * that missed some can replay them instead of reloading the board.
+ *
+ * <p>Sequences increase by one per event on a board. A board's sequence starts from the current
+ * time in microseconds whenever its log is created, so sequences handed out after a restart or
+ * after an idle board's log was evicted are always above the earlier ones and a client resuming
+ * across that gap is told to resync.
+ *
+ * <p>Sequences and the log are per instance, so with the broker relay, where a client receives
+ * events from every instance, they would interleave and show gaps that aren't there. In {@link
+ * WebSocketProperties.BrokerMode#RELAY} mode events are therefore broadcast without a sequence and
+ * replay is rejected; clients catch up through {@code GET /boards/{boardId}/changes} instead.
+ */
+@Component
+public class BoardEventLog {
+    private final boolean enabled;
+    private final int eventsPerBoard;
+    private final Cache<UUID, BoardLog> logs;
+
+    public BoardEventLog(WebSocketProperties webSocketProperties) {
+        WebSocketProperties.Replay config = webSocketProperties.getReplay();
+        this.enabled =
+                webSocketProperties.getBroker().getMode() == WebSocketProperties.BrokerMode.SIMPLE;
+        this.eventsPerBoard = config.getEventsPerBoard();
+        this.logs =
+                Caffeine.newBuilder()
+                        .maximumSize(config.getMaxBoards())
+                        .expireAfterAccess(config.getIdleTimeout())
+                        .build();
+    }
+
+    /**
+     * Assigns the next sequence numbers on the board to the events and records them. With the
+     * broker relay the events are returned unnumbered and not recorded.
+     *
+     * @param boardId the board ID
+     * @param events the events about to be broadcast, in order
+     * @return the events with their sequence numbers set
+     */
+    public List<BoardEvent> append(@NonNull UUID boardId, List<BoardEvent> events) {
+        if (!enabled) {
+            return events;
+        }
+        BoardLog boardLog =
+                logs.get(boardId, id -> new BoardLog(System.currentTimeMillis() * 1_000));
+        return boardLog.append(events, eventsPerBoard);
+    }
+
+    /**
+     * Returns the board's events after the given sequence number.
+     *
+     * @param boardId the board ID
+     * @param after the sequence number of the last event the client received
+     * @return the events after it, or a resync marker if some of them are no longer kept
+     * @throws BadRequestException if the broker relay is in use
+     */
+    public BoardEventReplayDto replay(@NonNull UUID boardId, long after) {
+        if (!enabled) {
+            throw new BadRequestException(
+                    "Event replay is unavailable with the broker relay. Fetch the board's changes"
+                            + " instead.");
+        }
+        BoardLog boardLog = logs.getIfPresent(boardId);
+        if (boardLog == null) {
+            return new BoardEventReplayDto(after, true, List.of());
+        }
+        return boardLog.replay(after);
+    }
+
+    private static final class BoardLog {
+        private final Deque<BoardEvent> events = new ArrayDeque<>();
+        private long lastSeq;
+
+        private BoardLog(long startSeq) {
+            this.lastSeq = startSeq;
+        }
+
+        synchronized List<BoardEvent> append(List<BoardEvent> batch, int capacity) {
+            List<BoardEvent> stamped = new ArrayList<>(batch.size());
+            for (BoardEvent event : batch) {
+                BoardEvent sequenced = event.withSeq(++lastSeq);
+                events.addLast(sequenced);
+                if (events.size() > capacity) {
+                    events.removeFirst();
+                }
+                stamped.add(sequenced);
+            }
+            return stamped;
+        }
+
+        synchronized BoardEventReplayDto replay(long after) {
+            if (after == lastSeq) {
+                return new BoardEventReplayDto(lastSeq, false, List.of());
+            }
+
+            long oldestSeq = events.isEmpty() ? lastSeq + 1 : events.getFirst().seq();
+            if (after > lastSeq || after < oldestSeq - 1) {
+                return new BoardEventReplayDto(lastSeq, true, List.of());
+            }
+
+            List<BoardEvent> missed = events.stream().filter(event -> event.seq() > after).toList();
+            return new BoardEventReplayDto(lastSeq, false, missed);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package com.kylerriggs.velora.websocket;
 
+import com.kylerriggs.velora.board.BoardChangeEntityType;
+import com.kylerriggs.velora.board.BoardChangeSequencer;
+import com.kylerriggs.velora.board.BoardSnapshotCache;
+import com.kylerriggs.velora.board.EntityScopeCache;
+import com.kylerriggs.velora.config.WebSocketProperties;
 import com.kylerriggs.velora.websocket.dto.BoardEvent;
 import com.kylerriggs.velora.websocket.dto.BoardEventType;
 
@@ -12,6 +17,7 @@ import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Publishes board events to be broadcast via WebSocket after transaction commits. Use this instead
@@ -23,10 +29,16 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BoardEventPublisher {
     private final ApplicationEventPublisher eventPublisher;
+    private final BoardSnapshotCache boardSnapshotCache;
+    private final BoardChangeSequencer boardChangeSequencer;
+    private final EntityScopeCache entityScopeCache;
+    private final WebSocketProperties webSocketProperties;
 
     /**
      * Publishes a board event that will be broadcast via WebSocket after the current transaction
-     * commits.
+     * commits. The board's pending changes are stamped for the change feed just before the commit,
+     * and its cached snapshot is invalidated right after it. Deleted entities are dropped from the
+     * entity scope cache.
      *
      * @param type The event type
      * @param boardId The board ID to broadcast to
@@ -34,11 +46,53 @@ public class BoardEventPublisher {
      */
     public void publish(
             @NonNull BoardEventType type, @NonNull UUID boardId, @Nullable UUID entityId) {
+        publishEvent(type, boardId, entityId, null);
+    }
+
+    /**
+     * Publishes a board event carrying the changed entity. The payload is only resolved when event
+     * payloads are enabled, so callers that have to map a DTO just for the event don't pay for it
+     * otherwise. It is serialized once per broadcast frame and the same bytes are sent to every
+     * subscriber.
+     *
+     * @param type The event type
+     * @param boardId The board ID to broadcast to
+     * @param entityId The ID of the entity that changed (can be null)
+     * @param payload Supplies the entity's DTO in its final state for this transaction
+     */
+    public void publish(
+            @NonNull BoardEventType type,
+            @NonNull UUID boardId,
+            @Nullable UUID entityId,
+            @NonNull Supplier<?> payload) {
+        Object resolved = webSocketProperties.isEventPayloads() ? payload.get() : null;
+        publishEvent(type, boardId, entityId, resolved);
+    }
+
+    private void publishEvent(
+            BoardEventType type, UUID boardId, @Nullable UUID entityId, @Nullable Object payload) {
         log.debug("Publishing event: type={}, boardId={}, entityId={}", type, boardId, entityId);
-        BoardEvent event = new BoardEvent(type, boardId, entityId, null);
+        boardChangeSequencer.stampBeforeCommit(boardId);
+        boardSnapshotCache.invalidateAfterCommit(boardId);
+        evictDeletedEntity(type, entityId);
+        BoardEvent event = new BoardEvent(type, boardId, entityId, null, payload);
         eventPublisher.publishEvent(new BoardEventWrapper(event));
     }
 
+    private void evictDeletedEntity(BoardEventType type, @Nullable UUID entityId) {
+        BoardChangeEntityType entityType =
+                switch (type) {
+                    case TASK_DELETED -> BoardChangeEntityType.TASK;
+                    case COLUMN_DELETED -> BoardChangeEntityType.COLUMN;
+                    case LABEL_DELETED -> BoardChangeEntityType.LABEL;
+                    case COMMENT_DELETED -> BoardChangeEntityType.COMMENT;
+                    default -> null;
+                };
+        if (entityType != null && entityId != null) {
+            entityScopeCache.invalidate(entityType, entityId);
+        }
+    }
+
     /** Wrapper class to distinguish our events from other application events. */
     public record BoardEventWrapper(BoardEvent event) {}
 }
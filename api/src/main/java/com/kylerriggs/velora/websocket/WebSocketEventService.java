@@ -1,6 +1,7 @@
 package com.kylerriggs.velora.websocket;
 
 import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventBatch;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,4 +31,17 @@ public class WebSocketEventService {
         messagingTemplate.convertAndSend(destination, event);
         log.debug("WebSocket broadcast complete for: {}", event.type());
     }
+
+    /**
+     * Broadcasts several coalesced board events as one frame to all subscribers of the board's
+     * topic.
+     *
+     * @param boardId the board ID to broadcast to
+     * @param batch the events to broadcast
+     */
+    public void broadcast(@NonNull UUID boardId, @NonNull BoardEventBatch batch) {
+        String destination = "/topic/boards/" + boardId;
+        log.debug("WebSocket broadcasting batch of {} to {}", batch.events().size(), destination);
+        messagingTemplate.convertAndSend(destination, batch);
+    }
 }
@@ -1,9 +1,44 @@
 package com.kylerriggs.velora.websocket.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.UUID;
 
 /**
  * Event DTO for WebSocket to broadcast board changes to connected clients. Events are sent when
  * tasks or boards are created, updated, moved, or deleted.
+ *
+ * <p>When {@code velora.websocket.event-payloads} is enabled, events for tasks, columns, labels,
+ * comments, and checklist items also carry the entity as the REST API would return it after the
+ * change, so clients can apply it without refetching. The payload is omitted from the JSON when
+ * absent.
+ *
+ * <p>Broadcast events carry {@code seq}, which increases by one with each event on the board. A
+ * client that sees a gap, or reconnects, can fetch the events it missed from {@code GET
+ * /boards/{boardId}/events?after=<seq>}. With the broker relay, events carry no {@code seq}.
  */
-public record BoardEvent(BoardEventType type, UUID boardId, UUID entityId, String details) {}
+public record BoardEvent(
+        BoardEventType type,
+        UUID boardId,
+        UUID entityId,
+        String details,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Object payload,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Long seq) {
+
+    public BoardEvent(BoardEventType type, UUID boardId, UUID entityId, String details) {
+        this(type, boardId, entityId, details, null, null);
+    }
+
+    public BoardEvent(
+            BoardEventType type, UUID boardId, UUID entityId, String details, Object payload) {
+        this(type, boardId, entityId, details, payload, null);
+    }
+
+    /**
+     * @param seq the event's sequence number on its board
+     * @return a copy of this event with the sequence number set
+     */
+    public BoardEvent withSeq(long seq) {
+        return new BoardEvent(type, boardId, entityId, details, payload, seq);
+    }
+}
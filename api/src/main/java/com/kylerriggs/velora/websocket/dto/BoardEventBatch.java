@@ -0,0 +1,22 @@
+package com.kylerriggs.velora.websocket.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Frame sent instead of a single {@link BoardEvent} when several distinct events for the same board
+ * were published within the coalescing window. Clients can handle each contained event as if it had
+ * arrived on its own, or refetch once for the whole batch.
+ *
+ * @param type always {@code "BATCH"}, so clients can tell the frame apart from a {@link BoardEvent}
+ *     by its type
+ * @param boardId the board the events belong to
+ * @param events the events in the order they were published, without duplicates
+ */
+public record BoardEventBatch(String type, UUID boardId, List<BoardEvent> events) {
+    public static final String TYPE = "BATCH";
+
+    public BoardEventBatch(UUID boardId, List<BoardEvent> events) {
+        this(TYPE, boardId, List.copyOf(events));
+    }
+}
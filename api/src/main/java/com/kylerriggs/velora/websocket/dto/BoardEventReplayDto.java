@@ -0,0 +1,13 @@
+package com.kylerriggs.velora.websocket.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * Board events broadcast after a client-held sequence number. Clients apply the events in order and
+ * continue from {@code seq}. When {@code resyncRequired} is set the events after the client's
+ * sequence are no longer kept, the list is empty, and the client must reload the board.
+ */
+public record BoardEventReplayDto(
+        @NotNull long seq, @NotNull boolean resyncRequired, @NotNull List<BoardEvent> events) {}
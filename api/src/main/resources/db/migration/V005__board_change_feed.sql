@@ -0,0 +1,109 @@
+-- Per-board change sequence backing GET /boards/{id}/changes.
+--
+-- Triggers mark every written row as pending (change_seq IS NULL). Just before a transaction that
+-- published a board event commits, the application bumps boards.change_seq and stamps the board's
+-- pending rows with the new value. The board row stays locked until commit, so within a board the
+-- sequence follows commit order and a client cursor never skips a change that commits later.
+
+ALTER TABLE boards ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE boards ADD COLUMN tombstone_floor BIGINT NOT NULL DEFAULT 0;
+
+-- Existing rows are part of every snapshot clients already hold, so they start at 0
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN change_seq DROP DEFAULT;
+ALTER TABLE columns ADD COLUMN change_seq BIGINT DEFAULT 0;
+ALTER TABLE columns ALTER COLUMN change_seq DROP DEFAULT;
+ALTER TABLE labels ADD COLUMN change_seq BIGINT DEFAULT 0;
+ALTER TABLE labels ALTER COLUMN change_seq DROP DEFAULT;
+ALTER TABLE comments ADD COLUMN change_seq BIGINT DEFAULT 0;
+ALTER TABLE comments ALTER COLUMN change_seq DROP DEFAULT;
+ALTER TABLE checklist_items ADD COLUMN change_seq BIGINT DEFAULT 0;
+ALTER TABLE checklist_items ALTER COLUMN change_seq DROP DEFAULT;
+
+CREATE TABLE board_tombstones (
+    entity_id UUID PRIMARY KEY,
+    board_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    change_seq BIGINT,
+    date_deleted TIMESTAMP NOT NULL,
+    CONSTRAINT fk_board_tombstone_board
+        FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_tasks_board_change_seq ON tasks(board_id, change_seq);
+CREATE INDEX idx_columns_board_change_seq ON columns(board_id, change_seq);
+CREATE INDEX idx_labels_board_change_seq ON labels(board_id, change_seq);
+CREATE INDEX idx_comments_task_change_seq ON comments(task_id, change_seq);
+CREATE INDEX idx_checklist_items_task_change_seq ON checklist_items(task_id, change_seq);
+CREATE INDEX idx_board_tombstones_board_change_seq ON board_tombstones(board_id, change_seq);
+CREATE INDEX idx_board_tombstones_date_deleted ON board_tombstones(date_deleted);
+
+-- Stamping writes change_seq explicitly; every other write marks the row pending
+CREATE FUNCTION mark_board_change_pending() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.change_seq IS NOT DISTINCT FROM OLD.change_seq THEN
+        NEW.change_seq := NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Comment counts and checklist progress are part of the task summary, so the parent task is
+-- marked pending as well
+CREATE FUNCTION mark_task_child_change_pending() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' OR NEW.change_seq IS NOT DISTINCT FROM OLD.change_seq THEN
+        NEW.change_seq := NULL;
+        UPDATE tasks SET change_seq = NULL WHERE id = NEW.task_id AND change_seq IS NOT NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows removed together with their board need no tombstone
+CREATE FUNCTION record_board_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM boards WHERE id = OLD.board_id) THEN
+        INSERT INTO board_tombstones (entity_id, board_id, entity_type, date_deleted)
+        VALUES (OLD.id, OLD.board_id, TG_ARGV[0], LOCALTIMESTAMP);
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Rows removed together with their task need no tombstone
+CREATE FUNCTION record_task_child_tombstone() RETURNS TRIGGER AS $$
+DECLARE
+    parent_board_id UUID;
+BEGIN
+    SELECT board_id INTO parent_board_id FROM tasks WHERE id = OLD.task_id;
+    IF parent_board_id IS NOT NULL THEN
+        INSERT INTO board_tombstones (entity_id, board_id, entity_type, date_deleted)
+        VALUES (OLD.id, parent_board_id, TG_ARGV[0], LOCALTIMESTAMP);
+        UPDATE tasks SET change_seq = NULL WHERE id = OLD.task_id AND change_seq IS NOT NULL;
+    END IF;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_change_pending BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION mark_board_change_pending();
+CREATE TRIGGER trg_columns_change_pending BEFORE INSERT OR UPDATE ON columns
+    FOR EACH ROW EXECUTE FUNCTION mark_board_change_pending();
+CREATE TRIGGER trg_labels_change_pending BEFORE INSERT OR UPDATE ON labels
+    FOR EACH ROW EXECUTE FUNCTION mark_board_change_pending();
+CREATE TRIGGER trg_comments_change_pending BEFORE INSERT OR UPDATE ON comments
+    FOR EACH ROW EXECUTE FUNCTION mark_task_child_change_pending();
+CREATE TRIGGER trg_checklist_items_change_pending BEFORE INSERT OR UPDATE ON checklist_items
+    FOR EACH ROW EXECUTE FUNCTION mark_task_child_change_pending();
+
+CREATE TRIGGER trg_tasks_tombstone AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION record_board_tombstone('TASK');
+CREATE TRIGGER trg_columns_tombstone AFTER DELETE ON columns
+    FOR EACH ROW EXECUTE FUNCTION record_board_tombstone('COLUMN');
+CREATE TRIGGER trg_labels_tombstone AFTER DELETE ON labels
+    FOR EACH ROW EXECUTE FUNCTION record_board_tombstone('LABEL');
+CREATE TRIGGER trg_comments_tombstone AFTER DELETE ON comments
+    FOR EACH ROW EXECUTE FUNCTION record_task_child_tombstone('COMMENT');
+CREATE TRIGGER trg_checklist_items_tombstone AFTER DELETE ON checklist_items
+    FOR EACH ROW EXECUTE FUNCTION record_task_child_tombstone('CHECKLIST_ITEM');
@@ -0,0 +1,63 @@
+-- Fractional rank keys for tasks and checklist items (velora.board.ordering = RANK).
+--
+-- A rank key is a variable-length base-62 string compared byte by byte, and a new key always fits
+-- between two existing ones, so reordering never rewrites other rows. Keys are backfilled from
+-- position and kept equal to it while ordering = POSITION, so the switch needs no data migration.
+-- Once RANK is final, a later migration can drop position, restore_position,
+-- uk_task_column_position and uk_checklist_item_task_position. Switching back to POSITION requires
+-- resequencing positions in rank_key order first, since RANK only appends positions.
+
+-- Mirrors RankKeys.fromPosition: 'k' followed by 11 zero-padded base-62 digits
+CREATE FUNCTION position_rank_key(pos BIGINT) RETURNS TEXT AS $$
+DECLARE
+    digits CONSTANT TEXT := '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz';
+    remaining BIGINT := pos;
+    result TEXT := '';
+BEGIN
+    FOR i IN 1..11 LOOP
+        result := substr(digits, (remaining % 62)::INT + 1, 1) || result;
+        remaining := remaining / 62;
+    END LOOP;
+    RETURN 'k' || result;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE STRICT;
+
+ALTER TABLE tasks ADD COLUMN rank_key TEXT COLLATE "C";
+ALTER TABLE tasks ADD COLUMN restore_rank_key TEXT COLLATE "C";
+ALTER TABLE checklist_items ADD COLUMN rank_key TEXT COLLATE "C";
+
+-- The backfill doesn't change what clients see, so it must not enter the change feed
+ALTER TABLE tasks DISABLE TRIGGER trg_tasks_change_pending;
+ALTER TABLE checklist_items DISABLE TRIGGER trg_checklist_items_change_pending;
+
+UPDATE tasks
+SET rank_key = position_rank_key(position),
+    restore_rank_key = position_rank_key(restore_position);
+UPDATE checklist_items SET rank_key = position_rank_key(position);
+
+ALTER TABLE tasks ENABLE TRIGGER trg_tasks_change_pending;
+ALTER TABLE checklist_items ENABLE TRIGGER trg_checklist_items_change_pending;
+
+ALTER TABLE tasks ALTER COLUMN rank_key SET NOT NULL;
+ALTER TABLE checklist_items ALTER COLUMN rank_key SET NOT NULL;
+
+ALTER TABLE tasks ADD CONSTRAINT uk_task_column_rank_key
+    UNIQUE (column_id, rank_key) DEFERRABLE INITIALLY DEFERRED;
+ALTER TABLE checklist_items ADD CONSTRAINT uk_checklist_item_task_rank_key
+    UNIQUE (task_id, rank_key) DEFERRABLE INITIALLY DEFERRED;
+
+-- Rows written without a key (seed data, manual SQL, entities loaded before the key was set) sort
+-- by their position
+CREATE FUNCTION default_rank_key() RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.rank_key IS NULL THEN
+        NEW.rank_key := position_rank_key(NEW.position);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tasks_default_rank_key BEFORE INSERT OR UPDATE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION default_rank_key();
+CREATE TRIGGER trg_checklist_items_default_rank_key BEFORE INSERT OR UPDATE ON checklist_items
+    FOR EACH ROW EXECUTE FUNCTION default_rank_key();
@@ -0,0 +1,23 @@
+-- Per-column allocator for appended task positions.
+--
+-- Appends (create, archive, restore, moves to the end of a column) advance the column's counter
+-- with a single upsert ... RETURNING instead of scanning MAX(position), so concurrent appends get
+-- distinct positions and never collide with archived tasks parked after the active ones. The
+-- counter lives in its own table rather than on columns so that advancing it neither marks the
+-- column as changed in the board change feed nor bumps its optimistic lock version.
+--
+-- last_position is the highest position handed out in the column. Rebalancing raises it to the
+-- highest position it assigns.
+
+CREATE TABLE column_position_counters (
+    column_id UUID PRIMARY KEY,
+    last_position BIGINT NOT NULL,
+    CONSTRAINT fk_column_position_counter_column
+        FOREIGN KEY (column_id) REFERENCES columns(id) ON DELETE CASCADE
+);
+
+INSERT INTO column_position_counters (column_id, last_position)
+SELECT c.id, COALESCE(MAX(t.position), 0)
+FROM columns c
+LEFT JOIN tasks t ON t.column_id = c.id
+GROUP BY c.id;
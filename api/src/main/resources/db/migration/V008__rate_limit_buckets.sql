@@ -0,0 +1,13 @@
+-- Token buckets shared by all API replicas when velora.rate-limit.distributed.enabled is set.
+--
+-- Rows are managed by Bucket4j's PostgreSQL proxy manager: id is "<user id>:<tier>", state is the
+-- serialized bucket, and expires_at (epoch millis) is when the bucket would be full again. Expired
+-- rows carry no information and are pruned in batches by RateLimitBucketCleanupScheduler.
+
+CREATE TABLE rate_limit_buckets (
+    id VARCHAR(512) PRIMARY KEY,
+    state BYTEA,
+    expires_at BIGINT
+);
+
+CREATE INDEX idx_rate_limit_buckets_expires_at ON rate_limit_buckets (expires_at);
@@ -0,0 +1,14 @@
+-- Unread notification count per user, read by GET /notifications/unread-count instead of counting
+-- unread rows on every badge poll.
+--
+-- NotificationService adjusts a user's row in the same transaction that creates, reads, or deletes
+-- their notifications. NotificationCountReconcileScheduler periodically recounts from the
+-- notifications table to repair any drift.
+
+CREATE TABLE notification_unread_counts (
+    user_id VARCHAR(255) PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    unread_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO notification_unread_counts (user_id, unread_count)
+SELECT recipient_id, COUNT(*) FROM notifications WHERE is_read = FALSE GROUP BY recipient_id;
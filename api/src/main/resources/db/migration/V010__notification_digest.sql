@@ -0,0 +1,10 @@
+-- Folds bursts of notifications of the same type for the same recipient and task into one row.
+--
+-- While a notification is unread and younger than velora.notifications.digest-window, later ones
+-- with the same (recipient, type, task) update it in place: occurrence_count goes up and the actor
+-- and message move to the latest occurrence, while the reference stays with the first one.
+
+ALTER TABLE notifications ADD COLUMN occurrence_count INT NOT NULL DEFAULT 1;
+
+CREATE INDEX idx_notifications_recipient_task_unread
+    ON notifications(recipient_id, task_id, type) WHERE is_read = FALSE;
@@ -0,0 +1,17 @@
+-- Notification-triggering events waiting to be handled.
+--
+-- Services write a row in the same transaction as the change that triggered it, so the event is
+-- committed exactly when the change is. NotificationOutboxDispatcher claims rows with FOR UPDATE
+-- SKIP LOCKED, letting every instance drain the table, and deletes them in the transaction that
+-- creates their notifications. A row that fails is retried from available_at onwards.
+
+CREATE TABLE notification_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL,
+    date_created TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_notification_outbox_available_at ON notification_outbox(available_at);
@@ -0,0 +1,145 @@
+-- Partitions notifications by month on date_created so that retention drops whole partitions
+-- instead of deleting rows.
+--
+-- Partitions are named notifications_YYYY_MM. NotificationCleanupScheduler keeps the coming
+-- months' partitions created and drops those that only hold expired notifications; expired rows
+-- left in the newest dropped month, or in notifications_default, are deleted in batches. Postgres
+-- requires the partition key in the primary key, so it becomes (id, date_created); ids are still
+-- generated UUIDs and unique on their own.
+--
+-- The existing rows are copied into the new table, which rewrites it once.
+
+-- Creates the partition for the month starting at month_start, if it doesn't exist yet
+CREATE FUNCTION create_notification_partition(month_start DATE) RETURNS BOOLEAN AS $$
+DECLARE
+    partition_name TEXT := 'notifications_' || to_char(month_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+    EXECUTE format(
+        'CREATE TABLE %I PARTITION OF notifications FOR VALUES FROM (%L) TO (%L)',
+        partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+    RETURN TRUE;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Creates the partitions for the current month and the next months_ahead months. Does nothing if
+-- notifications isn't partitioned.
+CREATE FUNCTION create_notification_partitions(months_ahead INT) RETURNS INT AS $$
+DECLARE
+    current_month DATE := date_trunc('month', LOCALTIMESTAMP)::DATE;
+    created INT := 0;
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('notifications')
+    ) THEN
+        RETURN 0;
+    END IF;
+    FOR i IN 0..months_ahead LOOP
+        IF create_notification_partition((current_month + make_interval(months => i))::DATE) THEN
+            created := created + 1;
+        END IF;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Drops the monthly partitions that end at or before cutoff, first subtracting their unread
+-- notifications from their recipients' unread counts. Does nothing if notifications isn't
+-- partitioned.
+CREATE FUNCTION drop_notification_partitions(cutoff TIMESTAMP) RETURNS INT AS $$
+DECLARE
+    partition_name TEXT;
+    dropped INT := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = to_regclass('notifications')
+            AND c.relname ~ '^notifications_\d{4}_\d{2}$'
+            AND to_date(substring(c.relname FROM '\d{4}_\d{2}$'), 'YYYY_MM')
+                + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        -- Stop the partition's notifications being marked read or deleted while they are uncounted
+        EXECUTE format('LOCK TABLE %I IN EXCLUSIVE MODE', partition_name);
+        EXECUTE format(
+            'UPDATE notification_unread_counts c'
+                || ' SET unread_count = GREATEST(c.unread_count - d.unread, 0)'
+                || ' FROM (SELECT recipient_id, COUNT(*) AS unread FROM %I'
+                || ' WHERE NOT is_read GROUP BY recipient_id) d'
+                || ' WHERE c.user_id = d.recipient_id',
+            partition_name);
+        EXECUTE format('ALTER TABLE notifications DETACH PARTITION %I', partition_name);
+        EXECUTE format('DROP TABLE %I', partition_name);
+        dropped := dropped + 1;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+ALTER TABLE notifications RENAME TO notifications_unpartitioned;
+
+CREATE TABLE notifications (
+    id UUID NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    message TEXT NOT NULL,
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    recipient_id VARCHAR(255) NOT NULL,
+    actor_id VARCHAR(255) NOT NULL,
+    task_id UUID NOT NULL,
+    board_id UUID NOT NULL,
+    reference_id UUID,
+    occurrence_count INT NOT NULL DEFAULT 1,
+    date_created TIMESTAMP NOT NULL,
+    date_modified TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+) PARTITION BY RANGE (date_created);
+
+-- Catches rows outside every monthly partition, for example if partitions weren't created ahead
+CREATE TABLE notifications_default PARTITION OF notifications DEFAULT;
+
+DO $$
+DECLARE
+    first_month DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(date_created)), date_trunc('month', LOCALTIMESTAMP))
+        INTO first_month
+        FROM notifications_unpartitioned;
+    WHILE first_month < date_trunc('month', LOCALTIMESTAMP) LOOP
+        PERFORM create_notification_partition(first_month);
+        first_month := (first_month + INTERVAL '1 month')::DATE;
+    END LOOP;
+    PERFORM create_notification_partitions(3);
+END;
+$$;
+
+INSERT INTO notifications (
+    id, type, message, is_read, recipient_id, actor_id, task_id, board_id, reference_id,
+    occurrence_count, date_created, date_modified, version
+)
+SELECT
+    id, type, message, is_read, recipient_id, actor_id, task_id, board_id, reference_id,
+    occurrence_count, date_created, date_modified, version
+FROM notifications_unpartitioned;
+
+DROP TABLE notifications_unpartitioned;
+
+ALTER TABLE notifications ADD CONSTRAINT notifications_pkey PRIMARY KEY (id, date_created);
+ALTER TABLE notifications ADD CONSTRAINT fk_notification_recipient
+    FOREIGN KEY (recipient_id) REFERENCES users(id);
+ALTER TABLE notifications ADD CONSTRAINT fk_notification_actor
+    FOREIGN KEY (actor_id) REFERENCES users(id);
+ALTER TABLE notifications ADD CONSTRAINT fk_notification_task
+    FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE;
+ALTER TABLE notifications ADD CONSTRAINT fk_notification_board
+    FOREIGN KEY (board_id) REFERENCES boards(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_notifications_recipient_unread
+    ON notifications(recipient_id, is_read) WHERE is_read = FALSE;
+CREATE INDEX idx_notifications_recipient_created ON notifications(recipient_id, date_created DESC);
+CREATE INDEX idx_notifications_recipient_task_unread
+    ON notifications(recipient_id, task_id, type) WHERE is_read = FALSE;
+CREATE INDEX idx_notifications_date_created ON notifications(date_created);
@@ -9,6 +9,7 @@ import com.kylerriggs.velora.comment.CommentRepository;
 import com.kylerriggs.velora.invite.BoardInviteRepository;
 import com.kylerriggs.velora.label.LabelRepository;
 import com.kylerriggs.velora.notification.NotificationRepository;
+import com.kylerriggs.velora.notification.event.NotificationOutboxRepository;
 import com.kylerriggs.velora.task.TaskRepository;
 import com.kylerriggs.velora.user.UserRepository;
 
@@ -17,6 +18,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @SpringBootTest(
         properties =
@@ -36,9 +38,11 @@ class VeloraApplicationTests {
     @MockitoBean private ChecklistItemRepository checklistItemRepository;
     @MockitoBean private LabelRepository labelRepository;
     @MockitoBean private NotificationRepository notificationRepository;
+    @MockitoBean private NotificationOutboxRepository notificationOutboxRepository;
     @MockitoBean private TaskRepository taskRepository;
     @MockitoBean private UserRepository userRepository;
     @MockitoBean private JpaMetamodelMappingContext jpaMappingContext;
+    @MockitoBean private PlatformTransactionManager transactionManager;
 
     @Test
     void contextLoads() {}
@@ -5,18 +5,24 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.kylerriggs.velora.activity.dto.ActivityLogDto;
+import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserLookupService;
 import com.kylerriggs.velora.user.dto.UserSummaryDto;
 import com.kylerriggs.velora.websocket.BoardEventPublisher;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -81,4 +87,25 @@ class ActivityLogServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(ACTIVITY_ID, result.getContent().get(0).id());
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void logActivities_SavesOneBatchAndPublishesOneEvent() {
+        User user = new User();
+        Board board = Board.builder().id(BOARD_ID).name("Board").build();
+        Task first = Task.builder().id(TASK_ID).board(board).build();
+        Task second = Task.builder().id(UUID.randomUUID()).board(board).build();
+        when(userLookupService.getRequiredCurrentUser()).thenReturn(user);
+
+        activityLogService.logActivities(
+                List.of(first, second), ActivityType.TASK_MOVED, List.of("{\"a\":1}", "{\"b\":2}"));
+
+        ArgumentCaptor<List<ActivityLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityLogRepository).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals(second, captor.getValue().get(1).getTask());
+        assertEquals("{\"b\":2}", captor.getValue().get(1).getDetails());
+        verify(activityLogRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publish(BoardEventType.ACTIVITY_LOGGED, BOARD_ID, null);
+    }
 }
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.kylerriggs.velora.board.BoardMembershipCache.Membership;
 import com.kylerriggs.velora.exception.ForbiddenException;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -29,8 +30,7 @@ class BoardAccessTest {
     private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
     private static final String USER_ID = "auth0|user123";
 
-    @Mock private BoardUserRepository boardUserRepository;
-    @Mock private BoardRepository boardRepository;
+    @Mock private BoardMembershipCache membershipCache;
     @Mock private SecurityContext securityContext;
     @Mock private Authentication authentication;
     @InjectMocks private BoardAccess boardAccess;
@@ -52,21 +52,22 @@ class BoardAccessTest {
     void isCollaborator_WhenUserIsCollaborator_ReturnsTrue() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.MEMBER, false));
 
         // When
         boolean result = boardAccess.isCollaborator(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository).existsByBoardIdAndUserId(BOARD_ID, USER_ID);
+        verify(membershipCache).get(BOARD_ID, USER_ID);
     }
 
     @Test
     void isCollaborator_WhenUserIsNotCollaborator_ThrowsForbiddenException() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(false);
+        when(membershipCache.get(BOARD_ID, USER_ID)).thenReturn(Membership.NONE);
 
         // When & Then
         assertThrows(
@@ -83,7 +84,7 @@ class BoardAccessTest {
         assertThrows(
                 IllegalStateException.class,
                 () -> boardAccess.isCollaborator(Objects.requireNonNull(BOARD_ID)));
-        verify(boardUserRepository, never()).existsByBoardIdAndUserId(any(), any());
+        verify(membershipCache, never()).get(any(), any());
     }
 
     @Test
@@ -104,26 +105,23 @@ class BoardAccessTest {
     void isAdmin_WhenUserIsAdmin_ReturnsTrue() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.ADMIN, false));
 
         // When
         boolean result = boardAccess.isAdmin(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository)
-                .existsByBoardIdAndUserIdAndRole(BOARD_ID, USER_ID, BoardRole.ADMIN);
+        verify(membershipCache).get(BOARD_ID, USER_ID);
     }
 
     @Test
     void isAdmin_WhenUserIsMember_ThrowsForbiddenException() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(false);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.MEMBER, false));
 
         // When & Then
         assertThrows(
@@ -135,9 +133,7 @@ class BoardAccessTest {
     void isAdmin_WhenUserIsNotCollaborator_ThrowsForbiddenException() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(false);
+        when(membershipCache.get(BOARD_ID, USER_ID)).thenReturn(Membership.NONE);
 
         // When & Then
         assertThrows(
@@ -154,7 +150,7 @@ class BoardAccessTest {
         assertThrows(
                 IllegalStateException.class,
                 () -> boardAccess.isAdmin(Objects.requireNonNull(BOARD_ID)));
-        verify(boardUserRepository, never()).existsByBoardIdAndUserIdAndRole(any(), any(), any());
+        verify(membershipCache, never()).get(any(), any());
     }
 
     // isCreator tests
@@ -163,21 +159,23 @@ class BoardAccessTest {
     void isCreator_WhenUserIsCreator_ReturnsTrue() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardRepository.existsByIdAndCreatedById(BOARD_ID, USER_ID)).thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.ADMIN, true));
 
         // When
         boolean result = boardAccess.isCreator(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardRepository).existsByIdAndCreatedById(Objects.requireNonNull(BOARD_ID), USER_ID);
+        verify(membershipCache).get(Objects.requireNonNull(BOARD_ID), USER_ID);
     }
 
     @Test
     void isCreator_WhenUserIsNotCreator_ThrowsForbiddenException() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardRepository.existsByIdAndCreatedById(BOARD_ID, USER_ID)).thenReturn(false);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.ADMIN, false));
 
         // When & Then
         assertThrows(
@@ -194,7 +192,7 @@ class BoardAccessTest {
         assertThrows(
                 IllegalStateException.class,
                 () -> boardAccess.isCreator(Objects.requireNonNull(BOARD_ID)));
-        verify(boardRepository, never()).existsByIdAndCreatedById(any(), any());
+        verify(membershipCache, never()).get(any(), any());
     }
 
     // Tests with different users
@@ -204,29 +202,29 @@ class BoardAccessTest {
         // Given
         String differentUserId = "auth0|differentUser456";
         setupAuthentication(differentUserId);
-        when(boardUserRepository.existsByBoardIdAndUserId(BOARD_ID, differentUserId))
-                .thenReturn(true);
+        when(membershipCache.get(BOARD_ID, differentUserId))
+                .thenReturn(new Membership(BoardRole.MEMBER, false));
 
         // When
         boolean result = boardAccess.isCollaborator(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository)
-                .existsByBoardIdAndUserId(Objects.requireNonNull(BOARD_ID), differentUserId);
+        verify(membershipCache).get(Objects.requireNonNull(BOARD_ID), differentUserId);
     }
 
     @Test
     void isCollaborator_WithExplicitUserId_UsesProvidedUserId() {
         // Given
-        when(boardUserRepository.existsByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.MEMBER, false));
 
         // When
         boolean result = boardAccess.isCollaborator(USER_ID, Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository).existsByBoardIdAndUserId(BOARD_ID, USER_ID);
+        verify(membershipCache).get(BOARD_ID, USER_ID);
         verifyNoInteractions(securityContext, authentication);
     }
 
@@ -235,65 +233,53 @@ class BoardAccessTest {
         // Given
         UUID differentBoardId = UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        differentBoardId, USER_ID, BoardRole.ADMIN))
-                .thenReturn(true);
+        when(membershipCache.get(differentBoardId, USER_ID))
+                .thenReturn(new Membership(BoardRole.ADMIN, false));
 
         // When
         boolean result = boardAccess.isAdmin(Objects.requireNonNull(differentBoardId));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository)
-                .existsByBoardIdAndUserIdAndRole(
-                        Objects.requireNonNull(differentBoardId), USER_ID, BoardRole.ADMIN);
+        verify(membershipCache).get(Objects.requireNonNull(differentBoardId), USER_ID);
     }
 
     @Test
     void isAdminOrCreator_WhenUserIsAdmin_ReturnsTrue() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.ADMIN, false));
 
         // When
         boolean result = boardAccess.isAdminOrCreator(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository)
-                .existsByBoardIdAndUserIdAndRole(BOARD_ID, USER_ID, BoardRole.ADMIN);
-        verify(boardRepository, never()).existsByIdAndCreatedById(any(), any());
+        verify(membershipCache).get(BOARD_ID, USER_ID);
     }
 
     @Test
     void isAdminOrCreator_WhenUserIsCreator_ReturnsTrue() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(false);
-        when(boardRepository.existsByIdAndCreatedById(BOARD_ID, USER_ID)).thenReturn(true);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.MEMBER, true));
 
         // When
         boolean result = boardAccess.isAdminOrCreator(Objects.requireNonNull(BOARD_ID));
 
         // Then
         assertTrue(result);
-        verify(boardUserRepository)
-                .existsByBoardIdAndUserIdAndRole(BOARD_ID, USER_ID, BoardRole.ADMIN);
-        verify(boardRepository).existsByIdAndCreatedById(BOARD_ID, USER_ID);
+        verify(membershipCache).get(BOARD_ID, USER_ID);
     }
 
     @Test
     void isAdminOrCreator_WhenNeitherAdminNorCreator_ThrowsForbiddenException() {
         // Given
         setupAuthentication(USER_ID);
-        when(boardUserRepository.existsByBoardIdAndUserIdAndRole(
-                        BOARD_ID, USER_ID, BoardRole.ADMIN))
-                .thenReturn(false);
-        when(boardRepository.existsByIdAndCreatedById(BOARD_ID, USER_ID)).thenReturn(false);
+        when(membershipCache.get(BOARD_ID, USER_ID))
+                .thenReturn(new Membership(BoardRole.MEMBER, false));
 
         // When & Then
         assertThrows(
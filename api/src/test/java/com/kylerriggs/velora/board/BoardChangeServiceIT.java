@@ -0,0 +1,182 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.board.dto.BoardChangesDto;
+import com.kylerriggs.velora.board.dto.BoardTombstoneDto;
+import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.column.dto.ColumnDto;
+import com.kylerriggs.velora.comment.Comment;
+import com.kylerriggs.velora.comment.CommentRepository;
+import com.kylerriggs.velora.comment.dto.CommentDto;
+import com.kylerriggs.velora.label.Label;
+import com.kylerriggs.velora.label.LabelRepository;
+import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.task.dto.TaskSummaryDto;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class BoardChangeServiceIT extends PostgresIntegrationTestBase {
+
+    @Autowired private BoardChangeService boardChangeService;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardUserRepository boardUserRepository;
+    @Autowired private ColumnRepository columnRepository;
+    @Autowired private LabelRepository labelRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+
+    @MockitoBean private JwtDecoder jwtDecoder;
+
+    private User owner;
+    private Board board;
+    private Column column;
+    private Label label;
+    private Task task;
+    private long cursor;
+
+    @BeforeEach
+    void setUp() {
+        owner =
+                userRepository.save(
+                        User.builder()
+                                .id("auth0|changes-owner")
+                                .username("changes-owner")
+                                .email("changes-owner@example.com")
+                                .profileImageUrl("https://example.com/changes-owner.png")
+                                .build());
+        board =
+                boardRepository.save(
+                        Board.builder()
+                                .name("Board Changes IT")
+                                .description("changes")
+                                .createdBy(owner)
+                                .build());
+        boardUserRepository.save(
+                BoardUser.builder().board(board).user(owner).role(BoardRole.ADMIN).build());
+        column =
+                columnRepository.save(
+                        Column.builder().name("To Do").position(0).board(board).build());
+        label =
+                labelRepository.save(
+                        Label.builder().name("bug").color("#ff0000").board(board).build());
+        task =
+                taskRepository.save(
+                        Task.builder()
+                                .title("Changed task")
+                                .position(1_000_000L)
+                                .board(board)
+                                .column(column)
+                                .createdBy(owner)
+                                .build());
+
+        cursor = stamp();
+    }
+
+    @Test
+    void getChanges_fromZero_returnsEveryStampedRow() {
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), 0);
+
+        assertThat(changes.resyncRequired()).isFalse();
+        assertThat(changes.cursor()).isEqualTo(cursor);
+        assertThat(changes.tasks()).extracting(TaskSummaryDto::id).containsExactly(task.getId());
+        assertThat(changes.columns()).extracting(ColumnDto::id).containsExactly(column.getId());
+        assertThat(changes.labels()).hasSize(1);
+    }
+
+    @Test
+    void getChanges_returnsOnlyRowsChangedAfterCursor() {
+        Task managed = taskRepository.findById(task.getId()).orElseThrow();
+        managed.setTitle("Renamed task");
+        long next = stamp();
+
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), cursor);
+
+        assertThat(next).isGreaterThan(cursor);
+        assertThat(changes.cursor()).isEqualTo(next);
+        assertThat(changes.tasks())
+                .extracting(TaskSummaryDto::title)
+                .containsExactly("Renamed task");
+        assertThat(changes.columns()).isEmpty();
+        assertThat(changes.labels()).isEmpty();
+        assertThat(boardChangeService.getChanges(board.getId(), next).tasks()).isEmpty();
+    }
+
+    @Test
+    void getChanges_whenCommentAdded_includesCommentAndParentTask() {
+        Comment comment =
+                commentRepository.save(
+                        Comment.builder()
+                                .content("New comment")
+                                .task(taskRepository.findById(task.getId()).orElseThrow())
+                                .author(owner)
+                                .build());
+        stamp();
+
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), cursor);
+
+        assertThat(changes.comments()).extracting(CommentDto::id).containsExactly(comment.getId());
+        assertThat(changes.tasks())
+                .singleElement()
+                .satisfies(t -> assertThat(t.commentCount()).isEqualTo(1));
+    }
+
+    @Test
+    void getChanges_whenRowDeleted_returnsTombstone() {
+        labelRepository.deleteById(label.getId());
+        stamp();
+
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), cursor);
+
+        assertThat(changes.deleted())
+                .containsExactly(new BoardTombstoneDto(label.getId(), BoardChangeEntityType.LABEL));
+        assertThat(changes.labels()).isEmpty();
+    }
+
+    @Test
+    void getChanges_ignoresRowsNotYetStamped() {
+        Task managed = taskRepository.findById(task.getId()).orElseThrow();
+        managed.setTitle("Pending rename");
+        entityManager.flush();
+        entityManager.clear();
+
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), cursor);
+
+        assertThat(changes.cursor()).isEqualTo(cursor);
+        assertThat(changes.tasks()).isEmpty();
+    }
+
+    @Test
+    void getChanges_whenCursorIsAheadOfBoard_requiresResync() {
+        BoardChangesDto changes = boardChangeService.getChanges(board.getId(), cursor + 1);
+
+        assertThat(changes.resyncRequired()).isTrue();
+        assertThat(changes.cursor()).isEqualTo(cursor);
+        assertThat(changes.tasks()).isEmpty();
+    }
+
+    /** Stamps pending rows the way a committing transaction would. */
+    private long stamp() {
+        entityManager.flush();
+        Long changeSeq = boardRepository.stampPendingChanges(board.getId());
+        entityManager.clear();
+        return changeSeq;
+    }
+}
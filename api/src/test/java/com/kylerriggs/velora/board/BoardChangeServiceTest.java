@@ -0,0 +1,88 @@
+package com.kylerriggs.velora.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.board.dto.BoardChangesDto;
+import com.kylerriggs.velora.checklist.ChecklistItemMapper;
+import com.kylerriggs.velora.checklist.ChecklistItemRepository;
+import com.kylerriggs.velora.column.ColumnMapper;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.comment.CommentMapper;
+import com.kylerriggs.velora.comment.CommentRepository;
+import com.kylerriggs.velora.exception.BadRequestException;
+import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.label.LabelMapper;
+import com.kylerriggs.velora.label.LabelRepository;
+import com.kylerriggs.velora.task.TaskMapper;
+import com.kylerriggs.velora.task.TaskRepository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class BoardChangeServiceTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private BoardRepository boardRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private ColumnRepository columnRepository;
+    @Mock private LabelRepository labelRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private ChecklistItemRepository checklistItemRepository;
+    @Mock private TaskMapper taskMapper;
+    @Mock private ColumnMapper columnMapper;
+    @Mock private LabelMapper labelMapper;
+    @Mock private CommentMapper commentMapper;
+    @Mock private ChecklistItemMapper checklistItemMapper;
+
+    @InjectMocks private BoardChangeService boardChangeService;
+
+    @Test
+    void getChanges_WhenCursorIsNegative_ThrowsBadRequest() {
+        assertThrows(
+                BadRequestException.class,
+                () -> boardChangeService.getChanges(Objects.requireNonNull(BOARD_ID), -1));
+    }
+
+    @Test
+    void getChanges_WhenBoardMissing_ThrowsNotFound() {
+        when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.empty());
+
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> boardChangeService.getChanges(Objects.requireNonNull(BOARD_ID), 0));
+    }
+
+    @Test
+    void getChanges_WhenCursorPredatesPrunedTombstones_RequiresResync() {
+        BoardRepository.ChangeCursor cursor = mock(BoardRepository.ChangeCursor.class);
+        when(cursor.getChangeSeq()).thenReturn(40L);
+        when(cursor.getTombstoneFloor()).thenReturn(25L);
+        when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.of(cursor));
+
+        BoardChangesDto changes =
+                boardChangeService.getChanges(Objects.requireNonNull(BOARD_ID), 10);
+
+        assertTrue(changes.resyncRequired());
+        assertEquals(40L, changes.cursor());
+        assertTrue(changes.tasks().isEmpty());
+        assertTrue(changes.deleted().isEmpty());
+        verify(boardRepository, never()).findTombstonesSince(any(), anyLong());
+        verify(taskRepository, never()).findChangedSince(any(), anyLong());
+    }
+}
@@ -0,0 +1,144 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.config.BoardProperties;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.UserService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@ExtendWith(MockitoExtension.class)
+class BoardETagsTest {
+    private static final String USER_ID = "auth0|user123";
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID TASK_ID = UUID.fromString("b256c2d0-891b-44de-816b-c9259cd00392");
+
+    @Mock private BoardRepository boardRepository;
+    @Mock private BoardUserRepository boardUserRepository;
+    @Mock private TaskRepository taskRepository;
+    @Mock private UserService userService;
+
+    private BoardETags boardETags;
+
+    @BeforeEach
+    void setUp() {
+        boardETags =
+                new BoardETags(
+                        boardRepository,
+                        boardUserRepository,
+                        taskRepository,
+                        new EntityScopeCache(new BoardProperties()),
+                        userService);
+    }
+
+    @Test
+    void forBoard_ChangesWithChangeSeq() {
+        when(boardRepository.findChangeCursor(BOARD_ID))
+                .thenReturn(
+                        Optional.of(cursor(7L)), Optional.of(cursor(7L)), Optional.of(cursor(8L)));
+
+        String before = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+        String unchanged = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+        String after = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+
+        assertThat(before).isEqualTo("\"7\"");
+        assertThat(unchanged).isEqualTo(before);
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    @Test
+    void forBoard_WhenBoardMissing_ReturnsNull() {
+        when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.empty());
+
+        assertThat(boardETags.forBoard(Objects.requireNonNull(BOARD_ID))).isNull();
+    }
+
+    @Test
+    void forBoardView_DiffersByFavoriteFlag() {
+        when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.of(cursor(7L)));
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(boardUserRepository.isFavorite(BOARD_ID, USER_ID)).thenReturn(false, true);
+
+        String notFavorite = boardETags.forBoardView(Objects.requireNonNull(BOARD_ID));
+        String favorite = boardETags.forBoardView(Objects.requireNonNull(BOARD_ID));
+
+        assertThat(favorite).isNotEqualTo(notFavorite);
+    }
+
+    @Test
+    void forTask_WhenTaskMissing_ReturnsNull() {
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.empty());
+
+        assertThat(boardETags.forTask(Objects.requireNonNull(TASK_ID))).isNull();
+    }
+
+    @Test
+    void respond_WhenIfNoneMatchMatches_ReturnsNotModifiedWithoutBuildingBody() {
+        when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.of(cursor(7L)));
+        String eTag = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/boards");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        AtomicInteger builds = new AtomicInteger();
+
+        ResponseEntity<String> response =
+                boardETags.respond(
+                        new ServletWebRequest(servletRequest, new MockHttpServletResponse()),
+                        eTag,
+                        () -> "body-" + builds.incrementAndGet());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(builds).hasValue(0);
+    }
+
+    @Test
+    void respond_WhenIfNoneMatchIsStale_ReturnsTaggedBody() {
+        when(boardRepository.findChangeCursor(BOARD_ID))
+                .thenReturn(Optional.of(cursor(7L)), Optional.of(cursor(8L)));
+        String staleTag = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+        String eTag = boardETags.forBoard(Objects.requireNonNull(BOARD_ID));
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/boards");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, staleTag);
+
+        ResponseEntity<String> response =
+                boardETags.respond(
+                        new ServletWebRequest(servletRequest, new MockHttpServletResponse()),
+                        eTag,
+                        () -> "body");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody()).isEqualTo("body");
+    }
+
+    private BoardRepository.ChangeCursor cursor(long changeSeq) {
+        return new BoardRepository.ChangeCursor() {
+            @Override
+            public long getChangeSeq() {
+                return changeSeq;
+            }
+
+            @Override
+            public long getTombstoneFloor() {
+                return 0L;
+            }
+        };
+    }
+}
@@ -0,0 +1,170 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.label.Label;
+import com.kylerriggs.velora.label.LabelRepository;
+import com.kylerriggs.velora.notification.event.NotificationOutboxDispatcher;
+import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class BoardLoaderIT extends PostgresIntegrationTestBase {
+    private static final long EXPECTED_QUERY_COUNT = 6;
+
+    @Autowired private BoardLoader boardLoader;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardUserRepository boardUserRepository;
+    @Autowired private ColumnRepository columnRepository;
+    @Autowired private LabelRepository labelRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManager entityManager;
+
+    @MockitoBean private JwtDecoder jwtDecoder;
+
+    // Statistics are shared by the whole session factory, so background polls would be counted
+    @MockitoBean private NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    private User owner;
+    private Board board;
+    private Column column;
+    private Label label;
+    private int userCount;
+    private long nextPosition;
+
+    @BeforeEach
+    void setUp() {
+        owner = saveUser();
+        board =
+                boardRepository.save(
+                        Board.builder()
+                                .name("Board Loader IT")
+                                .description("board")
+                                .createdBy(owner)
+                                .build());
+        boardUserRepository.save(
+                BoardUser.builder().board(board).user(owner).role(BoardRole.ADMIN).build());
+        column =
+                columnRepository.save(
+                        Column.builder().name("To Do").position(0).board(board).build());
+        label =
+                labelRepository.save(
+                        Label.builder().name("bug").color("#ff0000").board(board).build());
+    }
+
+    @Test
+    void load_hydratesCollectionsAndLabels() {
+        User member = addCollaborator();
+        Task task = addTask(member);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        BoardLoader.LoadedBoard loaded =
+                boardLoader
+                        .load(board.getId())
+                        .orElseThrow(() -> new AssertionError("Expected board to load"));
+
+        assertThat(loaded.collaborators()).hasSize(2);
+        assertThat(loaded.columns()).extracting(Column::getName).containsExactly("To Do");
+        assertThat(loaded.tasks()).extracting(Task::getId).containsExactly(task.getId());
+        assertThat(loaded.labelsFor(task.getId())).extracting(l -> l.name()).containsExactly("bug");
+    }
+
+    @Test
+    void load_issuesFixedNumberOfQueriesRegardlessOfBoardSize() {
+        addTask(addCollaborator());
+        long smallBoardQueries = countQueriesForLoad();
+
+        for (int i = 0; i < 20; i++) {
+            User member = addCollaborator();
+            addTask(member);
+            addTask(owner);
+        }
+        long largeBoardQueries = countQueriesForLoad();
+
+        assertThat(smallBoardQueries).isEqualTo(EXPECTED_QUERY_COUNT);
+        assertThat(largeBoardQueries).isEqualTo(EXPECTED_QUERY_COUNT);
+    }
+
+    private long countQueriesForLoad() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics =
+                entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        boardLoader.load(board.getId());
+
+        long queries = statistics.getPrepareStatementCount();
+        statistics.setStatisticsEnabled(false);
+        return queries;
+    }
+
+    private User addCollaborator() {
+        User user = saveUser();
+        boardUserRepository.save(
+                BoardUser.builder()
+                        .board(entityManager.getReference(Board.class, board.getId()))
+                        .user(user)
+                        .role(BoardRole.MEMBER)
+                        .build());
+        return user;
+    }
+
+    private Task addTask(User assignee) {
+        nextPosition += 1_000_000L;
+        return taskRepository.save(
+                Task.builder()
+                        .title("Loader task " + nextPosition)
+                        .position(nextPosition)
+                        .board(entityManager.getReference(Board.class, board.getId()))
+                        .column(entityManager.getReference(Column.class, column.getId()))
+                        .createdBy(entityManager.getReference(User.class, owner.getId()))
+                        .assignedTo(assignee)
+                        .labels(
+                                new LinkedHashSet<>(
+                                        List.of(
+                                                entityManager.getReference(
+                                                        Label.class, label.getId()))))
+                        .build());
+    }
+
+    private User saveUser() {
+        userCount++;
+        return userRepository.save(
+                User.builder()
+                        .id("auth0|loader-user-" + userCount)
+                        .username("loader-user-" + userCount)
+                        .email("loader-user-" + userCount + "@example.com")
+                        .profileImageUrl("https://example.com/loader.png")
+                        .build());
+    }
+}
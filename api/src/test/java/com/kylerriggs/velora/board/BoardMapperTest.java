@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.kylerriggs.velora.board.dto.BoardDto;
@@ -25,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -208,6 +210,7 @@ class BoardMapperTest {
                             column.getId(),
                             null,
                             0L,
+                            "k00000000000",
                             false,
                             false,
                             null,
@@ -218,7 +221,7 @@ class BoardMapperTest {
                             null);
 
             when(userMapper.toSummaryDto(creator)).thenReturn(creatorSummary);
-            when(taskMapper.toSummaryDto(task, 0L, null)).thenReturn(taskSummary);
+            when(taskMapper.toSummaryDto(task, List.of(), 0L, null)).thenReturn(taskSummary);
 
             // When
             BoardDto result = boardMapper.toDto(board, CREATOR_ID);
@@ -261,91 +264,45 @@ class BoardMapperTest {
     class ToSummaryDto {
 
         @Test
-        void toSummaryDto_WithNoTasks_ShouldHaveZeroCounts() {
+        void toSummaryDto_MapsAggregatedCounts() {
             // Given
-            User creator = createUser(CREATOR_ID, "creator");
-            Board board = createBoard(creator);
+            Instant dateModified = Instant.now();
+            BoardRepository.BoardSummaryView view = mock(BoardRepository.BoardSummaryView.class);
+            when(view.getId()).thenReturn(BOARD_ID);
+            when(view.getName()).thenReturn(BOARD_NAME);
+            when(view.getDescription()).thenReturn(BOARD_DESCRIPTION);
+            when(view.getDateModified()).thenReturn(dateModified);
+            when(view.getCompletedTasks()).thenReturn(1L);
+            when(view.getTotalTasks()).thenReturn(3L);
 
             // When
-            BoardSummary result = boardMapper.toSummaryDto(board, CREATOR_ID);
+            BoardSummary result = boardMapper.toSummaryDto(view);
 
             // Then
             assertEquals(BOARD_ID, result.id());
             assertEquals(BOARD_NAME, result.name());
             assertEquals(BOARD_DESCRIPTION, result.description());
-            assertEquals(0, result.completedTasks());
-            assertEquals(0, result.totalTasks());
-            assertFalse(result.isArchived());
-            assertFalse(result.isFavorite());
-            assertNotNull(result.dateModified());
-        }
-
-        @Test
-        void toSummaryDto_WithMixedTasks_ShouldCountCorrectly() {
-            // Given
-            User creator = createUser(CREATOR_ID, "creator");
-            Board board = createBoard(creator);
-
-            Column column = new Column();
-            column.setId(UUID.randomUUID());
-            column.setBoard(board);
-
-            Task completedTask = new Task();
-            completedTask.setId(UUID.randomUUID());
-            completedTask.setCompleted(true);
-            completedTask.setColumn(column);
-            completedTask.setCreatedBy(creator);
-
-            Task incompleteTask1 = new Task();
-            incompleteTask1.setId(UUID.randomUUID());
-            incompleteTask1.setCompleted(false);
-            incompleteTask1.setColumn(column);
-            incompleteTask1.setCreatedBy(creator);
-
-            Task incompleteTask2 = new Task();
-            incompleteTask2.setId(UUID.randomUUID());
-            incompleteTask2.setCompleted(false);
-            incompleteTask2.setColumn(column);
-            incompleteTask2.setCreatedBy(creator);
-
-            board.setTasks(Set.of(completedTask, incompleteTask1, incompleteTask2));
-
-            // When
-            BoardSummary result = boardMapper.toSummaryDto(board, CREATOR_ID);
-
-            // Then
+            assertEquals(dateModified.toString(), result.dateModified());
             assertEquals(1, result.completedTasks());
             assertEquals(3, result.totalTasks());
+            assertFalse(result.isArchived());
+            assertFalse(result.isFavorite());
         }
 
         @Test
-        void toSummaryDto_WhenUserHasFavorite_ShouldReflectStatus() {
-            // Given
-            User creator = createUser(CREATOR_ID, "creator");
-            Board board = createBoard(creator);
-
-            BoardUser boardUser = createBoardUser(board, creator, BoardRole.ADMIN, true);
-            board.setCollaborators(Set.of(boardUser));
-
-            // When
-            BoardSummary result = boardMapper.toSummaryDto(board, CREATOR_ID);
-
-            // Then
-            assertTrue(result.isFavorite());
-        }
-
-        @Test
-        void toSummaryDto_WhenArchived_ShouldReflectStatus() {
+        void toSummaryDto_WhenFavoriteAndArchived_ShouldReflectStatus() {
             // Given
-            User creator = createUser(CREATOR_ID, "creator");
-            Board board = createBoard(creator);
-            board.setArchived(true);
+            BoardRepository.BoardSummaryView view = mock(BoardRepository.BoardSummaryView.class);
+            when(view.getDateModified()).thenReturn(Instant.now());
+            when(view.isArchived()).thenReturn(true);
+            when(view.isFavorite()).thenReturn(true);
 
             // When
-            BoardSummary result = boardMapper.toSummaryDto(board, CREATOR_ID);
+            BoardSummary result = boardMapper.toSummaryDto(view);
 
             // Then
             assertTrue(result.isArchived());
+            assertTrue(result.isFavorite());
         }
     }
 }
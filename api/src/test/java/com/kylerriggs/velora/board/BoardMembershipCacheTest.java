@@ -0,0 +1,91 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.board.BoardMembershipCache.Membership;
+import com.kylerriggs.velora.config.BoardProperties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class BoardMembershipCacheTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID OTHER_BOARD_ID =
+            UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
+    private static final String USER_ID = "auth0|user123";
+
+    @Mock private BoardRepository boardRepository;
+
+    private BoardMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoardMembershipCache(boardRepository, new BoardProperties());
+    }
+
+    @Test
+    void get_WhenCached_DoesNotQueryAgain() {
+        stubMembership(BOARD_ID, BoardRole.ADMIN, true);
+
+        Membership first = cache.get(BOARD_ID, USER_ID);
+        Membership second = cache.get(BOARD_ID, USER_ID);
+
+        assertThat(second).isEqualTo(first).isEqualTo(new Membership(BoardRole.ADMIN, true));
+        verify(boardRepository, times(1)).findMembership(BOARD_ID, USER_ID);
+    }
+
+    @Test
+    void get_WhenBoardMissing_ReturnsNone() {
+        when(boardRepository.findMembership(BOARD_ID, USER_ID)).thenReturn(Optional.empty());
+
+        Membership membership = cache.get(BOARD_ID, USER_ID);
+
+        assertThat(membership).isEqualTo(Membership.NONE);
+        assertThat(membership.isCollaborator()).isFalse();
+    }
+
+    @Test
+    void invalidateAfterCommit_WithoutTransaction_ReloadsOnNextGet() {
+        stubMembership(BOARD_ID, null, false);
+        assertThat(cache.get(BOARD_ID, USER_ID).isCollaborator()).isFalse();
+
+        stubMembership(BOARD_ID, BoardRole.MEMBER, false);
+        cache.invalidateAfterCommit(BOARD_ID, USER_ID);
+
+        assertThat(cache.get(BOARD_ID, USER_ID).isCollaborator()).isTrue();
+        verify(boardRepository, times(2)).findMembership(BOARD_ID, USER_ID);
+    }
+
+    @Test
+    void invalidateBoard_OnlyEvictsThatBoard() {
+        stubMembership(BOARD_ID, BoardRole.ADMIN, true);
+        stubMembership(OTHER_BOARD_ID, BoardRole.MEMBER, false);
+        cache.get(BOARD_ID, USER_ID);
+        cache.get(OTHER_BOARD_ID, USER_ID);
+
+        cache.invalidateBoard(BOARD_ID);
+        cache.get(BOARD_ID, USER_ID);
+        cache.get(OTHER_BOARD_ID, USER_ID);
+
+        verify(boardRepository, times(2)).findMembership(BOARD_ID, USER_ID);
+        verify(boardRepository, times(1)).findMembership(OTHER_BOARD_ID, USER_ID);
+    }
+
+    private void stubMembership(UUID boardId, BoardRole role, boolean creator) {
+        BoardRepository.MembershipView view = mock(BoardRepository.MembershipView.class);
+        when(view.getRole()).thenReturn(role);
+        when(view.isCreator()).thenReturn(creator);
+        when(boardRepository.findMembership(boardId, USER_ID)).thenReturn(Optional.of(view));
+    }
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 
 import com.kylerriggs.velora.board.dto.BoardArchiveRequest;
 import com.kylerriggs.velora.board.dto.BoardRequest;
+import com.kylerriggs.velora.board.dto.BoardSummary;
 import com.kylerriggs.velora.board.dto.CollaboratorRequest;
 import com.kylerriggs.velora.column.Column;
 import com.kylerriggs.velora.column.ColumnRepository;
@@ -32,6 +33,7 @@ import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @SpringBootTest
@@ -122,6 +124,59 @@ class BoardServiceIT extends PostgresIntegrationTestBase {
         assertThat(membership.getRole()).isEqualTo(BoardRole.MEMBER);
     }
 
+    @Test
+    void findMembership_resolvesRoleAndCreatorInOneQuery() {
+        UUID boardId = createBoardForOwner();
+        withAuthenticatedUser(owner.getId());
+        boardService.addCollaborator(
+                boardId, new CollaboratorRequest(collaborator.getId(), BoardRole.MEMBER));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        BoardRepository.MembershipView ownerMembership =
+                boardRepository.findMembership(boardId, owner.getId()).orElseThrow();
+        BoardRepository.MembershipView collaboratorMembership =
+                boardRepository.findMembership(boardId, collaborator.getId()).orElseThrow();
+        BoardRepository.MembershipView strangerMembership =
+                boardRepository.findMembership(boardId, "auth0|stranger").orElseThrow();
+
+        assertThat(ownerMembership.getRole()).isEqualTo(BoardRole.ADMIN);
+        assertThat(ownerMembership.isCreator()).isTrue();
+        assertThat(collaboratorMembership.getRole()).isEqualTo(BoardRole.MEMBER);
+        assertThat(collaboratorMembership.isCreator()).isFalse();
+        assertThat(strangerMembership.getRole()).isNull();
+        assertThat(strangerMembership.isCreator()).isFalse();
+        assertThat(boardRepository.findMembership(UUID.randomUUID(), owner.getId())).isEmpty();
+    }
+
+    @Test
+    void getBoardsForUser_aggregatesTaskCountsInQuery() {
+        UUID boardId = createBoardForOwner();
+        List<Column> columns = columnRepository.findByBoardIdOrderByPositionAsc(boardId);
+        UUID completedTaskId = seedTask(boardId, columns.get(0).getId(), false);
+        seedTask(boardId, columns.get(1).getId(), false);
+        seedTask(boardId, columns.get(2).getId(), true);
+        taskRepository
+                .findById(completedTaskId)
+                .orElseThrow(() -> new AssertionError("Expected task to exist"))
+                .setCompleted(true);
+        withAuthenticatedUser(owner.getId());
+
+        entityManager.flush();
+        entityManager.clear();
+
+        BoardSummary summary =
+                boardService.getBoardsForUser().stream()
+                        .filter(s -> s.id().equals(boardId))
+                        .findFirst()
+                        .orElseThrow(() -> new AssertionError("Expected board summary"));
+
+        assertThat(summary.totalTasks()).isEqualTo(2);
+        assertThat(summary.completedTasks()).isEqualTo(1);
+        assertThat(summary.isFavorite()).isFalse();
+    }
+
     @Test
     void updateBoardArchive_requiresConfirmWhenBoardHasActiveTasks() {
         UUID boardId = createBoardForOwner();
@@ -174,11 +229,7 @@ class BoardServiceIT extends PostgresIntegrationTestBase {
     }
 
     private UUID firstColumnId(UUID boardId) {
-        Board board =
-                boardRepository
-                        .findByIdWithDetails(boardId)
-                        .orElseThrow(() -> new AssertionError("Expected board to exist"));
-        return board.getColumns().stream()
+        return columnRepository.findByBoardIdOrderByPositionAsc(boardId).stream()
                 .findFirst()
                 .orElseThrow(() -> new AssertionError("Expected default columns"))
                 .getId();
@@ -10,8 +10,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +32,7 @@ import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.BoardLimitExceededException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 import com.kylerriggs.velora.exception.UnauthorizedException;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskArchiveService;
 import com.kylerriggs.velora.task.TaskMapper;
@@ -45,13 +50,16 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -76,11 +84,20 @@ class BoardServiceTest {
     @Mock private com.kylerriggs.velora.comment.CommentRepository commentRepository;
     @Mock private com.kylerriggs.velora.checklist.ChecklistItemRepository checklistItemRepository;
     @Mock private BoardEventPublisher eventPublisher;
+
+    @Spy
+    private BoardSnapshotCache boardSnapshotCache = new BoardSnapshotCache(new BoardProperties());
+
+    @Mock private BoardMembershipCache boardMembershipCache;
+    @Mock private EntityScopeCache entityScopeCache;
+    @Mock private BoardLoader boardLoader;
+    @Mock private NotificationService notificationService;
     @InjectMocks private BoardService boardService;
 
     private User user;
     private User otherUser;
     private Board board;
+    private BoardLoader.LoadedBoard loadedBoard;
     private BoardDto boardDto;
 
     @BeforeEach
@@ -113,6 +130,9 @@ class BoardServiceTest {
         BoardUser boardUser =
                 BoardUser.builder().board(board).user(user).role(BoardRole.ADMIN).build();
         board.getCollaborators().add(boardUser);
+        loadedBoard =
+                new BoardLoader.LoadedBoard(
+                        board, List.of(boardUser), List.of(), List.of(), Map.of());
 
         UserSummaryDto userSummary =
                 new UserSummaryDto(USER_ID, "testuser", "https://example.com/image.png");
@@ -128,7 +148,8 @@ class BoardServiceTest {
                         false,
                         Instant.now().toString(),
                         Instant.now().toString(),
-                        false);
+                        false,
+                        0L);
     }
 
     @Nested
@@ -216,9 +237,11 @@ class BoardServiceTest {
         @Test
         void getBoard_WhenBoardExists_ReturnsBoardDto() {
             // Given
-            when(boardRepository.findByIdWithDetails(BOARD_ID)).thenReturn(Optional.of(board));
+            when(boardRepository.findChangeCursor(BOARD_ID))
+                    .thenReturn(Optional.of(changeCursor(1L)));
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
             when(userService.getCurrentUserId()).thenReturn(USER_ID);
-            when(boardMapper.toDto(eq(board), eq(USER_ID), anyMap(), anyMap()))
+            when(boardMapper.toDto(eq(loadedBoard), isNull(), anyMap(), anyMap()))
                     .thenReturn(boardDto);
 
             // When
@@ -226,18 +249,68 @@ class BoardServiceTest {
 
             // Then
             assertNotNull(result);
-            verify(boardMapper).toDto(eq(board), eq(USER_ID), anyMap(), anyMap());
+            verify(boardMapper).toDto(eq(loadedBoard), isNull(), anyMap(), anyMap());
+        }
+
+        @Test
+        void getBoard_WhenSnapshotIsCurrent_ReusesSnapshotAndAppliesFavorite() {
+            // Given
+            BoardUser membership =
+                    BoardUser.builder()
+                            .board(board)
+                            .user(user)
+                            .role(BoardRole.ADMIN)
+                            .isFavorite(true)
+                            .build();
+            when(boardRepository.findChangeCursor(BOARD_ID))
+                    .thenReturn(Optional.of(changeCursor(1L)));
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
+            when(userService.getCurrentUserId()).thenReturn(USER_ID, OTHER_USER_ID);
+            when(boardUserRepository.findByBoardIdAndUserId(BOARD_ID, USER_ID))
+                    .thenReturn(Optional.of(membership));
+            when(boardUserRepository.findByBoardIdAndUserId(BOARD_ID, OTHER_USER_ID))
+                    .thenReturn(Optional.empty());
+            when(boardMapper.toDto(eq(loadedBoard), isNull(), anyMap(), anyMap()))
+                    .thenReturn(boardDto);
+
+            // When
+            BoardDto first = boardService.getBoard(Objects.requireNonNull(BOARD_ID));
+            BoardDto second = boardService.getBoard(Objects.requireNonNull(BOARD_ID));
+
+            // Then
+            assertTrue(first.isFavorite());
+            assertFalse(second.isFavorite());
+            verify(boardLoader, times(1)).load(BOARD_ID);
+        }
+
+        @Test
+        void getBoard_WhenChangeSeqAdvances_RebuildsSnapshot() {
+            // Given
+            when(boardRepository.findChangeCursor(BOARD_ID))
+                    .thenReturn(Optional.of(changeCursor(1L)), Optional.of(changeCursor(2L)));
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
+            when(userService.getCurrentUserId()).thenReturn(USER_ID);
+            when(boardMapper.toDto(eq(loadedBoard), isNull(), anyMap(), anyMap()))
+                    .thenReturn(boardDto);
+
+            // When
+            boardService.getBoard(Objects.requireNonNull(BOARD_ID));
+            boardService.getBoard(Objects.requireNonNull(BOARD_ID));
+
+            // Then
+            verify(boardLoader, times(2)).load(BOARD_ID);
         }
 
         @Test
         void getBoard_WhenBoardNotFound_ThrowsResourceNotFoundException() {
             // Given
-            when(boardRepository.findByIdWithDetails(BOARD_ID)).thenReturn(Optional.empty());
+            when(boardRepository.findChangeCursor(BOARD_ID)).thenReturn(Optional.empty());
 
             // When & Then
             assertThrows(
                     ResourceNotFoundException.class,
                     () -> boardService.getBoard(Objects.requireNonNull(BOARD_ID)));
+            verify(boardLoader, never()).load(any());
         }
     }
 
@@ -246,6 +319,7 @@ class BoardServiceTest {
         @Test
         void getBoardsForUser_ReturnsActiveBoards() {
             // Given
+            BoardRepository.BoardSummaryView view = mock(BoardRepository.BoardSummaryView.class);
             BoardSummary summary =
                     new BoardSummary(
                             BOARD_ID,
@@ -258,9 +332,9 @@ class BoardServiceTest {
                             true);
 
             when(userService.getCurrentUserId()).thenReturn(USER_ID);
-            when(boardRepository.findAllActiveByCollaboratorsUserId(USER_ID))
-                    .thenReturn(List.of(board));
-            when(boardMapper.toSummaryDto(board, USER_ID)).thenReturn(summary);
+            when(boardRepository.findActiveSummariesByCollaboratorUserId(USER_ID))
+                    .thenReturn(List.of(view));
+            when(boardMapper.toSummaryDto(view)).thenReturn(summary);
 
             // When
             List<BoardSummary> result = boardService.getBoardsForUser();
@@ -268,7 +342,7 @@ class BoardServiceTest {
             // Then
             assertEquals(1, result.size());
             assertEquals(BOARD_ID, result.get(0).id());
-            verify(boardRepository).findAllActiveByCollaboratorsUserId(USER_ID);
+            verify(boardRepository).findActiveSummariesByCollaboratorUserId(USER_ID);
         }
     }
 
@@ -277,23 +351,10 @@ class BoardServiceTest {
         @Test
         void getArchivedBoardsForUser_ReturnsArchivedBoardsCreatedByUser() {
             // Given
-            Board archivedBoard =
-                    Board.builder()
-                            .id(UUID.randomUUID())
-                            .name("Archived Board")
-                            .description("Archived")
-                            .createdBy(user)
-                            .isArchived(true)
-                            .tasks(new HashSet<>())
-                            .collaborators(new HashSet<>())
-                            .columns(new HashSet<>())
-                            .build();
-            archivedBoard.setDateCreated(Instant.now());
-            archivedBoard.setDateModified(Instant.now());
-
+            BoardRepository.BoardSummaryView view = mock(BoardRepository.BoardSummaryView.class);
             BoardSummary summary =
                     new BoardSummary(
-                            archivedBoard.getId(),
+                            UUID.randomUUID(),
                             "Archived Board",
                             "Archived",
                             Instant.now().toString(),
@@ -303,9 +364,9 @@ class BoardServiceTest {
                             false);
 
             when(userService.getCurrentUserId()).thenReturn(USER_ID);
-            when(boardRepository.findArchivedByCreatorId(USER_ID))
-                    .thenReturn(List.of(archivedBoard));
-            when(boardMapper.toSummaryDto(archivedBoard, USER_ID)).thenReturn(summary);
+            when(boardRepository.findArchivedSummariesByCreatorId(USER_ID))
+                    .thenReturn(List.of(view));
+            when(boardMapper.toSummaryDto(view)).thenReturn(summary);
 
             // When
             List<BoardSummary> result = boardService.getArchivedBoardsForUser();
@@ -313,7 +374,7 @@ class BoardServiceTest {
             // Then
             assertEquals(1, result.size());
             assertTrue(result.get(0).isArchived());
-            verify(boardRepository).findArchivedByCreatorId(USER_ID);
+            verify(boardRepository).findArchivedSummariesByCreatorId(USER_ID);
         }
     }
 
@@ -332,7 +393,8 @@ class BoardServiceTest {
             when(userService.getCurrentUserId()).thenReturn(USER_ID);
             when(boardRepository.findById(Objects.requireNonNull(BOARD_ID)))
                     .thenReturn(Optional.of(board));
-            when(boardMapper.toDto(eq(board), eq(USER_ID), anyMap(), anyMap()))
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
+            when(boardMapper.toDto(eq(loadedBoard), eq(USER_ID), anyMap(), anyMap()))
                     .thenReturn(boardDto);
 
             // When
@@ -382,8 +444,8 @@ class BoardServiceTest {
             when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
             when(taskRepository.countByBoardIdAndIsArchivedFalse(BOARD_ID)).thenReturn(3L);
             when(taskRepository.findByBoardId(BOARD_ID)).thenReturn(List.of(activeTask));
-            when(boardRepository.findByIdWithDetails(BOARD_ID)).thenReturn(Optional.of(board));
-            when(boardMapper.toDto(eq(board), eq(USER_ID), anyMap(), anyMap()))
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
+            when(boardMapper.toDto(eq(loadedBoard), eq(USER_ID), anyMap(), anyMap()))
                     .thenReturn(boardDto);
 
             BoardDto result =
@@ -411,8 +473,8 @@ class BoardServiceTest {
             when(userService.getCurrentUserId()).thenReturn(USER_ID);
             when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
             when(taskRepository.findByBoardId(BOARD_ID)).thenReturn(List.of(archivedTask));
-            when(boardRepository.findByIdWithDetails(BOARD_ID)).thenReturn(Optional.of(board));
-            when(boardMapper.toDto(eq(board), eq(USER_ID), anyMap(), anyMap()))
+            when(boardLoader.load(BOARD_ID)).thenReturn(Optional.of(loadedBoard));
+            when(boardMapper.toDto(eq(loadedBoard), eq(USER_ID), anyMap(), anyMap()))
                     .thenReturn(boardDto);
 
             boardService.updateBoardArchive(BOARD_ID, new BoardArchiveRequest(false, false));
@@ -465,6 +527,7 @@ class BoardServiceTest {
             // Then
             assertEquals(2, board.getCollaborators().size());
             verify(boardRepository).save(Objects.requireNonNull(board));
+            verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, OTHER_USER_ID);
         }
 
         @Test
@@ -590,6 +653,7 @@ class BoardServiceTest {
             // Then
             assertEquals(1, board.getCollaborators().size());
             verify(boardRepository).save(Objects.requireNonNull(board));
+            verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, OTHER_USER_ID);
         }
 
         @Test
@@ -703,6 +767,7 @@ class BoardServiceTest {
             // Then
             assertEquals(BoardRole.ADMIN, otherBoardUser.getRole());
             verify(boardRepository).save(Objects.requireNonNull(board));
+            verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, OTHER_USER_ID);
         }
 
         @Test
@@ -854,6 +919,8 @@ class BoardServiceTest {
                             .orElseThrow();
             assertEquals(BoardRole.ADMIN, previousOwnerMembership.getRole());
             verify(boardRepository).save(Objects.requireNonNull(board));
+            verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, OTHER_USER_ID);
+            verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, USER_ID);
         }
 
         @Test
@@ -950,4 +1017,48 @@ class BoardServiceTest {
                     () -> boardService.toggleFavorite(Objects.requireNonNull(BOARD_ID)));
         }
     }
+
+    @Nested
+    class DeleteBoardTests {
+        @Test
+        void deleteBoard_WhenArchived_DeletesNotificationsBeforeBoard() {
+            // Given
+            board.setArchived(true);
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+            // When
+            boardService.deleteBoard(Objects.requireNonNull(BOARD_ID));
+
+            // Then
+            InOrder inOrder = inOrder(notificationService, boardRepository);
+            inOrder.verify(notificationService).deleteForBoard(BOARD_ID);
+            inOrder.verify(boardRepository).delete(board);
+        }
+
+        @Test
+        void deleteBoard_WhenNotArchived_LeavesNotificationsAlone() {
+            // Given
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+
+            // When & Then
+            assertThrows(
+                    BadRequestException.class,
+                    () -> boardService.deleteBoard(Objects.requireNonNull(BOARD_ID)));
+            verify(notificationService, never()).deleteForBoard(any());
+        }
+    }
+
+    private static BoardRepository.ChangeCursor changeCursor(long changeSeq) {
+        return new BoardRepository.ChangeCursor() {
+            @Override
+            public long getChangeSeq() {
+                return changeSeq;
+            }
+
+            @Override
+            public long getTombstoneFloor() {
+                return 0L;
+            }
+        };
+    }
 }
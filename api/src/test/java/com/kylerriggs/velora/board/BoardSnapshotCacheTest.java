@@ -0,0 +1,109 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.board.dto.BoardDto;
+import com.kylerriggs.velora.board.dto.CollaboratorDto;
+import com.kylerriggs.velora.column.dto.ColumnDto;
+import com.kylerriggs.velora.config.BoardProperties;
+import com.kylerriggs.velora.task.dto.TaskSummaryDto;
+import com.kylerriggs.velora.user.dto.UserSummaryDto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoardSnapshotCacheTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+
+    private BoardSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoardSnapshotCache(new BoardProperties());
+    }
+
+    @Test
+    void get_WhenVersionUnchanged_ReturnsCachedSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+
+        BoardDto first = cache.get(Objects.requireNonNull(BOARD_ID), 1L, id -> board(loads, "v1"));
+        BoardDto second = cache.get(Objects.requireNonNull(BOARD_ID), 1L, id -> board(loads, "v2"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void get_WhenVersionAdvanced_RebuildsSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Objects.requireNonNull(BOARD_ID), 1L, id -> board(loads, "stale"));
+        BoardDto result =
+                cache.get(Objects.requireNonNull(BOARD_ID), 2L, id -> board(loads, "fresh"));
+
+        assertThat(result.name()).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_WhenOlderVersionFinishesLoadingLast_KeepsNewerSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(
+                Objects.requireNonNull(BOARD_ID),
+                1L,
+                id -> {
+                    // A request that observed a later change finishes first
+                    cache.get(Objects.requireNonNull(id), 2L, newer -> board(loads, "fresh"));
+                    return board(loads, "stale");
+                });
+        BoardDto result =
+                cache.get(Objects.requireNonNull(BOARD_ID), 2L, id -> board(loads, "unused"));
+
+        assertThat(result.name()).isEqualTo("fresh");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidate_DropsSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(Objects.requireNonNull(BOARD_ID), 1L, id -> board(loads, "v1"));
+        cache.invalidate(Objects.requireNonNull(BOARD_ID));
+        cache.get(Objects.requireNonNull(BOARD_ID), 1L, id -> board(loads, "v1"));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void withFavorite_CopiesSnapshotWithoutMutatingIt() {
+        BoardDto snapshot = board(new AtomicInteger(), "Board");
+
+        BoardDto favorite = cache.withFavorite(snapshot, true);
+
+        assertThat(favorite.isFavorite()).isTrue();
+        assertThat(snapshot.isFavorite()).isFalse();
+        assertThat(cache.withFavorite(snapshot, false)).isSameAs(snapshot);
+    }
+
+    private BoardDto board(AtomicInteger loads, String name) {
+        loads.incrementAndGet();
+        return new BoardDto(
+                BOARD_ID,
+                name,
+                null,
+                new UserSummaryDto("auth0|user123", "testuser", null),
+                new CollaboratorDto[] {},
+                new TaskSummaryDto[] {},
+                new ColumnDto[] {},
+                false,
+                "2026-01-01T00:00:00Z",
+                "2026-01-01T00:00:00Z",
+                false,
+                0L);
+    }
+}
@@ -0,0 +1,126 @@
+package com.kylerriggs.velora.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.config.BoardProperties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class EntityScopeCacheTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID OTHER_BOARD_ID =
+            UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID OTHER_TASK_ID =
+            UUID.fromString("e156c2d0-891b-44de-816b-c9259cd00391");
+
+    private EntityScopeCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new EntityScopeCache(new BoardProperties());
+    }
+
+    @Test
+    void resolveBoardId_WhenCached_DoesNotLoadAgain() {
+        AtomicInteger loads = new AtomicInteger();
+        Function<UUID, Optional<UUID>> loader =
+                id -> {
+                    loads.incrementAndGet();
+                    return Optional.of(BOARD_ID);
+                };
+
+        cache.resolveBoardId(BoardChangeEntityType.TASK, TASK_ID, loader);
+        Optional<UUID> result = cache.resolveBoardId(BoardChangeEntityType.TASK, TASK_ID, loader);
+
+        assertThat(result).contains(BOARD_ID);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void resolveBoardId_WhenEntityMissing_DoesNotCacheAbsence() {
+        cache.resolveBoardId(BoardChangeEntityType.TASK, TASK_ID, id -> Optional.empty());
+
+        Optional<UUID> result =
+                cache.resolveBoardId(
+                        BoardChangeEntityType.TASK, TASK_ID, id -> Optional.of(BOARD_ID));
+
+        assertThat(result).contains(BOARD_ID);
+    }
+
+    @Test
+    void resolveBoardId_KeysByEntityType() {
+        cache.putAll(BoardChangeEntityType.TASK, List.of(TASK_ID), BOARD_ID);
+
+        Optional<UUID> result =
+                cache.resolveBoardId(BoardChangeEntityType.COLUMN, TASK_ID, id -> Optional.empty());
+
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void putAll_FillsEntriesWithoutLoading() {
+        cache.putAll(BoardChangeEntityType.TASK, List.of(TASK_ID, OTHER_TASK_ID), BOARD_ID);
+
+        Optional<UUID> result =
+                cache.resolveBoardId(
+                        BoardChangeEntityType.TASK,
+                        OTHER_TASK_ID,
+                        id -> {
+                            throw new AssertionError("Expected a cache hit");
+                        });
+
+        assertThat(result).contains(BOARD_ID);
+    }
+
+    @Test
+    void resolve_KeepsOwner() {
+        Optional<EntityScopeCache.Scope> result =
+                cache.resolve(
+                        BoardChangeEntityType.COMMENT,
+                        TASK_ID,
+                        id -> Optional.of(new EntityScopeCache.Scope(BOARD_ID, "auth0|author")));
+
+        assertThat(result).contains(new EntityScopeCache.Scope(BOARD_ID, "auth0|author"));
+    }
+
+    @Test
+    void invalidate_EvictsOnlyThatEntity() {
+        cache.putAll(BoardChangeEntityType.TASK, List.of(TASK_ID, OTHER_TASK_ID), BOARD_ID);
+
+        cache.invalidate(BoardChangeEntityType.TASK, TASK_ID);
+
+        assertThat(
+                        cache.resolveBoardId(
+                                BoardChangeEntityType.TASK, TASK_ID, id -> Optional.empty()))
+                .isEmpty();
+        assertThat(
+                        cache.resolveBoardId(
+                                BoardChangeEntityType.TASK, OTHER_TASK_ID, id -> Optional.empty()))
+                .contains(BOARD_ID);
+    }
+
+    @Test
+    void invalidateBoard_EvictsOnlyThatBoard() {
+        cache.putAll(BoardChangeEntityType.TASK, List.of(TASK_ID), BOARD_ID);
+        cache.putAll(BoardChangeEntityType.TASK, List.of(OTHER_TASK_ID), OTHER_BOARD_ID);
+
+        cache.invalidateBoard(BOARD_ID);
+
+        assertThat(
+                        cache.resolveBoardId(
+                                BoardChangeEntityType.TASK, TASK_ID, id -> Optional.empty()))
+                .isEmpty();
+        assertThat(
+                        cache.resolveBoardId(
+                                BoardChangeEntityType.TASK, OTHER_TASK_ID, id -> Optional.empty()))
+                .contains(OTHER_BOARD_ID);
+    }
+}
@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -25,6 +26,7 @@ import com.kylerriggs.velora.column.dto.MoveColumnRequest;
 import com.kylerriggs.velora.column.dto.UpdateColumnRequest;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.task.TaskArchiveService;
 import com.kylerriggs.velora.task.TaskRepository;
 import com.kylerriggs.velora.user.User;
@@ -35,11 +37,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -59,6 +63,7 @@ class ColumnServiceTest {
     @Mock private BoardEventPublisher eventPublisher;
     @Mock private ActivityLogService activityLogService;
     @Mock private ObjectMapper objectMapper;
+    @Mock private NotificationService notificationService;
     @InjectMocks private ColumnService columnService;
 
     private User user;
@@ -117,7 +122,8 @@ class ColumnServiceTest {
             assertEquals("New Column", result.name());
             assertEquals(3, result.position());
             verify(columnRepository, never()).incrementActivePositionsFrom(any(), anyInt());
-            verify(eventPublisher).publish(eq(BoardEventType.COLUMN_CREATED), eq(BOARD_ID), any());
+            verify(eventPublisher)
+                    .publish(eq(BoardEventType.COLUMN_CREATED), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -179,7 +185,8 @@ class ColumnServiceTest {
 
             // Then
             assertEquals("Renamed Column", result.name());
-            verify(eventPublisher).publish(eq(BoardEventType.COLUMN_UPDATED), eq(BOARD_ID), any());
+            verify(eventPublisher)
+                    .publish(eq(BoardEventType.COLUMN_UPDATED), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -229,7 +236,8 @@ class ColumnServiceTest {
             assertEquals(0, column.getRestorePosition());
             verify(taskArchiveService).archiveTasks(java.util.List.of());
             verify(columnRepository).decrementActivePositionsAfter(BOARD_ID, 0);
-            verify(eventPublisher).publish(BoardEventType.COLUMN_UPDATED, BOARD_ID, COLUMN_ID);
+            verify(eventPublisher)
+                    .publish(eq(BoardEventType.COLUMN_UPDATED), eq(BOARD_ID), eq(COLUMN_ID), any());
         }
 
         @Test
@@ -259,12 +267,16 @@ class ColumnServiceTest {
             column.setArchived(true);
             when(columnRepository.findByIdWithLock(COLUMN_ID)).thenReturn(Optional.of(column));
             when(taskRepository.countByColumnIdAndIsArchivedFalse(COLUMN_ID)).thenReturn(0L);
+            UUID archivedTaskId = UUID.randomUUID();
+            when(taskRepository.findIdsByColumnId(COLUMN_ID)).thenReturn(List.of(archivedTaskId));
 
             // When
             columnService.deleteColumn(COLUMN_ID);
 
             // Then
-            verify(taskRepository).deleteByColumnId(COLUMN_ID);
+            InOrder inOrder = inOrder(notificationService, taskRepository);
+            inOrder.verify(notificationService).deleteForTasks(List.of(archivedTaskId));
+            inOrder.verify(taskRepository).deleteByColumnId(COLUMN_ID);
             verify(columnRepository).delete(Objects.requireNonNull(column));
             verify(eventPublisher).publish(eq(BoardEventType.COLUMN_DELETED), eq(BOARD_ID), any());
         }
@@ -329,7 +341,8 @@ class ColumnServiceTest {
             // Then
             assertEquals(3, column.getPosition());
             verify(columnRepository).decrementActivePositionsInRange(BOARD_ID, 1, 3);
-            verify(eventPublisher).publish(eq(BoardEventType.COLUMN_MOVED), eq(BOARD_ID), any());
+            verify(eventPublisher)
+                    .publish(eq(BoardEventType.COLUMN_MOVED), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -2,6 +2,8 @@ package com.kylerriggs.velora.comment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.kylerriggs.velora.board.Board;
@@ -149,9 +151,17 @@ class CommentServiceIT extends PostgresIntegrationTestBase {
 
         assertThat(commentRepository.findById(created.id())).isEmpty();
         verify(boardEventPublisher)
-                .publish(BoardEventType.COMMENT_ADDED, board.getId(), created.id());
+                .publish(
+                        eq(BoardEventType.COMMENT_ADDED),
+                        eq(board.getId()),
+                        eq(created.id()),
+                        any());
         verify(boardEventPublisher)
-                .publish(BoardEventType.COMMENT_UPDATED, board.getId(), created.id());
+                .publish(
+                        eq(BoardEventType.COMMENT_UPDATED),
+                        eq(board.getId()),
+                        eq(created.id()),
+                        any());
         verify(boardEventPublisher)
                 .publish(BoardEventType.COMMENT_DELETED, board.getId(), created.id());
     }
@@ -0,0 +1,122 @@
+package com.kylerriggs.velora.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class RankKeysTest {
+
+    @Test
+    void between_WithNoBounds_ReturnsFirstKey() {
+        assertThat(RankKeys.between(null, null)).isEqualTo("a0");
+    }
+
+    @Test
+    void between_AlwaysSortsStrictlyBetweenBounds() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String lower = index > 0 ? keys.get(index - 1) : null;
+            String upper = index < keys.size() ? keys.get(index) : null;
+
+            String key = RankKeys.between(lower, upper);
+
+            if (lower != null) {
+                assertThat(key).isGreaterThan(lower);
+            }
+            if (upper != null) {
+                assertThat(key).isLessThan(upper);
+            }
+            keys.add(index, key);
+        }
+    }
+
+    @Test
+    void between_RepeatedAppendsStayShort() {
+        String key = null;
+        for (int i = 0; i < 100_000; i++) {
+            key = RankKeys.between(key, null);
+        }
+
+        assertThat(key).hasSizeLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void between_RepeatedInsertsBeforeFirstKeyKeepOrder() {
+        String first = RankKeys.between(null, null);
+        String key = RankKeys.between(null, first);
+        for (int i = 0; i < 1_000; i++) {
+            String next = RankKeys.between(null, key);
+            assertThat(next).isLessThan(key);
+            key = next;
+        }
+    }
+
+    @Test
+    void betweenCount_ReturnsOrderedKeysWithinBounds() {
+        String lower = RankKeys.fromPosition(1_000_000L);
+        String upper = RankKeys.fromPosition(1_000_001L);
+
+        List<String> keys = RankKeys.between(lower, upper, 100);
+
+        assertThat(keys).hasSize(100).isSorted().doesNotHaveDuplicates();
+        assertThat(keys.get(0)).isGreaterThan(lower);
+        assertThat(keys.get(99)).isLessThan(upper);
+        assertThat(keys).allSatisfy(key -> assertThat(key).hasSizeLessThanOrEqualTo(16));
+    }
+
+    @Test
+    void betweenCount_WithOpenBounds_ReturnsOrderedKeys() {
+        List<String> before = RankKeys.between(null, "a5", 10);
+        List<String> after = RankKeys.between("a5", null, 10);
+
+        assertThat(before).hasSize(10).isSorted().allSatisfy(k -> assertThat(k).isLessThan("a5"));
+        assertThat(after).hasSize(10).isSorted().allSatisfy(k -> assertThat(k).isGreaterThan("a5"));
+    }
+
+    @Test
+    void between_WhenBoundsOutOfOrder_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a1", "a0"));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a1", "a1"));
+    }
+
+    @Test
+    void between_WhenKeyIsMalformed_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a10", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("b1", null));
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.between("a-", null));
+    }
+
+    @Test
+    void fromPosition_SortsLikePositions() {
+        long[] positions = {0L, 1L, 61L, 62L, 3_844L, 1_000_000L, 2_000_000L, Long.MAX_VALUE};
+
+        for (int i = 1; i < positions.length; i++) {
+            assertThat(RankKeys.fromPosition(positions[i]))
+                    .isGreaterThan(RankKeys.fromPosition(positions[i - 1]));
+        }
+        assertThat(RankKeys.fromPosition(1_000_000L)).isEqualTo("k00000004C92");
+    }
+
+    @Test
+    void fromPosition_KeysAcceptNeighbors() {
+        String lower = RankKeys.fromPosition(1_000_000L);
+        String upper = RankKeys.fromPosition(1_000_001L);
+
+        String key = RankKeys.between(lower, upper);
+
+        assertThat(key).isGreaterThan(lower).isLessThan(upper);
+    }
+
+    @Test
+    void fromPosition_WhenNegative_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> RankKeys.fromPosition(-1L));
+    }
+}
@@ -0,0 +1,105 @@
+package com.kylerriggs.velora.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setBoardRead(new RateLimitProperties.Limit(2, Duration.ofMinutes(1)));
+        properties.setTaskMutation(new RateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectProvider<ProxyManager<String>> noProxyManager =
+                new StaticListableBeanFactory()
+                        .getBeanProvider(
+                                ResolvableType.forClassWithGenerics(
+                                        ProxyManager.class, String.class));
+        rateLimitFilter = new RateLimitFilter(properties, noProxyManager, meterRegistry);
+
+        TestingAuthenticationToken authentication =
+                new TestingAuthenticationToken("auth0|user123", null, "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WhenTierExhausted_RejectsAndCountsPerTier() throws Exception {
+        assertEquals(HttpStatus.OK.value(), perform("GET", "/boards/1").getStatus());
+        assertEquals(HttpStatus.OK.value(), perform("GET", "/boards/1").getStatus());
+
+        MockHttpServletResponse rejected = perform("GET", "/boards/1");
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), rejected.getStatus());
+        assertEquals(
+                1.0,
+                meterRegistry
+                        .get("velora.ratelimit.rejected")
+                        .tag("tier", "board-read")
+                        .counter()
+                        .count());
+        assertEquals(
+                0.0,
+                meterRegistry
+                        .get("velora.ratelimit.rejected")
+                        .tag("tier", "task-mutation")
+                        .counter()
+                        .count());
+    }
+
+    @Test
+    void doFilter_TiersHaveSeparateBuckets() throws Exception {
+        assertEquals(HttpStatus.OK.value(), perform("PATCH", "/tasks/1/position").getStatus());
+        assertEquals(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                perform("PATCH", "/tasks/1/position").getStatus());
+
+        assertEquals(HttpStatus.OK.value(), perform("GET", "/tasks/1").getStatus());
+    }
+
+    @Test
+    void tierOf_ClassifiesRoutes() {
+        assertEquals(RateLimitTier.BOARD_READ, tierOf("GET", "/boards/1/tasks"));
+        assertEquals(RateLimitTier.TASK_MUTATION, tierOf("PATCH", "/boards/1/tasks/positions"));
+        assertEquals(RateLimitTier.TASK_MUTATION, tierOf("POST", "/tasks"));
+        assertEquals(RateLimitTier.INVITE_ACCEPT, tierOf("POST", "/invites/abc/accept"));
+        assertEquals(RateLimitTier.NOTIFICATION_POLL, tierOf("GET", "/notifications/unread-count"));
+        assertEquals(RateLimitTier.STANDARD, tierOf("PUT", "/boards/1"));
+    }
+
+    private MockHttpServletResponse perform(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(
+                new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+
+    private RateLimitTier tierOf(String method, String path) {
+        return RateLimitTier.of(new MockHttpServletRequest(method, path));
+    }
+}
@@ -11,13 +11,18 @@ import com.kylerriggs.velora.exception.ErrorResponseFactory;
 import com.kylerriggs.velora.invite.BoardInviteController;
 import com.kylerriggs.velora.invite.BoardInviteService;
 import com.kylerriggs.velora.invite.dto.InvitePreviewDto;
-import com.kylerriggs.velora.user.UserSynchronizer;
+import com.kylerriggs.velora.user.UserSyncCoordinator;
 import com.kylerriggs.velora.user.UserSynchronizerFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
 import org.springframework.http.MediaType;
@@ -39,10 +44,19 @@ import java.util.Map;
     RestAccessDeniedHandler.class,
     ErrorResponseFactory.class,
     UserSynchronizerFilter.class,
-    RateLimitFilter.class
+    RateLimitFilter.class,
+    SecurityConfigWebMvcTest.MetricsConfig.class
 })
 class SecurityConfigWebMvcTest {
 
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
     @Autowired private MockMvc mockMvc;
 
     @BeforeEach
@@ -52,7 +66,7 @@ class SecurityConfigWebMvcTest {
 
     @MockitoBean private JwtDecoder jwtDecoder;
     @MockitoBean private JpaMetamodelMappingContext jpaMetamodelMappingContext;
-    @MockitoBean private UserSynchronizer userSynchronizer;
+    @MockitoBean private UserSyncCoordinator userSyncCoordinator;
     @MockitoBean private BoardInviteService boardInviteService;
 
     @Test
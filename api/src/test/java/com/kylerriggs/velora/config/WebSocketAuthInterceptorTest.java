@@ -222,4 +222,52 @@ class WebSocketAuthInterceptorTest {
         assertThrows(
                 IllegalArgumentException.class, () -> interceptor.preSend(message, messageChannel));
     }
+
+    @Test
+    void preSend_WithOwnUnreadCountSubscription_Allows() {
+        // Given
+        Message<byte[]> message = userTopicSubscription("/topic/users/auth0|user123/unread-count");
+
+        // When
+        Message<?> result = interceptor.preSend(message, messageChannel);
+
+        // Then
+        assertNotNull(result);
+    }
+
+    @Test
+    void preSend_WithOtherUsersUnreadCountSubscription_ThrowsAccessDenied() {
+        // Given
+        Message<byte[]> message = userTopicSubscription("/topic/users/auth0|other456/unread-count");
+
+        // When
+        AccessDeniedException exception =
+                assertThrows(
+                        AccessDeniedException.class,
+                        () -> interceptor.preSend(message, messageChannel));
+
+        // Then
+        assertTrue(exception.getMessage().contains("USER_ACCESS_DENIED"));
+    }
+
+    @Test
+    void preSend_WithUnknownUserTopic_ThrowsAccessDenied() {
+        // Given
+        Message<byte[]> message = userTopicSubscription("/topic/users/auth0|user123/other");
+
+        // When / Then
+        assertThrows(
+                AccessDeniedException.class, () -> interceptor.preSend(message, messageChannel));
+    }
+
+    private Message<byte[]> userTopicSubscription(String destination) {
+        TestingAuthenticationToken authentication =
+                new TestingAuthenticationToken("auth0|user123", null);
+        authentication.setAuthenticated(true);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setDestination(destination);
+        accessor.setUser(authentication);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
 }
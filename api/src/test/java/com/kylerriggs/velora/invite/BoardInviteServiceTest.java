@@ -1,5 +1,6 @@
 package com.kylerriggs.velora.invite;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -9,12 +10,15 @@ import static org.mockito.Mockito.when;
 
 import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.board.BoardLimitPolicy;
+import com.kylerriggs.velora.board.BoardMembershipCache;
 import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.board.BoardUserRepository;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.invite.dto.AcceptInviteResponse;
+import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserLookupService;
 import com.kylerriggs.velora.user.UserService;
+import com.kylerriggs.velora.websocket.BoardEventPublisher;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -38,6 +42,8 @@ class BoardInviteServiceTest {
     @Mock private UserService userService;
     @Mock private UserLookupService userLookupService;
     @Mock private BoardLimitPolicy boardLimitPolicy;
+    @Mock private BoardEventPublisher eventPublisher;
+    @Mock private BoardMembershipCache boardMembershipCache;
 
     @InjectMocks private BoardInviteService boardInviteService;
 
@@ -63,6 +69,32 @@ class BoardInviteServiceTest {
         assertTrue(response.alreadyMember());
         verify(inviteRepository).findByCodeWithBoardForUpdate(INVITE_CODE);
         verify(inviteRepository, never()).findByCodeWithBoard(any());
+        verify(boardMembershipCache, never()).invalidateAfterCommit(any(), any());
+    }
+
+    @Test
+    void acceptInvite_WhenNewMember_InvalidatesCachedMembership() {
+        Board board = Board.builder().id(BOARD_ID).name("Team Board").build();
+        BoardInvite invite =
+                BoardInvite.builder()
+                        .code(INVITE_CODE)
+                        .board(board)
+                        .maxUses(5)
+                        .useCount(1)
+                        .revoked(false)
+                        .build();
+
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(inviteRepository.findByCodeWithBoardForUpdate(INVITE_CODE))
+                .thenReturn(Optional.of(invite));
+        when(boardUserRepository.existsByBoardIdAndUserId(BOARD_ID, USER_ID)).thenReturn(false);
+        when(userLookupService.getRequiredUser(USER_ID))
+                .thenReturn(User.builder().id(USER_ID).build());
+
+        AcceptInviteResponse response = boardInviteService.acceptInvite(INVITE_CODE);
+
+        assertFalse(response.alreadyMember());
+        verify(boardMembershipCache).invalidateAfterCommit(BOARD_ID, USER_ID);
     }
 
     @Test
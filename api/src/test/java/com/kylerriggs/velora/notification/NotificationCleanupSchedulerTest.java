@@ -0,0 +1,71 @@
+package com.kylerriggs.velora.notification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.config.NotificationProperties;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCleanupSchedulerTest {
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private NotificationCleanupScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        NotificationProperties notificationProperties = new NotificationProperties();
+        notificationProperties.getRetention().setBatchSize(100);
+        notificationProperties.getRetention().setBatchPause(Duration.ZERO);
+        scheduler =
+                new NotificationCleanupScheduler(
+                        notificationRepository, transactionManager, notificationProperties);
+    }
+
+    @Test
+    void cleanupOldNotifications_DeletesInBatchesUntilShortBatch() {
+        // Given
+        when(notificationRepository.deleteOlderThan(any(Instant.class), eq(100)))
+                .thenReturn(100L, 100L, 30L);
+
+        // When
+        scheduler.cleanupOldNotifications();
+
+        // Then
+        verify(notificationRepository).createPartitions(3);
+        verify(notificationRepository).dropPartitionsOlderThan(any(Instant.class));
+        verify(notificationRepository, times(3)).deleteOlderThan(any(Instant.class), eq(100));
+    }
+
+    @Test
+    void cleanupOldNotifications_DropsPartitionsBeforeRetentionPeriod() {
+        // Given
+        Instant expectedCutoff = Instant.now().minus(Duration.ofDays(90));
+
+        // When
+        scheduler.cleanupOldNotifications();
+
+        // Then
+        verify(notificationRepository)
+                .dropPartitionsOlderThan(
+                        argThat(
+                                cutoff ->
+                                        !cutoff.isBefore(expectedCutoff)
+                                                && cutoff.isBefore(
+                                                        expectedCutoff.plusSeconds(60))));
+    }
+}
@@ -0,0 +1,64 @@
+package com.kylerriggs.velora.notification;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCountReconcileSchedulerTest {
+    private static final String USER_ID = "auth0|user123";
+    private static final String OTHER_USER_ID = "auth0|other456";
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private NotificationCountReconcileScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler =
+                new NotificationCountReconcileScheduler(notificationRepository, transactionManager);
+    }
+
+    @Test
+    void reconcileUnreadCounts_LocksEachDriftedCountBeforeRecounting() {
+        // Given
+        when(notificationRepository.findDriftedUnreadCountUserIds())
+                .thenReturn(List.of(USER_ID, OTHER_USER_ID));
+        when(notificationRepository.reconcileUnreadCount(USER_ID)).thenReturn(1);
+        when(notificationRepository.reconcileUnreadCount(OTHER_USER_ID)).thenReturn(0);
+
+        // When
+        scheduler.reconcileUnreadCounts();
+
+        // Then
+        InOrder inOrder = inOrder(notificationRepository);
+        inOrder.verify(notificationRepository).lockUnreadCount(USER_ID);
+        inOrder.verify(notificationRepository).reconcileUnreadCount(USER_ID);
+        inOrder.verify(notificationRepository).lockUnreadCount(OTHER_USER_ID);
+        inOrder.verify(notificationRepository).reconcileUnreadCount(OTHER_USER_ID);
+    }
+
+    @Test
+    void reconcileUnreadCounts_WhenNothingDrifted_DoesNotLockCounts() {
+        // Given
+        when(notificationRepository.findDriftedUnreadCountUserIds()).thenReturn(List.of());
+
+        // When
+        scheduler.reconcileUnreadCounts();
+
+        // Then
+        verify(notificationRepository, never()).lockUnreadCount(USER_ID);
+    }
+}
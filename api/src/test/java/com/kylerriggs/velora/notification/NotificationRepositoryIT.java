@@ -0,0 +1,163 @@
+package com.kylerriggs.velora.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.kylerriggs.velora.board.Board;
+import com.kylerriggs.velora.board.BoardRepository;
+import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+class NotificationRepositoryIT extends PostgresIntegrationTestBase {
+
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private ColumnRepository columnRepository;
+    @Autowired private EntityManager entityManager;
+
+    @MockitoBean private JwtDecoder jwtDecoder;
+
+    private User actor;
+    private User recipient;
+    private User otherRecipient;
+    private Board board;
+    private Board otherBoard;
+    private Task deletedTask;
+    private Task keptTask;
+    private Task otherBoardTask;
+
+    @BeforeEach
+    void setUp() {
+        actor = seedUser("notification-repo-actor");
+        recipient = seedUser("notification-repo-recipient");
+        otherRecipient = seedUser("notification-repo-other");
+
+        board = seedBoard("Notification Repository IT Board");
+        otherBoard = seedBoard("Notification Repository IT Other Board");
+
+        Column column = seedColumn(board);
+        deletedTask = seedTask(column, "Deleted task", 1_000_000L);
+        keptTask = seedTask(column, "Kept task", 2_000_000L);
+        otherBoardTask = seedTask(seedColumn(otherBoard), "Other board task", 1_000_000L);
+
+        seedNotification(recipient, deletedTask, false);
+        seedNotification(recipient, deletedTask, false);
+        seedNotification(recipient, deletedTask, true);
+        seedNotification(recipient, keptTask, false);
+        seedNotification(otherRecipient, deletedTask, true);
+        seedNotification(recipient, otherBoardTask, false);
+        notificationRepository.addUnreadCount(recipient.getId(), 4);
+        notificationRepository.addUnreadCount(otherRecipient.getId(), 2);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void deleteByTaskIds_removesTaskNotificationsAndSubtractsUnreadOnes() {
+        List<NotificationRepository.UnreadCount> counts =
+                notificationRepository.deleteByTaskIds(List.of(deletedTask.getId()));
+
+        assertThat(counts)
+                .extracting(
+                        NotificationRepository.UnreadCount::getUserId,
+                        NotificationRepository.UnreadCount::getUnreadCount)
+                .containsExactly(tuple(recipient.getId(), 2L));
+        assertThat(notificationRepository.findUnreadCount(recipient.getId())).contains(2L);
+        assertThat(notificationRepository.findUnreadCount(otherRecipient.getId())).contains(2L);
+        assertThat(notificationRepository.findAll())
+                .extracting(notification -> notification.getTask().getId())
+                .containsExactlyInAnyOrder(keptTask.getId(), otherBoardTask.getId());
+    }
+
+    @Test
+    void deleteByBoardId_removesBoardNotificationsAndSubtractsUnreadOnes() {
+        List<NotificationRepository.UnreadCount> counts =
+                notificationRepository.deleteByBoardId(board.getId());
+
+        assertThat(counts)
+                .extracting(
+                        NotificationRepository.UnreadCount::getUserId,
+                        NotificationRepository.UnreadCount::getUnreadCount)
+                .containsExactly(tuple(recipient.getId(), 1L));
+        assertThat(notificationRepository.findAll())
+                .extracting(notification -> notification.getTask().getId())
+                .containsExactly(otherBoardTask.getId());
+    }
+
+    private User seedUser(String name) {
+        return userRepository.save(
+                User.builder()
+                        .id("auth0|" + name)
+                        .username(name)
+                        .email(name + "@example.com")
+                        .profileImageUrl("https://example.com/" + name + ".png")
+                        .build());
+    }
+
+    private Board seedBoard(String name) {
+        return boardRepository.save(
+                Board.builder()
+                        .name(name)
+                        .description("notification counts")
+                        .createdBy(actor)
+                        .build());
+    }
+
+    private Column seedColumn(Board columnBoard) {
+        return columnRepository.save(
+                Column.builder()
+                        .name("To Do")
+                        .position(0)
+                        .board(columnBoard)
+                        .isArchived(false)
+                        .build());
+    }
+
+    private Task seedTask(Column column, String title, long position) {
+        return taskRepository.save(
+                Task.builder()
+                        .title(title)
+                        .description("seed")
+                        .position(position)
+                        .board(column.getBoard())
+                        .column(column)
+                        .createdBy(actor)
+                        .isArchived(false)
+                        .build());
+    }
+
+    private void seedNotification(User notificationRecipient, Task task, boolean read) {
+        notificationRepository.save(
+                Notification.builder()
+                        .type(NotificationType.ASSIGNED_TO_TASK)
+                        .message("assigned")
+                        .isRead(read)
+                        .recipient(notificationRecipient)
+                        .actor(actor)
+                        .task(task)
+                        .board(task.getBoard())
+                        .referenceId(task.getId())
+                        .build());
+    }
+}
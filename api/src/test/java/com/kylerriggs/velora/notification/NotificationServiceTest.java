@@ -0,0 +1,272 @@
+package com.kylerriggs.velora.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.board.Board;
+import com.kylerriggs.velora.config.NotificationProperties;
+import com.kylerriggs.velora.notification.dto.NotificationDto;
+import com.kylerriggs.velora.notification.dto.UnreadCountUpdateDto;
+import com.kylerriggs.velora.task.Task;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserService;
+import com.kylerriggs.velora.user.dto.UserSummaryDto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+    private static final String USER_ID = "auth0|user123";
+    private static final String USER_TOPIC = "/topic/users/auth0|user123/notifications";
+    private static final String COUNT_TOPIC = "/topic/users/auth0|user123/unread-count";
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private NotificationRepository notificationRepository;
+    @Mock private NotificationMapper notificationMapper;
+    @Mock private UserService userService;
+    @Mock private SimpMessagingTemplate messagingTemplate;
+    @Spy private NotificationProperties notificationProperties = new NotificationProperties();
+
+    @InjectMocks private NotificationService notificationService;
+
+    @Test
+    void getUnreadCount_ReadsMaintainedCount() {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(notificationRepository.findUnreadCount(USER_ID)).thenReturn(Optional.of(7L));
+
+        // When & Then
+        assertThat(notificationService.getUnreadCount().count()).isEqualTo(7);
+    }
+
+    @Test
+    void getUnreadCount_WhenUserHasNoCount_ReturnsZero() {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(notificationRepository.findUnreadCount(USER_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThat(notificationService.getUnreadCount().count()).isZero();
+    }
+
+    @Test
+    void markAllAsRead_SubtractsMarkedAndPushesCount() {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(notificationRepository.markAllAsRead(any(), any(Instant.class))).thenReturn(3);
+        when(notificationRepository.addUnreadCount(USER_ID, -3)).thenReturn(1L);
+
+        // When
+        int marked = notificationService.markAllAsRead();
+
+        // Then
+        assertThat(marked).isEqualTo(3);
+        verify(messagingTemplate).convertAndSend(COUNT_TOPIC, new UnreadCountUpdateDto(1));
+        verify(messagingTemplate, never()).convertAndSend(eq(USER_TOPIC), any(Object.class));
+    }
+
+    @Test
+    void markAllAsRead_WhenNothingUnread_LeavesCountAlone() {
+        // Given
+        when(userService.getCurrentUserId()).thenReturn(USER_ID);
+        when(notificationRepository.markAllAsRead(any(), any(Instant.class))).thenReturn(0);
+
+        // When
+        notificationService.markAllAsRead();
+
+        // Then
+        verify(notificationRepository, never()).addUnreadCount(anyString(), anyLong());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void deleteForTasks_PushesAdjustedCounts() {
+        // Given
+        NotificationRepository.UnreadCount count = mock(NotificationRepository.UnreadCount.class);
+        when(count.getUserId()).thenReturn(USER_ID);
+        when(count.getUnreadCount()).thenReturn(4L);
+        when(notificationRepository.deleteByTaskIds(List.of(TASK_ID))).thenReturn(List.of(count));
+
+        // When
+        notificationService.deleteForTasks(List.of(TASK_ID));
+
+        // Then
+        verify(messagingTemplate).convertAndSend(COUNT_TOPIC, new UnreadCountUpdateDto(4));
+    }
+
+    @Test
+    void deleteForTasks_WhenNoTasks_SkipsQuery() {
+        // When
+        notificationService.deleteForTasks(List.of());
+
+        // Then
+        verify(notificationRepository, never()).deleteByTaskIds(anyList());
+    }
+
+    @Test
+    void createAndBroadcastAll_WhenUnreadNotificationInWindow_FoldsIntoIt() {
+        // Given
+        User recipient = User.builder().id(USER_ID).build();
+        User latestActor = User.builder().id("latest").build();
+        Task task = Task.builder().id(TASK_ID).build();
+        UUID existingId = UUID.randomUUID();
+        UUID firstReferenceId = UUID.randomUUID();
+        when(notificationRepository.findFoldable(
+                        eq(List.of(USER_ID)),
+                        eq(TASK_ID),
+                        eq(NotificationType.COMMENT_ON_ASSIGNED_TASK),
+                        any(Instant.class)))
+                .thenReturn(List.of(foldCandidate(existingId, firstReferenceId)));
+        when(notificationRepository.fold(
+                        eq(existingId), eq("latest"), eq("latest commented"), any(Instant.class)))
+                .thenReturn(Optional.of(2));
+        when(notificationRepository.saveAll(List.<Notification>of())).thenReturn(List.of());
+        NotificationDto dto = notificationDto(existingId, 2);
+        when(notificationMapper.toDto(any(Notification.class))).thenReturn(dto);
+
+        // When
+        notificationService.createAndBroadcastAll(
+                NotificationType.COMMENT_ON_ASSIGNED_TASK,
+                List.of(recipient),
+                latestActor,
+                task,
+                Board.builder().build(),
+                "latest commented",
+                UUID.randomUUID());
+
+        // Then
+        ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationMapper).toDto(captor.capture());
+        Notification folded = captor.getValue();
+        assertThat(folded.getId()).isEqualTo(existingId);
+        assertThat(folded.getOccurrenceCount()).isEqualTo(2);
+        assertThat(folded.getActor()).isEqualTo(latestActor);
+        assertThat(folded.getMessage()).isEqualTo("latest commented");
+        assertThat(folded.getReferenceId()).isEqualTo(firstReferenceId);
+        verify(messagingTemplate).convertAndSend(USER_TOPIC, dto);
+        verify(notificationRepository, never()).incrementUnreadCounts(anyList());
+    }
+
+    @Test
+    void createAndBroadcastAll_WhenCandidateMarkedReadConcurrently_CreatesNotification() {
+        // Given
+        User recipient = User.builder().id(USER_ID).build();
+        Task task = Task.builder().id(TASK_ID).build();
+        UUID existingId = UUID.randomUUID();
+        when(notificationRepository.findFoldable(
+                        eq(List.of(USER_ID)),
+                        eq(TASK_ID),
+                        eq(NotificationType.COMMENT_ON_ASSIGNED_TASK),
+                        any(Instant.class)))
+                .thenReturn(List.of(foldCandidate(existingId, null)));
+        when(notificationRepository.fold(eq(existingId), any(), any(), any(Instant.class)))
+                .thenReturn(Optional.empty());
+        when(notificationRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationRepository.incrementUnreadCounts(List.of(USER_ID))).thenReturn(List.of());
+        NotificationDto dto = notificationDto(UUID.randomUUID(), 1);
+        when(notificationMapper.toDto(any(Notification.class))).thenReturn(dto);
+
+        // When
+        notificationService.createAndBroadcastAll(
+                NotificationType.COMMENT_ON_ASSIGNED_TASK,
+                List.of(recipient),
+                User.builder().id("actor").build(),
+                task,
+                Board.builder().build(),
+                "actor commented",
+                null);
+
+        // Then
+        verify(notificationRepository).incrementUnreadCounts(List.of(USER_ID));
+        verify(messagingTemplate).convertAndSend(USER_TOPIC, dto);
+    }
+
+    @Test
+    void createAndBroadcastAll_WhenDigestDisabled_CreatesNotification() {
+        // Given
+        notificationProperties.setDigestWindow(Duration.ZERO);
+        User recipient = User.builder().id(USER_ID).build();
+        Task task = Task.builder().id(TASK_ID).build();
+        when(notificationRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(notificationRepository.incrementUnreadCounts(List.of(USER_ID))).thenReturn(List.of());
+        NotificationDto dto = notificationDto(UUID.randomUUID(), 1);
+        when(notificationMapper.toDto(any(Notification.class))).thenReturn(dto);
+
+        // When
+        notificationService.createAndBroadcastAll(
+                NotificationType.COMMENT_ON_ASSIGNED_TASK,
+                List.of(recipient),
+                User.builder().id("actor").build(),
+                task,
+                Board.builder().build(),
+                "actor commented",
+                null);
+
+        // Then
+        verify(notificationRepository, never()).findFoldable(any(), any(), any(), any());
+        verify(notificationRepository).incrementUnreadCounts(List.of(USER_ID));
+        verify(messagingTemplate).convertAndSend(USER_TOPIC, dto);
+    }
+
+    private NotificationRepository.FoldCandidate foldCandidate(UUID id, UUID referenceId) {
+        return new NotificationRepository.FoldCandidate() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getRecipientId() {
+                return USER_ID;
+            }
+
+            @Override
+            public Instant getDateCreated() {
+                return Instant.parse("2026-01-01T00:00:00Z");
+            }
+
+            @Override
+            public UUID getReferenceId() {
+                return referenceId;
+            }
+        };
+    }
+
+    private NotificationDto notificationDto(UUID id, int occurrenceCount) {
+        return new NotificationDto(
+                id,
+                NotificationType.COMMENT_ON_ASSIGNED_TASK.name(),
+                "commented",
+                false,
+                new UserSummaryDto("actor", "actor", null),
+                TASK_ID,
+                "Task",
+                UUID.randomUUID(),
+                "Board",
+                "2026-01-01T00:00:00Z",
+                occurrenceCount);
+    }
+}
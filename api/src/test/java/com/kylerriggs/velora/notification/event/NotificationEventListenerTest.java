@@ -1,31 +1,62 @@
 package com.kylerriggs.velora.notification.event;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.notification.NotificationService;
+import com.kylerriggs.velora.notification.NotificationType;
+import com.kylerriggs.velora.notification.event.NotificationEvent.AssigneeChangedEvent;
+import com.kylerriggs.velora.notification.event.NotificationEvent.CommentCreatedEvent;
 import com.kylerriggs.velora.notification.event.NotificationEvent.CommentDeletedEvent;
+import com.kylerriggs.velora.task.Task;
 import com.kylerriggs.velora.task.TaskRepository;
+import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserRepository;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationEventListenerTest {
+    private static final UUID COMMENT_ID = UUID.fromString("e556c2d0-891b-44de-816b-c9259cd00395");
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
 
     @Mock private NotificationService notificationService;
     @Mock private UserRepository userRepository;
     @Mock private TaskRepository taskRepository;
     @Mock private BoardRepository boardRepository;
 
+    @Captor private ArgumentCaptor<Collection<User>> recipientsCaptor;
+
     @InjectMocks private NotificationEventListener notificationEventListener;
 
+    @Test
+    void handle_DispatchesToHandlerForEventType() {
+        notificationEventListener.handle(new CommentDeletedEvent(COMMENT_ID));
+
+        verify(notificationService).markAllAsReadByReferenceId(COMMENT_ID);
+    }
+
     @Test
     void handleCommentDeleted_marksNotificationsReadByReferenceId() {
         UUID commentId = UUID.fromString("e556c2d0-891b-44de-816b-c9259cd00395");
@@ -34,4 +65,55 @@ class NotificationEventListenerTest {
 
         verify(notificationService).markAllAsReadByReferenceId(commentId);
     }
+
+    @Test
+    void handleCommentCreated_LoadsUsersOnceAndNotifiesMentionsTogether() {
+        // Given
+        User author = user("author");
+        User alice = user("alice");
+        User bob = user("bob");
+        Task task = Task.builder().id(TASK_ID).title("Ship it").build();
+        Board board = Board.builder().id(BOARD_ID).build();
+        when(taskRepository.findById(TASK_ID)).thenReturn(Optional.of(task));
+        when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+        when(userRepository.findAllById(Set.of("author", "alice", "bob", "ghost")))
+                .thenReturn(List.of(author, alice, bob));
+
+        // When
+        notificationEventListener.handleCommentCreated(
+                new CommentCreatedEvent(
+                        COMMENT_ID,
+                        TASK_ID,
+                        BOARD_ID,
+                        "author",
+                        "[@Alice](alice) [@Bob](bob) [@Ghost](ghost) [@Me](author)"));
+
+        // Then
+        verify(notificationService)
+                .createAndBroadcastAll(
+                        eq(NotificationType.MENTIONED_IN_COMMENT),
+                        recipientsCaptor.capture(),
+                        eq(author),
+                        eq(task),
+                        eq(board),
+                        anyString(),
+                        eq(COMMENT_ID));
+        assertThat(recipientsCaptor.getValue()).containsExactlyInAnyOrder(alice, bob);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void handleAssigneeChanged_WhenAssigneeMadeTheChange_DoesNotNotify() {
+        // When
+        notificationEventListener.handleAssigneeChanged(
+                new AssigneeChangedEvent(TASK_ID, BOARD_ID, "bob", "bob", "alice"));
+
+        // Then
+        verify(notificationService, never())
+                .createAndBroadcastAll(any(), anyCollection(), any(), any(), any(), any(), any());
+    }
+
+    private User user(String id) {
+        return User.builder().id(id).username(id).build();
+    }
 }
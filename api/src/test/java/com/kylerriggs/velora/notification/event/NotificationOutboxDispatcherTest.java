@@ -0,0 +1,133 @@
+package com.kylerriggs.velora.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.config.NotificationProperties;
+import com.kylerriggs.velora.notification.event.NotificationEvent.CommentDeletedEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxDispatcherTest {
+    @Mock private NotificationOutboxRepository outboxRepository;
+    @Mock private NotificationOutbox notificationOutbox;
+    @Mock private NotificationEventListener notificationEventListener;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        NotificationProperties notificationProperties = new NotificationProperties();
+        notificationProperties.getOutbox().setBatchSize(2);
+        notificationProperties.getOutbox().setMaxAttempts(3);
+        meterRegistry = new SimpleMeterRegistry();
+        dispatcher =
+                new NotificationOutboxDispatcher(
+                        outboxRepository,
+                        notificationOutbox,
+                        notificationEventListener,
+                        transactionManager,
+                        notificationProperties,
+                        meterRegistry);
+    }
+
+    @Test
+    void dispatch_HandlesClaimedEventsAndDeletesThem() {
+        // Given
+        NotificationOutboxEntry first = entry(1L, 0);
+        NotificationOutboxEntry second = entry(2L, 0);
+        NotificationEvent firstEvent = event(first);
+        NotificationEvent secondEvent = event(second);
+        when(outboxRepository.claim(any(Instant.class), eq(2)))
+                .thenReturn(List.of(first, second), List.of());
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(notificationEventListener).handle(firstEvent);
+        verify(notificationEventListener).handle(secondEvent);
+        verify(outboxRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void dispatch_WhenEventFails_DefersItAndHandlesTheOthers() {
+        // Given
+        NotificationOutboxEntry failing = entry(1L, 0);
+        NotificationOutboxEntry other = entry(2L, 0);
+        NotificationEvent failingEvent = event(failing);
+        NotificationEvent otherEvent = event(other);
+        doThrow(new IllegalStateException("boom"))
+                .when(notificationEventListener)
+                .handle(failingEvent);
+        when(outboxRepository.claim(any(Instant.class), eq(2)))
+                .thenReturn(List.of(failing, other), List.of());
+        when(outboxRepository.claim(any(Instant.class), eq(1)))
+                .thenReturn(List.of(failing), List.of(other));
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxRepository).recordFailedAttempt(eq(1L), any(Instant.class));
+        verify(notificationEventListener).handle(otherEvent);
+        verify(outboxRepository).deleteAllInBatch(List.of(other));
+        verify(outboxRepository, never()).deleteAllInBatch(List.of(failing));
+    }
+
+    @Test
+    void dispatch_WhenEventRunsOutOfAttempts_DiscardsIt() {
+        // Given
+        NotificationOutboxEntry failing = entry(1L, 2);
+        NotificationEvent failingEvent = event(failing);
+        doThrow(new IllegalStateException("boom"))
+                .when(notificationEventListener)
+                .handle(failingEvent);
+        when(outboxRepository.claim(any(Instant.class), eq(2))).thenReturn(List.of(failing));
+        when(outboxRepository.claim(any(Instant.class), eq(1)))
+                .thenReturn(List.of(failing), List.of());
+
+        // When
+        dispatcher.dispatch();
+
+        // Then
+        verify(outboxRepository).deleteById(1L);
+        verify(outboxRepository, never()).recordFailedAttempt(any(), any());
+        assertThat(meterRegistry.counter("velora.notifications.outbox.discarded").count())
+                .isEqualTo(1);
+    }
+
+    private NotificationOutboxEntry entry(long id, int attempts) {
+        return NotificationOutboxEntry.builder()
+                .id(id)
+                .eventType("CommentDeletedEvent")
+                .payload("{}")
+                .attempts(attempts)
+                .build();
+    }
+
+    private NotificationEvent event(NotificationOutboxEntry entry) {
+        NotificationEvent event = new CommentDeletedEvent(UUID.randomUUID());
+        when(notificationOutbox.read(entry)).thenReturn(event);
+        return event;
+    }
+}
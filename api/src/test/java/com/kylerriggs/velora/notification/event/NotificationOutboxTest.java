@@ -0,0 +1,61 @@
+package com.kylerriggs.velora.notification.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kylerriggs.velora.notification.event.NotificationEvent.CommentUpdatedEvent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxTest {
+    @Mock private NotificationOutboxRepository outboxRepository;
+    @Spy private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Captor private ArgumentCaptor<NotificationOutboxEntry> entryCaptor;
+
+    @InjectMocks private NotificationOutbox notificationOutbox;
+
+    @Test
+    void enqueue_StoresEventThatReadsBack() {
+        // Given
+        CommentUpdatedEvent event =
+                new CommentUpdatedEvent(
+                        UUID.fromString("e556c2d0-891b-44de-816b-c9259cd00395"),
+                        UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391"),
+                        UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391"),
+                        "auth0|editor",
+                        "hi",
+                        "hi @[Alice](alice)");
+
+        // When
+        notificationOutbox.enqueue(event);
+
+        // Then
+        verify(outboxRepository).save(entryCaptor.capture());
+        NotificationOutboxEntry entry = entryCaptor.getValue();
+        assertThat(entry.getEventType()).isEqualTo("CommentUpdatedEvent");
+        assertThat(entry.getAvailableAt()).isNotNull();
+        assertThat(notificationOutbox.read(entry)).isEqualTo(event);
+    }
+
+    @Test
+    void read_WhenEventTypeIsUnknown_Throws() {
+        NotificationOutboxEntry entry =
+                NotificationOutboxEntry.builder().id(1L).eventType("Removed").payload("{}").build();
+
+        assertThatThrownBy(() -> notificationOutbox.read(entry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.kylerriggs.velora.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import com.kylerriggs.velora.config.BoardProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@ExtendWith(MockitoExtension.class)
+class ColumnPositionLockTest {
+    private static final UUID COLUMN_ID = UUID.fromString("c156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ColumnPositionLock columnPositionLock;
+
+    @BeforeEach
+    void setUp() {
+        BoardProperties boardProperties = new BoardProperties();
+        boardProperties.getPositionWrites().setMaxAttempts(3);
+        boardProperties.getPositionWrites().setBackoff(Duration.ZERO);
+        meterRegistry = new SimpleMeterRegistry();
+        columnPositionLock = new ColumnPositionLock(taskRepository, boardProperties, meterRegistry);
+    }
+
+    @Test
+    void acquire_LocksColumnAndRecordsWait() {
+        columnPositionLock.acquire(COLUMN_ID);
+
+        verify(taskRepository).lockColumnPositions(COLUMN_ID);
+        assertThat(meterRegistry.get("velora.tasks.column_lock.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void withRetry_WhenPositionConstraintFails_RetriesUntilWriteSucceeds() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result =
+                columnPositionLock.withRetry(
+                        "move",
+                        () -> {
+                            if (attempts.incrementAndGet() == 1) {
+                                throw positionConflict();
+                            }
+                            return "moved";
+                        });
+
+        assertThat(result).isEqualTo("moved");
+        assertThat(attempts).hasValue(2);
+        assertThat(
+                        meterRegistry
+                                .get("velora.tasks.position.retries")
+                                .tag("operation", "move")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void withRetry_WhenLockIsLost_Retries() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        columnPositionLock.withRetry(
+                "move",
+                () -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new CannotAcquireLockException("deadlock detected");
+                    }
+                });
+
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void withRetry_WhenConflictPersists_GivesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () ->
+                        columnPositionLock.withRetry(
+                                "move",
+                                () -> {
+                                    attempts.incrementAndGet();
+                                    throw positionConflict();
+                                }));
+
+        assertThat(attempts).hasValue(3);
+        assertThat(
+                        meterRegistry
+                                .get("velora.tasks.position.conflicts")
+                                .tag("operation", "move")
+                                .counter()
+                                .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void withRetry_WhenOtherConstraintFails_DoesNotRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () ->
+                        columnPositionLock.withRetry(
+                                "create",
+                                () -> {
+                                    attempts.incrementAndGet();
+                                    throw new DataIntegrityViolationException(
+                                            "insert failed",
+                                            new SQLException(
+                                                    "violates foreign key constraint"
+                                                            + " \"fk_task_board\""));
+                                }));
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static DataIntegrityViolationException positionConflict() {
+        return new DataIntegrityViolationException(
+                "commit failed",
+                new SQLException(
+                        "duplicate key value violates unique constraint"
+                                + " \"uk_task_column_position\""));
+    }
+}
@@ -4,15 +4,18 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.kylerriggs.velora.board.BoardAccess;
+import com.kylerriggs.velora.board.EntityScopeCache;
+import com.kylerriggs.velora.config.BoardProperties;
 import com.kylerriggs.velora.exception.ForbiddenException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
@@ -20,99 +23,91 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 class TaskAccessTest {
 
     private static final UUID TASK_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID BOARD_ID = UUID.fromString("b156c2d0-891b-44de-816b-c9259cd00391");
     private static final String USER_ID = "user123";
     @Mock private TaskRepository taskRepository;
+    @Mock private BoardAccess boardAccess;
     @Mock private SecurityContext securityContext;
     @Mock private Authentication authentication;
-    @InjectMocks private TaskAccess taskAccess;
+    private TaskAccess taskAccess;
 
     @BeforeEach
     void setUp() {
         SecurityContextHolder.setContext(securityContext);
+        taskAccess =
+                new TaskAccess(
+                        taskRepository, new EntityScopeCache(new BoardProperties()), boardAccess);
     }
 
-    @Test
-    void isCollaborator_WhenUserIsOwner_ReturnsTrue() {
-        // Given
+    private void setupAuthentication(String userId) {
         when(securityContext.getAuthentication()).thenReturn(authentication);
         when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(USER_ID);
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID)))
-                .thenReturn(true);
+        when(authentication.getName()).thenReturn(userId);
+    }
+
+    @Test
+    void isCollaborator_WhenUserIsCollaborator_ReturnsTrue() {
+        // Given
+        setupAuthentication(USER_ID);
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.of(BOARD_ID));
+        when(boardAccess.isCollaborator(USER_ID, BOARD_ID)).thenReturn(true);
 
         // When
         boolean result = taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID));
 
         // Then
         assertTrue(result);
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID));
+        verify(boardAccess).isCollaborator(USER_ID, BOARD_ID);
     }
 
     @Test
-    void isCollaborator_WhenUserIsCollaborator_ReturnsTrue() {
+    void isCollaborator_WhenCalledAgain_ResolvesBoardFromCache() {
         // Given
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(USER_ID);
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID)))
-                .thenReturn(true);
+        setupAuthentication(USER_ID);
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.of(BOARD_ID));
+        when(boardAccess.isCollaborator(USER_ID, BOARD_ID)).thenReturn(true);
 
         // When
-        boolean result = taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID));
+        taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID));
+        taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID));
 
         // Then
-        assertTrue(result);
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID));
+        verify(taskRepository, times(1)).findBoardIdById(TASK_ID);
+        verify(boardAccess, times(2)).isCollaborator(USER_ID, BOARD_ID);
     }
 
     @Test
     void isCollaborator_WhenUserIsNotMember_ThrowsForbiddenException() {
         // Given
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(Objects.requireNonNull(USER_ID));
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID)))
-                .thenReturn(false);
+        setupAuthentication(USER_ID);
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.of(BOARD_ID));
+        when(boardAccess.isCollaborator(USER_ID, BOARD_ID))
+                .thenThrow(new ForbiddenException("Not a collaborator on this board"));
 
         // When & Then
         assertThrows(
                 ForbiddenException.class,
                 () -> taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID)));
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID));
     }
 
     @Test
     void isCollaborator_WhenTaskDoesNotExist_ThrowsForbiddenException() {
         // Given
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(Objects.requireNonNull(USER_ID));
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID)))
-                .thenReturn(false);
+        setupAuthentication(USER_ID);
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(
                 ForbiddenException.class,
                 () -> taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID)));
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(USER_ID));
+        verify(boardAccess, never()).isCollaborator(any(), any());
     }
 
     @Test
@@ -124,7 +119,7 @@ class TaskAccessTest {
         assertThrows(
                 IllegalStateException.class,
                 () -> taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID)));
-        verify(taskRepository, never()).isUserAuthorizedForTask(any(), any());
+        verify(taskRepository, never()).findBoardIdById(any());
     }
 
     @Test
@@ -137,48 +132,38 @@ class TaskAccessTest {
         assertThrows(
                 IllegalStateException.class,
                 () -> taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID)));
-        verify(taskRepository, never()).isUserAuthorizedForTask(any(), any());
+        verify(taskRepository, never()).findBoardIdById(any());
     }
 
     @Test
     void isCollaborator_WithDifferentUserId_UsesCorrectUserId() {
         // Given
         String differentUserId = "differentUser456";
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(differentUserId);
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(differentUserId)))
-                .thenReturn(true);
+        setupAuthentication(differentUserId);
+        when(taskRepository.findBoardIdById(TASK_ID)).thenReturn(Optional.of(BOARD_ID));
+        when(boardAccess.isCollaborator(differentUserId, BOARD_ID)).thenReturn(true);
 
         // When
         boolean result = taskAccess.isCollaborator(Objects.requireNonNull(TASK_ID));
 
         // Then
         assertTrue(result);
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(TASK_ID), Objects.requireNonNull(differentUserId));
+        verify(boardAccess).isCollaborator(differentUserId, BOARD_ID);
     }
 
     @Test
     void isCollaborator_WithDifferentTaskId_UsesCorrectTaskId() {
         // Given
         UUID differentTaskId = UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.isAuthenticated()).thenReturn(true);
-        when(authentication.getName()).thenReturn(Objects.requireNonNull(USER_ID));
-        when(taskRepository.isUserAuthorizedForTask(
-                        Objects.requireNonNull(differentTaskId), Objects.requireNonNull(USER_ID)))
-                .thenReturn(true);
+        setupAuthentication(USER_ID);
+        when(taskRepository.findBoardIdById(differentTaskId)).thenReturn(Optional.of(BOARD_ID));
+        when(boardAccess.isCollaborator(USER_ID, BOARD_ID)).thenReturn(true);
 
         // When
         boolean result = taskAccess.isCollaborator(Objects.requireNonNull(differentTaskId));
 
         // Then
         assertTrue(result);
-        verify(taskRepository)
-                .isUserAuthorizedForTask(
-                        Objects.requireNonNull(differentTaskId), Objects.requireNonNull(USER_ID));
+        verify(taskRepository).findBoardIdById(differentTaskId);
     }
 }
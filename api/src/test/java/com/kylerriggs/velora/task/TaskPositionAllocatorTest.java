@@ -0,0 +1,35 @@
+package com.kylerriggs.velora.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class TaskPositionAllocatorTest {
+    private static final UUID COLUMN_ID = UUID.fromString("c156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private TaskRepository taskRepository;
+    @InjectMocks private TaskPositionAllocator taskPositionAllocator;
+
+    @Test
+    void append_AdvancesCounterByOneGap() {
+        when(taskRepository.advancePositionCounter(COLUMN_ID, 1_000_000L)).thenReturn(7_000_000L);
+
+        assertThat(taskPositionAllocator.append(COLUMN_ID)).isEqualTo(7_000_000L);
+    }
+
+    @Test
+    void appendCount_AllocatesRunWithSingleCounterUpdate() {
+        when(taskRepository.advancePositionCounter(COLUMN_ID, 3_000_000L)).thenReturn(9_000_000L);
+
+        assertThat(taskPositionAllocator.append(COLUMN_ID, 3))
+                .containsExactly(7_000_000L, 8_000_000L, 9_000_000L);
+    }
+}
@@ -0,0 +1,294 @@
+package com.kylerriggs.velora.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.activity.ActivityLogRepository;
+import com.kylerriggs.velora.board.Board;
+import com.kylerriggs.velora.board.BoardRepository;
+import com.kylerriggs.velora.board.BoardRole;
+import com.kylerriggs.velora.board.BoardUser;
+import com.kylerriggs.velora.board.BoardUserRepository;
+import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.common.RankKeys;
+import com.kylerriggs.velora.config.BoardProperties;
+import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
+import com.kylerriggs.velora.task.dto.MoveTaskRequest;
+import com.kylerriggs.velora.task.dto.TaskRequest;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserRepository;
+import com.kylerriggs.velora.websocket.BoardEventPublisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Races task position writers into one gap of a column through {@link ColumnPositionLock}, the way
+ * concurrent drags and creates arrive from the controllers, and checks that every write commits
+ * with a slot of its own. Runs against committed transactions, so it cleans up after itself.
+ */
+@SpringBootTest
+class TaskPositionConcurrencyIT extends PostgresIntegrationTestBase {
+    private static final String OWNER_ID = "auth0|task-concurrency-owner";
+    private static final int WRITERS = 12;
+
+    @Autowired private TaskService taskService;
+    @Autowired private ColumnPositionLock columnPositionLock;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardUserRepository boardUserRepository;
+    @Autowired private ColumnRepository columnRepository;
+    @Autowired private ActivityLogRepository activityLogRepository;
+    @Autowired private BoardProperties boardProperties;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoBean private JwtDecoder jwtDecoder;
+    @MockitoBean private BoardEventPublisher boardEventPublisher;
+
+    private BoardProperties.Ordering originalOrdering;
+    private UUID boardId;
+    private UUID backlogColumnId;
+    private UUID targetColumnId;
+    private UUID firstTaskId;
+    private UUID lastTaskId;
+    private List<UUID> backlogTaskIds;
+
+    @BeforeEach
+    void setUp() {
+        originalOrdering = boardProperties.getOrdering();
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    User owner =
+                            userRepository.save(
+                                    User.builder()
+                                            .id(OWNER_ID)
+                                            .username("task-concurrency-owner")
+                                            .email("task-concurrency-owner@example.com")
+                                            .profileImageUrl(
+                                                    "https://example.com/task-concurrency-owner.png")
+                                            .build());
+                    Board board =
+                            boardRepository.save(
+                                    Board.builder()
+                                            .name("Task Position Concurrency IT")
+                                            .createdBy(owner)
+                                            .build());
+                    boardUserRepository.save(
+                            BoardUser.builder()
+                                    .board(board)
+                                    .user(owner)
+                                    .role(BoardRole.ADMIN)
+                                    .build());
+                    Column backlog = seedColumn(board, "Backlog", 0);
+                    Column target = seedColumn(board, "To Do", 1);
+
+                    boardId = board.getId();
+                    backlogColumnId = backlog.getId();
+                    targetColumnId = target.getId();
+                    firstTaskId = seedTask(owner, target, "First", 1_000_000L).getId();
+                    lastTaskId = seedTask(owner, target, "Last", 2_000_000L).getId();
+
+                    backlogTaskIds = new ArrayList<>();
+                    for (int i = 0; i < WRITERS; i++) {
+                        backlogTaskIds.add(
+                                seedTask(owner, backlog, "Dragged " + i, (i + 1) * 1_000_000L)
+                                        .getId());
+                    }
+                });
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardProperties.setOrdering(originalOrdering);
+        if (boardId == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    activityLogRepository.deleteAll(
+                            activityLogRepository.findAll().stream()
+                                    .filter(log -> log.getBoard().getId().equals(boardId))
+                                    .toList());
+                    taskRepository.deleteAll(
+                            taskRepository.findAll().stream()
+                                    .filter(task -> task.getBoard().getId().equals(boardId))
+                                    .toList());
+                    columnRepository.deleteAll(
+                            columnRepository.findAll().stream()
+                                    .filter(column -> column.getBoard().getId().equals(boardId))
+                                    .toList());
+                    boardUserRepository
+                            .findByBoardIdAndUserId(boardId, OWNER_ID)
+                            .ifPresent(boardUserRepository::delete);
+                    boardRepository.deleteById(boardId);
+                    userRepository.deleteById(OWNER_ID);
+                });
+    }
+
+    @ParameterizedTest
+    @EnumSource(BoardProperties.Ordering.class)
+    void concurrentMovesIntoOneGap_allCommitInDistinctOrderedSlots(
+            BoardProperties.Ordering ordering) throws Exception {
+        boardProperties.setOrdering(ordering);
+
+        runConcurrently(
+                backlogTaskIds.stream()
+                        .map(
+                                taskId ->
+                                        (Callable<Void>)
+                                                () -> {
+                                                    columnPositionLock.withRetry(
+                                                            "move",
+                                                            () ->
+                                                                    taskService.moveTask(
+                                                                            taskId,
+                                                                            new MoveTaskRequest(
+                                                                                    firstTaskId,
+                                                                                    lastTaskId,
+                                                                                    targetColumnId)));
+                                                    return null;
+                                                })
+                        .toList());
+
+        List<Task> column = activeTasksInOrder(targetColumnId, ordering);
+        assertThat(column).hasSize(WRITERS + 2);
+        assertThat(column.getFirst().getId()).isEqualTo(firstTaskId);
+        assertThat(column.getLast().getId()).isEqualTo(lastTaskId);
+        assertThat(column.subList(1, WRITERS + 1))
+                .extracting(Task::getId)
+                .containsExactlyInAnyOrderElementsOf(backlogTaskIds);
+        assertDistinctSlots(column);
+        assertThat(activeTasksInOrder(backlogColumnId, ordering)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BoardProperties.Ordering.class)
+    void concurrentCreatesInOneColumn_allCommitInDistinctSlots(BoardProperties.Ordering ordering)
+            throws Exception {
+        boardProperties.setOrdering(ordering);
+
+        List<Callable<Void>> creates = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            TaskRequest request =
+                    new TaskRequest(
+                            boardId,
+                            null,
+                            "Created " + i,
+                            null,
+                            targetColumnId,
+                            false,
+                            false,
+                            null,
+                            null,
+                            List.of());
+            creates.add(
+                    () -> {
+                        columnPositionLock.withRetry(
+                                "create", () -> taskService.createTask(request));
+                        return null;
+                    });
+        }
+        runConcurrently(creates);
+
+        List<Task> column = activeTasksInOrder(targetColumnId, ordering);
+        assertThat(column).hasSize(WRITERS + 2);
+        assertThat(column.getFirst().getId()).isEqualTo(firstTaskId);
+        assertDistinctSlots(column);
+    }
+
+    /**
+     * Starts every writer at once on its own thread, signed in as the board owner, and fails with
+     * the first writer's exception if any of them threw.
+     */
+    private void runConcurrently(List<Callable<Void>> writers) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(writers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (Callable<Void> writer : writers) {
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    SecurityContextHolder.getContext()
+                                            .setAuthentication(
+                                                    new UsernamePasswordAuthenticationToken(
+                                                            OWNER_ID, "n/a", List.of()));
+                                    try {
+                                        start.await();
+                                        return writer.call();
+                                    } finally {
+                                        SecurityContextHolder.clearContext();
+                                    }
+                                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Task> activeTasksInOrder(UUID columnId, BoardProperties.Ordering ordering) {
+        Comparator<Task> order =
+                ordering == BoardProperties.Ordering.RANK
+                        ? Comparator.comparing(Task::getRankKey)
+                        : Comparator.comparing(Task::getPosition);
+        return taskRepository.findByColumnIdAndIsArchivedFalseOrderByPosition(columnId).stream()
+                .sorted(order)
+                .toList();
+    }
+
+    private void assertDistinctSlots(List<Task> column) {
+        assertThat(column).extracting(Task::getPosition).doesNotHaveDuplicates();
+        assertThat(column).extracting(Task::getRankKey).doesNotContainNull();
+        assertThat(column).extracting(Task::getRankKey).doesNotHaveDuplicates();
+    }
+
+    private Column seedColumn(Board board, String name, int position) {
+        return columnRepository.save(
+                Column.builder()
+                        .name(name)
+                        .position(position)
+                        .board(board)
+                        .isArchived(false)
+                        .build());
+    }
+
+    private Task seedTask(User owner, Column column, String title, long position) {
+        return taskRepository.save(
+                Task.builder()
+                        .title(title)
+                        .description("seed")
+                        .position(position)
+                        .rankKey(RankKeys.fromPosition(position))
+                        .board(column.getBoard())
+                        .column(column)
+                        .createdBy(owner)
+                        .isArchived(false)
+                        .build());
+    }
+}
@@ -0,0 +1,58 @@
+package com.kylerriggs.velora.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class TaskRebalanceServiceTest {
+    private static final UUID COLUMN_ID = UUID.fromString("c156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID TASK_ID = UUID.fromString("d256c2d0-891b-44de-816b-c9259cd00392");
+
+    @Mock private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskRebalanceService taskRebalanceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskRebalanceService = new TaskRebalanceService(taskRepository, meterRegistry);
+    }
+
+    @Test
+    void rebalanceColumn_RecordsCountDurationAndRowsPerTrigger() {
+        when(taskRepository.rebalanceActivePositions(COLUMN_ID, List.of(TASK_ID), 1_000_000L))
+                .thenReturn(1_500);
+
+        int rows =
+                taskRebalanceService.rebalanceColumn(
+                        Objects.requireNonNull(COLUMN_ID),
+                        List.of(Objects.requireNonNull(TASK_ID)),
+                        "move");
+
+        Timer timer = meterRegistry.get("velora.tasks.rebalance").tag("trigger", "move").timer();
+        DistributionSummary summary =
+                meterRegistry.get("velora.tasks.rebalance.rows").tag("trigger", "move").summary();
+        assertThat(rows).isEqualTo(1_500);
+        verify(taskRepository).raisePositionCounter(COLUMN_ID, 1_500L * 1_000_000L);
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(1_500);
+        assertThat(meterRegistry.find("velora.tasks.rebalance").tag("trigger", "restore").timer())
+                .isNull();
+    }
+}
@@ -6,6 +6,7 @@ import com.kylerriggs.velora.board.Board;
 import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.column.Column;
 import com.kylerriggs.velora.column.ColumnRepository;
+import com.kylerriggs.velora.common.RankKeys;
 import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
 import com.kylerriggs.velora.user.User;
 import com.kylerriggs.velora.user.UserRepository;
@@ -84,6 +85,24 @@ class TaskRepositoryIT extends PostgresIntegrationTestBase {
                 .isEmpty();
     }
 
+    @Test
+    void findNextAndPreviousPosition_includeArchivedAndSkipExcludedTasks() {
+        assertThat(taskRepository.findNextPosition(column.getId(), 1_000_000L, List.of()))
+                .contains(2_000_000L);
+        assertThat(
+                        taskRepository.findNextPosition(
+                                column.getId(), 1_000_000L, List.of(activeTaskBId)))
+                .contains(3_000_000L);
+        assertThat(taskRepository.findNextPosition(column.getId(), 3_000_000L, List.of()))
+                .isEmpty();
+        assertThat(
+                        taskRepository.findPreviousPosition(
+                                column.getId(), 3_000_000L, List.of(activeTaskBId)))
+                .contains(1_000_000L);
+        assertThat(taskRepository.findPreviousPosition(column.getId(), 1_000_000L, List.of()))
+                .isEmpty();
+    }
+
     @Test
     void findMaxPositionByColumnIdAndIsArchivedFalse_ignoresArchivedTasks() {
         assertThat(taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(column.getId()))
@@ -103,7 +122,7 @@ class TaskRepositoryIT extends PostgresIntegrationTestBase {
 
     @Test
     void updatePosition_updatesPersistedPositionWithoutChangingArchiveState() {
-        taskRepository.updatePosition(activeTaskBId, 1_500_000L);
+        taskRepository.updatePosition(activeTaskBId, 1_500_000L, RankKeys.fromPosition(1_500_000L));
         entityManager.flush();
         entityManager.clear();
 
@@ -117,11 +136,77 @@ class TaskRepositoryIT extends PostgresIntegrationTestBase {
                         .orElseThrow(() -> new AssertionError("Expected archived task"));
 
         assertThat(updatedTask.getPosition()).isEqualTo(1_500_000L);
+        assertThat(updatedTask.getRankKey()).isEqualTo(RankKeys.fromPosition(1_500_000L));
         assertThat(updatedTask.isArchived()).isFalse();
         assertThat(archivedTask.isArchived()).isTrue();
         assertThat(archivedTask.getPosition()).isEqualTo(3_000_000L);
     }
 
+    @Test
+    void rebalanceActivePositions_respacesActiveTasksInOrderAndSkipsArchived() {
+        int rows =
+                taskRepository.rebalanceActivePositions(
+                        column.getId(), List.of(UUID.randomUUID()), 500_000L);
+        entityManager.clear();
+
+        Task taskA = taskRepository.findById(activeTaskAId).orElseThrow();
+        Task taskB = taskRepository.findById(activeTaskBId).orElseThrow();
+        Task archivedTask = taskRepository.findById(archivedTaskId).orElseThrow();
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(taskA.getPosition()).isEqualTo(500_000L);
+        assertThat(taskA.getRankKey()).isEqualTo(RankKeys.fromPosition(500_000L));
+        assertThat(taskB.getPosition()).isEqualTo(1_000_000L);
+        assertThat(archivedTask.getPosition()).isEqualTo(3_000_000L);
+    }
+
+    @Test
+    void rebalanceActivePositions_leavesExcludedTaskInPlace() {
+        taskRepository.rebalanceActivePositions(column.getId(), List.of(activeTaskAId), 500_000L);
+        entityManager.clear();
+
+        assertThat(taskRepository.findById(activeTaskAId).orElseThrow().getPosition())
+                .isEqualTo(1_000_000L);
+        assertThat(taskRepository.findById(activeTaskBId).orElseThrow().getPosition())
+                .isEqualTo(500_000L);
+    }
+
+    @Test
+    void lockColumnPositions_isReentrantWithinTransaction() {
+        assertThat(taskRepository.lockColumnPositions(column.getId())).isEqualTo(1);
+        assertThat(taskRepository.lockColumnPositions(column.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void findColumnIdById_returnsColumnOfTask() {
+        assertThat(taskRepository.findColumnIdById(activeTaskAId)).contains(column.getId());
+        assertThat(taskRepository.findColumnIdById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void findBoardIdById_returnsBoardOfTask() {
+        assertThat(taskRepository.findBoardIdById(activeTaskAId)).contains(board.getId());
+        assertThat(taskRepository.findBoardIdById(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void advancePositionCounter_startsAfterHighestPositionIncludingArchived() {
+        long first = taskRepository.advancePositionCounter(column.getId(), 1_000_000L);
+        long second = taskRepository.advancePositionCounter(column.getId(), 2_000_000L);
+
+        assertThat(first).isEqualTo(4_000_000L);
+        assertThat(second).isEqualTo(6_000_000L);
+    }
+
+    @Test
+    void raisePositionCounter_neverLowersCounter() {
+        taskRepository.raisePositionCounter(column.getId(), 10_000_000L);
+        taskRepository.raisePositionCounter(column.getId(), 5_000_000L);
+
+        assertThat(taskRepository.advancePositionCounter(column.getId(), 1_000_000L))
+                .isEqualTo(11_000_000L);
+    }
+
     private Task seedTask(String title, long position, boolean archived) {
         return taskRepository.save(
                 Task.builder()
@@ -2,6 +2,8 @@ package com.kylerriggs.velora.task;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
 import com.kylerriggs.velora.activity.ActivityLog;
@@ -147,7 +149,11 @@ class TaskServiceIT extends PostgresIntegrationTestBase {
                 .containsExactly(bugLabel.getId());
         assertThat(logs).extracting(ActivityLog::getType).contains(ActivityType.TASK_CREATED);
         verify(boardEventPublisher)
-                .publish(BoardEventType.TASK_CREATED, board.getId(), persisted.getId());
+                .publish(
+                        eq(BoardEventType.TASK_CREATED),
+                        eq(board.getId()),
+                        eq(persisted.getId()),
+                        any());
     }
 
     @Test
@@ -189,7 +195,8 @@ class TaskServiceIT extends PostgresIntegrationTestBase {
                         .orElseThrow(() -> new AssertionError("Expected moved task"));
         assertThat(moved.getColumn().getId()).isEqualTo(todoColumn.getId());
         assertThat(moved.getPosition()).isBetween(1_000_000L, 2_000_000L);
-        verify(boardEventPublisher).publish(BoardEventType.TASK_MOVED, board.getId(), movingTaskId);
+        verify(boardEventPublisher)
+                .publish(eq(BoardEventType.TASK_MOVED), eq(board.getId()), eq(movingTaskId), any());
     }
 
     @Test
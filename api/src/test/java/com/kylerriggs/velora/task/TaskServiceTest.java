@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,11 +22,14 @@ import com.kylerriggs.velora.board.BoardRepository;
 import com.kylerriggs.velora.board.BoardRole;
 import com.kylerriggs.velora.board.BoardUser;
 import com.kylerriggs.velora.column.Column;
+import com.kylerriggs.velora.common.RankKeys;
 import com.kylerriggs.velora.exception.BadRequestException;
 import com.kylerriggs.velora.exception.BoardAccessException;
 import com.kylerriggs.velora.exception.ResourceNotFoundException;
 import com.kylerriggs.velora.exception.UnauthorizedException;
+import com.kylerriggs.velora.notification.NotificationService;
 import com.kylerriggs.velora.task.dto.MoveTaskRequest;
+import com.kylerriggs.velora.task.dto.MoveTasksRequest;
 import com.kylerriggs.velora.task.dto.TaskDto;
 import com.kylerriggs.velora.task.dto.TaskRequest;
 import com.kylerriggs.velora.task.dto.TaskStatusRequest;
@@ -39,6 +44,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -46,6 +52,7 @@ import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Instant;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -72,10 +79,15 @@ class TaskServiceTest {
     @Mock private UserService userService;
     @Mock private TaskValidationService taskValidationService;
     @Mock private TaskArchiveService taskArchiveService;
+    @Mock private TaskRankService taskRankService;
+    @Mock private TaskRebalanceService taskRebalanceService;
+    @Mock private ColumnPositionLock columnPositionLock;
+    @Mock private TaskPositionAllocator taskPositionAllocator;
     @Mock private BoardEventPublisher eventPublisher;
     @Mock private ActivityLogService activityLogService;
     @Mock private ObjectMapper objectMapper;
     @Mock private ApplicationEventPublisher applicationEventPublisher;
+    @Mock private NotificationService notificationService;
     @InjectMocks private TaskService taskService;
 
     private User user;
@@ -148,6 +160,7 @@ class TaskServiceTest {
                         "Test Description",
                         COLUMN_ID,
                         1_000_000L,
+                        "k00000004C92",
                         false,
                         false,
                         null, // priority
@@ -218,9 +231,7 @@ class TaskServiceTest {
                     .thenReturn(Optional.of(board));
             when(taskValidationService.validateActiveColumnInBoard(COLUMN_ID, BOARD_ID))
                     .thenReturn(column);
-            when(taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(
-                            Objects.requireNonNull(COLUMN_ID)))
-                    .thenReturn(Optional.empty());
+            when(taskPositionAllocator.append(COLUMN_ID)).thenReturn(1_000_000L);
             when(taskMapper.toEntity(any(), any(), any(), any(), any())).thenReturn(task);
             when(taskRepository.save(any(Task.class))).thenReturn(task);
             when(taskMapper.toDto(task)).thenReturn(taskDto);
@@ -231,7 +242,7 @@ class TaskServiceTest {
             // Then
             assertNotNull(result);
             verify(taskRepository).save(any(Task.class));
-            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any());
+            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -386,9 +397,7 @@ class TaskServiceTest {
                     .thenReturn(column);
             when(taskValidationService.validateAssigneeInBoard(ASSIGNEE_ID, board))
                     .thenReturn(assignee);
-            when(taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(
-                            Objects.requireNonNull(COLUMN_ID)))
-                    .thenReturn(Optional.empty());
+            when(taskPositionAllocator.append(COLUMN_ID)).thenReturn(1_000_000L);
             when(taskMapper.toEntity(any(), any(), any(), eq(assignee), any())).thenReturn(task);
             when(taskRepository.save(any(Task.class))).thenReturn(task);
             when(taskMapper.toDto(task)).thenReturn(taskDto);
@@ -437,7 +446,7 @@ class TaskServiceTest {
             assertNotNull(result);
             assertEquals("Updated Task", task.getTitle());
             assertEquals("Updated Description", task.getDescription());
-            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any());
+            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -500,13 +509,15 @@ class TaskServiceTest {
                     .thenReturn(Optional.of(task));
             when(taskValidationService.validateActiveColumnInBoard(NEW_COLUMN_ID, BOARD_ID))
                     .thenReturn(newColumn);
+            when(taskPositionAllocator.append(NEW_COLUMN_ID)).thenReturn(3_000_000L);
             when(taskMapper.toDto(task)).thenReturn(taskDto);
 
             // When
             taskService.updateTask(Objects.requireNonNull(TASK_ID), requestWithNewColumn);
 
-            // Then
+            // Then — the task is appended to the new column
             assertEquals(newColumn, task.getColumn());
+            assertEquals(3_000_000L, task.getPosition());
             verify(taskValidationService).validateActiveColumnInBoard(NEW_COLUMN_ID, BOARD_ID);
         }
 
@@ -637,7 +648,9 @@ class TaskServiceTest {
             taskService.deleteTask(Objects.requireNonNull(TASK_ID));
 
             // Then
-            verify(taskRepository).delete(Objects.requireNonNull(task));
+            InOrder inOrder = inOrder(notificationService, taskRepository);
+            inOrder.verify(notificationService).deleteForTasks(List.of(TASK_ID));
+            inOrder.verify(taskRepository).delete(Objects.requireNonNull(task));
             verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any());
         }
 
@@ -661,6 +674,27 @@ class TaskServiceTest {
         void setUp() {
             task.setPosition(1_000_000L);
             task.setColumn(column);
+            lenient()
+                    .when(taskRepository.findColumnIdById(TASK_ID))
+                    .thenReturn(Optional.of(COLUMN_ID));
+        }
+
+        @Test
+        void moveTask_LocksTargetColumnBeforeTask() {
+            // Given
+            MoveTaskRequest request = new MoveTaskRequest(null, null, NEW_COLUMN_ID);
+            when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
+            when(taskValidationService.validateActiveColumnInBoard(NEW_COLUMN_ID, BOARD_ID))
+                    .thenReturn(newColumn);
+
+            // When
+            taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
+
+            // Then — the column lock comes first so writers never wait on each other in a cycle
+            InOrder inOrder = inOrder(columnPositionLock, taskRepository);
+            inOrder.verify(columnPositionLock).acquire(NEW_COLUMN_ID);
+            inOrder.verify(taskRepository).findByIdWithLock(TASK_ID);
+            verify(columnPositionLock, never()).acquire(COLUMN_ID);
         }
 
         @Test
@@ -668,30 +702,30 @@ class TaskServiceTest {
             // Given — no afterTaskId or beforeTaskId, same column
             MoveTaskRequest request = new MoveTaskRequest(null, null, null);
             when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
-            when(taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(COLUMN_ID))
-                    .thenReturn(Optional.of(1_000_000L));
+            when(taskPositionAllocator.append(COLUMN_ID)).thenReturn(2_000_000L);
 
             // When
             taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
 
-            // Then — position = maxPos + GAP = 2_000_000
+            // Then — appended from the column's position counter
             assertEquals(2_000_000L, task.getPosition());
-            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any());
+            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any(), any());
         }
 
         @Test
-        void moveTask_AfterNeighborOnly_PlacesAfterIt() {
-            // Given — place after a task at position 2_000_000
+        void moveTask_AfterNeighborOnly_AppendsToColumn() {
+            // Given — place after the last task, at position 2_000_000
             MoveTaskRequest request = new MoveTaskRequest(AFTER_TASK_ID, null, null);
             when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
             when(taskRepository.findActivePositionByIdAndColumnId(AFTER_TASK_ID, COLUMN_ID))
                     .thenReturn(Optional.of(2_000_000L));
+            when(taskPositionAllocator.append(COLUMN_ID)).thenReturn(4_000_000L);
 
             // When
             taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
 
-            // Then — position = afterPos + GAP = 3_000_000
-            assertEquals(3_000_000L, task.getPosition());
+            // Then — the counter also clears archived tasks parked after the active ones
+            assertEquals(4_000_000L, task.getPosition());
         }
 
         @Test
@@ -710,6 +744,23 @@ class TaskServiceTest {
             assertEquals(1_000_000L, task.getPosition());
         }
 
+        @Test
+        void moveTask_BeforeNeighborWithoutGap_RebalancesColumnOnce() {
+            // Given — the first task sits at position 1, leaving no room before it
+            task.setPosition(3_000_000L);
+            MoveTaskRequest request = new MoveTaskRequest(null, BEFORE_TASK_ID, null);
+            when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
+            when(taskRepository.findActivePositionByIdAndColumnId(BEFORE_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(1L), Optional.of(1_000_000L));
+
+            // When
+            taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
+
+            // Then — rebalanced to GAP spacing, then placed at beforePos / 2
+            verify(taskRebalanceService).rebalanceColumn(COLUMN_ID, List.of(TASK_ID), "move");
+            assertEquals(500_000L, task.getPosition());
+        }
+
         @Test
         void moveTask_BetweenTwoNeighbors_PlacesAtMidpoint() {
             // Given — place between tasks at 1_000_000 and 3_000_000
@@ -725,6 +776,68 @@ class TaskServiceTest {
 
             // Then — midpoint = 1_000_000 + (3_000_000 - 1_000_000) / 2 = 2_000_000
             assertEquals(2_000_000L, task.getPosition());
+            assertEquals(RankKeys.fromPosition(2_000_000L), task.getRankKey());
+        }
+
+        @Test
+        void moveTask_WhenTaskSitsBetweenNeighbors_PlacesDirectlyAfterAfterTask() {
+            // Given — a concurrent move already took 2_000_000 between the two neighbors
+            MoveTaskRequest request = new MoveTaskRequest(AFTER_TASK_ID, BEFORE_TASK_ID, null);
+            when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
+            when(taskRepository.findActivePositionByIdAndColumnId(AFTER_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(1_000_000L));
+            when(taskRepository.findActivePositionByIdAndColumnId(BEFORE_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(3_000_000L));
+            when(taskRepository.findNextPosition(COLUMN_ID, 1_000_000L, List.of(TASK_ID)))
+                    .thenReturn(Optional.of(2_000_000L));
+
+            // When
+            taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
+
+            // Then — midpoint of the free slot = 1_000_000 + (2_000_000 - 1_000_000) / 2
+            assertEquals(1_500_000L, task.getPosition());
+        }
+
+        @Test
+        void moveTask_RankOrdering_SetsRankKeyAndKeepsPosition() {
+            // Given — rank ordering places the task by key alone
+            MoveTaskRequest request = new MoveTaskRequest(AFTER_TASK_ID, BEFORE_TASK_ID, null);
+            when(taskRepository.findByIdWithLock(TASK_ID)).thenReturn(Optional.of(task));
+            when(taskRankService.isRankOrdering()).thenReturn(true);
+            when(taskRankService.rankBetween(COLUMN_ID, AFTER_TASK_ID, BEFORE_TASK_ID, TASK_ID))
+                    .thenReturn("a0V");
+
+            // When
+            taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
+
+            // Then — no neighbor positions are read and nothing is rebalanced
+            assertEquals("a0V", task.getRankKey());
+            assertEquals(1_000_000L, task.getPosition());
+            verify(taskRepository, never()).findActivePositionByIdAndColumnId(any(), any());
+            verify(taskRebalanceService, never()).rebalanceColumn(any(), any(), any());
+            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any(), any());
+        }
+
+        @Test
+        void moveTask_RankOrderingToDifferentColumn_AppendsPosition() {
+            // Given
+            MoveTaskRequest request = new MoveTaskRequest(null, BEFORE_TASK_ID, NEW_COLUMN_ID);
+            when(taskRepository.findByIdWithLock(Objects.requireNonNull(TASK_ID)))
+                    .thenReturn(Optional.of(task));
+            when(taskValidationService.validateActiveColumnInBoard(NEW_COLUMN_ID, BOARD_ID))
+                    .thenReturn(newColumn);
+            when(taskRankService.isRankOrdering()).thenReturn(true);
+            when(taskRankService.rankBetween(NEW_COLUMN_ID, null, BEFORE_TASK_ID, TASK_ID))
+                    .thenReturn("Zz");
+            when(taskPositionAllocator.append(NEW_COLUMN_ID)).thenReturn(5_000_000L);
+
+            // When
+            taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
+
+            // Then
+            assertEquals(newColumn, task.getColumn());
+            assertEquals("Zz", task.getRankKey());
+            assertEquals(5_000_000L, task.getPosition());
         }
 
         @Test
@@ -737,6 +850,7 @@ class TaskServiceTest {
                     .thenReturn(newColumn);
             when(taskRepository.findActivePositionByIdAndColumnId(AFTER_TASK_ID, NEW_COLUMN_ID))
                     .thenReturn(Optional.of(1_000_000L));
+            when(taskPositionAllocator.append(NEW_COLUMN_ID)).thenReturn(2_000_000L);
 
             // When
             taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
@@ -744,7 +858,7 @@ class TaskServiceTest {
             // Then
             assertEquals(newColumn, task.getColumn());
             assertEquals(2_000_000L, task.getPosition());
-            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any());
+            verify(eventPublisher).publish(any(BoardEventType.class), eq(BOARD_ID), any(), any());
         }
 
         @Test
@@ -755,13 +869,12 @@ class TaskServiceTest {
                     .thenReturn(Optional.of(task));
             when(taskValidationService.validateActiveColumnInBoard(NEW_COLUMN_ID, BOARD_ID))
                     .thenReturn(newColumn);
-            when(taskRepository.findMaxPositionByColumnIdAndIsArchivedFalse(NEW_COLUMN_ID))
-                    .thenReturn(Optional.empty());
+            when(taskPositionAllocator.append(NEW_COLUMN_ID)).thenReturn(1_000_000L);
 
             // When
             taskService.moveTask(Objects.requireNonNull(TASK_ID), request);
 
-            // Then — empty column: maxPos defaults to 0 + GAP = 1_000_000
+            // Then — empty column: the counter starts at 0 + GAP = 1_000_000
             assertEquals(newColumn, task.getColumn());
             assertEquals(1_000_000L, task.getPosition());
         }
@@ -888,6 +1001,162 @@ class TaskServiceTest {
         }
     }
 
+    @Nested
+    class MoveTasksTests {
+        private static final UUID OTHER_TASK_ID =
+                UUID.fromString("a756c2d0-891b-44de-816b-c9259cd00397");
+
+        private Task otherTask;
+
+        @BeforeEach
+        void setUp() {
+            task.setPosition(5_000_000L);
+            otherTask =
+                    Task.builder()
+                            .id(OTHER_TASK_ID)
+                            .title("Other Task")
+                            .board(board)
+                            .column(newColumn)
+                            .createdBy(user)
+                            .position(1_000_000L)
+                            .labels(new HashSet<>())
+                            .build();
+        }
+
+        @Test
+        void moveTasks_BetweenNeighbors_SpacesRunEvenlyInRequestOrder() {
+            // Given — the other task comes from another column and goes first
+            MoveTasksRequest request =
+                    new MoveTasksRequest(
+                            List.of(OTHER_TASK_ID, TASK_ID),
+                            COLUMN_ID,
+                            AFTER_TASK_ID,
+                            BEFORE_TASK_ID);
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+            when(taskValidationService.validateActiveColumnInBoard(COLUMN_ID, BOARD_ID))
+                    .thenReturn(column);
+            when(taskRepository.findAllByIdWithLock(List.of(OTHER_TASK_ID, TASK_ID)))
+                    .thenReturn(List.of(task, otherTask));
+            when(taskRepository.findActivePositionByIdAndColumnId(AFTER_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(1_000_000L));
+            when(taskRepository.findActivePositionByIdAndColumnId(BEFORE_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(4_000_000L));
+
+            // When
+            taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request);
+
+            // Then — one position computation, one event, one batch of activity entries
+            assertEquals(column, otherTask.getColumn());
+            assertEquals(2_000_000L, otherTask.getPosition());
+            assertEquals(3_000_000L, task.getPosition());
+            assertEquals(RankKeys.fromPosition(3_000_000L), task.getRankKey());
+            verify(taskRebalanceService, never()).rebalanceColumn(any(), any(), any());
+            verify(eventPublisher).publish(BoardEventType.TASK_MOVED, BOARD_ID, null);
+            verify(activityLogService)
+                    .logActivities(
+                            eq(List.of(otherTask, task)), eq(ActivityType.TASK_MOVED), any());
+            verify(activityLogService, never()).logActivity(any(), any(), any());
+        }
+
+        @Test
+        void moveTasks_WhenGapTooSmall_RebalancesColumnOnce() {
+            // Given — neighbors at 1 and 2 leave no room for two tasks
+            MoveTasksRequest request =
+                    new MoveTasksRequest(
+                            List.of(TASK_ID, OTHER_TASK_ID),
+                            COLUMN_ID,
+                            AFTER_TASK_ID,
+                            BEFORE_TASK_ID);
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+            when(taskValidationService.validateActiveColumnInBoard(COLUMN_ID, BOARD_ID))
+                    .thenReturn(column);
+            when(taskRepository.findAllByIdWithLock(List.of(TASK_ID, OTHER_TASK_ID)))
+                    .thenReturn(List.of(task, otherTask));
+            when(taskRepository.findActivePositionByIdAndColumnId(AFTER_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(1L), Optional.of(1_000_000L));
+            when(taskRepository.findActivePositionByIdAndColumnId(BEFORE_TASK_ID, COLUMN_ID))
+                    .thenReturn(Optional.of(2L), Optional.of(4_000_000L));
+
+            // When
+            taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request);
+
+            // Then
+            verify(taskRebalanceService)
+                    .rebalanceColumn(COLUMN_ID, List.of(TASK_ID, OTHER_TASK_ID), "bulk-move");
+            assertEquals(2_000_000L, task.getPosition());
+            assertEquals(3_000_000L, otherTask.getPosition());
+        }
+
+        @Test
+        void moveTasks_RankOrdering_AssignsConsecutiveKeys() {
+            // Given
+            MoveTasksRequest request =
+                    new MoveTasksRequest(List.of(TASK_ID, OTHER_TASK_ID), COLUMN_ID, null, null);
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+            when(taskValidationService.validateActiveColumnInBoard(COLUMN_ID, BOARD_ID))
+                    .thenReturn(column);
+            when(taskRepository.findAllByIdWithLock(List.of(TASK_ID, OTHER_TASK_ID)))
+                    .thenReturn(List.of(task, otherTask));
+            when(taskRankService.isRankOrdering()).thenReturn(true);
+            when(taskRankService.ranksBetween(
+                            COLUMN_ID, null, null, List.of(TASK_ID, OTHER_TASK_ID), 2))
+                    .thenReturn(List.of("a1", "a2"));
+            when(taskPositionAllocator.append(COLUMN_ID, 1)).thenReturn(List.of(6_000_000L));
+
+            // When
+            taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request);
+
+            // Then — only the task changing column gets a new position
+            assertEquals("a1", task.getRankKey());
+            assertEquals(5_000_000L, task.getPosition());
+            assertEquals("a2", otherTask.getRankKey());
+            assertEquals(6_000_000L, otherTask.getPosition());
+            assertEquals(column, otherTask.getColumn());
+            verify(taskRepository, never()).findActivePositionByIdAndColumnId(any(), any());
+        }
+
+        @Test
+        void moveTasks_WhenTaskListedTwice_ThrowsBadRequestException() {
+            MoveTasksRequest request =
+                    new MoveTasksRequest(List.of(TASK_ID, TASK_ID), COLUMN_ID, null, null);
+
+            assertThrows(
+                    BadRequestException.class,
+                    () -> taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request));
+            verify(taskRepository, never()).findAllByIdWithLock(any());
+        }
+
+        @Test
+        void moveTasks_WhenAnchorIsMoving_ThrowsBadRequestException() {
+            MoveTasksRequest request =
+                    new MoveTasksRequest(List.of(TASK_ID), COLUMN_ID, TASK_ID, null);
+
+            assertThrows(
+                    BadRequestException.class,
+                    () -> taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request));
+        }
+
+        @Test
+        void moveTasks_WhenTaskOnAnotherBoard_ThrowsResourceNotFoundException() {
+            // Given
+            Board otherBoard = Board.builder().id(UUID.randomUUID()).name("Other").build();
+            otherTask.setBoard(otherBoard);
+            MoveTasksRequest request =
+                    new MoveTasksRequest(List.of(TASK_ID, OTHER_TASK_ID), COLUMN_ID, null, null);
+            when(boardRepository.findById(BOARD_ID)).thenReturn(Optional.of(board));
+            when(taskValidationService.validateActiveColumnInBoard(COLUMN_ID, BOARD_ID))
+                    .thenReturn(column);
+            when(taskRepository.findAllByIdWithLock(List.of(TASK_ID, OTHER_TASK_ID)))
+                    .thenReturn(List.of(task, otherTask));
+
+            // When & Then
+            assertThrows(
+                    ResourceNotFoundException.class,
+                    () -> taskService.moveTasks(Objects.requireNonNull(BOARD_ID), request));
+            verify(eventPublisher, never()).publish(any(), any(), any());
+        }
+    }
+
     @Nested
     class UpdateTaskStatusTests {
         @Test
@@ -916,7 +1185,8 @@ class TaskServiceTest {
 
             assertNotNull(result);
             assertTrue(task.isCompleted());
-            verify(eventPublisher).publish(BoardEventType.TASK_UPDATED, BOARD_ID, TASK_ID);
+            verify(eventPublisher)
+                    .publish(eq(BoardEventType.TASK_UPDATED), eq(BOARD_ID), eq(TASK_ID), any());
             verify(activityLogService).logActivity(task, ActivityType.TASK_COMPLETED, null);
         }
 
@@ -1,7 +1,10 @@
 package com.kylerriggs.velora.user;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import com.kylerriggs.velora.config.SecurityProperties;
@@ -99,9 +102,10 @@ class UserMapperTest {
             when(jwt.getClaimAsString(CLAIM_PREFIX + "picture")).thenReturn(PROFILE_IMAGE_URL);
 
             // When
-            userMapper.updateUserFromToken(user, jwt);
+            boolean changed = userMapper.updateUserFromToken(user, jwt);
 
             // Then
+            assertTrue(changed);
             assertEquals(USERNAME, user.getUsername());
             assertEquals(EMAIL, user.getEmail());
             assertEquals(PROFILE_IMAGE_URL, user.getProfileImageUrl());
@@ -122,9 +126,10 @@ class UserMapperTest {
             when(jwt.getClaimAsString(CLAIM_PREFIX + "picture")).thenReturn(PROFILE_IMAGE_URL);
 
             // When
-            userMapper.updateUserFromToken(user, jwt);
+            boolean changed = userMapper.updateUserFromToken(user, jwt);
 
             // Then - values should remain the same
+            assertFalse(changed);
             assertEquals(USERNAME, user.getUsername());
             assertEquals(EMAIL, user.getEmail());
             assertEquals(PROFILE_IMAGE_URL, user.getProfileImageUrl());
@@ -145,15 +150,55 @@ class UserMapperTest {
             when(jwt.getClaimAsString(CLAIM_PREFIX + "picture")).thenReturn("");
 
             // When
-            userMapper.updateUserFromToken(user, jwt);
+            boolean changed = userMapper.updateUserFromToken(user, jwt);
 
             // Then - original values should be preserved
+            assertFalse(changed);
             assertEquals(USERNAME, user.getUsername());
             assertEquals(EMAIL, user.getEmail());
             assertEquals(PROFILE_IMAGE_URL, user.getProfileImageUrl());
         }
     }
 
+    @Nested
+    class ProfileFingerprint {
+
+        @Test
+        void profileFingerprint_WhenFieldsEqual_ShouldMatch() {
+            // Given
+            User first = userMapper.toEntity(EMAIL, USERNAME, PROFILE_IMAGE_URL);
+            User second = userMapper.toEntity(EMAIL, USERNAME, PROFILE_IMAGE_URL);
+            first.setId(USER_ID);
+            second.setId(USER_ID);
+
+            // When & Then
+            assertEquals(
+                    userMapper.profileFingerprint(first), userMapper.profileFingerprint(second));
+        }
+
+        @Test
+        void profileFingerprint_WhenPictureChanged_ShouldDiffer() {
+            // Given
+            User first = userMapper.toEntity(EMAIL, USERNAME, PROFILE_IMAGE_URL);
+            User second = userMapper.toEntity(EMAIL, USERNAME, "https://example.com/new.jpg");
+
+            // When & Then
+            assertNotEquals(
+                    userMapper.profileFingerprint(first), userMapper.profileFingerprint(second));
+        }
+
+        @Test
+        void profileFingerprint_WhenValuesShiftBetweenFields_ShouldDiffer() {
+            // Given
+            User first = userMapper.toEntity("c", "ab", null);
+            User second = userMapper.toEntity("bc", "a", null);
+
+            // When & Then
+            assertNotEquals(
+                    userMapper.profileFingerprint(first), userMapper.profileFingerprint(second));
+        }
+    }
+
     @Nested
     class ToSummaryDto {
 
@@ -0,0 +1,155 @@
+package com.kylerriggs.velora.user;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class UserSyncCoordinatorTest {
+
+    private static final String USER_ID = "auth0|user123";
+    private static final String FINGERPRINT = "fingerprint";
+
+    @Mock private UserSynchronizer userSynchronizer;
+    @Mock private UserRepository userRepository;
+    @Mock private UserMapper userMapper;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private Cache fingerprints;
+    private UserSyncCoordinator coordinator;
+    private Jwt jwt;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("userSync");
+        fingerprints = cacheManager.getCache("userSync");
+        coordinator =
+                new UserSyncCoordinator(
+                        userSynchronizer, userRepository, userMapper, cacheManager, queued::add);
+
+        jwt =
+                Jwt.withTokenValue("token")
+                        .header("alg", "RS256")
+                        .subject(USER_ID)
+                        .issuedAt(Instant.now())
+                        .expiresAt(Instant.now().plusSeconds(3600))
+                        .build();
+        user = new User();
+        user.setId(USER_ID);
+        when(userMapper.mapUserFromToken(jwt)).thenReturn(user);
+        when(userMapper.profileFingerprint(user)).thenReturn(FINGERPRINT);
+    }
+
+    @Test
+    void sync_WhenFingerprintCached_SkipsDatabase() {
+        // Given
+        fingerprints.put(USER_ID, FINGERPRINT);
+
+        // When
+        coordinator.sync(jwt);
+
+        // Then
+        verifyNoInteractions(userRepository, userSynchronizer);
+        assertEquals(0, queued.size());
+    }
+
+    @Test
+    void sync_WhenNewUser_SyncsOnRequestThread() {
+        // Given
+        when(userRepository.existsById(USER_ID)).thenReturn(false);
+
+        // When
+        coordinator.sync(jwt);
+
+        // Then
+        verify(userSynchronizer).syncWithIdp(jwt);
+        assertEquals(0, queued.size());
+        assertEquals(FINGERPRINT, fingerprints.get(USER_ID, String.class));
+    }
+
+    @Test
+    void sync_WhenExistingUser_SyncsInBackground() {
+        // Given
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        // When
+        coordinator.sync(jwt);
+
+        // Then
+        verify(userSynchronizer, never()).syncWithIdp(jwt);
+        assertEquals(FINGERPRINT, fingerprints.get(USER_ID, String.class));
+        assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        verify(userSynchronizer).syncWithIdp(jwt);
+    }
+
+    @Test
+    void sync_WhenFingerprintChanged_SyncsInBackgroundWithoutExistenceCheck() {
+        // Given
+        fingerprints.put(USER_ID, "stale");
+
+        // When
+        coordinator.sync(jwt);
+
+        // Then
+        verify(userRepository, never()).existsById(USER_ID);
+        assertEquals(1, queued.size());
+    }
+
+    @Test
+    void sync_WhenBackgroundSyncFails_EvictsFingerprint() {
+        // Given
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+        doThrow(new IllegalStateException("boom")).when(userSynchronizer).syncWithIdp(jwt);
+
+        // When
+        coordinator.sync(jwt);
+        queued.get(0).run();
+
+        // Then
+        assertNull(fingerprints.get(USER_ID));
+    }
+
+    @Test
+    void sync_WhenExecutorRejects_EvictsFingerprint() {
+        // Given
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("userSync");
+        coordinator =
+                new UserSyncCoordinator(
+                        userSynchronizer,
+                        userRepository,
+                        userMapper,
+                        cacheManager,
+                        task -> {
+                            throw new TaskRejectedException("full");
+                        });
+        when(userRepository.existsById(USER_ID)).thenReturn(true);
+
+        // When
+        coordinator.sync(jwt);
+
+        // Then
+        verify(userSynchronizer, never()).syncWithIdp(jwt);
+        assertNull(cacheManager.getCache("userSync").get(USER_ID));
+    }
+}
@@ -91,6 +91,7 @@ class UserSynchronizerTest {
                     .thenReturn(Optional.of(existingUser));
             when(userRepository.save(Objects.requireNonNull(user)))
                     .thenThrow(new DataIntegrityViolationException("Duplicate key"));
+            when(userMapper.updateUserFromToken(existingUser, jwt)).thenReturn(true);
             when(userRepository.save(existingUser)).thenReturn(existingUser);
 
             // When
@@ -128,6 +129,7 @@ class UserSynchronizerTest {
 
             when(userMapper.mapUserFromToken(jwt)).thenReturn(user);
             when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(existingUser));
+            when(userMapper.updateUserFromToken(existingUser, jwt)).thenReturn(true);
             when(userRepository.save(existingUser)).thenReturn(existingUser);
 
             // When
@@ -137,6 +139,26 @@ class UserSynchronizerTest {
             verify(userMapper).updateUserFromToken(existingUser, jwt);
             verify(userRepository).save(existingUser);
         }
+
+        @Test
+        void syncWithIdp_WhenExistingUserUnchanged_SkipsSave() {
+            // Given
+            User existingUser = new User();
+            existingUser.setId(USER_ID);
+            existingUser.setEmail(EMAIL);
+            existingUser.setUsername(USERNAME);
+            existingUser.setProfileImageUrl(PROFILE_IMAGE_URL);
+
+            when(userMapper.mapUserFromToken(jwt)).thenReturn(user);
+            when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(existingUser));
+            when(userMapper.updateUserFromToken(existingUser, jwt)).thenReturn(false);
+
+            // When
+            userSynchronizer.syncWithIdp(jwt);
+
+            // Then
+            verify(userRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -0,0 +1,204 @@
+package com.kylerriggs.velora.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.kylerriggs.velora.config.WebSocketProperties;
+import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventBatch;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@ExtendWith(MockitoExtension.class)
+class BoardEventCoalescerTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID OTHER_BOARD_ID =
+            UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private WebSocketEventService webSocketEventService;
+    @Mock private BoardEventLog boardEventLog;
+    @Mock private ScheduledExecutorService boardEventScheduler;
+    @Captor private ArgumentCaptor<BoardEventBatch> batchCaptor;
+
+    private WebSocketProperties webSocketProperties;
+    private TaskExecutor broadcastExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private BoardEventCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        when(boardEventLog.append(any(), anyList())).thenAnswer(inv -> inv.getArgument(1));
+        broadcastExecutor = new SyncTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        webSocketProperties = new WebSocketProperties();
+        webSocketProperties.setCoalesceWindow(Duration.ofMillis(40));
+        coalescer =
+                new BoardEventCoalescer(
+                        webSocketEventService,
+                        boardEventLog,
+                        boardEventScheduler,
+                        broadcastExecutor,
+                        webSocketProperties,
+                        meterRegistry);
+    }
+
+    @Test
+    void submit_WhenSeveralEventsInWindow_BroadcastsOneBatch() {
+        // Given
+        BoardEvent updated = event(BoardEventType.TASK_UPDATED);
+        BoardEvent activity = event(BoardEventType.ACTIVITY_LOGGED);
+
+        // When
+        coalescer.submit(updated);
+        coalescer.submit(activity);
+        coalescer.submit(activity);
+        coalescer.flush(BOARD_ID);
+
+        // Then
+        verify(boardEventScheduler, times(1))
+                .schedule(any(Runnable.class), eq(40_000_000L), eq(TimeUnit.NANOSECONDS));
+        verify(webSocketEventService).broadcast(eq(BOARD_ID), batchCaptor.capture());
+        assertThat(batchCaptor.getValue().type()).isEqualTo(BoardEventBatch.TYPE);
+        assertThat(batchCaptor.getValue().events()).containsExactly(updated, activity);
+    }
+
+    @Test
+    void submit_WhenSingleEventInWindow_BroadcastsItUnwrapped() {
+        // Given
+        BoardEvent updated = event(BoardEventType.TASK_UPDATED);
+
+        // When
+        coalescer.submit(updated);
+        coalescer.flush(BOARD_ID);
+
+        // Then
+        verify(webSocketEventService).broadcast(BOARD_ID, updated);
+        verify(webSocketEventService, never()).broadcast(eq(BOARD_ID), any(BoardEventBatch.class));
+    }
+
+    @Test
+    void submit_KeepsBoardsSeparate() {
+        // Given
+        BoardEvent first = event(BoardEventType.TASK_UPDATED);
+        BoardEvent other = new BoardEvent(BoardEventType.BOARD_UPDATED, OTHER_BOARD_ID, null, null);
+
+        // When
+        coalescer.submit(first);
+        coalescer.submit(other);
+        coalescer.flush(BOARD_ID);
+
+        // Then
+        verify(webSocketEventService).broadcast(BOARD_ID, first);
+        verify(webSocketEventService, never()).broadcast(OTHER_BOARD_ID, other);
+        verify(boardEventScheduler, times(2))
+                .schedule(any(Runnable.class), eq(40_000_000L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void submit_AfterFlush_OpensNewWindow() {
+        // Given
+        coalescer.submit(event(BoardEventType.TASK_UPDATED));
+        coalescer.flush(BOARD_ID);
+
+        // When
+        coalescer.submit(event(BoardEventType.TASK_MOVED));
+
+        // Then
+        verify(boardEventScheduler, times(2))
+                .schedule(any(Runnable.class), eq(40_000_000L), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void submit_WhenWindowIsZero_BroadcastsImmediately() {
+        // Given
+        webSocketProperties.setCoalesceWindow(Duration.ZERO);
+        coalescer =
+                new BoardEventCoalescer(
+                        webSocketEventService,
+                        boardEventLog,
+                        boardEventScheduler,
+                        broadcastExecutor,
+                        webSocketProperties,
+                        meterRegistry);
+        BoardEvent updated = event(BoardEventType.TASK_UPDATED);
+
+        // When
+        coalescer.submit(updated);
+
+        // Then
+        verify(webSocketEventService).broadcast(BOARD_ID, updated);
+        verifyNoInteractions(boardEventScheduler);
+    }
+
+    @Test
+    void flush_BroadcastsSequencedEvents() {
+        // Given
+        BoardEvent updated = event(BoardEventType.TASK_UPDATED);
+        when(boardEventLog.append(BOARD_ID, List.of(updated)))
+                .thenReturn(List.of(updated.withSeq(7)));
+        coalescer.submit(updated);
+
+        // When
+        coalescer.flush(BOARD_ID);
+
+        // Then
+        verify(webSocketEventService).broadcast(BOARD_ID, updated.withSeq(7));
+    }
+
+    @Test
+    void flush_WhenBroadcastQueueIsFull_DropsAndCountsFrame() {
+        // Given
+        broadcastExecutor =
+                task -> {
+                    throw new TaskRejectedException("Queue full");
+                };
+        coalescer =
+                new BoardEventCoalescer(
+                        webSocketEventService,
+                        boardEventLog,
+                        boardEventScheduler,
+                        broadcastExecutor,
+                        webSocketProperties,
+                        meterRegistry);
+        coalescer.submit(event(BoardEventType.TASK_UPDATED));
+
+        // When
+        coalescer.flush(BOARD_ID);
+
+        // Then
+        verify(boardEventLog).append(eq(BOARD_ID), anyList());
+        verifyNoInteractions(webSocketEventService);
+        assertThat(meterRegistry.counter("velora.websocket.broadcast.dropped").count())
+                .isEqualTo(1.0);
+    }
+
+    private BoardEvent event(BoardEventType type) {
+        return new BoardEvent(type, BOARD_ID, TASK_ID, null);
+    }
+}
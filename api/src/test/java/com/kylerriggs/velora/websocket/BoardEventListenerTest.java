@@ -11,18 +11,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Objects;
 import java.util.UUID;
 
 @ExtendWith(MockitoExtension.class)
 class BoardEventListenerTest {
 
-    @Mock private WebSocketEventService webSocketEventService;
+    @Mock private BoardEventCoalescer boardEventCoalescer;
 
     @InjectMocks private BoardEventListener boardEventListener;
 
     @Test
-    void handleBoardEvent_BroadcastsEvent() {
+    void handleBoardEvent_SubmitsEventForBroadcast() {
         UUID boardId = UUID.randomUUID();
         BoardEvent event =
                 new BoardEvent(BoardEventType.TASK_CREATED, boardId, UUID.randomUUID(), null);
@@ -31,6 +30,6 @@ class BoardEventListenerTest {
 
         boardEventListener.handleBoardEvent(wrapper);
 
-        verify(webSocketEventService).broadcast(Objects.requireNonNull(boardId), event);
+        verify(boardEventCoalescer).submit(event);
     }
 }
@@ -0,0 +1,137 @@
+package com.kylerriggs.velora.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kylerriggs.velora.config.WebSocketProperties;
+import com.kylerriggs.velora.exception.BadRequestException;
+import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventReplayDto;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+class BoardEventLogTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID OTHER_BOARD_ID =
+            UUID.fromString("cbfc2988-d933-4c13-a014-009e8b4d0fb5");
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+
+    private BoardEventLog log;
+
+    @BeforeEach
+    void setUp() {
+        WebSocketProperties webSocketProperties = new WebSocketProperties();
+        webSocketProperties.getReplay().setEventsPerBoard(3);
+        log = new BoardEventLog(webSocketProperties);
+    }
+
+    @Test
+    void append_NumbersEventsConsecutively() {
+        List<BoardEvent> first = log.append(BOARD_ID, List.of(event(BoardEventType.TASK_UPDATED)));
+        List<BoardEvent> next =
+                log.append(
+                        BOARD_ID,
+                        List.of(
+                                event(BoardEventType.TASK_MOVED),
+                                event(BoardEventType.ACTIVITY_LOGGED)));
+
+        long seq = first.getFirst().seq();
+        assertThat(next).extracting(BoardEvent::seq).containsExactly(seq + 1, seq + 2);
+    }
+
+    @Test
+    void replay_ReturnsEventsAfterSequence() {
+        long seq = appendOne(BoardEventType.TASK_UPDATED);
+        List<BoardEvent> missed =
+                log.append(
+                        BOARD_ID,
+                        List.of(
+                                event(BoardEventType.TASK_MOVED),
+                                event(BoardEventType.TASK_UPDATED)));
+
+        BoardEventReplayDto replay = log.replay(BOARD_ID, seq);
+
+        assertThat(replay.resyncRequired()).isFalse();
+        assertThat(replay.events()).isEqualTo(missed);
+        assertThat(replay.seq()).isEqualTo(seq + 2);
+    }
+
+    @Test
+    void replay_WhenUpToDate_ReturnsNoEvents() {
+        long seq = appendOne(BoardEventType.TASK_UPDATED);
+
+        BoardEventReplayDto replay = log.replay(BOARD_ID, seq);
+
+        assertThat(replay.resyncRequired()).isFalse();
+        assertThat(replay.events()).isEmpty();
+        assertThat(replay.seq()).isEqualTo(seq);
+    }
+
+    @Test
+    void replay_WhenEventsWereEvicted_RequiresResync() {
+        long seq = appendOne(BoardEventType.TASK_UPDATED);
+        for (int i = 0; i < 4; i++) {
+            appendOne(BoardEventType.TASK_MOVED);
+        }
+
+        BoardEventReplayDto replay = log.replay(BOARD_ID, seq);
+
+        assertThat(replay.resyncRequired()).isTrue();
+        assertThat(replay.events()).isEmpty();
+        assertThat(replay.seq()).isEqualTo(seq + 4);
+    }
+
+    @Test
+    void replay_WhenSequenceIsFromAnotherLog_RequiresResync() {
+        long seq = appendOne(BoardEventType.TASK_UPDATED);
+
+        assertThat(log.replay(BOARD_ID, seq + 100).resyncRequired()).isTrue();
+        assertThat(log.replay(BOARD_ID, 42).resyncRequired()).isTrue();
+    }
+
+    @Test
+    void replay_WhenBoardHasNoLog_RequiresResync() {
+        appendOne(BoardEventType.TASK_UPDATED);
+
+        assertThat(log.replay(OTHER_BOARD_ID, 1).resyncRequired()).isTrue();
+    }
+
+    @Test
+    void append_WithBrokerRelay_LeavesEventsUnnumbered() {
+        BoardEventLog relayLog = new BoardEventLog(relayProperties());
+
+        List<BoardEvent> events =
+                relayLog.append(BOARD_ID, List.of(event(BoardEventType.TASK_UPDATED)));
+
+        assertThat(events).extracting(BoardEvent::seq).containsExactly((Long) null);
+    }
+
+    @Test
+    void replay_WithBrokerRelay_IsRejected() {
+        BoardEventLog relayLog = new BoardEventLog(relayProperties());
+        relayLog.append(BOARD_ID, List.of(event(BoardEventType.TASK_UPDATED)));
+
+        assertThatThrownBy(() -> relayLog.replay(BOARD_ID, 1))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining("broker relay");
+    }
+
+    private WebSocketProperties relayProperties() {
+        WebSocketProperties webSocketProperties = new WebSocketProperties();
+        webSocketProperties.getBroker().setMode(WebSocketProperties.BrokerMode.RELAY);
+        return webSocketProperties;
+    }
+
+    private long appendOne(BoardEventType type) {
+        return log.append(BOARD_ID, List.of(event(type))).getFirst().seq();
+    }
+
+    private BoardEvent event(BoardEventType type) {
+        return new BoardEvent(type, BOARD_ID, TASK_ID, null);
+    }
+}
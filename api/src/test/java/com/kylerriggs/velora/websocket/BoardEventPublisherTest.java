@@ -0,0 +1,86 @@
+package com.kylerriggs.velora.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.kylerriggs.velora.board.BoardChangeSequencer;
+import com.kylerriggs.velora.board.BoardSnapshotCache;
+import com.kylerriggs.velora.board.EntityScopeCache;
+import com.kylerriggs.velora.config.WebSocketProperties;
+import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.UUID;
+
+@ExtendWith(MockitoExtension.class)
+class BoardEventPublisherTest {
+    private static final UUID BOARD_ID = UUID.fromString("a156c2d0-891b-44de-816b-c9259cd00391");
+    private static final UUID TASK_ID = UUID.fromString("d156c2d0-891b-44de-816b-c9259cd00391");
+
+    @Mock private ApplicationEventPublisher applicationEventPublisher;
+    @Mock private BoardSnapshotCache boardSnapshotCache;
+    @Mock private BoardChangeSequencer boardChangeSequencer;
+    @Mock private EntityScopeCache entityScopeCache;
+
+    private WebSocketProperties webSocketProperties;
+    private BoardEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        webSocketProperties = new WebSocketProperties();
+        publisher =
+                new BoardEventPublisher(
+                        applicationEventPublisher,
+                        boardSnapshotCache,
+                        boardChangeSequencer,
+                        entityScopeCache,
+                        webSocketProperties);
+    }
+
+    @Test
+    void publish_WhenPayloadsDisabled_DoesNotResolvePayload() {
+        // When
+        publisher.publish(
+                BoardEventType.TASK_UPDATED,
+                BOARD_ID,
+                TASK_ID,
+                () -> {
+                    throw new AssertionError("Payload should not be resolved");
+                });
+
+        // Then
+        BoardEvent event = captureEvent();
+        assertThat(event.type()).isEqualTo(BoardEventType.TASK_UPDATED);
+        assertThat(event.entityId()).isEqualTo(TASK_ID);
+        assertThat(event.payload()).isNull();
+    }
+
+    @Test
+    void publish_WhenPayloadsEnabled_AttachesPayload() {
+        // Given
+        webSocketProperties.setEventPayloads(true);
+
+        // When
+        publisher.publish(BoardEventType.TASK_UPDATED, BOARD_ID, TASK_ID, () -> "task");
+
+        // Then
+        assertThat(captureEvent().payload()).isEqualTo("task");
+        verify(boardChangeSequencer).stampBeforeCommit(BOARD_ID);
+        verify(boardSnapshotCache).invalidateAfterCommit(BOARD_ID);
+    }
+
+    private BoardEvent captureEvent() {
+        ArgumentCaptor<BoardEventPublisher.BoardEventWrapper> captor =
+                ArgumentCaptor.forClass(BoardEventPublisher.BoardEventWrapper.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        return captor.getValue().event();
+    }
+}
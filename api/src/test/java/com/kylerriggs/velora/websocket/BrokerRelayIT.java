@@ -0,0 +1,246 @@
+package com.kylerriggs.velora.websocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kylerriggs.velora.VeloraApplication;
+import com.kylerriggs.velora.board.Board;
+import com.kylerriggs.velora.board.BoardRepository;
+import com.kylerriggs.velora.board.BoardRole;
+import com.kylerriggs.velora.board.BoardUser;
+import com.kylerriggs.velora.board.BoardUserRepository;
+import com.kylerriggs.velora.support.PostgresIntegrationTestBase;
+import com.kylerriggs.velora.user.User;
+import com.kylerriggs.velora.user.UserRepository;
+import com.kylerriggs.velora.websocket.dto.BoardEventType;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs two application instances against one STOMP broker and checks that a board event committed
+ * on one instance reaches a WebSocket subscriber connected to the other.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class BrokerRelayIT extends PostgresIntegrationTestBase {
+    private static final String USER_ID = "auth0|relay-subscriber";
+    private static final String TOKEN = "relay-token";
+
+    @SuppressWarnings("resource")
+    private static final GenericContainer<?> BROKER =
+            new GenericContainer<>("apache/activemq-classic:6.1.4")
+                    .withExposedPorts(61613)
+                    .waitingFor(Wait.forListeningPort());
+
+    static {
+        BROKER.start();
+    }
+
+    @DynamicPropertySource
+    static void registerBrokerProperties(DynamicPropertyRegistry registry) {
+        registry.add("velora.websocket.broker.mode", () -> "relay");
+        registry.add("velora.websocket.broker.relay-host", BROKER::getHost);
+        registry.add("velora.websocket.broker.relay-port", () -> BROKER.getMappedPort(61613));
+    }
+
+    @Autowired private ApplicationContext nodeA;
+    @Autowired private Environment environment;
+    @Autowired private BoardEventPublisher boardEventPublisher;
+    @Autowired private UserRepository userRepository;
+    @Autowired private BoardRepository boardRepository;
+    @Autowired private BoardUserRepository boardUserRepository;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    @MockitoBean private JwtDecoder jwtDecoder;
+
+    private ConfigurableApplicationContext nodeB;
+    private WebSocketStompClient stompClient;
+    private UUID boardId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        boardId =
+                transactionTemplate.execute(
+                        status -> {
+                            User user =
+                                    userRepository.save(
+                                            User.builder()
+                                                    .id(USER_ID)
+                                                    .username("relay-subscriber")
+                                                    .email("relay-subscriber@example.com")
+                                                    .profileImageUrl(
+                                                            "https://example.com/relay-subscriber.png")
+                                                    .build());
+                            Board board =
+                                    boardRepository.save(
+                                            Board.builder()
+                                                    .name("Broker Relay IT")
+                                                    .createdBy(user)
+                                                    .build());
+                            boardUserRepository.save(
+                                    BoardUser.builder()
+                                            .board(board)
+                                            .user(user)
+                                            .role(BoardRole.MEMBER)
+                                            .build());
+                            return board.getId();
+                        });
+
+        nodeB = startNodeB();
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (boardId == null) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    boardUserRepository
+                            .findByBoardIdAndUserId(boardId, USER_ID)
+                            .ifPresent(boardUserRepository::delete);
+                    boardRepository.deleteById(boardId);
+                    userRepository.deleteById(USER_ID);
+                });
+    }
+
+    @Test
+    void eventCommittedOnNodeA_ReachesSubscriberOnNodeB() throws Exception {
+        // Given
+        BlockingQueue<Map<String, Object>> received = new LinkedBlockingQueue<>();
+        StompSession session = connect(nodeB);
+        session.setAutoReceipt(true);
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.subscribe("/topic/boards/" + boardId, collectInto(received))
+                .addReceiptTask(subscribed::countDown);
+        assertThat(subscribed.await(10, TimeUnit.SECONDS)).isTrue();
+
+        UUID taskId = UUID.randomUUID();
+
+        // When
+        transactionTemplate.executeWithoutResult(
+                status ->
+                        boardEventPublisher.publish(BoardEventType.TASK_UPDATED, boardId, taskId));
+
+        // Then
+        Map<String, Object> event = received.poll(10, TimeUnit.SECONDS);
+        assertThat(event).isNotNull();
+        assertThat(event)
+                .containsEntry("type", BoardEventType.TASK_UPDATED.name())
+                .containsEntry("boardId", boardId.toString())
+                .containsEntry("entityId", taskId.toString());
+    }
+
+    private ConfigurableApplicationContext startNodeB() {
+        Jwt jwt =
+                Jwt.withTokenValue(TOKEN)
+                        .header("alg", "none")
+                        .subject(USER_ID)
+                        .issuedAt(Instant.now())
+                        .expiresAt(Instant.now().plusSeconds(3600))
+                        .build();
+        JwtDecoder nodeBDecoder = token -> jwt;
+
+        return new SpringApplicationBuilder(VeloraApplication.class)
+                .profiles("integration")
+                .initializers(
+                        context ->
+                                context.getBeanFactory()
+                                        .registerSingleton("jwtDecoder", nodeBDecoder))
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + property("spring.datasource.url"),
+                        "--spring.datasource.username=" + property("spring.datasource.username"),
+                        "--spring.datasource.password=" + property("spring.datasource.password"),
+                        "--velora.websocket.broker.mode=relay",
+                        "--velora.websocket.broker.relay-host=" + BROKER.getHost(),
+                        "--velora.websocket.broker.relay-port=" + BROKER.getMappedPort(61613));
+    }
+
+    private StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((WebServerApplicationContext) node).getWebServer().getPort();
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + TOKEN);
+        return stompClient
+                .connectAsync(
+                        "ws://localhost:" + port + "/ws",
+                        new WebSocketHttpHeaders(),
+                        connectHeaders,
+                        new StompSessionHandlerAdapter() {})
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static StompFrameHandler collectInto(BlockingQueue<Map<String, Object>> received) {
+        return new StompFrameHandler() {
+            @Override
+            @NonNull
+            public Type getPayloadType(@NonNull StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public void handleFrame(@NonNull StompHeaders headers, Object payload) {
+                received.add((Map<String, Object>) payload);
+            }
+        };
+    }
+
+    private static void awaitBrokerAvailable(ApplicationContext node) throws InterruptedException {
+        StompBrokerRelayMessageHandler relay = node.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.nanoTime()).as("broker relay connected").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    private String property(String name) {
+        return environment.getRequiredProperty(name);
+    }
+}
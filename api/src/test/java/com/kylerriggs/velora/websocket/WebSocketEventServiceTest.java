@@ -3,6 +3,7 @@ package com.kylerriggs.velora.websocket;
 import static org.mockito.Mockito.verify;
 
 import com.kylerriggs.velora.websocket.dto.BoardEvent;
+import com.kylerriggs.velora.websocket.dto.BoardEventBatch;
 import com.kylerriggs.velora.websocket.dto.BoardEventType;
 
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -32,4 +34,27 @@ class WebSocketEventServiceTest {
 
         verify(messagingTemplate).convertAndSend("/topic/boards/" + boardId, event);
     }
+
+    @Test
+    void broadcast_SendsBatchToTopic() {
+        UUID boardId = UUID.randomUUID();
+        BoardEventBatch batch =
+                new BoardEventBatch(
+                        boardId,
+                        List.of(
+                                new BoardEvent(
+                                        BoardEventType.TASK_UPDATED,
+                                        boardId,
+                                        UUID.randomUUID(),
+                                        null),
+                                new BoardEvent(
+                                        BoardEventType.ACTIVITY_LOGGED,
+                                        boardId,
+                                        UUID.randomUUID(),
+                                        null)));
+
+        webSocketEventService.broadcast(Objects.requireNonNull(boardId), batch);
+
+        verify(messagingTemplate).convertAndSend("/topic/boards/" + boardId, batch);
+    }
 }